@@ -0,0 +1,85 @@
+#!/usr/bin/env python3
+"""Compares JMH results (JSON) of the workbench benchmarks with a baseline and flags regressions.
+
+A benchmark regressed if its score got worse by more than the threshold (in percent) and the difference is larger
+than the combined error margins of both runs, so that noise alone does not fail the comparison. For throughput
+benchmarks a lower score is worse, for all other modes (average time, sample time, single shot) a higher one.
+
+Usage:
+    compare-to-baseline.py RESULT BASELINE [--threshold PERCENT] [--ignore-error]
+
+Exits with 1 if at least one benchmark regressed, 0 otherwise.
+"""
+
+import argparse
+import json
+import math
+import sys
+
+
+def load(path):
+    """Reads a JMH JSON result file into a dict from (benchmark, params) to the primary metric."""
+    with open(path, encoding="utf-8") as f:
+        runs = json.load(f)
+    results = {}
+    for run in runs:
+        params = ", ".join(f"{k}={v}" for k, v in sorted((run.get("params") or {}).items()))
+        metric = run["primaryMetric"]
+        error = metric.get("scoreError")
+        results[(run["benchmark"], params)] = {
+            "mode": run["mode"],
+            "score": metric["score"],
+            "error": 0.0 if error is None or error == "NaN" or math.isnan(float(error)) else float(error),
+            "unit": metric["scoreUnit"],
+        }
+    return results
+
+
+def compare(result, baseline, threshold, ignore_error):
+    """Prints the comparison and returns the number of regressions."""
+    regressions = 0
+    for key in sorted(set(result) | set(baseline)):
+        name = key[0].rsplit(".", 2)[-2] + "." + key[0].rsplit(".", 1)[-1]
+        label = f"{name} [{key[1]}]" if key[1] else name
+        if key not in baseline:
+            print(f"NEW        {label}: {result[key]['score']:.3f} {result[key]['unit']}")
+            continue
+        if key not in result:
+            print(f"MISSING    {label}")
+            continue
+        new, old = result[key], baseline[key]
+        if old["score"] == 0:
+            continue
+        change = (new["score"] - old["score"]) / old["score"] * 100
+        worse = -change if new["mode"] == "thrpt" else change
+        beyond_error = ignore_error or abs(new["score"] - old["score"]) > new["error"] + old["error"]
+        if worse > threshold and beyond_error:
+            status = "REGRESSION"
+            regressions += 1
+        elif -worse > threshold and beyond_error:
+            status = "IMPROVED"
+        else:
+            status = "OK"
+        print(f"{status:<10} {label}: {old['score']:.3f} -> {new['score']:.3f} {new['unit']} ({change:+.1f}%)")
+    return regressions
+
+
+def main():
+    parser = argparse.ArgumentParser(description=__doc__, formatter_class=argparse.RawDescriptionHelpFormatter)
+    parser.add_argument("result", help="JMH JSON result of the current run")
+    parser.add_argument("baseline", help="JMH JSON result to compare with")
+    parser.add_argument("--threshold", type=float, default=10.0,
+                        help="change in percent above which a benchmark is flagged (default: 10)")
+    parser.add_argument("--ignore-error", action="store_true",
+                        help="flag changes above the threshold even if they are within the error margins")
+    args = parser.parse_args()
+
+    regressions = compare(load(args.result), load(args.baseline), args.threshold, args.ignore_error)
+    if regressions:
+        print(f"{regressions} benchmark(s) regressed by more than {args.threshold:g}%")
+        return 1
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
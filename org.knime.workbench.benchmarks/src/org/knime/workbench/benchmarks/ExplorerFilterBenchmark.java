@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.benchmarks;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.FileUtil;
+import org.knime.core.workbench.mountpoint.api.WorkbenchMountTable;
+import org.knime.core.workbench.mountpoint.contribution.local.LocalWorkspaceMountPointState;
+import org.knime.workbench.explorer.ExplorerMountTable;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+import org.knime.workbench.explorer.view.AbstractContentProvider;
+import org.knime.workbench.explorer.view.ContentObject;
+import org.knime.workbench.explorer.view.ExplorerFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a keystroke in the filter of the KNIME Explorer on a synthetic local workspace with 10,000 workflows in
+ * 1,100 workflow groups. The filter builds its name index in the background on first use; the warm-up iterations give
+ * it the time to do so, hence the measurement covers the indexed lookup.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExplorerFilterBenchmark {
+
+    private static final int GROUP_COUNT = 100;
+
+    private static final int SUBGROUP_COUNT = 10;
+
+    private static final int WORKFLOW_COUNT = 10;
+
+    private static final String WORKSPACE_FOLDER = "explorer_filter_benchmark";
+
+    /** The query typed into the filter box. */
+    @Param({"workflow_42", "Sub Group 3", "no match"})
+    public String m_query;
+
+    private File m_folder;
+
+    private final List<ContentObject> m_elements = new ArrayList<>();
+
+    private ExplorerFilter m_filter;
+
+    /**
+     * Creates the workspace and collects the items shown in the explorer.
+     *
+     * @throws Exception if the workspace can't be created
+     */
+    @Setup
+    public void createWorkspace() throws Exception {
+        var provider = ExplorerMountTable.getContentProvider("LOCAL").orElse(null);
+        if (provider == null) {
+            final var mountPoint =
+                WorkbenchMountTable.mount(LocalWorkspaceMountPointState.TYPE.getDefaultSettings().orElseThrow());
+            provider = ExplorerMountTable.toAbstractContentProvider(mountPoint).orElseThrow();
+        }
+        final var root = provider.getRootStore();
+        m_folder = new File(root.toLocalFile(), WORKSPACE_FOLDER);
+        var workflow = 0;
+        for (var g = 0; g < GROUP_COUNT; g++) {
+            for (var s = 0; s < SUBGROUP_COUNT; s++) {
+                final var subgroup = new File(m_folder, "group_" + g + "/Sub Group " + s);
+                for (var w = 0; w < WORKFLOW_COUNT; w++) {
+                    final var workflowDir = new File(subgroup, "workflow_" + workflow++);
+                    Files.createDirectories(workflowDir.toPath());
+                    Files.createFile(new File(workflowDir, WorkflowPersistor.WORKFLOW_FILE).toPath());
+                }
+            }
+        }
+        collect(provider, root.getChild(WORKSPACE_FOLDER));
+        m_filter = new ExplorerFilter();
+    }
+
+    private void collect(final AbstractContentProvider provider, final AbstractExplorerFileStore store) {
+        m_elements.add(ContentObject.forFile(store));
+        if (AbstractExplorerFileStore.isWorkflowGroup(store)) {
+            for (final var child : provider.getChildren(store)) {
+                collect(provider, child);
+            }
+        }
+    }
+
+    /** Deletes the workspace. */
+    @TearDown
+    public void deleteWorkspace() {
+        m_filter.dispose();
+        m_elements.clear();
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    /**
+     * Sets the query, as typing does, and filters all items of the workspace.
+     *
+     * @return the number of items shown
+     */
+    @Benchmark
+    public int filter() {
+        m_filter.setQueryString(m_query);
+        var shown = 0;
+        for (final var element : m_elements) {
+            if (m_filter.select(null, null, element)) {
+                shown++;
+            }
+        }
+        return shown;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.workbench.ui.layout.Graph;
+import org.knime.workbench.ui.layout.Graph.Node;
+import org.knime.workbench.ui.layout.layeredlayout.CrossingMinimizer;
+import org.knime.workbench.ui.layout.layeredlayout.SimpleLayeredLayouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the auto layout of workflows: the crossing minimization on an already layered graph and the complete
+ * {@link SimpleLayeredLayouter} on a workflow-like graph whose connections may span several layers. Both graphs are
+ * created from a fixed seed and rebuilt before every invocation since the layout modifies them.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LayoutBenchmark {
+
+    private static final long SEED = 4711;
+
+    /** Number of layers, i.e. the length of the longest path through the workflow. */
+    @Param({"10", "50"})
+    public int m_layerCount;
+
+    /** Number of nodes in each layer. */
+    @Param({"10", "40"})
+    public int m_layerWidth;
+
+    private Graph m_layeredGraph;
+
+    private ArrayList<ArrayList<Node>> m_layers;
+
+    private Graph m_workflowGraph;
+
+    /** Creates the graphs. */
+    @Setup(Level.Invocation)
+    public void createGraphs() {
+        final var random = new Random(SEED);
+        m_layeredGraph = new Graph();
+        m_layers = createLayers(m_layeredGraph);
+        for (var l = 1; l < m_layerCount; l++) {
+            connect(m_layeredGraph, m_layers.get(l - 1), m_layers.get(l), random);
+        }
+
+        m_workflowGraph = new Graph();
+        final var workflowLayers = createLayers(m_workflowGraph);
+        for (var l = 1; l < m_layerCount; l++) {
+            // most connections lead to the next layer, some skip up to two layers
+            final var skip = Math.min(l, 1 + (random.nextInt(4) == 0 ? random.nextInt(3) : 0));
+            connect(m_workflowGraph, workflowLayers.get(l - skip), workflowLayers.get(l), random);
+        }
+    }
+
+    private ArrayList<ArrayList<Node>> createLayers(final Graph graph) {
+        final var layers = new ArrayList<ArrayList<Node>>(m_layerCount);
+        for (var l = 0; l < m_layerCount; l++) {
+            final var layer = new ArrayList<Node>(m_layerWidth);
+            for (var i = 0; i < m_layerWidth; i++) {
+                layer.add(graph.createNode("Node " + l + "_" + i, l, i));
+            }
+            layers.add(layer);
+        }
+        return layers;
+    }
+
+    /* connects each node of the target layer with one to three random nodes of the source layer */
+    private static void connect(final Graph graph, final List<Node> sources, final List<Node> targets,
+        final Random random) {
+        for (final var target : targets) {
+            final var inDegree = 1 + random.nextInt(3);
+            for (var i = 0; i < inDegree; i++) {
+                graph.createEdge(sources.get(random.nextInt(sources.size())), target);
+            }
+        }
+    }
+
+    /**
+     * @return the reordered layers
+     */
+    @Benchmark
+    public ArrayList<ArrayList<Node>> crossingMinimizer() {
+        new CrossingMinimizer(m_layeredGraph, m_layers, null, null).run();
+        return m_layers;
+    }
+
+    /**
+     * @return the graph with the computed coordinates
+     */
+    @Benchmark
+    public Graph simpleLayeredLayouter() {
+        new SimpleLayeredLayouter(SEED).doLayout(m_workflowGraph, null);
+        return m_workflowGraph;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeFactory.NodeType;
+import org.knime.core.node.NodeModel;
+import org.knime.workbench.repository.model.AbstractNodeTemplate;
+import org.knime.workbench.repository.model.Category;
+import org.knime.workbench.repository.model.DynamicNodeTemplate;
+import org.knime.workbench.repository.model.IContainerObject;
+import org.knime.workbench.repository.model.IRepositoryObject;
+import org.knime.workbench.repository.model.Root;
+import org.knime.workbench.repository.view.TanimotoTextualViewFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the node repository model and its fuzzy search on a synthetic repository with 4,000 nodes in 200
+ * categories, created from a fixed seed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RepositoryBenchmark {
+
+    private static final long SEED = 4711;
+
+    private static final int CATEGORY_COUNT = 20;
+
+    private static final int SUBCATEGORY_COUNT = 10;
+
+    private static final int NODE_COUNT = 20;
+
+    private static final String PLUGIN_ID = "org.knime.workbench.benchmarks";
+
+    private static final String[] WORDS = {"Column", "Row", "Table", "Filter", "Joiner", "Reader", "Writer", "Group",
+        "Pivot", "String", "Math", "Rule", "Database", "Loop", "Chart", "Model", "Learner", "Predictor", "Scorer",
+        "Splitter", "Sorter", "Converter", "Manipulation", "Sampling", "Aggregator", "Cell", "Date", "Time", "JSON",
+        "XML", "CSV", "Excel", "Variable", "Cluster", "Tree", "Ensemble"};
+
+    /** The query typed into the search box of the node repository. */
+    @Param({"Column Filter", "Joinr", "CSV Reader"})
+    public String m_query;
+
+    private Root m_root;
+
+    private final List<AbstractNodeTemplate> m_nodes = new ArrayList<>();
+
+    private TanimotoTextualViewFilter m_filter;
+
+    /** Creates the repository. */
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void createRepository() {
+        final var factoryClass = (Class<? extends NodeFactory<? extends NodeModel>>)(Class<?>)NodeFactory.class;
+        final var random = new Random(SEED);
+        m_root = new Root();
+        m_root.setSortChildren(true);
+        var nodeIndex = 0;
+        for (var c = 0; c < CATEGORY_COUNT; c++) {
+            final var category = new Category("category" + c, WORDS[c % WORDS.length], PLUGIN_ID);
+            category.setSortChildren(true);
+            m_root.addChild(category);
+            for (var s = 0; s < SUBCATEGORY_COUNT; s++) {
+                final var subcategory = new Category("sub" + s, randomName(random, 1), PLUGIN_ID);
+                subcategory.setSortChildren(true);
+                category.addChild(subcategory);
+                final var path = category.getID() + "/" + subcategory.getID();
+                for (var n = 0; n < NODE_COUNT; n++) {
+                    final var node = new DynamicNodeTemplate(() -> null, factoryClass, "node" + nodeIndex++,
+                        randomName(random, 2 + random.nextInt(2)), PLUGIN_ID, path, NodeType.Manipulator);
+                    subcategory.addChild(node);
+                    m_nodes.add(node);
+                }
+            }
+        }
+        m_filter = new TanimotoTextualViewFilter();
+        m_filter.setQueryString(m_query);
+    }
+
+    private static String randomName(final Random random, final int wordCount) {
+        final var name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (var i = 1; i < wordCount; i++) {
+            name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return name.toString();
+    }
+
+    /**
+     * Filters all nodes with the fuzzy search and ranks the matches, as the node repository does in fuzzy mode.
+     *
+     * @return the names of the matching nodes, best match first
+     */
+    @Benchmark
+    public List<String> tanimotoRanking() {
+        final List<String> names = new ArrayList<>();
+        for (final var node : m_nodes) {
+            if (m_filter.select(null, node.getParent(), node)) {
+                names.add(node.getName());
+            }
+        }
+        names.sort(m_filter.createComparator());
+        return names;
+    }
+
+    /**
+     * Looks up the categories of all nodes, as done while the repository is read.
+     *
+     * @param blackhole consumes the categories
+     */
+    @Benchmark
+    public void findContainer(final Blackhole blackhole) {
+        for (final var node : m_nodes) {
+            blackhole.consume(m_root.findContainer(node.getCategoryPath()));
+        }
+    }
+
+    /**
+     * Traverses the whole (sorted) repository tree, as the tree viewer does when expanding all categories.
+     *
+     * @return the number of visited objects
+     */
+    @Benchmark
+    public int getChildren() {
+        return countChildren(m_root);
+    }
+
+    private static int countChildren(final IContainerObject container) {
+        var count = 0;
+        for (final IRepositoryObject child : container.getChildren()) {
+            count++;
+            if (child instanceof IContainerObject c) {
+                count += countChildren(c);
+            }
+        }
+        return count;
+    }
+}
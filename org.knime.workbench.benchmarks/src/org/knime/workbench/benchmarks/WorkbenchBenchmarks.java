@@ -0,0 +1,93 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.benchmarks;
+
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Test;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks of this bundle inside the OSGi framework started by the test runtime and writes the results
+ * as JSON, to be compared with a baseline by <code>compare-to-baseline.py</code>.
+ * <p>
+ * The benchmarks are selected with the regular expression in {@value #INCLUDE_PROPERTY}, the results are written to
+ * the file given by {@value #RESULT_PROPERTY}.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkbenchBenchmarks {
+
+    /** System property holding the regular expression selecting the benchmarks to run. */
+    public static final String INCLUDE_PROPERTY = "knime.benchmark.include";
+
+    /** System property holding the file to write the JSON results to. */
+    public static final String RESULT_PROPERTY = "knime.benchmark.result";
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @throws RunnerException if a benchmark fails
+     */
+    @Test
+    public void runBenchmarks() throws RunnerException {
+        final var options = new OptionsBuilder() //
+            .include(System.getProperty(INCLUDE_PROPERTY, ".*")) //
+            // the fixtures need the bundles of this framework, a forked plain JVM doesn't have them
+            .forks(0) //
+            .shouldFailOnError(true) //
+            .resultFormat(ResultFormatType.JSON) //
+            .result(System.getProperty(RESULT_PROPERTY, "jmh-result.json")) //
+            .build();
+        assertFalse("No benchmark selected by " + INCLUDE_PROPERTY, new Runner(options).run().isEmpty());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.explorer.view.actions.export.Zipper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the workflow export with {@link Zipper#zipFiles(java.util.Collection, File, int,
+ * org.eclipse.core.runtime.IProgressMonitor)} on a generated workflow group, each workflow with a number of node
+ * folders holding settings, created from a fixed seed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ZipperBenchmark {
+
+    private static final long SEED = 4711;
+
+    private static final int NODES_PER_WORKFLOW = 20;
+
+    private static final int SETTINGS_PER_NODE = 40;
+
+    /** Number of workflows in the exported group. */
+    @Param({"10", "100"})
+    public int m_workflowCount;
+
+    private File m_folder;
+
+    private final List<File> m_files = new ArrayList<>();
+
+    private File m_archive;
+
+    /**
+     * Creates the workflow group.
+     *
+     * @throws IOException if the files can't be written
+     */
+    @Setup
+    public void createWorkflows() throws IOException {
+        m_folder = FileUtil.createTempDir("zipper_benchmark");
+        final var random = new Random(SEED);
+        final var group = new File(m_folder, "Exported Group");
+        for (var w = 0; w < m_workflowCount; w++) {
+            final var workflow = new File(group, "Workflow " + w);
+            for (var n = 1; n <= NODES_PER_WORKFLOW; n++) {
+                final var node = new File(workflow, "Node (#" + n + ")");
+                m_files.add(write(new File(node, "settings.xml"), random, SETTINGS_PER_NODE));
+            }
+            m_files.add(write(new File(workflow, WorkflowPersistor.WORKFLOW_FILE), random, 2 * NODES_PER_WORKFLOW));
+        }
+        m_archive = new File(m_folder, "export.knar");
+    }
+
+    /* writes a settings file with the given number of entries */
+    private static File write(final File file, final Random random, final int entryCount) throws IOException {
+        final var xml = new StringBuilder("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<config key=\"settings.xml\">\n");
+        for (var i = 0; i < entryCount; i++) {
+            xml.append("    <entry key=\"key_").append(i).append("\" type=\"xstring\" value=\"")
+                .append(Long.toHexString(random.nextLong())).append("\"/>\n");
+        }
+        xml.append("</config>\n");
+        Files.createDirectories(file.getParentFile().toPath());
+        Files.writeString(file.toPath(), xml, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /** Deletes the workflow group and the archive. */
+    @TearDown
+    public void deleteWorkflows() {
+        FileUtil.deleteRecursively(m_folder);
+        m_files.clear();
+    }
+
+    /**
+     * @return the size of the archive
+     * @throws IOException if the archive can't be written
+     */
+    @Benchmark
+    public long zipFiles() throws IOException {
+        Zipper.zipFiles(m_files, m_archive, m_folder.toPath().getNameCount(), new NullProgressMonitor());
+        return m_archive.length();
+    }
+}
@@ -73,6 +73,7 @@
 import org.knime.core.util.KnimeEncryption;
 import org.knime.core.util.Pair;
 import org.knime.workbench.core.preferences.HeadlessPreferencesConstants;
+import org.knime.workbench.core.util.StartupProfiler;
 import org.knime.workbench.core.util.ThreadsafeImageRegistry;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.FrameworkUtil;
@@ -140,24 +141,36 @@ private static final LEVEL parseLevel(final String knimeLogLevel) {
      */
     @Override
     public void start(final BundleContext context) throws Exception {
-        super.start(context);
+        try (var startSpan = StartupProfiler.span(PLUGIN_ID, "KNIMECorePlugin.start")) {
+            super.start(context);
+            startPlugin();
+        }
+    }
 
+    /* the start-up of this plug-in, recorded as the span of start(BundleContext) */
+    private void startPlugin() {
         if (!Boolean.getBoolean("java.awt.headless") && (Display.getCurrent() != null)) {
-            getImageRegistry();
+            try (var span = StartupProfiler.span(PLUGIN_ID, "Image registry")) {
+                getImageRegistry();
+            }
         }
 
         try {
             // get the preference store
             // with the preferences for nr threads and tempDir
             final var pStore = KNIMECorePlugin.getDefault().getPreferenceStore();
-            initMaxThreadCountProperty();
-            initTmpDirProperty();
-            // set log file level to stored
-            setLogLevelOnNodeLogger(pStore.getString(HeadlessPreferencesConstants.P_LOGLEVEL_LOG_FILE),
-                HeadlessPreferencesConstants.P_LOGLEVEL_LOG_FILE);
-            // set stdout level to stored
-            setLogLevelOnNodeLogger(pStore.getString(HeadlessPreferencesConstants.P_LOGLEVEL_STDOUT),
-                HeadlessPreferencesConstants.P_LOGLEVEL_STDOUT);
+            try (var span = StartupProfiler.span(PLUGIN_ID, "Thread count and temp dir")) {
+                initMaxThreadCountProperty();
+                initTmpDirProperty();
+            }
+            try (var span = StartupProfiler.span(PLUGIN_ID, "Log levels")) {
+                // set log file level to stored
+                setLogLevelOnNodeLogger(pStore.getString(HeadlessPreferencesConstants.P_LOGLEVEL_LOG_FILE),
+                    HeadlessPreferencesConstants.P_LOGLEVEL_LOG_FILE);
+                // set stdout level to stored
+                setLogLevelOnNodeLogger(pStore.getString(HeadlessPreferencesConstants.P_LOGLEVEL_STDOUT),
+                    HeadlessPreferencesConstants.P_LOGLEVEL_STDOUT);
+            }
 
             final boolean enableWorkflowRelativeLogging =
                     pStore.getBoolean(HeadlessPreferencesConstants.P_LOG_FILE_LOCATION);
@@ -281,7 +294,9 @@ public void propertyChange(final PropertyChangeEvent event) {
             //longer exposed anywhere in the UI
             String dbDrivers = pStore.getString(
                     HeadlessPreferencesConstants.P_DATABASE_DRIVERS);
-            initDatabaseDriver(dbDrivers);
+            try (var span = StartupProfiler.span(PLUGIN_ID, "Database drivers")) {
+                initDatabaseDriver(dbDrivers);
+            }
             //setting is still exposed in the new db preference page and handled here!!!
             DatabaseConnectionSettings.setDatabaseTimeout(pStore
                 .getInt(HeadlessPreferencesConstants.P_DATABASE_TIMEOUT));
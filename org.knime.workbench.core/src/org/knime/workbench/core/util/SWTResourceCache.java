@@ -0,0 +1,263 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.core.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.swt.graphics.Resource;
+
+/**
+ * A reference counted cache of SWT resources such as images and fonts. Every {@link #acquire(Object, Function)} must
+ * be paired with a {@link #release(Object)} once the resource is not used anymore. Resources that are not referenced
+ * anymore are not disposed right away but kept for reuse; only if more than a given number of unreferenced resources
+ * are cached, the least recently released ones are disposed.
+ * <p>
+ * Lookups of cached resources do not lock. The cache counts hits, misses and the number of live resources (i.e. OS
+ * handles), which can be used to detect leaks.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <R> the type of the cached resources
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public final class SWTResourceCache<K, R extends Resource> {
+
+    private final Map<K, Entry<R>> m_entries = new ConcurrentHashMap<>();
+
+    /* unreferenced entries in the order in which they have been released, guarded by itself */
+    private final LinkedHashMap<K, Entry<R>> m_unreferenced = new LinkedHashMap<>();
+
+    private final int m_maxUnreferenced;
+
+    private final AtomicLong m_hits = new AtomicLong();
+
+    private final AtomicLong m_misses = new AtomicLong();
+
+    private final AtomicLong m_evictions = new AtomicLong();
+
+    private final AtomicInteger m_live = new AtomicInteger();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxUnreferenced the maximum number of unreferenced resources kept for reuse
+     */
+    public SWTResourceCache(final int maxUnreferenced) {
+        m_maxUnreferenced = maxUnreferenced;
+    }
+
+    /**
+     * Returns the resource for the given key, creating it if it is not cached yet, and increments its reference count.
+     *
+     * @param key the key of the resource
+     * @param factory creates the resource if it is not cached
+     * @return the resource, never <code>null</code>
+     */
+    public R acquire(final K key, final Function<? super K, ? extends R> factory) {
+        final var entry = m_entries.get(key);
+        if (entry != null && retain(key, entry)) {
+            m_hits.incrementAndGet();
+            return entry.m_resource;
+        }
+        final var created = new boolean[1];
+        final var result = m_entries.compute(key, (k, old) -> {
+            if (old != null && retain(k, old)) {
+                return old;
+            }
+            created[0] = true;
+            return new Entry<>(factory.apply(k));
+        });
+        if (created[0]) {
+            m_misses.incrementAndGet();
+            m_live.incrementAndGet();
+        } else {
+            m_hits.incrementAndGet();
+        }
+        return result.m_resource;
+    }
+
+    /**
+     * Decrements the reference count of the resource with the given key. Unreferenced resources may be disposed.
+     *
+     * @param key the key of the resource
+     * @return the remaining number of references, 0 if the resource is not cached
+     */
+    public int release(final K key) {
+        final var entry = m_entries.get(key);
+        if (entry == null) {
+            return 0;
+        }
+        final var count = entry.m_references.decrementAndGet();
+        if (count == 0) {
+            synchronized (m_unreferenced) {
+                m_unreferenced.put(key, entry);
+            }
+            evict(m_maxUnreferenced);
+        }
+        return Math.max(count, 0);
+    }
+
+    /** Disposes all unreferenced resources. */
+    public void trim() {
+        evict(0);
+    }
+
+    /**
+     * Disposes all resources, referenced or not. The cache can be used afterwards.
+     */
+    public void dispose() {
+        synchronized (m_unreferenced) {
+            m_unreferenced.clear();
+        }
+        for (final var it = m_entries.values().iterator(); it.hasNext();) {
+            final var entry = it.next();
+            it.remove();
+            if (entry.m_references.getAndSet(-1) >= 0) {
+                disposeResource(entry);
+            }
+        }
+    }
+
+    /** @return the number of lookups answered from the cache */
+    public long getHitCount() {
+        return m_hits.get();
+    }
+
+    /** @return the number of lookups that created a resource */
+    public long getMissCount() {
+        return m_misses.get();
+    }
+
+    /** @return the ratio of hits to all lookups, 0 if there was no lookup */
+    public double getHitRate() {
+        final var hits = m_hits.get();
+        final var total = hits + m_misses.get();
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
+    /** @return the number of resources disposed because too many unreferenced resources were cached */
+    public long getEvictionCount() {
+        return m_evictions.get();
+    }
+
+    /** @return the number of resources that have been created by this cache and are not disposed yet */
+    public int getLiveCount() {
+        return m_live.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d live resources, hit rate %.1f%% (%d hits, %d misses), %d evictions", getLiveCount(),
+            getHitRate() * 100, getHitCount(), getMissCount(), getEvictionCount());
+    }
+
+    /* increments the reference count unless the entry has been disposed concurrently */
+    private boolean retain(final K key, final Entry<R> entry) {
+        while (true) {
+            final var count = entry.m_references.get();
+            if (count < 0) {
+                return false;
+            }
+            if (entry.m_references.compareAndSet(count, count + 1)) {
+                if (count == 0) {
+                    synchronized (m_unreferenced) {
+                        m_unreferenced.remove(key, entry);
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    private void evict(final int maxUnreferenced) {
+        final var victims = new ArrayList<Map.Entry<K, Entry<R>>>();
+        synchronized (m_unreferenced) {
+            for (final Iterator<Map.Entry<K, Entry<R>>> it = m_unreferenced.entrySet().iterator();
+                    it.hasNext() && m_unreferenced.size() > maxUnreferenced;) {
+                final var e = it.next();
+                it.remove();
+                // only dispose if nobody acquired the resource in the meantime
+                if (e.getValue().m_references.compareAndSet(0, -1)) {
+                    victims.add(e);
+                }
+            }
+        }
+        // not while holding the lock on the unreferenced entries, acquire() locks in the opposite order
+        for (final var e : victims) {
+            m_entries.remove(e.getKey(), e.getValue());
+            disposeResource(e.getValue());
+            m_evictions.incrementAndGet();
+        }
+    }
+
+    private void disposeResource(final Entry<R> entry) {
+        if (!entry.m_resource.isDisposed()) {
+            entry.m_resource.dispose();
+        }
+        m_live.decrementAndGet();
+    }
+
+    private static final class Entry<R> {
+        private final R m_resource;
+
+        /* -1 once disposed */
+        private final AtomicInteger m_references = new AtomicInteger(1);
+
+        private Entry(final R resource) {
+            m_resource = resource;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.core.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Records how long the phases of the start of the workbench take (e.g. the activation of the plug-ins and the creation
+ * of the first views) and writes them as a trace in the Chrome trace event format, which can be opened with
+ * <code>chrome://tracing</code> or <a href="https://ui.perfetto.dev">Perfetto</a>.
+ * <p>
+ * Recording is only enabled if the system property {@value #TRACE_FILE_PROPERTY} is set to the file to write the trace
+ * to; the trace is written when the application exits or {@link #writeTrace()} is called. If disabled, {@link #span}
+ * returns a shared no-op span, so instrumented code costs a field read.
+ * </p>
+ *
+ * Usage:
+ *
+ * <pre>
+ * try (var span = StartupProfiler.span("core", "KNIMECorePlugin.start")) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public final class StartupProfiler {
+
+    /** System property holding the file to write the startup trace to; recording is disabled if not set. */
+    public static final String TRACE_FILE_PROPERTY = "knime.startup.trace";
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StartupProfiler.class);
+
+    private static final Span NO_OP = () -> {
+    };
+
+    /** The trace recorded for the running application, <code>null</code> if disabled. */
+    private static final Trace TRACE = createTrace();
+
+    private StartupProfiler() {
+    }
+
+    private static Trace createTrace() {
+        final var file = System.getProperty(TRACE_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return null;
+        }
+        final var trace = new Trace(ManagementFactory.getRuntimeMXBean().getUptime());
+        final var path = Paths.get(file);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> write(trace, path), "Startup trace writer"));
+        return trace;
+    }
+
+    /** A recorded phase, ended by {@link #close()}. */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+        /** Ends the phase. */
+        @Override
+        void close();
+    }
+
+    /** @return whether recording is enabled */
+    public static boolean isEnabled() {
+        return TRACE != null;
+    }
+
+    /**
+     * Starts a phase in the current thread.
+     *
+     * @param category the category of the phase, e.g. the plug-in
+     * @param name the name of the phase
+     * @return the span to close once the phase is done, a no-op span if recording is disabled
+     */
+    public static Span span(final String category, final String name) {
+        return TRACE == null ? NO_OP : TRACE.span(category, name);
+    }
+
+    /**
+     * Records a point in time, e.g. when the workbench window opened.
+     *
+     * @param category the category of the event
+     * @param name the name of the event
+     */
+    public static void mark(final String category, final String name) {
+        if (TRACE != null) {
+            TRACE.mark(category, name);
+        }
+    }
+
+    /**
+     * Writes the trace recorded so far to the file given by {@value #TRACE_FILE_PROPERTY}; does nothing if recording
+     * is disabled.
+     */
+    public static void writeTrace() {
+        if (TRACE != null) {
+            write(TRACE, Paths.get(System.getProperty(TRACE_FILE_PROPERTY)));
+        }
+    }
+
+    private static void write(final Trace trace, final Path file) {
+        try (var writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            trace.write(writer);
+            LOGGER.debug("Startup trace written to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            LOGGER.warn("Cannot write startup trace to " + file + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Collects the phases of any number of threads.
+     */
+    public static final class Trace {
+
+        private record Event(String category, String name, char phase, long startNanos, long durationNanos,
+            long threadId, String threadName) {
+        }
+
+        private final long m_originNanos;
+
+        private final ConcurrentLinkedQueue<Event> m_events = new ConcurrentLinkedQueue<>();
+
+        /**
+         * Creates a trace.
+         *
+         * @param uptimeMillis the time since the process started, in milliseconds, so that events are shown relative
+         *            to the start of the process
+         */
+        public Trace(final long uptimeMillis) {
+            m_originNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(uptimeMillis);
+        }
+
+        /**
+         * Starts a phase in the current thread.
+         *
+         * @param category the category of the phase
+         * @param name the name of the phase
+         * @return the span to close once the phase is done
+         */
+        public Span span(final String category, final String name) {
+            final var start = System.nanoTime();
+            final var thread = Thread.currentThread();
+            return () -> m_events.add(new Event(category, name, 'X', start - m_originNanos,
+                System.nanoTime() - start, thread.threadId(), thread.getName()));
+        }
+
+        /**
+         * Records a point in time.
+         *
+         * @param category the category of the event
+         * @param name the name of the event
+         */
+        public void mark(final String category, final String name) {
+            final var thread = Thread.currentThread();
+            m_events.add(new Event(category, name, 'i', System.nanoTime() - m_originNanos, 0, thread.threadId(),
+                thread.getName()));
+        }
+
+        /** @return the number of events recorded */
+        public int getEventCount() {
+            return m_events.size();
+        }
+
+        /**
+         * Writes the trace as a JSON object in the Chrome trace event format.
+         *
+         * @param writer the writer to write to
+         * @throws IOException if the trace can't be written
+         */
+        public void write(final Writer writer) throws IOException {
+            final List<Event> events = new ArrayList<>(m_events);
+            writer.write("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[");
+            var first = true;
+            final List<Long> namedThreads = new ArrayList<>();
+            for (final var e : events) {
+                if (!namedThreads.contains(e.threadId())) {
+                    namedThreads.add(e.threadId());
+                    writer.write(first ? "\n" : ",\n");
+                    first = false;
+                    writer.write("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":" + e.threadId()
+                        + ",\"args\":{\"name\":");
+                    writeString(writer, e.threadName());
+                    writer.write("}}");
+                }
+                writer.write(first ? "\n" : ",\n");
+                first = false;
+                writer.write("{\"name\":");
+                writeString(writer, e.name());
+                writer.write(",\"cat\":");
+                writeString(writer, e.category());
+                writer.write(",\"ph\":\"" + e.phase() + "\",\"ts\":" + toMicros(e.startNanos()));
+                if (e.phase() == 'X') {
+                    writer.write(",\"dur\":" + toMicros(e.durationNanos()));
+                } else {
+                    writer.write(",\"s\":\"g\"");
+                }
+                writer.write(",\"pid\":1,\"tid\":" + e.threadId() + "}");
+            }
+            writer.write("\n]}\n");
+        }
+
+        private static String toMicros(final long nanos) {
+            return Long.toString(nanos / 1000) + '.' + (char)('0' + (nanos % 1000) / 100);
+        }
+
+        private static void writeString(final Writer writer, final String s) throws IOException {
+            writer.write('"');
+            for (var i = 0; i < s.length(); i++) {
+                final var c = s.charAt(i);
+                if (c == '"' || c == '\\') {
+                    writer.write('\\');
+                    writer.write(c);
+                } else if (c < 0x20) {
+                    writer.write(String.format("\\u%04x", (int)c));
+                } else {
+                    writer.write(c);
+                }
+            }
+            writer.write('"');
+        }
+    }
+}
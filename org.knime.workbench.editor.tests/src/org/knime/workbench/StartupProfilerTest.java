@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.core.util.StartupProfiler;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the trace written by {@link StartupProfiler} and the cost of the instrumentation when it is disabled.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class StartupProfilerTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StartupProfilerTest.class);
+
+    private static final int THREADS = 4;
+
+    private static final int SPAN_CALLS = 5_000_000;
+
+    /**
+     * Records nested spans in several threads and checks that the written trace is valid JSON in the Chrome trace event
+     * format.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void testTraceIsWellFormed() throws Exception {
+        final var trace = new StartupProfiler.Trace(1000);
+        final List<Thread> threads = new ArrayList<>();
+        for (var t = 0; t < THREADS; t++) {
+            final var bundle = "bundle" + t;
+            threads.add(new Thread(() -> {
+                try (var outer = trace.span(bundle, "start")) {
+                    try (var inner = trace.span(bundle, "phase \"quoted\"\t\\")) {
+                        Thread.sleep(5);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, "Activator " + t));
+        }
+        threads.forEach(Thread::start);
+        for (final var thread : threads) {
+            thread.join();
+        }
+        trace.mark("workbench", "window opened");
+        assertEquals("number of recorded events", 2 * THREADS + 1, trace.getEventCount());
+
+        final var writer = new StringWriter();
+        trace.write(writer);
+        final JsonNode events = new ObjectMapper().readTree(writer.toString()).get("traceEvents");
+        assertTrue("traceEvents expected to be an array", events.isArray());
+
+        final Set<Long> namedThreads = new HashSet<>();
+        final Set<Long> threadsWithSpans = new HashSet<>();
+        var spans = 0;
+        var marks = 0;
+        for (final var event : events) {
+            final var phase = event.get("ph").asText();
+            final var tid = event.get("tid").asLong();
+            switch (phase) {
+                case "M" -> {
+                    assertEquals("thread_name", event.get("name").asText());
+                    assertFalse("thread name expected", event.get("args").get("name").asText().isEmpty());
+                    namedThreads.add(tid);
+                }
+                case "X" -> {
+                    spans++;
+                    threadsWithSpans.add(tid);
+                    assertTrue("span starts after the process start", event.get("ts").asDouble() >= 1000_000);
+                    assertTrue("duration not negative", event.get("dur").asDouble() >= 0);
+                    assertTrue(event.get("cat").asText().startsWith("bundle"));
+                    if (!"start".equals(event.get("name").asText())) {
+                        assertEquals("phase \"quoted\"\t\\", event.get("name").asText());
+                        assertTrue("inner span lasted the sleep", event.get("dur").asDouble() >= 4000);
+                    }
+                }
+                case "i" -> {
+                    marks++;
+                    assertEquals("window opened", event.get("name").asText());
+                }
+                default -> throw new AssertionError("Unexpected event phase " + phase);
+            }
+        }
+        assertEquals("spans", 2 * THREADS, spans);
+        assertEquals("marks", 1, marks);
+        assertTrue("every thread with events expected to be named", namedThreads.containsAll(threadsWithSpans));
+    }
+
+    /**
+     * Checks that instrumented code costs next to nothing if no trace file is given.
+     */
+    @Test
+    public void testDisabledOverhead() {
+        assertFalse("recording is only enabled if " + StartupProfiler.TRACE_FILE_PROPERTY + " is set",
+            StartupProfiler.isEnabled());
+        // warm up
+        spanLoop(SPAN_CALLS);
+        final var start = System.nanoTime();
+        final var count = spanLoop(SPAN_CALLS);
+        final var nanosPerSpan = (System.nanoTime() - start) / (double)SPAN_CALLS;
+        LOGGER.infoWithFormat("Disabled startup span: %.2f ns per call", nanosPerSpan);
+        assertEquals(SPAN_CALLS, count);
+        assertTrue("disabled span expected to cost well below a microsecond, was " + nanosPerSpan + " ns",
+            nanosPerSpan < 200);
+    }
+
+    private static int spanLoop(final int calls) {
+        var count = 0;
+        for (var i = 0; i < calls; i++) {
+            try (var span = StartupProfiler.span("test", "phase")) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.Test;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor;
+import org.knime.core.node.workflow.WorkflowSaveHelper;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.editor2.PersistWorkflowRunnable.CheckCancelNodeProgressMonitor;
+import org.knime.workbench.editor2.commands.MetaNodeSetNameCommand;
+
+/**
+ * Tests {@link WorkflowSaveCoordinator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowSaveCoordinatorTest {
+
+    /** Number of nodes of the workflow saved by the stress test, also written by a simulated save. */
+    private static final int NODE_COUNT = 3000;
+
+    /** Number of edits queued while the stress test saves the workflow. */
+    private static final int EDIT_COUNT = 300;
+
+    /* simulates writing a workflow, checking the monitor after every node like the workflow manager does */
+    private void writeWorkflow(final NullProgressMonitor monitor) throws CanceledExecutionException {
+        for (var i = 0; i < NODE_COUNT; i++) {
+            if (monitor.isCanceled()) {
+                throw new CanceledExecutionException();
+            }
+            if (i % 100 == 0) {
+                Thread.yield();
+            }
+        }
+    }
+
+    /**
+     * Tests that an explicit save cancels a running auto-save instead of waiting for it to complete.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testSaveCancelsAutosave() throws Exception {
+        final var coordinator = new WorkflowSaveCoordinator();
+        final var autosaveStarted = new CountDownLatch(1);
+        final var autosaveMonitor = new NullProgressMonitor();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> autosave = executor.submit(() -> coordinator.runAutosave(autosaveMonitor, () -> {
+                autosaveStarted.countDown();
+                while (!autosaveMonitor.isCanceled()) {
+                    Thread.sleep(1);
+                }
+                throw new CanceledExecutionException();
+            }));
+            assertTrue(autosaveStarted.await(5, TimeUnit.SECONDS));
+
+            coordinator.runSave(() -> writeWorkflow(new NullProgressMonitor()));
+            assertTrue("auto-save expected to be canceled", autosaveMonitor.isCanceled());
+            assertNotNull(coordinator.getLastSaveStatistics());
+            try {
+                autosave.get();
+            } catch (Exception e) { // NOSONAR
+                assertTrue(e.getCause() instanceof CanceledExecutionException);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that an auto-save is skipped while the workflow is saved.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testAutosaveSkippedDuringSave() throws Exception {
+        final var coordinator = new WorkflowSaveCoordinator();
+        final var skipped = new ArrayList<Boolean>();
+        coordinator.runSave(() -> {
+            final var t = new Thread(() -> {
+                try {
+                    skipped.add(!coordinator.runAutosave(new NullProgressMonitor(), () -> {
+                    }));
+                } catch (Exception e) { // NOSONAR
+                    skipped.add(Boolean.FALSE);
+                }
+            });
+            t.start();
+            t.join();
+        });
+        assertEquals(List.of(Boolean.TRUE), skipped);
+        assertTrue("auto-save expected to run after the save",
+            coordinator.runAutosave(new NullProgressMonitor(), () -> {
+            }));
+    }
+
+    /**
+     * Saves a workflow of 3,000 nodes while an auto-save is running and edit commands are queued, and verifies that
+     * the edits are applied and the timings of the save are recorded.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 300000)
+    public void testStress() throws Exception {
+        final var folder = FileUtil.createTempDir("save_coordinator_test");
+        final var workflowDir = new File(folder, "workflow");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(workflowDir.toPath())
+                .withMountpoint("LOCAL", folder.toPath()))
+            .withLocalLocation().build();
+        final var wfm =
+            WorkflowManager.ROOT.createAndAddProject("Save Coordinator Test", new WorkflowCreationHelper(context));
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final var metanodes = new ArrayList<WorkflowManager>();
+            for (var i = 0; i < NODE_COUNT; i++) {
+                metanodes.add(wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Metanode " + i));
+            }
+            final var coordinator = new WorkflowSaveCoordinator();
+
+            final var autosaveStarted = new CountDownLatch(1);
+            final var autosaveMonitor = new NullProgressMonitor();
+            final Future<Boolean> autosave = executor.submit(() -> {
+                try {
+                    return coordinator.runAutosave(autosaveMonitor, () -> {
+                        autosaveStarted.countDown();
+                        wfm.save(new File(folder, "autosave"), new WorkflowSaveHelper(false, true),
+                            new ExecutionMonitor(new CheckCancelNodeProgressMonitor(autosaveMonitor)));
+                    });
+                } catch (CanceledExecutionException e) { // NOSONAR canceled by the save
+                    return Boolean.FALSE;
+                }
+            });
+            assertTrue(autosaveStarted.await(60, TimeUnit.SECONDS));
+
+            final var saveStarted = new CountDownLatch(1);
+            final Future<?> save = executor.submit(() -> {
+                coordinator.runSave(() -> {
+                    saveStarted.countDown();
+                    wfm.save(workflowDir, new WorkflowSaveHelper(false, false), new ExecutionMonitor());
+                });
+                return null;
+            });
+
+            // queue edits while the workflow is saved
+            final var edits = executor.submit(() -> {
+                assertTrue(saveStarted.await(60, TimeUnit.SECONDS));
+                for (var i = 0; i < EDIT_COUNT; i++) {
+                    final var command =
+                        new MetaNodeSetNameCommand(metanodes.get(i * (NODE_COUNT / EDIT_COUNT)), "Edited " + i);
+                    assertTrue(command.canExecute());
+                    command.execute();
+                }
+                return null;
+            });
+            save.get();
+            edits.get();
+            autosave.get();
+
+            for (var i = 0; i < EDIT_COUNT; i++) {
+                assertEquals("Edit " + i + " not applied", "Edited " + i,
+                    metanodes.get(i * (NODE_COUNT / EDIT_COUNT)).getNameField());
+            }
+            assertTrue(new File(workflowDir, WorkflowPersistor.WORKFLOW_FILE).isFile());
+            final var statistics = coordinator.getLastSaveStatistics();
+            assertNotNull("save timings not recorded", statistics);
+            assertTrue("time under lock not recorded: " + statistics, statistics.writeNanos() > 0);
+            assertTrue("total time not recorded: " + statistics,
+                statistics.totalNanos() >= statistics.writeNanos() && statistics.waitNanos() >= 0);
+        } finally {
+            executor.shutdownNow();
+            WorkflowManager.ROOT.removeProject(wfm.getID());
+            FileUtil.deleteRecursively(folder);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.commands.Command;
+import org.eclipse.gef.commands.CompoundCommand;
+import org.junit.Test;
+import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
+import org.knime.workbench.editor2.commands.AsyncCommand;
+import org.knime.workbench.ui.async.AsyncCommandPipeline;
+
+/**
+ * Tests how {@link WorkflowSelectionDragEditPartsTracker} combines the commands of a drag: node moves of a remote
+ * workflow are pipelined and must not be waited for when the drag command is executed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowSelectionDragEditPartsTrackerTest {
+
+    /* the remote calls don't complete before this is completed */
+    private final CompletableFuture<Void> m_remoteGate = new CompletableFuture<>();
+
+    /* the nodes moved locally and remotely, in order */
+    private final List<String> m_local = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<String> m_remote = Collections.synchronizedList(new ArrayList<>());
+
+    private final AsyncCommandPipeline m_pipeline =
+        new AsyncCommandPipeline(() -> m_remoteGate, Runnable::run, (description, t) -> {
+        });
+
+    /**
+     * Stand-in for the move of a node of a remote workflow, pipelined like the
+     * {@link org.knime.workbench.editor2.commands.ChangeNodeBoundsCommand}.
+     */
+    private final class PipelinedMoveCommand extends Command implements AsyncCommand {
+
+        private final String m_node;
+
+        PipelinedMoveCommand(final String node) {
+            m_node = node;
+        }
+
+        @Override
+        public void execute() {
+            m_pipeline.submit("Moving node " + m_node, m_node, () -> m_local.add(m_node), this::executeAsync,
+                () -> m_local.remove(m_node));
+        }
+
+        @Override
+        public boolean shallExecuteAsync() {
+            return true;
+        }
+
+        @Override
+        public boolean isPipelined() {
+            return true;
+        }
+
+        @Override
+        public CompletableFuture<Void> executeAsync() {
+            return m_remoteGate.thenRun(() -> m_remote.add(m_node));
+        }
+
+        @Override
+        public CompletableFuture<Void> undoAsync() {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public AsyncWorkflowManagerUI getAsyncHostWFM() {
+            // not needed as the command is never combined
+            return null;
+        }
+    }
+
+    /**
+     * Tests that executing the command of a drag moves the nodes locally right away and returns before the remote
+     * workflow has been changed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDragDoesNotWaitForPipelinedMoves() throws Exception {
+        final var moves = new ArrayList<Command>();
+        for (var i = 0; i < 10; i++) {
+            moves.add(new PipelinedMoveCommand("node" + i));
+        }
+        final var other = new Command() {
+        };
+        final var dragCommands = new ArrayList<Command>(moves);
+        dragCommands.add(other);
+
+        final var command = new CompoundCommand();
+        WorkflowSelectionDragEditPartsTracker.addDragCommands(command, dragCommands);
+        // the moves aren't combined into a command that waits for them
+        assertEquals(dragCommands, command.getCommands());
+
+        command.execute();
+        assertEquals("Nodes not moved locally right away", 10, m_local.size());
+        assertTrue("Remote workflow changed before the drag command returned", m_remote.isEmpty());
+        assertEquals(10, m_pipeline.getPendingCount());
+
+        m_remoteGate.complete(null);
+        m_pipeline.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(m_local, m_remote);
+        assertEquals(0, m_pipeline.getFailureCount());
+    }
+
+    /**
+     * Tests that synchronous commands are added as they are.
+     */
+    @Test
+    public void testSynchronousCommands() {
+        final var sync = new Command() {
+        };
+        final var command = new CompoundCommand();
+        WorkflowSelectionDragEditPartsTracker.addDragCommands(command, List.of(sync));
+        assertEquals(1, command.size());
+        assertSame(sync, command.getCommands().get(0));
+    }
+}
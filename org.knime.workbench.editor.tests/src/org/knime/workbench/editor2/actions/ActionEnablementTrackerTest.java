@@ -0,0 +1,323 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jface.viewers.ISelection;
+import org.eclipse.jface.viewers.ISelectionChangedListener;
+import org.eclipse.jface.viewers.ISelectionProvider;
+import org.eclipse.jface.viewers.StructuredSelection;
+import org.eclipse.ui.IEditorSite;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.ui.wrapper.Wrapper;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Enablement;
+import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+import org.knime.workbench.editor2.editparts.SubworkflowEditPart;
+
+/**
+ * Tests {@link ActionEnablementTracker}, including a small benchmark that changes the selection in a large workflow
+ * and counts the enablement evaluations of the editor actions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ActionEnablementTrackerTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ActionEnablementTrackerTest.class);
+
+    private static final int NODE_COUNT = 2000;
+
+    private static final int SELECTION_CHANGES = 1000;
+
+    /** Simulated editor action: dependencies, cached enablement and the (expensive) calculation. */
+    private static final class TestAction {
+        private final Set<Dependency> m_dependencies;
+
+        private final Enablement m_enablement;
+
+        private final BooleanSupplier m_calculator;
+
+        TestAction(final ActionEnablementTracker tracker, final Set<Dependency> dependencies,
+            final BooleanSupplier calculator) {
+            m_dependencies = dependencies;
+            m_enablement = new Enablement(tracker);
+            m_calculator = calculator;
+        }
+
+        boolean isEnabled() {
+            return m_enablement.get(m_dependencies, m_calculator);
+        }
+    }
+
+    /** Evaluation only happens once as long as no dependency changes. */
+    @Test
+    public void testCachedUntilDependencyChanges() {
+        final ActionEnablementTracker tracker = new ActionEnablementTracker();
+        final TestAction action = new TestAction(tracker, EnumSet.of(Dependency.SELECTION), () -> true);
+        assertTrue(action.isEnabled());
+        assertTrue(action.isEnabled());
+        assertEquals(1, tracker.getEvaluationCount());
+
+        tracker.changed(Dependency.NODE_STATE);
+        tracker.changed(Dependency.LOCK_STATUS);
+        assertTrue(action.isEnabled());
+        assertEquals(1, tracker.getEvaluationCount());
+
+        tracker.changed(Dependency.SELECTION);
+        assertTrue(action.isEnabled());
+        assertEquals(2, tracker.getEvaluationCount());
+
+        action.m_enablement.invalidate();
+        assertTrue(action.isEnabled());
+        assertEquals(3, tracker.getEvaluationCount());
+    }
+
+    /** The clipboard generation is shared between all trackers. */
+    @Test
+    public void testClipboardGenerationIsGlobal() {
+        final ActionEnablementTracker tracker1 = new ActionEnablementTracker();
+        final ActionEnablementTracker tracker2 = new ActionEnablementTracker();
+        final TestAction paste1 = new TestAction(tracker1, EnumSet.of(Dependency.CLIPBOARD), () -> false);
+        final TestAction paste2 = new TestAction(tracker2, EnumSet.of(Dependency.CLIPBOARD), () -> false);
+        assertFalse(paste1.isEnabled());
+        assertFalse(paste2.isEnabled());
+
+        tracker1.changed(Dependency.CLIPBOARD);
+        assertFalse(paste1.isEnabled());
+        assertFalse(paste2.isEnabled());
+        assertEquals(2, tracker1.getEvaluationCount());
+        assertEquals(2, tracker2.getEvaluationCount());
+    }
+
+    /**
+     * @param editor the editor of the actions, may be <code>null</code> if the actions are not evaluated
+     * @return the editor actions declaring their dependencies plus some that don't (i.e. depend on all inputs)
+     */
+    private static List<AbstractNodeAction> createEditorActions(final WorkflowEditor editor) {
+        return List.of(new CopyAction(editor), new CutAction(editor), new PasteAction(editor),
+            new CancelAllAction(editor), new ExecuteAllAction(editor), new AddAnnotationAction(editor),
+            new HideNodeNamesAction(editor), new ShowNodeIdsAction(editor), new ToggleFlowVarPortsAction(editor),
+            new ExecuteAction(editor), new ResetAction(editor), new CancelAction(editor), new OpenDialogAction(editor));
+    }
+
+    /** Node state changes need to update the actions depending on the node states, e.g. Cancel All. */
+    @Test
+    public void testDeclaredDependencies() {
+        for (AbstractNodeAction action : List.of(new CancelAllAction(null), new ExecuteAllAction(null),
+            new ExecuteAction(null), new ResetAction(null))) {
+            assertTrue(action.getClass().getSimpleName() + " must be updated on node state changes",
+                ActionEnablementTracker.isAffected(action.getEnablementDependencies(), Dependency.NODE_STATE));
+        }
+        assertFalse(ActionEnablementTracker.isAffected(new CancelAllAction(null).getEnablementDependencies(),
+            Dependency.SELECTION));
+        assertFalse(ActionEnablementTracker.isAffected(new CopyAction(null).getEnablementDependencies(),
+            Dependency.NODE_STATE));
+        assertTrue(ActionEnablementTracker.isAffected(new PasteAction(null).getEnablementDependencies(),
+            Dependency.CLIPBOARD));
+    }
+
+    /** Selection provider of the {@link TestEditor}, standing in for its viewer. */
+    private static final class TestSelectionProvider implements ISelectionProvider {
+        private ISelection m_selection = StructuredSelection.EMPTY;
+
+        @Override
+        public void addSelectionChangedListener(final ISelectionChangedListener listener) {
+            // the actions are updated by the test
+        }
+
+        @Override
+        public ISelection getSelection() {
+            return m_selection;
+        }
+
+        @Override
+        public void removeSelectionChangedListener(final ISelectionChangedListener listener) {
+            // the actions are updated by the test
+        }
+
+        @Override
+        public void setSelection(final ISelection selection) {
+            m_selection = selection;
+        }
+    }
+
+    /** Editor showing a workflow without the workbench, the test creates and updates the actions itself. */
+    private static final class TestEditor extends WorkflowEditor {
+        private final WorkflowManagerUI m_wfm;
+
+        private final IEditorSite m_site;
+
+        TestEditor(final WorkflowManagerUI wfm, final ISelectionProvider selectionProvider) {
+            m_wfm = wfm;
+            // the actions only ask the site for the selection provider
+            m_site = (IEditorSite)Proxy.newProxyInstance(IEditorSite.class.getClassLoader(),
+                new Class<?>[]{IEditorSite.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getSelectionProvider" -> selectionProvider;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        }
+
+        @Override
+        protected void createActions() {
+            // the actions are created by the test
+        }
+
+        @Override
+        public WorkflowManagerUI getWorkflowManagerUI() {
+            return m_wfm;
+        }
+
+        @Override
+        public Optional<WorkflowManager> getWorkflowManager() {
+            return Wrapper.unwrapOptional(m_wfm, WorkflowManager.class);
+        }
+
+        @Override
+        public IEditorSite getEditorSite() {
+            return m_site;
+        }
+    }
+
+    /**
+     * Fires {@value #SELECTION_CHANGES} selection changes on a workflow with {@value #NODE_COUNT} nodes. After each
+     * change all editor actions are updated, as done by the context menu and on property changes of the editor, and
+     * their enablement is queried by toolbar and menus. Only the actions depending on the selection must be
+     * re-evaluated.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSelectionChangeBenchmark() throws Exception {
+        final var folder = FileUtil.createTempDir("action_enablement_test");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(new File(folder, "workflow").toPath())
+                .withMountpoint("LOCAL", folder.toPath()))
+            .withLocalLocation().build();
+        final var wfm =
+            WorkflowManager.ROOT.createAndAddProject("Action Enablement Test", new WorkflowCreationHelper(context));
+        try {
+            final WorkflowManagerUI wfmUI = WorkflowManagerWrapper.wrap(wfm);
+            final var parts = new ArrayList<NodeContainerEditPart>();
+            for (var i = 0; i < NODE_COUNT; i++) {
+                final var id =
+                    wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Metanode " + i).getID();
+                final var part = new SubworkflowEditPart();
+                part.setModel(wfmUI.getNodeContainer(id));
+                parts.add(part);
+            }
+            final var selectionProvider = new TestSelectionProvider();
+            final var editor = new TestEditor(wfmUI, selectionProvider);
+            final var tracker = editor.getActionEnablementTracker();
+            final var actions = createEditorActions(editor);
+            int selectionActionCount = 0;
+            for (AbstractNodeAction action : actions) {
+                action.setSelectionProvider(selectionProvider);
+                if (ActionEnablementTracker.isAffected(action.getEnablementDependencies(), Dependency.SELECTION)) {
+                    selectionActionCount++;
+                }
+            }
+            final var copy = (CopyAction)actions.get(0);
+
+            final var selected = new LinkedHashSet<NodeContainerEditPart>();
+            final var start = System.nanoTime();
+            for (int i = 0; i < SELECTION_CHANGES; i++) {
+                final var part = parts.get((i * 7919) % NODE_COUNT);
+                if (!selected.remove(part)) {
+                    selected.add(part);
+                }
+                selectionProvider.setSelection(new StructuredSelection(new ArrayList<>(selected)));
+                tracker.changed(Dependency.SELECTION);
+                for (AbstractNodeAction action : actions) {
+                    action.update();
+                }
+                for (AbstractNodeAction action : actions) {
+                    action.isEnabled();
+                }
+                assertEquals("Copy enablement must follow the selection", !selected.isEmpty(), copy.isEnabled());
+            }
+            LOGGER.info(SELECTION_CHANGES + " selection changes on " + NODE_COUNT + " nodes took "
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms, " + tracker.getEvaluationCount()
+                + " enablement evaluations of " + actions.size() + " actions");
+
+            final int otherActionCount = actions.size() - selectionActionCount;
+            assertTrue("Some actions must not depend on the selection", otherActionCount > 0);
+            // without the cache each action would be evaluated (at least) once per selection change
+            assertEquals((long)SELECTION_CHANGES * selectionActionCount + otherActionCount,
+                tracker.getEvaluationCount());
+        } finally {
+            WorkflowManager.ROOT.removeProject(wfm.getID());
+            FileUtil.deleteRecursively(folder);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCopyContent;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.wrapper.WorkflowDefWrapper;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.util.FileUtil;
+import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Tests the {@link BinaryClipboardFormat} and compares it with the JSON text when copying 1,000 components.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BinaryClipboardFormatTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BinaryClipboardFormatTest.class);
+
+    private static final int COMPONENTS = 1_000;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static void assertRoundTrip(final String json) throws IOException {
+        final var decoded = BinaryClipboardFormat.decode(BinaryClipboardFormat.encode(json));
+        assertEquals(MAPPER.readTree(json), MAPPER.readTree(decoded));
+    }
+
+    /**
+     * Tests that all kinds of JSON values survive encoding and decoding.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        assertRoundTrip("{}");
+        assertRoundTrip("[]");
+        assertRoundTrip("{\"a\":null,\"b\":true,\"c\":false,\"d\":[1,-1,0,9223372036854775807,-9223372036854775808],"
+            + "\"e\":123456789012345678901234567890,\"f\":-0.5,\"g\":1.0E-300,\"h\":\"\"}");
+        assertRoundTrip("{\"umlaut\":\"K\u00fcrbis \u00e4\u00f6\u00fc\",\"emoji\":\"\ud83d\ude00\","
+            + "\"escapes\":\"\\\"quoted\\\" \\\\ \\n\\t\\u0000\",\"\u00fc\":[\"\u00fc\",\"\u00fc\"]}");
+        assertRoundTrip("[[[[{\"nested\":[{}, [], {\"x\":[null]}]}]]]]");
+        final var longString = "x".repeat(10_000);
+        assertRoundTrip("[\"" + longString + "\",\"" + longString + "\",\"short\",\"short\"]");
+    }
+
+    /**
+     * Tests that repeated keys and values are written only once.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Test
+    public void testInterning() throws IOException {
+        final var json = IntStream.range(0, 10_000)
+            .mapToObj(i -> "{\"factory\":\"org.knime.base.node.io.filehandling.csv.reader.CSVTableReaderNodeFactory\","
+                + "\"id\":" + i + "}")
+            .collect(Collectors.joining(",", "[", "]"));
+        final var binary = BinaryClipboardFormat.encode(json);
+        assertRoundTrip(json);
+        assertTrue("Binary payload of " + binary.length + " bytes not smaller than 5% of the JSON text",
+            binary.length < json.length() / 20);
+    }
+
+    /**
+     * Tests that invalid payloads are rejected.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Test
+    public void testInvalidPayload() throws IOException {
+        assertThrows(IOException.class, () -> BinaryClipboardFormat.decode(new byte[0]));
+        assertThrows(IOException.class,
+            () -> BinaryClipboardFormat.decode("{\"not\":\"binary\"}".getBytes()));
+        final var binary = BinaryClipboardFormat.encode("{\"a\":[1,2,3],\"b\":\"c\"}");
+        assertThrows(IOException.class,
+            () -> BinaryClipboardFormat.decode(Arrays.copyOf(binary, binary.length - 4)));
+        final var otherVersion = binary.clone();
+        otherVersion[4] = 99;
+        assertThrows(IOException.class, () -> BinaryClipboardFormat.decode(otherVersion));
+        assertThrows(IOException.class, () -> BinaryClipboardFormat.encode("{\"a\":"));
+    }
+
+    /**
+     * Tests that payloads decoding to more than the maximum number of characters are rejected, in particular payloads
+     * which reference the same interned string many times.
+     *
+     * @throws IOException if an error occurs
+     */
+    @Test
+    public void testMaximumDecodedLength() throws IOException {
+        final var value = "\"" + "x".repeat(200) + "\"";
+        final var json = IntStream.range(0, 10_000).mapToObj(i -> value).collect(Collectors.joining(",", "[", "]"));
+        final var binary = BinaryClipboardFormat.encode(json);
+        assertTrue(binary.length < 1_000);
+        assertEquals(json, BinaryClipboardFormat.decode(binary, json.length()));
+        assertThrows(IOException.class, () -> BinaryClipboardFormat.decode(binary, json.length() - 1));
+        assertThrows(IOException.class, () -> BinaryClipboardFormat.decode(binary, 100));
+    }
+
+    /**
+     * Copies 1,000 components and compares size and time of the JSON text and the binary payload for copy and paste.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testLargeCopy() throws Exception {
+        final var folder = FileUtil.createTempDir("binary_clipboard_test");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(new File(folder, "workflow").toPath()).withMountpoint("LOCAL", folder.toPath()))
+            .withLocalLocation().build();
+        final var wfm =
+            WorkflowManager.ROOT.createAndAddProject("Binary Clipboard Test", new WorkflowCreationHelper(context));
+        try {
+            final var ids = new NodeID[COMPONENTS];
+            for (var i = 0; i < COMPONENTS; i++) {
+                ids[i] = wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Component " + i).getID();
+                wfm.convertMetaNodeToSubNode(ids[i]);
+            }
+            final var copyContent = WorkflowCopyContent.builder();
+            copyContent.setNodeIDs(ids);
+            final var copy = (WorkflowDefWrapper)WorkflowManagerWrapper.wrap(wfm).copy(copyContent.build());
+            final var content = copy.unwrap();
+
+            // copy: serialize (done in both cases) + encode
+            var start = System.nanoTime();
+            final var json = SystemClipboardFormat.serialize(content);
+            final var jsonMicros = (System.nanoTime() - start) / 1_000;
+            start = System.nanoTime();
+            final var binary = BinaryClipboardFormat.encode(json);
+            final var encodeMicros = (System.nanoTime() - start) / 1_000;
+
+            // paste: decode + deserialize (done in both cases)
+            start = System.nanoTime();
+            final var fromJson = SystemClipboardFormat.deserialize(json);
+            final var parseMicros = (System.nanoTime() - start) / 1_000;
+            start = System.nanoTime();
+            final var decoded = BinaryClipboardFormat.decode(binary);
+            final var decodeMicros = (System.nanoTime() - start) / 1_000;
+            final var fromBinary = SystemClipboardFormat.deserialize(decoded);
+
+            assertEquals(MAPPER.readTree(json), MAPPER.readTree(decoded));
+            assertEquals(fromJson.getPayloadIdentifier(), fromBinary.getPayloadIdentifier());
+            assertEquals(COMPONENTS, fromBinary.getPayload().getNodes().size());
+            final var jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+            assertTrue("Binary payload of " + binary.length + " bytes not smaller than a quarter of the JSON text ("
+                + jsonBytes + " bytes)", binary.length < jsonBytes / 4);
+
+            LOGGER.info("Copying " + COMPONENTS + " components: JSON text " + jsonBytes + " bytes, binary "
+                + binary.length + " bytes; serialize " + jsonMicros + "us, encode " + encodeMicros + "us, deserialize "
+                + parseMicros + "us, decode " + decodeMicros + "us");
+        } finally {
+            WorkflowManager.ROOT.removeProject(wfm.getID());
+            FileUtil.deleteRecursively(folder);
+        }
+    }
+}
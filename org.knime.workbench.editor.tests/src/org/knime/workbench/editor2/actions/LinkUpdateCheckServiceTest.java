@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.junit.Test;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.workbench.editor2.actions.LinkUpdateCheckService.CheckResult;
+import org.knime.workbench.editor2.actions.LinkUpdateCheckService.LinkKey;
+
+/**
+ * Tests {@link LinkUpdateCheckService} with 500 links to 20 templates in a local template folder.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class LinkUpdateCheckServiceTest {
+
+    private static final int LINK_COUNT = 500;
+
+    private static final int TEMPLATE_COUNT = 20;
+
+    /* templates 0 to 4 have an update */
+    private static final int OUTDATED_TEMPLATES = 5;
+
+    private final List<NodeID> m_links = new ArrayList<>();
+
+    private final AtomicInteger m_checkCount = new AtomicInteger();
+
+    private final AtomicInteger m_checkedLinks = new AtomicInteger();
+
+    private final AtomicLong m_time = new AtomicLong();
+
+    /** Creates the links. */
+    public LinkUpdateCheckServiceTest() {
+        for (var i = 0; i < LINK_COUNT; i++) {
+            m_links.add(new NodeID(i + 1));
+        }
+    }
+
+    private static int template(final NodeID id) {
+        return id.getIndex() % TEMPLATE_COUNT;
+    }
+
+    private static LinkKey key(final NodeID id) {
+        return new LinkKey(URI.create("knime://LOCAL/templates/template" + template(id)), Instant.EPOCH);
+    }
+
+    private CheckResult check(final List<NodeID> links, final Object monitor) throws InterruptedException {
+        m_checkCount.incrementAndGet();
+        m_checkedLinks.addAndGet(links.size());
+        // simulate reading the template from disk
+        Thread.sleep(5);
+        final var updates = links.stream().filter(id -> template(id) < OUTDATED_TEMPLATES).toList();
+        return new CheckResult(updates, Status.OK_STATUS);
+    }
+
+    /**
+     * Tests that links to the same template are checked together and that the updates are reported in order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDeduplication() throws Exception {
+        final var service = new LinkUpdateCheckService(4, 60_000, m_time::get);
+        final var result =
+            service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, true, new NullProgressMonitor());
+
+        assertEquals("one check per template expected", TEMPLATE_COUNT, m_checkCount.get());
+        assertEquals(LINK_COUNT, m_checkedLinks.get());
+        final var expected = m_links.stream().filter(id -> template(id) < OUTDATED_TEMPLATES).toList();
+        assertEquals(expected, result.updateList());
+        assertTrue(result.status().isOK());
+    }
+
+    /**
+     * Tests that up-to-date templates are skipped until their cache entry expires.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCache() throws Exception {
+        final var service = new LinkUpdateCheckService(4, 60_000, m_time::get);
+        service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, true, new NullProgressMonitor());
+
+        // a second editor with the same links only checks the templates that have updates
+        m_checkCount.set(0);
+        m_time.addAndGet(30_000);
+        var result =
+            service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, true, new NullProgressMonitor());
+        assertEquals(OUTDATED_TEMPLATES, m_checkCount.get());
+        assertEquals(LINK_COUNT * OUTDATED_TEMPLATES / TEMPLATE_COUNT, result.updateList().size());
+
+        // a manual check ignores the cache
+        m_checkCount.set(0);
+        service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, false, new NullProgressMonitor());
+        assertEquals(TEMPLATE_COUNT, m_checkCount.get());
+
+        // expired entries are checked again
+        m_checkCount.set(0);
+        m_time.addAndGet(120_000);
+        service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, true, new NullProgressMonitor());
+        assertEquals(TEMPLATE_COUNT, m_checkCount.get());
+    }
+
+    /**
+     * Tests that a failing template is reported in the status without affecting the other templates.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFailingTemplate() throws Exception {
+        final var service = new LinkUpdateCheckService(4, 60_000, m_time::get);
+        final var result = service.check(m_links, LinkUpdateCheckServiceTest::key, (links, monitor) -> {
+            if (template(links.get(0)) == 0) {
+                throw new IllegalStateException("Template not readable");
+            }
+            return check(links, monitor);
+        }, true, new NullProgressMonitor());
+        assertEquals(LINK_COUNT * (OUTDATED_TEMPLATES - 1) / TEMPLATE_COUNT, result.updateList().size());
+        assertTrue("warning expected", !result.status().isOK());
+    }
+
+    /**
+     * Tests that the check can be canceled.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = InterruptedException.class)
+    public void testCancel() throws Exception {
+        final var service = new LinkUpdateCheckService(1, 60_000, m_time::get);
+        final var monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+        service.check(m_links, LinkUpdateCheckServiceTest::key, this::check, true, monitor);
+    }
+}
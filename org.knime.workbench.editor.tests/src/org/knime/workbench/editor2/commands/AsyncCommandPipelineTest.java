@@ -0,0 +1,203 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.ui.async.AsyncCommandPipeline;
+
+/**
+ * Tests the {@link AsyncCommandPipeline} as used by the {@link ChangeNodeBoundsCommand} with a stand-in for a remote
+ * workflow that answers each call after {@value #LATENCY_MS} ms. The remote calls can additionally be held back until
+ * a test releases them, which shows that submitting doesn't wait for them without relying on timing.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AsyncCommandPipelineTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AsyncCommandPipelineTest.class);
+
+    private static final long LATENCY_MS = 200;
+
+    /* the values as set by the remote calls, in order */
+    private final List<String> m_remote = Collections.synchronizedList(new ArrayList<>());
+
+    /* the local values, in order (including rollbacks) */
+    private final List<String> m_local = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicInteger m_reconciled = new AtomicInteger();
+
+    private final List<String> m_failures = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile String m_failingValue;
+
+    /* the remote calls don't start before this is completed */
+    private volatile CompletableFuture<Void> m_remoteGate = CompletableFuture.completedFuture(null);
+
+    private final AsyncCommandPipeline m_pipeline = new AsyncCommandPipeline(() -> remoteCall(() -> {
+        m_reconciled.incrementAndGet();
+        return null;
+    }), Runnable::run, (description, t) -> m_failures.add(description + ": " + t.getMessage()));
+
+    private CompletableFuture<Void> remoteCall(final Supplier<Void> call) {
+        return m_remoteGate.thenApplyAsync(v -> call.get(),
+            CompletableFuture.delayedExecutor(LATENCY_MS, TimeUnit.MILLISECONDS));
+    }
+
+    private CompletableFuture<Void> set(final String value) {
+        return remoteCall(() -> {
+            if (value.equals(m_failingValue)) {
+                throw new IllegalStateException("Node " + value + " can't be moved");
+            }
+            m_remote.add(value);
+            return null;
+        });
+    }
+
+    private CompletableFuture<Void> move(final String key, final String value, final String oldValue) {
+        return m_pipeline.submit("Moving node " + key, key, () -> m_local.add(value), () -> set(value),
+            () -> m_local.add(oldValue));
+    }
+
+    /**
+     * Tests that moves are applied locally right away and that consecutive moves of the same node are merged.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPerceivedLatencyAndCoalescing() throws Exception {
+        final var gate = new CompletableFuture<Void>();
+        m_remoteGate = gate;
+        final var start = System.nanoTime();
+        CompletableFuture<Void> last = null;
+        for (var i = 0; i < 20; i++) {
+            last = move("node", "x" + i, "x" + (i - 1));
+            assertEquals("Move not applied locally right away", "x" + i, m_local.get(m_local.size() - 1));
+        }
+        final var submitMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        // submitting returned although no remote call could have completed yet
+        assertTrue("Remote call completed before submitting returned", m_remote.isEmpty());
+        assertFalse(last.isDone());
+        assertEquals(0, m_reconciled.get());
+
+        gate.complete(null);
+        m_pipeline.flush().get(5, TimeUnit.SECONDS);
+        final var totalMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info("20 moves submitted in " + submitMs + "ms, done after " + totalMs + "ms, "
+            + m_pipeline.getRemoteCallCount() + " remote call(s)");
+
+        assertTrue(last.isDone() && !last.isCompletedExceptionally());
+        // the first move is sent right away, the others are merged into the last one
+        assertEquals(List.of("x0", "x19"), m_remote);
+        assertEquals(2, m_pipeline.getRemoteCallCount());
+        assertEquals(18, m_pipeline.getCoalescedCount());
+        assertEquals(1, m_reconciled.get());
+        assertEquals(0, m_pipeline.getPendingCount());
+    }
+
+    /**
+     * Tests that moves of different nodes are sent in the order they were done.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOrder() throws Exception {
+        for (var i = 0; i < 6; i++) {
+            move(i % 2 == 0 ? "a" : "b", "v" + i, null);
+        }
+        m_pipeline.flush().get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("v0", "v1", "v2", "v3", "v4", "v5"), m_remote);
+        assertEquals(0, m_pipeline.getCoalescedCount());
+        assertEquals(1, m_reconciled.get());
+    }
+
+    /**
+     * Tests that a failed move and the moves queued after it are rolled back in reverse order.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRollback() throws Exception {
+        m_failingValue = "n2";
+        final var results = new ArrayList<CompletableFuture<Void>>();
+        for (var i = 1; i <= 5; i++) {
+            results.add(move("n" + i, "n" + i, "old" + i));
+        }
+        m_local.clear();
+        m_pipeline.flush().get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("n1"), m_remote);
+        assertEquals("Rollbacks", List.of("old5", "old4", "old3", "old2"), m_local);
+        assertFalse(results.get(0).isCompletedExceptionally());
+        for (final var result : results.subList(1, 5)) {
+            assertTrue(result.isCompletedExceptionally());
+        }
+        try {
+            results.get(4).get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(List.of("Moving node n2: Node n2 can't be moved"), m_failures);
+        assertEquals(1, m_pipeline.getFailureCount());
+        assertEquals(1, m_reconciled.get());
+        assertEquals(0, m_pipeline.getPendingCount());
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.commands.CompoundCommand;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.MetaNodeTemplateInformation;
+import org.knime.core.node.workflow.NodeContainerTemplate;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Relinks 1,000 components to a template in a local template folder with the {@link BulkChangeMetaNodeLinksCommand}
+ * and compares the time with changing the links one command at a time.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BulkChangeMetaNodeLinksCommandTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(BulkChangeMetaNodeLinksCommandTest.class);
+
+    private static final int COMPONENTS = 1_000;
+
+    private File m_folder;
+
+    private WorkflowManager m_wfm;
+
+    private URI m_oldTemplateURI;
+
+    private URI m_newTemplateURI;
+
+    private final List<NodeContainerTemplate> m_components = new ArrayList<>();
+
+    /**
+     * Creates a workflow with linked components and two component templates in a local folder.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void createWorkflow() throws Exception {
+        m_folder = FileUtil.createTempDir("bulk_relink_test");
+        final var workflowDir = new File(m_folder, "workflow");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(workflowDir.toPath()).withMountpoint("LOCAL", m_folder.toPath()))
+            .withLocalLocation().build();
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Bulk Relink Test", new WorkflowCreationHelper(context));
+
+        final var oldTemplate = createTemplate("Component");
+        m_oldTemplateURI = new File(m_folder, "templates/Component").toURI();
+        m_newTemplateURI = new File(m_folder, "templates/Component v2").toURI();
+        createTemplate("Component v2");
+
+        final var link = oldTemplate.createLink(m_oldTemplateURI);
+        for (var i = 0; i < COMPONENTS; i++) {
+            final var component = createComponent("Component " + i);
+            m_wfm.setTemplateInformation(component.getID(), link);
+            m_components.add(component);
+        }
+    }
+
+    private SubNodeContainer createComponent(final String name) {
+        final var metanodeID = m_wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], name).getID();
+        m_wfm.convertMetaNodeToSubNode(metanodeID);
+        return (SubNodeContainer)m_wfm.getNodeContainer(metanodeID);
+    }
+
+    private MetaNodeTemplateInformation createTemplate(final String name) throws Exception {
+        final var component = createComponent(name);
+        final var templateDir = new File(new File(m_folder, "templates"), name);
+        final var template = component.saveAsTemplate(templateDir, new ExecutionMonitor());
+        m_wfm.removeNode(component.getID());
+        return template;
+    }
+
+    /** Removes the workflow and the template folder. */
+    @After
+    public void removeWorkflow() {
+        WorkflowManager.ROOT.removeProject(m_wfm.getID());
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    private void assertLinks(final URI expected) {
+        for (NodeContainerTemplate component : m_components) {
+            assertEquals(expected, component.getTemplateInformation().getSourceURI());
+        }
+    }
+
+    /**
+     * Tests that all components are relinked at once and that undo and redo restore the links.
+     */
+    @Test
+    public void testRelink() {
+        final var command = new BulkChangeMetaNodeLinksCommand(m_wfm, m_components, m_newTemplateURI, false);
+        assertTrue(command.canExecute());
+        final var start = System.nanoTime();
+        command.execute();
+        final var batchMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(COMPONENTS, command.getLinkChanges().size());
+        assertLinks(m_newTemplateURI);
+
+        assertTrue(command.canUndo());
+        command.undo();
+        assertLinks(m_oldTemplateURI);
+        assertTrue(command.canRedo());
+        command.redo();
+        assertLinks(m_newTemplateURI);
+        command.undo();
+
+        // the former way: one command per component
+        final var compound = new CompoundCommand();
+        final var singleStart = System.nanoTime();
+        for (NodeContainerTemplate component : m_components) {
+            final var single = new ChangeSubNodeLinkCommand(m_wfm, (SubNodeContainer)component, m_oldTemplateURI,
+                null, m_newTemplateURI, null);
+            single.execute();
+            compound.add(single);
+        }
+        final var singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+        assertLinks(m_newTemplateURI);
+        LOGGER.info("Relinking " + COMPONENTS + " components took " + batchMillis + "ms in one batch, "
+            + singleMillis + "ms with one command per component");
+    }
+}
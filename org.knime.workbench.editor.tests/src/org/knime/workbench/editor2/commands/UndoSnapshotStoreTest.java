@@ -0,0 +1,247 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.editor2.commands.UndoSnapshotStore.Codec;
+import org.knime.workbench.editor2.commands.UndoSnapshotStore.Snapshot;
+
+/**
+ * Tests the {@link UndoSnapshotStore} with copies that resemble the undo copies of deleting and expanding large
+ * metanodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class UndoSnapshotStoreTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(UndoSnapshotStoreTest.class);
+
+    private static final int OPERATIONS = 200;
+
+    /* nodes per deleted or expanded metanode, ~0.5MB of settings */
+    private static final int NODES = 5_000;
+
+    private static final Codec<String> CODEC = new Codec<>() {
+        @Override
+        public byte[] encode(final String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(final byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    private Path m_folder;
+
+    /**
+     * Creates the temporary folder.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Before
+    public void createFolder() throws IOException {
+        m_folder = FileUtil.createTempDir("undo_snapshot_test").toPath();
+    }
+
+    /**
+     * Deletes the temporary folder.
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @After
+    public void deleteFolder() throws IOException {
+        FileUtil.deleteRecursively(m_folder.toFile());
+    }
+
+    private static String createCopy(final int operation) {
+        final var random = new Random(operation);
+        final var sb = new StringBuilder();
+        for (var i = 0; i < NODES; i++) {
+            sb.append("<node id=\"").append(operation).append(':').append(i).append("\" factory=\"")
+                .append("org.knime.base.node.preproc.filter.row.RowFilterNodeFactory\" x=\"")
+                .append(random.nextInt(2000)).append("\" y=\"").append(random.nextInt(2000)).append("\"/>\n");
+        }
+        return sb.toString();
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(m_folder)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Tests that the undo copies of 200 operations are kept compressed and that the bytes held in memory stay bounded
+     * while the copies can still be restored.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRetainedBytes() throws Exception {
+        final var store = new UndoSnapshotStore(4L << 20, 32L << 20, 1 << 20, 8, () -> m_folder);
+        final List<Snapshot<String>> snapshots = new ArrayList<>();
+        long rawBytes = 0;
+        for (var i = 0; i < OPERATIONS; i++) {
+            final var copy = createCopy(i);
+            rawBytes += copy.length();
+            snapshots.add(store.put(copy, CODEC));
+        }
+        LOGGER.info(OPERATIONS + " undo copies of " + (rawBytes >> 20) + "MB: "
+            + (store.getUncompressedBytes() >> 10) + "kB kept, " + (store.getMemoryBytes() >> 10)
+            + "kB compressed in memory, " + (store.getDiskBytes() >> 10) + "kB on disk, " + store.getEvictionCount()
+            + " evicted");
+
+        // the accounting matches the copies still in the store (all ASCII, so one byte per char)
+        long keptBytes = 0;
+        for (var i = 0; i < OPERATIONS; i++) {
+            if (snapshots.get(i).isAvailable()) {
+                keptBytes += createCopy(i).length();
+            }
+        }
+        assertEquals(keptBytes, store.getUncompressedBytes());
+        final var compressedBytes = store.getMemoryBytes() + store.getDiskBytes();
+        assertTrue("Copies of " + keptBytes + " bytes take " + compressedBytes + " bytes compressed",
+            compressedBytes < keptBytes / 4);
+        assertTrue("Memory bytes " + store.getMemoryBytes() + " for " + rawBytes + " bytes of copies",
+            store.getMemoryBytes() < rawBytes / 4);
+        assertTrue(store.getMemoryBytes() <= 4L << 20);
+        assertTrue(store.getDiskBytes() <= 32L << 20);
+        assertTrue("Oldest copies should have been spilled", countFiles() > 0);
+        assertEquals(OPERATIONS, store.getSnapshotCount() + store.getEvictionCount());
+
+        // the most recent copies are restored as they were
+        for (var i = OPERATIONS - 1; i >= OPERATIONS - 20; i--) {
+            assertTrue(snapshots.get(i).isAvailable());
+            assertEquals(createCopy(i), snapshots.get(i).get());
+        }
+        for (final var snapshot : snapshots) {
+            snapshot.release();
+        }
+        assertEquals(0, store.getSnapshotCount());
+        assertEquals(0, store.getMemoryBytes());
+        assertEquals(0, store.getDiskBytes());
+        assertEquals(0, store.getUncompressedBytes());
+        assertEquals("Spilled copies not deleted", 0, countFiles());
+    }
+
+    /**
+     * Tests that the least recently used snapshots are evicted once the disk budget is exceeded.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEviction() throws Exception {
+        final var probe = new UndoSnapshotStore(Long.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, 8, () -> m_folder);
+        probe.put(createCopy(0), CODEC);
+        final var copySize = probe.getMemoryBytes();
+        // every copy is spilled, the disk holds 3 of them
+        final var store = new UndoSnapshotStore(0, copySize * 7 / 2, 0, 8, () -> m_folder);
+        final List<Snapshot<String>> snapshots = new ArrayList<>();
+        for (var i = 0; i < 3; i++) {
+            snapshots.add(store.put(createCopy(i), CODEC));
+        }
+        // undoing the first command marks it as recently used
+        assertEquals(createCopy(0), snapshots.get(0).get());
+        for (var i = 3; i < 5; i++) {
+            snapshots.add(store.put(createCopy(i), CODEC));
+        }
+
+        assertEquals(2, store.getEvictionCount());
+        assertEquals(3, store.getSnapshotCount());
+        assertEquals(3, countFiles());
+        assertTrue(snapshots.get(0).isAvailable());
+        assertFalse(snapshots.get(1).isAvailable());
+        assertFalse(snapshots.get(2).isAvailable());
+        assertNull(snapshots.get(1).get());
+        assertTrue(snapshots.get(3).isAvailable());
+        assertTrue(snapshots.get(4).isAvailable());
+    }
+
+    /**
+     * Tests that copies that can't be serialized are kept as they are, but only up to a number of them.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnserializable() throws Exception {
+        final var store = new UndoSnapshotStore(8L << 20, 32L << 20, 1 << 20, 3, () -> m_folder);
+        final List<Snapshot<Object>> snapshots = new ArrayList<>();
+        final List<Object> copies = new ArrayList<>();
+        for (var i = 0; i < 5; i++) {
+            final var copy = new Object();
+            copies.add(copy);
+            snapshots.add(store.put(copy, null));
+        }
+        assertEquals(3, store.getSnapshotCount());
+        assertEquals(2, store.getEvictionCount());
+        assertFalse(snapshots.get(1).isAvailable());
+        assertTrue(copies.get(4) == snapshots.get(4).get());
+        assertEquals(0, store.getMemoryBytes());
+        assertEquals(0, countFiles());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.knime.workbench.editor2.editparts.ModelChildrenIndex.Segment;
+
+/**
+ * Tests {@link ModelChildrenIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ModelChildrenIndexTest {
+
+    /** Simulated children list of the root edit part, kept in sync via the indices returned by the index. */
+    private static final class Children {
+        private final ModelChildrenIndex m_index = new ModelChildrenIndex();
+
+        private final List<Object> m_children = new ArrayList<>();
+
+        private final Map<Object, Segment> m_segments = new HashMap<>();
+
+        Children(final int workflowAnnotationCount, final int nodeCount, final int portBarCount) {
+            for (int i = 0; i < workflowAnnotationCount; i++) {
+                addInitial("wfanno" + i, Segment.WORKFLOW_ANNOTATION);
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                addInitial("nodeanno" + i, Segment.NODE_ANNOTATION);
+            }
+            for (int i = 0; i < nodeCount; i++) {
+                addInitial("node" + i, Segment.NODE);
+            }
+            for (int i = 0; i < portBarCount; i++) {
+                addInitial("bar" + i, Segment.PORT_BAR);
+            }
+            m_index.rebuild(m_children, m_segments::get);
+        }
+
+        private void addInitial(final Object model, final Segment segment) {
+            m_children.add(model);
+            m_segments.put(model, segment);
+        }
+
+        void add(final Object model, final Segment segment) {
+            final int index = m_index.add(model, segment);
+            if (index >= 0) {
+                m_segments.put(model, segment);
+                m_children.add(index, model);
+            }
+        }
+
+        void remove(final Object model) {
+            if (m_index.remove(model)) {
+                m_children.remove(model);
+            }
+        }
+
+        /** Asserts that all children are ordered by segment, i.e. the z-order is intact. */
+        void assertSegmentOrder() {
+            Segment previous = Segment.WORKFLOW_ANNOTATION;
+            for (Object child : m_children) {
+                final Segment segment = m_segments.get(child);
+                assertTrue("Child " + child + " out of z-order", segment.compareTo(previous) >= 0);
+                previous = segment;
+            }
+            assertEquals(m_children.size(), m_index.size());
+        }
+    }
+
+    /** New children are inserted at the end of their segment. */
+    @Test
+    public void testInsertionIndex() {
+        final Children children = new Children(2, 3, 1);
+        children.add("newnode", Segment.NODE);
+        assertSame("newnode", children.m_children.get(2 + 3 + 3));
+        children.add("newanno", Segment.NODE_ANNOTATION);
+        assertSame("newanno", children.m_children.get(2 + 3));
+        children.add("newwfanno", Segment.WORKFLOW_ANNOTATION);
+        assertSame("newwfanno", children.m_children.get(2));
+        children.assertSegmentOrder();
+    }
+
+    /** Adding an existing or removing an unknown child is a no-op. */
+    @Test
+    public void testIdempotentDeltas() {
+        final Children children = new Children(0, 2, 0);
+        final int size = children.m_index.size();
+        assertEquals(-1, children.m_index.add("node0", Segment.NODE));
+        assertFalse(children.m_index.remove("unknown"));
+        assertEquals(size, children.m_index.size());
+        assertEquals(4, children.m_children.size());
+    }
+
+    /** Removed children shrink their segment, so that later insertions still go to the end of the segment. */
+    @Test
+    public void testRemoval() {
+        final Children children = new Children(1, 3, 1);
+        children.remove("node1");
+        children.remove("nodeanno1");
+        assertFalse(children.m_index.contains("node1"));
+        children.add("newnode", Segment.NODE);
+        assertSame("newnode", children.m_children.get(1 + 2 + 2));
+        children.assertSegmentOrder();
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartFactory;
+import org.eclipse.gef.editparts.ScalableFreeformRootEditPart;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeAnnotation;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests that the state and message updates of the nodes, which are coalesced by the {@link NodeFigureUpdater}, result
+ * in a single figure update per node and frame.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeFigureUpdaterTest {
+
+    private static final int NODES = 20;
+
+    /* the number of state and message events each node receives within one frame */
+    private static final int EVENTS = 100;
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private File m_folder;
+
+    private WorkflowManager m_wfm;
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private final List<CountingNodeEditPart> m_nodeParts = new ArrayList<>();
+
+    /**
+     * Creates a workflow of metanodes and shows it in a viewer.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void setUp() throws Exception {
+        m_folder = FileUtil.createTempDir("node_figure_updater_test");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(new File(m_folder, "workflow").toPath())
+                .withMountpoint("LOCAL", m_folder.toPath()))
+            .withLocalLocation().build();
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Figure Updater Test", new WorkflowCreationHelper(context));
+        for (var i = 0; i < NODES; i++) {
+            m_wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Metanode " + i);
+        }
+
+        m_display = Display.getDefault();
+        m_shell = new Shell(m_display);
+        final var viewer = new ScrollingGraphicalViewer();
+        viewer.createControl(m_shell);
+        viewer.setRootEditPart(new ScalableFreeformRootEditPart());
+        viewer.setEditDomain(new DefaultEditDomain(null));
+        viewer.setEditPartFactory(new TestEditPartFactory());
+        viewer.setContents(WorkflowManagerWrapper.wrap(m_wfm));
+        assertEquals(NODES, m_nodeParts.size());
+        // apply the updates caused by creating the workflow
+        dispatchFrames();
+        m_nodeParts.forEach(p -> p.m_updates.clear());
+    }
+
+    /** Disposes the viewer, removes the workflow and deletes the temporary folder. */
+    @After
+    public void cleanUp() {
+        if (m_shell != null) {
+            m_shell.dispose();
+        }
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeProject(m_wfm.getID());
+        }
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    /** Creates the parts of the root workflow and its metanodes, without the workbench. */
+    private final class TestEditPartFactory implements EditPartFactory {
+        private boolean m_isTop = true;
+
+        @Override
+        public EditPart createEditPart(final EditPart context, final Object model) {
+            final EditPart part;
+            if (model instanceof WorkflowManagerUI && m_isTop) {
+                m_isTop = false;
+                part = new WorkflowRootEditPart();
+            } else if (model instanceof WorkflowManagerUI) {
+                final var nodePart = new CountingNodeEditPart();
+                m_nodeParts.add(nodePart);
+                part = nodePart;
+            } else if (model instanceof NodeAnnotation) {
+                part = new NodeAnnotationEditPart();
+            } else {
+                part = new AnnotationEditPart();
+            }
+            part.setModel(model);
+            return part;
+        }
+    }
+
+    /** Records the figure updates, i.e. whether the state (and not only the message) changed. */
+    private static final class CountingNodeEditPart extends SubworkflowEditPart {
+        private final List<Boolean> m_updates = new ArrayList<>();
+
+        @Override
+        void updateFigureFromNodeContainer(final boolean stateChanged) {
+            m_updates.add(stateChanged);
+            super.updateFigureFromNodeContainer(stateChanged);
+        }
+    }
+
+    /** Dispatches UI events until the condition holds, then for some more frames to apply all pending updates. */
+    private void dispatchUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Figures not updated within " + TIMEOUT_MILLIS + "ms", System.currentTimeMillis() < end);
+            if (!m_display.readAndDispatch()) {
+                Thread.sleep(5);
+            }
+        }
+        dispatchFrames();
+    }
+
+    /** Dispatches UI events for a few frames. */
+    private void dispatchFrames() throws InterruptedException {
+        final long end = System.currentTimeMillis() + 3 * NodeFigureUpdater.FRAME_MILLIS;
+        while (System.currentTimeMillis() < end) {
+            if (!m_display.readAndDispatch()) {
+                Thread.sleep(5);
+            }
+        }
+    }
+
+    private boolean allUpdated() {
+        return m_nodeParts.stream().noneMatch(p -> p.m_updates.isEmpty());
+    }
+
+    /** Fires the events in a worker thread (as the workflow manager does) before the UI thread gets to handle any. */
+    private static void fireInBackground(final Runnable events) throws InterruptedException {
+        final var thread = new Thread(events, "Node Figure Updater Test");
+        thread.start();
+        thread.join();
+    }
+
+    /**
+     * Fires {@value #EVENTS} state and message events for each node within one frame and checks that each figure is
+     * updated once.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUpdatesCoalescedPerFrame() throws Exception {
+        fireInBackground(() -> {
+            for (var i = 0; i < EVENTS; i++) {
+                for (CountingNodeEditPart part : m_nodeParts) {
+                    part.stateChanged(null);
+                    part.messageChanged(null);
+                }
+            }
+        });
+        dispatchUntil(this::allUpdated);
+        for (CountingNodeEditPart part : m_nodeParts) {
+            assertEquals("One update per frame expected", List.of(Boolean.TRUE), part.m_updates);
+        }
+    }
+
+    /**
+     * Checks that message events alone only update the message, and that a state event in the same frame updates the
+     * state, too.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMessageOnlyUpdates() throws Exception {
+        final var messageOnly = m_nodeParts.get(0);
+        final var messageThenState = m_nodeParts.get(1);
+        fireInBackground(() -> {
+            for (var i = 0; i < EVENTS; i++) {
+                messageOnly.messageChanged(null);
+                messageThenState.messageChanged(null);
+            }
+            messageThenState.stateChanged(null);
+            messageThenState.messageChanged(null);
+        });
+        dispatchUntil(() -> !messageOnly.m_updates.isEmpty() && !messageThenState.m_updates.isEmpty());
+        assertEquals(List.of(Boolean.FALSE), messageOnly.m_updates);
+        assertEquals(List.of(Boolean.TRUE), messageThenState.m_updates);
+        assertTrue("Nodes without events must not be updated",
+            m_nodeParts.subList(2, NODES).stream().allMatch(p -> p.m_updates.isEmpty()));
+    }
+
+    /**
+     * Checks that events arriving after a frame was flushed are applied in the next frame.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEventsAfterFlush() throws Exception {
+        final var part = m_nodeParts.get(0);
+        fireInBackground(() -> part.stateChanged(null));
+        dispatchUntil(() -> !part.m_updates.isEmpty());
+        fireInBackground(() -> {
+            for (var i = 0; i < EVENTS; i++) {
+                part.messageChanged(null);
+            }
+        });
+        dispatchUntil(() -> part.m_updates.size() > 1);
+        assertEquals(List.of(Boolean.TRUE, Boolean.FALSE), part.m_updates);
+    }
+}
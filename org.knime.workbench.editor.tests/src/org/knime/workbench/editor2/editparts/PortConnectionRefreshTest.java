@@ -0,0 +1,336 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartFactory;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.editparts.ScalableFreeformRootEditPart;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NodeAnnotation;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.node.workflow.ConnectionContainerUI;
+import org.knime.core.ui.node.workflow.NodeInPortUI;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.node.workflow.WorkflowOutPortUI;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests that adding and removing connections only refreshes the ports of the nodes involved in the changed
+ * connections, and doesn't refresh the children of the {@link WorkflowRootEditPart}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PortConnectionRefreshTest {
+
+    private static final int NODES = 20;
+
+    private static final int SMALL_WORKFLOW_NODES = 200;
+
+    private static final int LARGE_WORKFLOW_NODES = 2_000;
+
+    /* the number of connections added at once */
+    private static final int CHANGES = 50;
+
+    /* each metanode has one in and one out port */
+    private static final int PORTS_PER_NODE = 2;
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private File m_folder;
+
+    private WorkflowManager m_wfm;
+
+    private final List<NodeID> m_ids = new ArrayList<>();
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private CountingRootEditPart m_rootPart;
+
+    /* the nodes of the ports whose connections were refreshed, once per refreshed port */
+    private final List<NodeID> m_refreshedPortNodes = new ArrayList<>();
+
+    /**
+     * Creates the temporary folder.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void createFolder() throws Exception {
+        m_folder = FileUtil.createTempDir("port_connection_refresh_test");
+    }
+
+    /** Creates a workflow with the given number of metanodes with one data port each and shows it in a viewer. */
+    private void show(final int nodeCount) throws Exception {
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(new File(m_folder, "workflow").toPath())
+                .withMountpoint("LOCAL", m_folder.toPath()))
+            .withLocalLocation().build();
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Port Refresh Test", new WorkflowCreationHelper(context));
+        m_ids.clear();
+        final var ports = new PortType[]{BufferedDataTable.TYPE};
+        for (var i = 0; i < nodeCount; i++) {
+            m_ids.add(m_wfm.createAndAddSubWorkflow(ports, ports, "Metanode " + i).getID());
+        }
+
+        m_display = Display.getDefault();
+        m_shell = new Shell(m_display);
+        final var viewer = new ScrollingGraphicalViewer();
+        viewer.createControl(m_shell);
+        viewer.setRootEditPart(new ScalableFreeformRootEditPart());
+        viewer.setEditDomain(new DefaultEditDomain(null));
+        viewer.setEditPartFactory(new TestEditPartFactory());
+        viewer.setContents(WorkflowManagerWrapper.wrap(m_wfm));
+        m_rootPart = (CountingRootEditPart)viewer.getContents();
+        m_rootPart.m_refreshChildrenCount = 0;
+        m_refreshedPortNodes.clear();
+    }
+
+    /** Disposes the viewer and removes the workflow. */
+    private void disposeViewer() {
+        if (m_shell != null) {
+            m_shell.dispose();
+            m_shell = null;
+        }
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeProject(m_wfm.getID());
+            m_wfm = null;
+        }
+    }
+
+    /** Disposes the viewer, removes the workflow and deletes the temporary folder. */
+    @After
+    public void cleanUp() {
+        disposeViewer();
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    /** Creates the parts of the root workflow, its metanodes and their ports, without the workbench. */
+    private final class TestEditPartFactory implements EditPartFactory {
+        private boolean m_isTop = true;
+
+        @Override
+        public EditPart createEditPart(final EditPart context, final Object model) {
+            final EditPart part;
+            if (model instanceof WorkflowManagerUI && m_isTop) {
+                m_isTop = false;
+                part = new CountingRootEditPart();
+            } else if (model instanceof WorkflowManagerUI) {
+                part = new SubworkflowEditPart();
+            } else if (model instanceof WorkflowOutPortUI) {
+                final var port = (WorkflowOutPortUI)model;
+                part = new MetaNodeOutPortEditPart(port.getPortType(), port.getPortIndex()) {
+                    @Override
+                    void refreshConnections() {
+                        m_refreshedPortNodes.add(getNodeContainer().getID());
+                        super.refreshConnections();
+                    }
+                };
+            } else if (model instanceof NodeInPortUI) {
+                final var port = (NodeInPortUI)model;
+                part = new NodeInPortEditPart(port.getPortType(), port.getPortIndex()) {
+                    @Override
+                    void refreshConnections() {
+                        m_refreshedPortNodes.add(getNodeContainer().getID());
+                        super.refreshConnections();
+                    }
+                };
+            } else if (model instanceof ConnectionContainerUI) {
+                part = new ConnectionContainerEditPart();
+            } else if (model instanceof NodeAnnotation) {
+                part = new NodeAnnotationEditPart();
+            } else {
+                part = new AnnotationEditPart();
+            }
+            part.setModel(model);
+            return part;
+        }
+    }
+
+    /** Counts the full refreshes of the children. */
+    private static final class CountingRootEditPart extends WorkflowRootEditPart {
+        private int m_refreshChildrenCount;
+
+        @Override
+        protected void refreshChildren() {
+            m_refreshChildrenCount++;
+            super.refreshChildren();
+        }
+    }
+
+    /** @return the edit part of the node's in port (<code>true</code>) or out port (<code>false</code>) */
+    private GraphicalEditPart getPortPart(final NodeID id, final boolean inPort) {
+        for (Object child : m_rootPart.getChildren()) {
+            if (child instanceof NodeContainerEditPart
+                && ((NodeContainerEditPart)child).getNodeContainer().getID().equals(id)) {
+                for (Object port : ((EditPart)child).getChildren()) {
+                    if (inPort ? port instanceof NodeInPortEditPart : port instanceof MetaNodeOutPortEditPart) {
+                        return (GraphicalEditPart)port;
+                    }
+                }
+            }
+        }
+        throw new IllegalStateException("No port part for " + id);
+    }
+
+    private boolean isConnected(final NodeID source, final NodeID dest) {
+        return getPortPart(source, false).getSourceConnections().size() == 1
+            && getPortPart(dest, true).getTargetConnections().size() == 1;
+    }
+
+    /** Dispatches UI events (the edit part applies workflow changes asynchronously) until the condition holds. */
+    private void dispatchUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Connection change not applied within " + TIMEOUT_MILLIS + "ms",
+                System.currentTimeMillis() < end);
+            if (!m_display.readAndDispatch()) {
+                Thread.sleep(10);
+            }
+        }
+        while (m_display.readAndDispatch()) {
+            // apply remaining queued changes
+        }
+    }
+
+    /** Checks that exactly the ports of the given nodes were refreshed, once each, and resets the counters. */
+    private void assertRefreshedOnly(final Set<NodeID> nodes) {
+        assertEquals("Only the ports of the connected nodes must be refreshed", nodes,
+            new HashSet<>(m_refreshedPortNodes));
+        assertEquals("Each port must be refreshed once", PORTS_PER_NODE * nodes.size(), m_refreshedPortNodes.size());
+        assertEquals("The children must not be refreshed", 0, m_rootPart.m_refreshChildrenCount);
+        m_refreshedPortNodes.clear();
+    }
+
+    /**
+     * Adds and removes a connection and checks that only the ports of its source and destination are refreshed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testOnlyAffectedPortsRefreshed() throws Exception {
+        show(NODES);
+        final var source = m_ids.get(3);
+        final var dest = m_ids.get(7);
+
+        final ConnectionContainer cc = m_wfm.addConnection(source, 0, dest, 0);
+        dispatchUntil(() -> isConnected(source, dest));
+        assertRefreshedOnly(Set.of(source, dest));
+
+        m_wfm.removeConnection(cc);
+        dispatchUntil(() -> getPortPart(dest, true).getTargetConnections().isEmpty());
+        assertTrue(getPortPart(source, false).getSourceConnections().isEmpty());
+        assertRefreshedOnly(Set.of(source, dest));
+    }
+
+    /** @return the number of port refreshes needed to add {@value #CHANGES} connections between distinct nodes */
+    private int countConnectionRefreshes() throws InterruptedException {
+        final Set<NodeID> connected = new HashSet<>();
+        NodeID lastSource = null;
+        NodeID lastDest = null;
+        for (var i = 0; i < CHANGES; i++) {
+            lastSource = m_ids.get(2 * i * m_ids.size() / (2 * CHANGES));
+            lastDest = m_ids.get((2 * i + 1) * m_ids.size() / (2 * CHANGES));
+            m_wfm.addConnection(lastSource, 0, lastDest, 0);
+            connected.add(lastSource);
+            connected.add(lastDest);
+        }
+        final var source = lastSource;
+        final var dest = lastDest;
+        // connection changes are applied in order, hence all of them are once the last one is
+        dispatchUntil(() -> isConnected(source, dest));
+        final int refreshes = m_refreshedPortNodes.size();
+        assertRefreshedOnly(connected);
+        return refreshes;
+    }
+
+    /**
+     * Adds {@value #CHANGES} connections to workflows of different sizes and checks that the number of refreshed ports
+     * only depends on the number of changed connections.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCostScalesWithChanges() throws Exception {
+        show(SMALL_WORKFLOW_NODES);
+        final int small = countConnectionRefreshes();
+        disposeViewer();
+
+        show(LARGE_WORKFLOW_NODES);
+        final int large = countConnectionRefreshes();
+
+        assertEquals("Refreshing the ports must not depend on the number of nodes", small, large);
+        assertEquals(2 * PORTS_PER_NODE * CHANGES, large);
+    }
+}
@@ -0,0 +1,361 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.gef.DefaultEditDomain;
+import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartFactory;
+import org.eclipse.gef.editparts.ScalableFreeformRootEditPart;
+import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeAnnotation;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.node.workflow.NodeContainerUI;
+import org.knime.core.ui.node.workflow.WorkflowManagerUI;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests that node additions and removals are applied to the children of the {@link WorkflowRootEditPart} in the same
+ * order as a full refresh would create them, and that applying them costs proportional to the number of changes rather
+ * than the number of nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowRootEditPartTest {
+
+    private static final int NODES = 20;
+
+    private static final int SMALL_WORKFLOW_NODES = 200;
+
+    private static final int LARGE_WORKFLOW_NODES = 5_000;
+
+    /* the number of nodes added and removed each */
+    private static final int CHANGES = 100;
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    private File m_folder;
+
+    private WorkflowManager m_wfm;
+
+    private final List<NodeID> m_ids = new ArrayList<>();
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private WorkflowRootEditPart m_rootPart;
+
+    /**
+     * Creates the temporary folder.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void createFolder() throws Exception {
+        m_folder = FileUtil.createTempDir("root_edit_part_test");
+    }
+
+    /** Creates a workflow with the given number of metanodes and shows it in a viewer. */
+    private void show(final int nodeCount) throws Exception {
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(new File(m_folder, "workflow").toPath())
+                .withMountpoint("LOCAL", m_folder.toPath()))
+            .withLocalLocation().build();
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Root Edit Part Test", new WorkflowCreationHelper(context));
+        m_ids.clear();
+        for (var i = 0; i < nodeCount; i++) {
+            m_ids.add(addNode("Metanode " + i));
+        }
+
+        m_display = Display.getDefault();
+        m_shell = new Shell(m_display);
+        final var viewer = new ScrollingGraphicalViewer();
+        viewer.createControl(m_shell);
+        viewer.setRootEditPart(new ScalableFreeformRootEditPart());
+        viewer.setEditDomain(new DefaultEditDomain(null));
+        viewer.setEditPartFactory(new TestEditPartFactory());
+        viewer.setContents(WorkflowManagerWrapper.wrap(m_wfm));
+        m_rootPart = (WorkflowRootEditPart)viewer.getContents();
+    }
+
+    /** Disposes the viewer and removes the workflow. */
+    private void disposeViewer() {
+        if (m_shell != null) {
+            m_shell.dispose();
+            m_shell = null;
+        }
+        if (m_wfm != null) {
+            WorkflowManager.ROOT.removeProject(m_wfm.getID());
+            m_wfm = null;
+        }
+    }
+
+    /** Disposes the viewer, removes the workflow and deletes the temporary folder. */
+    @After
+    public void cleanUp() {
+        disposeViewer();
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    private NodeID addNode(final String name) {
+        return m_wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], name).getID();
+    }
+
+    /** Creates the parts of the root workflow and its metanodes, without the workbench. */
+    private static final class TestEditPartFactory implements EditPartFactory {
+        private boolean m_isTop = true;
+
+        @Override
+        public EditPart createEditPart(final EditPart context, final Object model) {
+            final EditPart part;
+            if (model instanceof WorkflowManagerUI && m_isTop) {
+                m_isTop = false;
+                part = new CountingRootEditPart();
+            } else if (model instanceof WorkflowManagerUI) {
+                part = new SubworkflowEditPart();
+            } else if (model instanceof NodeAnnotation) {
+                part = new NodeAnnotationEditPart();
+            } else {
+                part = new AnnotationEditPart();
+            }
+            part.setModel(model);
+            return part;
+        }
+    }
+
+    /** Counts the operations on the children, i.e. the cost of applying workflow changes to them. */
+    private static final class CountingRootEditPart extends WorkflowRootEditPart {
+        private int m_operations;
+
+        @Override
+        protected void addChild(final EditPart child, final int index) {
+            m_operations++;
+            super.addChild(child, index);
+        }
+
+        @Override
+        protected void removeChild(final EditPart child) {
+            m_operations++;
+            super.removeChild(child);
+        }
+
+        @Override
+        protected void reorderChild(final EditPart child, final int index) {
+            m_operations++;
+            super.reorderChild(child, index);
+        }
+    }
+
+    private List<Object> getChildModels() {
+        final List<Object> models = new ArrayList<>();
+        for (Object child : m_rootPart.getChildren()) {
+            models.add(((EditPart)child).getModel());
+        }
+        return models;
+    }
+
+    private boolean isShown(final NodeID id) {
+        return getChildModels().stream()
+            .anyMatch(m -> m instanceof NodeContainerUI && ((NodeContainerUI)m).getID().equals(id));
+    }
+
+    /** Dispatches UI events (the edit part applies workflow changes asynchronously) until the condition holds. */
+    private void dispatchUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Workflow change not applied within " + TIMEOUT_MILLIS + "ms",
+                System.currentTimeMillis() < end);
+            if (!m_display.readAndDispatch()) {
+                Thread.sleep(10);
+            }
+        }
+        while (m_display.readAndDispatch()) {
+            // apply remaining queued changes
+        }
+    }
+
+    /** The children need to be in the order of a full refresh, i.e. the order determines the z-order. */
+    private void assertModelOrder() {
+        assertEquals(m_rootPart.getModelChildren(), getChildModels());
+    }
+
+    /**
+     * Adds and removes nodes and checks that the order of the children matches the model.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testAddAndRemoveNodes() throws Exception {
+        show(NODES);
+        assertModelOrder();
+        final List<Object> initialParts = new ArrayList<>(m_rootPart.getChildren());
+
+        final var added = addNode("Added");
+        dispatchUntil(() -> isShown(added));
+        assertModelOrder();
+        assertTrue("Existing parts must be kept", m_rootPart.getChildren().containsAll(initialParts));
+        final var models = getChildModels();
+        final var addedModel = (NodeContainerUI)models.get(models.size() - 1);
+        assertEquals("Added node must be the top-most node", added, addedModel.getID());
+
+        final var removed = m_ids.get(NODES / 2);
+        final var removedPart = m_rootPart.getChildren().stream()
+            .filter(p -> ((EditPart)p).getModel() instanceof NodeContainerUI
+                && ((NodeContainerUI)((EditPart)p).getModel()).getID().equals(removed))
+            .findFirst().orElseThrow();
+        m_wfm.removeNode(removed);
+        dispatchUntil(() -> !isShown(removed));
+        assertModelOrder();
+        assertFalse(((EditPart)removedPart).isActive());
+    }
+
+    /**
+     * Adds and removes nodes in quick succession, so that the changes are applied in one batch.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testBatchedChanges() throws Exception {
+        show(NODES);
+        final var shortLived = addNode("Transient");
+        m_wfm.removeNode(shortLived);
+        final var first = addNode("First");
+        final var second = addNode("Second");
+        m_wfm.removeNode(m_ids.get(0));
+        m_wfm.removeNode(m_ids.get(NODES - 1));
+        dispatchUntil(() -> isShown(second) && !isShown(m_ids.get(NODES - 1)));
+        assertModelOrder();
+        assertFalse(isShown(shortLived));
+        assertFalse(isShown(m_ids.get(0)));
+        assertTrue(isShown(first));
+    }
+
+    /**
+     * Removes {@value #CHANGES} nodes spread over the workflow and adds as many new ones.
+     *
+     * @return the last removed and the last added node
+     */
+    private NodeID[] changeNodes() {
+        final List<NodeID> removed = new ArrayList<>();
+        for (var i = 0; i < CHANGES; i++) {
+            removed.add(m_ids.get(i * m_ids.size() / CHANGES));
+        }
+        NodeID added = null;
+        for (final NodeID id : removed) {
+            m_wfm.removeNode(id);
+            added = addNode("Added");
+        }
+        m_ids.removeAll(removed);
+        return new NodeID[]{removed.get(CHANGES - 1), added};
+    }
+
+    /** @return the number of child operations needed to apply the changes of {@link #changeNodes()} */
+    private int countDeltaOperations() throws InterruptedException {
+        final var rootPart = (CountingRootEditPart)m_rootPart;
+        rootPart.m_operations = 0;
+        final var changed = changeNodes();
+        // the changes are applied in order, hence all of them are once the last ones are
+        dispatchUntil(() -> !isShown(changed[0]) && isShown(changed[1]));
+        assertModelOrder();
+        return rootPart.m_operations;
+    }
+
+    /** @return the number of child operations of a full refresh after the changes of {@link #changeNodes()} */
+    private int countFullRefreshOperations() {
+        final var rootPart = (CountingRootEditPart)m_rootPart;
+        rootPart.getWorkflowManager().removeListener(rootPart);
+        changeNodes();
+        rootPart.m_operations = 0;
+        rootPart.refreshChildren();
+        assertModelOrder();
+        return rootPart.m_operations;
+    }
+
+    /**
+     * Adds and removes {@value #CHANGES} nodes each on workflows of different sizes and checks that the number of
+     * operations on the children only depends on the number of changes, and is far below the one of a full refresh.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCostScalesWithChanges() throws Exception {
+        show(SMALL_WORKFLOW_NODES);
+        final int small = countDeltaOperations();
+        disposeViewer();
+
+        show(LARGE_WORKFLOW_NODES);
+        final int large = countDeltaOperations();
+        final int fullRefresh = countFullRefreshOperations();
+
+        assertEquals("Applying the changes must not depend on the number of nodes", small, large);
+        // one part for each node and at most one for its annotation
+        assertTrue(large + " operations for " + (2 * CHANGES) + " changes", large <= 4 * CHANGES);
+        assertTrue("Full refresh took " + fullRefresh + " operations, the deltas " + large,
+            fullRefresh > 5 * large);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.GraphicalEditPart;
+import org.eclipse.gef.editparts.AbstractGraphicalEditPart;
+import org.junit.Test;
+
+/**
+ * Tests {@link WorkflowSpatialIndex}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowSpatialIndexTest {
+
+    private static GraphicalEditPart createPart(final int x, final int y, final int width, final int height) {
+        GraphicalEditPart part = new AbstractGraphicalEditPart() {
+            @Override
+            protected IFigure createFigure() {
+                return new Figure();
+            }
+
+            @Override
+            protected void createEditPolicies() {
+                // none
+            }
+        };
+        part.getFigure().setBounds(new Rectangle(x, y, width, height));
+        return part;
+    }
+
+    /**
+     * Tests queries for areas, strips and points.
+     */
+    @Test
+    public void testQuery() {
+        WorkflowSpatialIndex index = new WorkflowSpatialIndex();
+        GraphicalEditPart a = createPart(10, 10, 50, 50);
+        GraphicalEditPart b = createPart(1000, 10, 50, 50);
+        GraphicalEditPart c = createPart(-500, 700, 50, 50);
+        index.add(a);
+        index.add(b);
+        index.add(c);
+        assertThat(index.size(), is(3));
+
+        assertThat(index.query(new Rectangle(0, 0, 100, 100)), contains(a));
+        assertThat(index.query(new Rectangle(Integer.MIN_VALUE / 2, 0, Integer.MAX_VALUE, 100)),
+            containsInAnyOrder(a, b));
+        assertThat(index.query(new Rectangle(-520, Integer.MIN_VALUE / 2, 40, Integer.MAX_VALUE)), contains(c));
+        assertThat(index.query(new Rectangle(200, 200, 100, 100)), is(empty()));
+
+        assertThat(index.findAt(new Point(1020, 30), GraphicalEditPart.class), contains(b));
+        assertThat(index.findAt(new Point(500, 30), GraphicalEditPart.class), is(empty()));
+    }
+
+    /**
+     * Tests that moved figures are re-indexed and removed parts are no longer found.
+     */
+    @Test
+    public void testUpdateAndRemove() {
+        WorkflowSpatialIndex index = new WorkflowSpatialIndex();
+        GraphicalEditPart a = createPart(10, 10, 50, 50);
+        index.add(a);
+
+        a.getFigure().setLocation(new Point(2000, 2000));
+        assertThat(index.query(new Rectangle(0, 0, 100, 100)), is(empty()));
+        assertThat(index.query(new Rectangle(1990, 1990, 100, 100)), contains(a));
+
+        index.remove(a);
+        assertThat(index.size(), is(0));
+        assertThat(index.query(new Rectangle(1990, 1990, 100, 100)), is(empty()));
+
+        // no longer listening to the figure
+        a.getFigure().setLocation(new Point(10, 10));
+        assertThat(index.query(new Rectangle(0, 0, 100, 100)), is(empty()));
+    }
+}
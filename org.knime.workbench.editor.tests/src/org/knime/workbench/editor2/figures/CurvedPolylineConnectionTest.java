@@ -0,0 +1,210 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.LightweightSystem;
+import org.eclipse.draw2d.XYAnchor;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests the cached geometry of {@link CurvedPolylineConnection} and benchmarks moving many curved connections.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CurvedPolylineConnectionTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(CurvedPolylineConnectionTest.class);
+
+    private static final int NODE_COUNT = 500;
+
+    private static final int CONNECTION_COUNT = 1500;
+
+    private static final int FRAME_COUNT = 60;
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private LightweightSystem m_lws;
+
+    private Figure m_root;
+
+    /** Creates a canvas to add the connections to. */
+    @Before
+    public void createCanvas() {
+        m_display = Display.getDefault();
+        m_display.syncExec(() -> {
+            m_shell = new Shell(m_display);
+            m_shell.setSize(1600, 1200);
+            final var canvas = new Canvas(m_shell, SWT.DOUBLE_BUFFERED);
+            canvas.setSize(1600, 1200);
+            m_lws = new LightweightSystem(canvas);
+            m_root = new Figure();
+            m_lws.setContents(m_root);
+        });
+    }
+
+    /** Disposes the canvas. */
+    @After
+    public void disposeCanvas() {
+        m_display.syncExec(() -> m_shell.dispose());
+    }
+
+    private static PointList points(final Point source, final Point target) {
+        final var points = new PointList();
+        points.addPoint(source);
+        points.addPoint(target);
+        return points;
+    }
+
+    private static Point nodeLocation(final int node, final int offset) {
+        return new Point(50 + (node % 25) * 60 + offset, 40 + (node / 25) * 55 + offset);
+    }
+
+    /**
+     * Tests that points on the curve hit the connection and points far away do not, and that the curve is only
+     * recalculated if its points change.
+     */
+    @Test
+    public void testHitTestAndGeometryCache() {
+        m_display.syncExec(() -> {
+            final var connection = new CurvedPolylineConnection(true);
+            connection.setPoints(points(new Point(100, 100), new Point(500, 300)));
+            connection.updateCurve();
+            final var calculations = connection.getCurveCalculationCount();
+
+            // the curve is point symmetric around the middle of its end points
+            assertTrue(connection.containsPoint(300, 200));
+            assertFalse(connection.containsPoint(300, 120));
+            assertFalse(connection.containsPoint(300, 280));
+
+            connection.setPoints(points(new Point(100, 100), new Point(500, 300)));
+            assertTrue(connection.containsPoint(300, 200));
+            assertEquals("same points must not recalculate the curve", calculations,
+                connection.getCurveCalculationCount());
+
+            connection.setPoints(points(new Point(100, 100), new Point(500, 500)));
+            assertTrue("hit-test must see the moved curve", connection.containsPoint(300, 300));
+            assertTrue(connection.getBounds().contains(500, 500));
+            assertEquals("moved connection expected to be recalculated once", calculations + 1,
+                connection.getCurveCalculationCount());
+        });
+    }
+
+    /**
+     * Drags 500 selected nodes with 1,500 curved connections between them and reports the frame time. Both ends of
+     * every connection move in each frame, the curves are expected to be recalculated once per frame nonetheless.
+     */
+    @Test
+    public void benchmarkDragSelection() {
+        m_display.syncExec(() -> {
+            final List<CurvedPolylineConnection> connections = new ArrayList<>();
+            final List<XYAnchor> sources = new ArrayList<>();
+            final List<XYAnchor> targets = new ArrayList<>();
+            for (var i = 0; i < CONNECTION_COUNT; i++) {
+                final var connection = new CurvedPolylineConnection(true);
+                final var source = new XYAnchor(nodeLocation(i % NODE_COUNT, 0));
+                final var target = new XYAnchor(nodeLocation((i * 7 + 1) % NODE_COUNT, 0));
+                connection.setSourceAnchor(source);
+                connection.setTargetAnchor(target);
+                m_root.add(connection);
+                connections.add(connection);
+                sources.add(source);
+                targets.add(target);
+            }
+            m_lws.getUpdateManager().performUpdate();
+            final var calculationsBefore = connections.stream().mapToLong(c -> c.getCurveCalculationCount()).sum();
+
+            var hits = 0;
+            final var start = System.nanoTime();
+            for (var frame = 1; frame <= FRAME_COUNT; frame++) {
+                // the source node is moved first, then the target node
+                for (var i = 0; i < CONNECTION_COUNT; i++) {
+                    sources.get(i).setLocation(nodeLocation(i % NODE_COUNT, frame));
+                    targets.get(i).setLocation(nodeLocation((i * 7 + 1) % NODE_COUNT, frame));
+                }
+                // routes and repaints the moved connections
+                m_lws.getUpdateManager().performUpdate();
+                final var target = nodeLocation(1, frame);
+                assertTrue("bounds must be those of the moved curve after the update",
+                    connections.get(0).getBounds().contains(target));
+                // the mouse hovers over the canvas
+                for (final var connection : connections) {
+                    if (connection.containsPoint(700, 500 + frame)) {
+                        hits++;
+                    }
+                }
+            }
+            final var nanos = System.nanoTime() - start;
+
+            final var calculations =
+                connections.stream().mapToLong(c -> c.getCurveCalculationCount()).sum() - calculationsBefore;
+            LOGGER.infoWithFormat("Dragged %d nodes with %d curved connections: %.2f ms per frame, %d curve "
+                + "calculations, %d hits", NODE_COUNT, CONNECTION_COUNT, nanos / 1e6 / FRAME_COUNT, calculations, hits);
+            assertEquals("expected one curve calculation per connection and frame",
+                (long)CONNECTION_COUNT * FRAME_COUNT, calculations);
+        });
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.workbench.core.util.SWTResourceCache;
+
+/**
+ * Tests the sharing of ghostly node images through {@link SWTResourceCache}, simulating the opening and closing of
+ * many workflow editors.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class GhostlyImageCacheTest {
+
+    /** Number of distinct node icons. */
+    private static final int ICON_COUNT = 100;
+
+    /** Number of nodes in each simulated workflow. */
+    private static final int NODE_COUNT = 500;
+
+    /** Number of simulated editor sessions. */
+    private static final int EDITOR_COUNT = 50;
+
+    private static final int MAX_UNREFERENCED = 16;
+
+    private Display m_display;
+
+    private final List<Image> m_icons = new ArrayList<>();
+
+    /** Creates the node icons. */
+    @Before
+    public void createIcons() {
+        m_display = Display.getDefault();
+        m_display.syncExec(() -> {
+            for (var i = 0; i < ICON_COUNT; i++) {
+                m_icons.add(new Image(m_display, 16, 16));
+            }
+        });
+    }
+
+    /** Disposes the node icons. */
+    @After
+    public void disposeIcons() {
+        m_display.syncExec(() -> m_icons.forEach(Image::dispose));
+        m_icons.clear();
+    }
+
+    /* opens an editor showing nodes with icons from the given range, returns the icons of the nodes */
+    private List<Image> openEditor(final SWTResourceCache<Image, Image> cache, final int editor,
+        final int iconsPerEditor) {
+        final List<Image> shown = new ArrayList<>();
+        for (var n = 0; n < NODE_COUNT; n++) {
+            final var icon = m_icons.get((editor * 7 + n % iconsPerEditor) % ICON_COUNT);
+            final var ghostly = cache.acquire(icon, i -> new Image(m_display, i, 0));
+            assertSame("nodes with the same icon expected to share the ghostly image", ghostly,
+                cache.acquire(icon, i -> new Image(m_display, i, 0)));
+            cache.release(icon);
+            shown.add(icon);
+        }
+        return shown;
+    }
+
+    /**
+     * Tests that the number of live images is bounded while editors are opened and closed and that most lookups are
+     * answered from the cache.
+     */
+    @Test
+    public void testLiveImagesBoundedAcrossEditors() {
+        m_display.syncExec(() -> {
+            final var cache = new SWTResourceCache<Image, Image>(MAX_UNREFERENCED);
+            final var iconsPerEditor = 20;
+            try {
+                for (var editor = 0; editor < EDITOR_COUNT; editor++) {
+                    final var shown = openEditor(cache, editor, iconsPerEditor);
+                    assertTrue("too many live images: " + cache,
+                        cache.getLiveCount() <= iconsPerEditor + MAX_UNREFERENCED);
+                    shown.forEach(cache::release);
+                    assertTrue("too many unreferenced images: " + cache, cache.getLiveCount() <= MAX_UNREFERENCED);
+                }
+                assertTrue("unexpected low hit rate: " + cache, cache.getHitRate() > 0.9);
+                assertTrue("expected images to be evicted: " + cache, cache.getEvictionCount() > 0);
+                cache.trim();
+                assertEquals("all images expected to be disposed: " + cache, 0, cache.getLiveCount());
+            } finally {
+                cache.dispose();
+            }
+        });
+    }
+
+    /**
+     * Tests that the figures acquire and release their ghostly images in pairs.
+     */
+    @Test
+    public void testFigureGhostlyImagesReleased() {
+        m_display.syncExec(() -> {
+            final var cache = NodeContainerFigure.getGhostlyImageCache();
+            final var liveBefore = cache.getLiveCount();
+            final var icon = m_icons.get(0);
+            final var ghostly = NodeContainerFigure.acquireGhostlyImage(icon);
+            assertSame(ghostly, NodeContainerFigure.acquireGhostlyImage(icon));
+            assertEquals(liveBefore + 1, cache.getLiveCount());
+            NodeContainerFigure.releaseGhostlyImage(icon);
+            NodeContainerFigure.releaseGhostlyImage(icon);
+            cache.trim();
+            assertTrue("ghostly image expected to be disposed", ghostly.isDisposed());
+            assertEquals(liveBefore, cache.getLiveCount());
+        });
+    }
+
+    /**
+     * Tests that the ghostly image is released even if the original image has been disposed before, which changes the
+     * original's hash code.
+     */
+    @Test
+    public void testReleaseAfterOriginalDisposed() {
+        m_display.syncExec(() -> {
+            final var cache = NodeContainerFigure.getGhostlyImageCache();
+            final var liveBefore = cache.getLiveCount();
+            final var icon = new Image(m_display, 16, 16);
+            final var ghostly = NodeContainerFigure.acquireGhostlyImage(icon);
+            icon.dispose();
+            NodeContainerFigure.releaseGhostlyImage(icon);
+            cache.trim();
+            assertTrue("ghostly image expected to be disposed", ghostly.isDisposed());
+            assertEquals(liveBefore, cache.getLiveCount());
+        });
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.LightweightSystem;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.PointList;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the visibility check of {@link ProgressPolylineConnection} that decides whether the flow animation advances.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ProgressPolylineConnectionTest {
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private LightweightSystem m_lws;
+
+    private Viewport m_viewport;
+
+    private Figure m_contents;
+
+    /** Creates a scrollable canvas of 400x300 pixels over contents of 3000x3000 pixels. */
+    @Before
+    public void createCanvas() {
+        m_display = Display.getDefault();
+        m_display.syncExec(() -> {
+            m_shell = new Shell(m_display);
+            m_shell.setSize(400, 300);
+            final var canvas = new Canvas(m_shell, SWT.NONE);
+            canvas.setSize(400, 300);
+            m_lws = new LightweightSystem(canvas);
+            m_viewport = new Viewport(true);
+            m_contents = new Figure();
+            m_contents.setPreferredSize(new Dimension(3000, 3000));
+            m_viewport.setContents(m_contents);
+            m_lws.setContents(m_viewport);
+            m_lws.getUpdateManager().performUpdate();
+        });
+    }
+
+    /** Disposes the canvas. */
+    @After
+    public void disposeCanvas() {
+        m_display.syncExec(() -> m_shell.dispose());
+    }
+
+    private ProgressPolylineConnection addConnection(final int x, final int y) {
+        final var connection = new ProgressPolylineConnection();
+        final var points = new PointList();
+        points.addPoint(new Point(x, y));
+        points.addPoint(new Point(x + 50, y + 20));
+        connection.setPoints(points);
+        m_contents.add(connection);
+        return connection;
+    }
+
+    /** Connections are only visible if they intersect the scrolled visible area. */
+    @Test
+    public void testVisibleInScrolledViewport() {
+        m_display.syncExec(() -> {
+            final var topLeft = addConnection(50, 50);
+            final var farAway = addConnection(1100, 1050);
+            m_lws.getUpdateManager().performUpdate();
+            assertTrue(topLeft.isVisibleInViewport());
+            assertFalse(farAway.isVisibleInViewport());
+
+            m_viewport.setViewLocation(1000, 1000);
+            m_lws.getUpdateManager().performUpdate();
+            assertFalse("scrolled out of the visible area", topLeft.isVisibleInViewport());
+            assertTrue("scrolled into the visible area", farAway.isVisibleInViewport());
+
+            m_contents.remove(farAway);
+            assertFalse(farAway.isVisibleInViewport());
+        });
+    }
+}
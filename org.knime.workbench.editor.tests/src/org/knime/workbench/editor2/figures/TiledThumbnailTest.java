@@ -0,0 +1,270 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.LightweightSystem;
+import org.eclipse.draw2d.RectangleFigure;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Canvas;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the tile cache of the {@link TiledThumbnail}: a source of 1024x1024 pixels shown in a thumbnail of 512x512
+ * pixels is cached in 4x4 tiles of 128 pixels.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TiledThumbnailTest {
+
+    private static final int FRAME_MILLIS = 20;
+
+    private static final int SOURCE_SIZE = 1024;
+
+    private static final int THUMBNAIL_SIZE = 512;
+
+    private static final int TILE_COUNT = 16;
+
+    private static final long TIMEOUT_MILLIS = 10000;
+
+    private Display m_display;
+
+    private Shell m_shell;
+
+    private LightweightSystem m_lws;
+
+    private IFigure m_source;
+
+    private IFigure m_node;
+
+    private TiledThumbnail m_thumbnail;
+
+    /* milliseconds each paint of the source takes */
+    private volatile long m_paintMillis;
+
+    /** Creates a viewport showing the source and the thumbnail of the source. */
+    @Before
+    public void createThumbnail() {
+        m_display = Display.getDefault();
+        m_shell = new Shell(m_display);
+        final var canvas = new Canvas(m_shell, SWT.NONE);
+        canvas.setSize(800, 800);
+        m_lws = new LightweightSystem(canvas);
+        final var root = new Figure();
+        m_lws.setContents(root);
+
+        m_source = new Figure() {
+            @Override
+            protected void paintFigure(final Graphics graphics) {
+                super.paintFigure(graphics);
+                if (m_paintMillis > 0) {
+                    try {
+                        Thread.sleep(m_paintMillis);
+                    } catch (InterruptedException e) { // NOSONAR test only
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        };
+        m_source.setPreferredSize(new Dimension(SOURCE_SIZE, SOURCE_SIZE));
+        m_source.setBounds(new Rectangle(0, 0, SOURCE_SIZE, SOURCE_SIZE));
+        m_node = new RectangleFigure();
+        m_node.setBounds(new Rectangle(10, 10, 50, 50));
+        m_source.add(m_node);
+        final var viewport = new Viewport();
+        viewport.setBounds(new Rectangle(0, 0, 200, 200));
+        viewport.setContents(m_source);
+        root.add(viewport);
+
+        m_thumbnail = new TiledThumbnail(viewport, m_source, FRAME_MILLIS);
+        m_thumbnail.setBounds(new Rectangle(250, 0, THUMBNAIL_SIZE, THUMBNAIL_SIZE));
+        root.add(m_thumbnail);
+    }
+
+    /** Disposes the thumbnail and the shell. */
+    @After
+    public void dispose() {
+        m_thumbnail.deactivate();
+        m_shell.dispose();
+    }
+
+    /* paints the thumbnail, as done when the outline is shown, which schedules the rendering of the dirty tiles */
+    private void paintThumbnail() {
+        final var image = new Image(m_display, 800, 800);
+        final var gc = new GC(image);
+        final var graphics = new SWTGraphics(gc);
+        try {
+            m_thumbnail.paint(graphics);
+        } finally {
+            graphics.dispose();
+            gc.dispose();
+            image.dispose();
+        }
+    }
+
+    private void dispatchUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long end = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Thumbnail not rendered within " + TIMEOUT_MILLIS + "ms", System.currentTimeMillis() < end);
+            if (!m_display.readAndDispatch()) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    /* dispatches the events of the given number of frames */
+    private void dispatchFrames(final int frames) throws InterruptedException {
+        final var end = System.currentTimeMillis() + (long)frames * FRAME_MILLIS;
+        dispatchUntil(() -> System.currentTimeMillis() >= end);
+    }
+
+    private void renderAll() throws InterruptedException {
+        final var rendered = m_thumbnail.getRenderedTileCount();
+        paintThumbnail();
+        dispatchUntil(() -> m_thumbnail.getRenderedTileCount() >= rendered + TILE_COUNT);
+        dispatchFrames(3);
+        assertEquals("Each tile expected to be rendered once", rendered + TILE_COUNT,
+            m_thumbnail.getRenderedTileCount());
+    }
+
+    /**
+     * Tests that the tiles are rendered once and then painted from the cache.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testTilesCached() throws Exception {
+        renderAll();
+        for (var i = 0; i < 5; i++) {
+            paintThumbnail();
+            dispatchFrames(2);
+        }
+        assertEquals("Cached tiles rendered again", TILE_COUNT, m_thumbnail.getRenderedTileCount());
+    }
+
+    /**
+     * Tests that a changed figure only renders the tiles it intersects again, and that a resized source renders all
+     * tiles again.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInvalidationOnFigureChanges() throws Exception {
+        renderAll();
+
+        // the node (10,10 - 60,60) is shown in the first tile (0,0 - 128,128 of the thumbnail at scale 0.5)
+        m_node.setBackgroundColor(ColorConstants.red);
+        m_lws.getUpdateManager().performUpdate();
+        dispatchUntil(() -> m_thumbnail.getRenderedTileCount() > TILE_COUNT);
+        dispatchFrames(3);
+        assertEquals("Only the tile of the changed node expected to be rendered", TILE_COUNT + 1,
+            m_thumbnail.getRenderedTileCount());
+
+        // twice as wide, scale 0.25, 4x2 tiles
+        m_source.setPreferredSize(new Dimension(2 * SOURCE_SIZE, SOURCE_SIZE));
+        m_source.setBounds(new Rectangle(0, 0, 2 * SOURCE_SIZE, SOURCE_SIZE));
+        paintThumbnail();
+        dispatchUntil(() -> m_thumbnail.getRenderedTileCount() >= TILE_COUNT + 1 + 8);
+        dispatchFrames(3);
+        assertEquals("All tiles of the resized source expected to be rendered", TILE_COUNT + 1 + 8,
+            m_thumbnail.getRenderedTileCount());
+    }
+
+    /**
+     * Tests that rendering stops once half of a frame is used up, so that a slow source is rendered over several
+     * frames instead of blocking the UI thread.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFrameBudget() throws Exception {
+        // a tile takes 5ms, a frame allows 10ms of rendering, i.e. a tile started after 0ms and one after 5ms
+        m_paintMillis = 5;
+        paintThumbnail();
+        final var start = System.nanoTime();
+        var batches = 0;
+        var maxBatch = 0L;
+        var rendered = 0L;
+        while (rendered < TILE_COUNT) {
+            assertTrue("Thumbnail not rendered within " + TIMEOUT_MILLIS + "ms",
+                System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS));
+            final var dispatched = m_display.readAndDispatch();
+            final var batch = m_thumbnail.getRenderedTileCount() - rendered;
+            if (batch > 0) {
+                batches++;
+                maxBatch = Math.max(maxBatch, batch);
+                rendered += batch;
+            } else if (!dispatched) {
+                Thread.sleep(1);
+            }
+        }
+        assertTrue("Too many tiles rendered in one frame: " + maxBatch, maxBatch <= 3);
+        assertTrue("Tiles expected to be rendered over several frames: " + batches, batches >= TILE_COUNT / 3);
+        assertTrue("Render time not recorded",
+            m_thumbnail.getRenderNanos() >= TimeUnit.MILLISECONDS.toNanos(TILE_COUNT * m_paintMillis));
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.workflowsummaryexport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.util.FileUtil;
+import org.knime.core.util.workflowsummary.WorkflowSummaryCreator;
+import org.knime.core.util.workflowsummary.WorkflowSummaryUtil;
+import org.knime.workbench.editor2.workflowsummaryexport.ExportWorkflowSummaryWizard.SummaryFormat;
+
+/**
+ * Tests the {@link WorkflowSummaryExporter} with a workflow of 10,000 nested metanodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowSummaryExporterTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowSummaryExporterTest.class);
+
+    /* metanodes per level, 10 + 10 * 10 + 10 * 10 * 99 = 10,010 nodes */
+    private static final int[] FAN_OUT = {10, 10, 99};
+
+    private static File folder;
+
+    private static WorkflowManager wfm;
+
+    /**
+     * Creates the workflow.
+     *
+     * @throws Exception if an error occurs
+     */
+    @BeforeClass
+    public static void createWorkflow() throws Exception {
+        folder = FileUtil.createTempDir("workflow_summary_test");
+        final var workflowDir = new File(folder, "workflow");
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId()
+                .withLocalWorkflowPath(workflowDir.toPath()).withMountpoint("LOCAL", folder.toPath()))
+            .withLocalLocation().build();
+        wfm = WorkflowManager.ROOT.createAndAddProject("Workflow Summary Test", new WorkflowCreationHelper(context));
+        addMetanodes(wfm, 0);
+    }
+
+    private static void addMetanodes(final WorkflowManager parent, final int level) {
+        if (level == FAN_OUT.length) {
+            return;
+        }
+        for (var i = 0; i < FAN_OUT[level]; i++) {
+            final var metanode =
+                parent.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Metanode " + level + "." + i);
+            addMetanodes(metanode, level + 1);
+        }
+    }
+
+    /** Removes the workflow. */
+    @AfterClass
+    public static void removeWorkflow() {
+        WorkflowManager.ROOT.removeProject(wfm.getID());
+        FileUtil.deleteRecursively(folder);
+    }
+
+    private static long tmpFileCount() throws Exception {
+        try (Stream<Path> files = Files.list(folder.toPath())) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".tmp")).count();
+        }
+    }
+
+    /**
+     * Tests that the exported files are the same as written by {@link WorkflowSummaryUtil}.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSameOutput() throws Exception {
+        final var summary = WorkflowSummaryCreator.create(wfm, false);
+        for (final var format : SummaryFormat.values()) {
+            final var expected = new ByteArrayOutputStream();
+            if (format == SummaryFormat.XML) {
+                WorkflowSummaryUtil.writeXML(expected, summary, false);
+            } else {
+                WorkflowSummaryUtil.writeJSON(expected, summary, false);
+            }
+            final var file = folder.toPath().resolve("summary." + format.name().toLowerCase());
+            WorkflowSummaryExporter.write(summary, format, false, file, new NullProgressMonitor());
+            assertArrayEquals("Different " + format + " output", expected.toByteArray(), Files.readAllBytes(file));
+        }
+        assertEquals("Temporary files left", 0, tmpFileCount());
+    }
+
+    /**
+     * Tests that a canceled export leaves an existing file as it was.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final var file = folder.toPath().resolve("canceled.json");
+        Files.writeString(file, "previous summary");
+        final var monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+        try {
+            WorkflowSummaryExporter.export(wfm, SummaryFormat.JSON, false, file, monitor);
+            fail("Export not canceled");
+        } catch (InterruptedException e) { // NOSONAR expected
+        }
+        assertEquals("previous summary", Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals("Temporary files left", 0, tmpFileCount());
+    }
+
+    /**
+     * Tests that an export canceled while the nodes are collected returns right away, without waiting for the
+     * collecting thread.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCancelWhileCollecting() throws Exception {
+        final var file = folder.toPath().resolve("canceled-later.json");
+        final var monitor = new NullProgressMonitor() {
+            private int m_checks;
+
+            private long m_canceledNanos;
+
+            @Override
+            public boolean isCanceled() {
+                // canceled from the first poll on
+                if (++m_checks == 2) {
+                    m_canceledNanos = System.nanoTime();
+                }
+                return m_checks > 1;
+            }
+        };
+        try {
+            WorkflowSummaryExporter.export(wfm, SummaryFormat.JSON, false, file, monitor);
+            fail("Export not canceled");
+        } catch (InterruptedException e) { // NOSONAR expected
+        }
+        final var millis = (System.nanoTime() - monitor.m_canceledNanos) / 1_000_000;
+        assertTrue("Canceled export took " + millis + "ms to return", millis < 1000);
+        assertFalse(Files.exists(file));
+        assertEquals("Temporary files left", 0, tmpFileCount());
+    }
+
+    /**
+     * Tests that an exported file keeps the permissions of the file it replaces.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testPermissionsKept() throws Exception {
+        Assume.assumeTrue(Files.getFileStore(folder.toPath()).supportsFileAttributeView(PosixFileAttributeView.class));
+        final var summary = WorkflowSummaryCreator.create(wfm, false);
+        final var file = folder.toPath().resolve("permissions.json");
+        Files.writeString(file, "previous summary");
+        final var permissions = PosixFilePermissions.fromString("rw-rw-r--");
+        Files.setPosixFilePermissions(file, permissions);
+        WorkflowSummaryExporter.write(summary, SummaryFormat.JSON, false, file, new NullProgressMonitor());
+        assertEquals(permissions, Files.getPosixFilePermissions(file));
+    }
+
+    /**
+     * Exports the summary of 10,000 nested nodes and logs the time it takes.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testLargeNestedWorkflow() throws Exception {
+        assertEquals(10_010, WorkflowSummaryExporter.countNodes(wfm));
+        for (final var format : SummaryFormat.values()) {
+            final var file = folder.toPath().resolve("large." + format.name().toLowerCase());
+            final var start = System.nanoTime();
+            WorkflowSummaryExporter.export(wfm, format, false, file, new NullProgressMonitor());
+            final var millis = (System.nanoTime() - start) / 1_000_000;
+            LOGGER.info(format + " summary of 10,010 nodes: " + (Files.size(file) >> 10) + "kB in " + millis
+                + "ms");
+            assertTrue(Files.size(file) > 0);
+        }
+    }
+}
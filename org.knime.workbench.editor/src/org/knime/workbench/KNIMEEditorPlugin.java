@@ -59,6 +59,7 @@
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
 import org.knime.core.node.NodeLogger;
+import org.knime.workbench.core.util.StartupProfiler;
 import org.knime.workbench.core.util.ThreadsafeImageRegistry;
 import org.knime.workbench.editor2.svgexport.WorkflowSVGExport;
 import org.knime.workbench.editor2.svgexport.WorkflowSVGExportAction;
@@ -100,7 +101,14 @@ public KNIMEEditorPlugin() {
      */
     @Override
     public void start(final BundleContext context) throws Exception {
-        super.start(context);
+        try (var startSpan = StartupProfiler.span(PLUGIN_ID, "KNIMEEditorPlugin.start")) {
+            super.start(context);
+            startPlugin();
+        }
+    }
+
+    /* the start-up of this plug-in, recorded as the span of start(BundleContext) */
+    private void startPlugin() throws ReflectiveOperationException {
         // TODO: temporary hug for preference page, to ensure that the
         // MasterKeySupplier is set correctly before the editor is started
         KNIMEUIPlugin.getDefault().getPreferenceStore();
@@ -144,7 +152,9 @@ public void start(final BundleContext context) throws Exception {
                     "Unable to instantiate" + WorkflowSVGExportAction.class.getName() + " implementation", e);
             }
         }
-        initChromiumSWT();
+        try (var span = StartupProfiler.span(PLUGIN_ID, "Chromium SWT")) {
+            initChromiumSWT();
+        }
     }
 
     /** (2020-06-28) Temporary workaround added as part of AP-14231 -- If Chromium Embedded Framwork / Chromium.SWT is
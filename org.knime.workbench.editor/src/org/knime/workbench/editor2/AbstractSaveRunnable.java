@@ -74,6 +74,10 @@ abstract class AbstractSaveRunnable extends PersistWorkflowRunnable {
 
     private IProgressMonitor m_monitor;
 
+    private boolean m_skipped;
+
+    private boolean m_canceled;
+
     /**
      * Creates a runnable that saves the worfklow.
      *
@@ -93,14 +97,23 @@ public final void run(final IProgressMonitor pm) throws InterruptedException {
         final File workflowDir = getSaveLocation();
         try {
             final WorkflowManager wfm = m_editor.getWorkflowManager().get();
-            final ProgressHandler progressHandler =
-                new ProgressHandler(pm, wfm.getNodeContainers().size(), "Saving workflow... (cannot be canceled)");
+            final ProgressHandler progressHandler = new ProgressHandler(pm, wfm.getNodeContainers().size(),
+                isAutosave() ? "Auto-saving workflow... (canceled if the workflow is saved)"
+                    : "Saving workflow... (cannot be canceled)");
             final CheckCancelNodeProgressMonitor progressMonitor = new CheckCancelNodeProgressMonitor(pm);
 
             progressMonitor.addProgressListener(progressHandler);
             final ExecutionMonitor exec = new ExecutionMonitor(progressMonitor);
 
-            save(wfm, exec);
+            final WorkflowSaveCoordinator coordinator = m_editor.getSaveCoordinator();
+            if (isAutosave()) {
+                m_skipped = !coordinator.runAutosave(pm, () -> save(wfm, exec));
+                if (m_skipped) {
+                    m_logger.debug("Skipped auto-save of " + workflowDir.getName() + ", workflow is being saved");
+                }
+            } else {
+                coordinator.runSave(() -> save(wfm, exec));
+            }
 
             m_monitor = null;
         } catch (final FileNotFoundException fnfe) {
@@ -119,6 +132,7 @@ public final void run(final IProgressMonitor pm) throws InterruptedException {
             }
         } catch (final CanceledExecutionException cee) {
             m_logger.info("Canceled saving workflow: " + workflowDir.getName());
+            m_canceled = true;
             m_exceptionMessage.append("Saving workflow" + " was canceled.");
             handleRunExceptionCleanUp(null);
         } catch (final Exception e) {
@@ -135,6 +149,24 @@ public final void run(final IProgressMonitor pm) throws InterruptedException {
 
     protected abstract File getSaveLocation();
 
+    /** @return <code>true</code> if the auto-save has been skipped because the workflow was being saved */
+    boolean isSkipped() {
+        return m_skipped;
+    }
+
+    /** @return <code>true</code> if the save has been canceled, e.g. an auto-save in favor of an explicit save */
+    boolean isCanceled() {
+        return m_canceled;
+    }
+
+    /**
+     * @return <code>true</code> if this is an auto-save, which is skipped if the workflow is being saved and canceled
+     *         if a save is started, see {@link WorkflowSaveCoordinator}
+     */
+    protected boolean isAutosave() {
+        return false;
+    }
+
     protected abstract void save(WorkflowManager wfm, ExecutionMonitor exec) throws IOException, CanceledExecutionException, LockFailedException;
 
     // Here's the funny thing - WorkflowEditor.saveTo is written to show a dialog to the user on a save failure,
@@ -87,13 +87,30 @@ protected File getSaveLocation() {
         return m_autosaveDir;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean isAutosave() {
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected void save(final WorkflowManager wfm, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException, LockFailedException {
-        wfm.save(m_autosaveDir, m_saveHelper, exec);
+        try {
+            wfm.save(m_autosaveDir, m_saveHelper, exec);
+        } catch (CanceledExecutionException e) {
+            // canceled by an explicit save, the backup copy is incomplete and needs to be written again
+            final ReferencedFile autoSaveDir = wfm.getAutoSaveDirectory();
+            if (autoSaveDir != null) {
+                autoSaveDir.setDirty(true);
+            }
+            throw e;
+        }
 
         ReferencedFile oldWorkflowPathRef = wfm.getWorkingDir();
         File oldWorkflowPath = oldWorkflowPathRef == null ? null : oldWorkflowPathRef.getFile();
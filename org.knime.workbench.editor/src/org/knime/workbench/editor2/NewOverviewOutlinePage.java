@@ -50,8 +50,6 @@
 import org.eclipse.draw2d.LightweightSystem;
 import org.eclipse.draw2d.MarginBorder;
 import org.eclipse.draw2d.Viewport;
-import org.eclipse.draw2d.parts.ScrollableThumbnail;
-import org.eclipse.draw2d.parts.Thumbnail;
 import org.eclipse.gef.LayerConstants;
 import org.eclipse.gef.editparts.ScalableFreeformRootEditPart;
 import org.eclipse.jface.viewers.ISelection;
@@ -63,6 +61,7 @@
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.ui.part.Page;
 import org.eclipse.ui.views.contentoutline.IContentOutlinePage;
+import org.knime.workbench.editor2.figures.TiledThumbnail;
 
 /**
  * Overview outline page that shows a scaled thumbnail picture of the editor's
@@ -72,6 +71,12 @@
  */
 public class NewOverviewOutlinePage extends Page 
         implements IContentOutlinePage {
+    /**
+     * Minimum time in milliseconds between two updates of the thumbnail, can be changed via the system property
+     * <code>knime.editor.overview.frameMillis</code>.
+     */
+    private static final int FRAME_MILLIS = Integer.getInteger("knime.editor.overview.frameMillis", 100);
+
     /** the control of the overview. */
     private Canvas m_overview;
 
@@ -79,7 +84,7 @@ public class NewOverviewOutlinePage extends Page
     private ScalableFreeformRootEditPart m_rootEditPart;
 
     /** the thumbnail. */
-    private Thumbnail m_thumbnail;
+    private TiledThumbnail m_thumbnail;
 
     /**
      * Creates a new NewOverviewOutlinePage instance.
@@ -108,11 +113,9 @@ public void createControl(final Composite parent) {
         LightweightSystem lws = new LightweightSystem(m_overview);
 
         // create thumbnail
-        m_thumbnail = new ScrollableThumbnail((Viewport) m_rootEditPart
-                .getFigure());
+        m_thumbnail = new TiledThumbnail((Viewport) m_rootEditPart.getFigure(),
+                m_rootEditPart.getLayer(LayerConstants.PRINTABLE_LAYERS), FRAME_MILLIS);
         m_thumbnail.setBorder(new MarginBorder(3));
-        m_thumbnail.setSource(m_rootEditPart
-                .getLayer(LayerConstants.PRINTABLE_LAYERS));
         lws.setContents(m_thumbnail);
     }
 
@@ -120,6 +120,7 @@
 import org.eclipse.gef.ui.parts.GraphicalEditor;
 import org.eclipse.gef.ui.parts.GraphicalViewerKeyHandler;
 import org.eclipse.gef.ui.properties.UndoablePropertySheetEntry;
+import org.eclipse.jface.action.IAction;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.dialogs.MessageDialogWithToggle;
@@ -220,6 +221,8 @@
 import org.knime.workbench.editor2.WorkflowEditorEventListener.ActiveWorkflowEditorEvent;
 import org.knime.workbench.editor2.WorkflowEditorEventListener.WorkflowEditorEvent;
 import org.knime.workbench.editor2.actions.AbstractNodeAction;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.actions.AddAnnotationAction;
 import org.knime.workbench.editor2.actions.BringAnnotationForwardAction;
 import org.knime.workbench.editor2.actions.BringAnnotationToFrontAction;
@@ -360,6 +363,19 @@ public class WorkflowEditor extends GraphicalEditor implements
     /** List with the action ids that are associated to this editor. * */
     private List<String> m_editorActions;
 
+    /** Tracks the inputs of the action enablement, see {@link #updateActions(Dependency)}. */
+    private final ActionEnablementTracker m_actionEnablementTracker = new ActionEnablementTracker();
+
+    /** Minimum delay between two action updates caused by node state changes, in milliseconds. */
+    private static final int NODE_STATE_ACTION_UPDATE_DELAY =
+        Integer.getInteger("knime.editor.nodeStateActionUpdateDelay", 100);
+
+    /** Set while an action update for node state changes is scheduled, see {@link #stateChanged(NodeStateEvent)}. */
+    private final AtomicBoolean m_nodeStateActionUpdatePending = new AtomicBoolean();
+
+    /** Serializes saves and auto-saves of this editor's workflow. */
+    private final WorkflowSaveCoordinator m_saveCoordinator = new WorkflowSaveCoordinator();
+
     /*
      * As part of AP-12516, we moved from an implementation of editor message displaying in which there could
      *  only ever be one per type displayed across the application, to where N could be displayed (for example,
@@ -495,6 +511,7 @@ public ClipboardObject getClipboardContent() {
      */
     public void setClipboardContent(final ClipboardObject content) {
         CLIPBOARD = content;
+        ActionEnablementTracker.clipboardChanged();
     }
 
     /**
@@ -510,6 +527,7 @@ public WorkflowEditorMode getEditorMode() {
      */
     public void setEditorMode(final WorkflowEditorMode wme) {
         m_editorMode = wme;
+        m_actionEnablementTracker.changed(Dependency.EDITOR_MODE);
     }
 
     /**
@@ -787,6 +805,8 @@ protected void createActions() {
         // super already does something for us...
         super.createActions();
 
+        ActionEnablementTracker.installClipboardWatcher(PlatformUI.getWorkbench().getDisplay());
+
         // Stack actions
         final StackAction undo = new UndoAction(this);
         final StackAction redo = new RedoAction(this);
@@ -1723,9 +1743,43 @@ private static Optional<AbstractExplorerFileStore> getFileStore(final URI uri) {
     public void updateActions() {
         // TODO: update here the actions in the action bar based on current selection
         // -> maybe solves the execute all enabled/disabled problem
+        m_actionEnablementTracker.changedAll();
         updateActions(m_editorActions);
     }
 
+    /**
+     * Updates only those actions of this editor whose enablement depends on the given input (plus the actions that
+     * don't declare their dependencies).
+     *
+     * @param changed the input that changed
+     * @since 5.9
+     */
+    public void updateActions(final Dependency changed) {
+        m_actionEnablementTracker.changed(changed);
+        final List<String> affectedActions = new ArrayList<>(m_editorActions.size());
+        for (final String id : m_editorActions) {
+            final IAction action = m_actionRegistry.getAction(id);
+            if (!(action instanceof AbstractNodeAction) || ActionEnablementTracker
+                .isAffected(((AbstractNodeAction)action).getEnablementDependencies(), changed)) {
+                affectedActions.add(id);
+            }
+        }
+        updateActions(affectedActions);
+    }
+
+    /** @return the coordinator of the saves and auto-saves of this editor's workflow */
+    WorkflowSaveCoordinator getSaveCoordinator() {
+        return m_saveCoordinator;
+    }
+
+    /**
+     * @return the tracker of the inputs the enablement of this editor's actions depends on
+     * @since 5.9
+     */
+    public ActionEnablementTracker getActionEnablementTracker() {
+        return m_actionEnablementTracker;
+    }
+
     /**
      * Returns the overview for the outline view.
      *
@@ -1972,6 +2026,7 @@ public int promptToSaveOnClose() {
     private void saveTo(final URI fileResource, final IProgressMonitor monitor, final boolean saveWithData,
         final WorkflowContextV2 newContext) {
         LOGGER.debug("Saving workflow " + getWorkflowManager().get().getNameWithID());
+        final long saveStart = System.nanoTime();
 
         // Exception messages from the inner thread
         final StringBuilder exceptionMessage = new StringBuilder();
@@ -2073,6 +2128,8 @@ private void saveTo(final URI fileResource, final IProgressMonitor monitor, fina
             ps.run(true, false, saveRunnable);
             // mark command stack (no undo beyond this point)
             getCommandStack().markSaveLocation();
+            LOGGER.debugWithFormat("Save took %d ms in total, of which %s",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - saveStart), m_saveCoordinator.getLastSaveStatistics());
 
         } catch (Exception e) {
             boolean isWfm = !isComponentProjectWFM();
@@ -2345,6 +2402,10 @@ protected IStatus run(final IProgressMonitor jobMonitor) {
             } else if (status.isOK()) {
                 String delay = StringFormat.formatElapsedTime(System.currentTimeMillis() - start);
                 LOGGER.debugWithFormat("Auto-saved workflow %s (took %s)", m_manager.getName(), delay);
+            } else if (status.matches(IStatus.CANCEL | IStatus.INFO)) {
+                // retried with the next schedule
+                LOGGER.debugWithFormat("Auto-save of workflow %s not completed: %s", m_manager.getName(),
+                    status.getMessage());
             } else {
                 LOGGER.warnWithFormat("Auto-saving workflow %s caused issues: ", m_manager.getName(), status);
             }
@@ -2381,6 +2442,12 @@ private IStatus doIt(final IProgressMonitor jobMonitor) {
                 final var saveRunnable = new AutosaveRunnable(WorkflowEditor.this, messageBuilder, saveHelper,
                     new NullProgressMonitor(), workflowDir);
                 saveRunnable.run(jobMonitor);
+                if (saveRunnable.isCanceled()) {
+                    return Status.CANCEL_STATUS;
+                } else if (saveRunnable.isSkipped()) {
+                    return new Status(IStatus.INFO, KNIMEEditorPlugin.PLUGIN_ID,
+                        "Auto-save skipped, the workflow is being saved");
+                }
 
                 // Hides the auto save directory on DOS based file systems
                 if (Platform.OS_WIN32.equals(Platform.getOS())) {
@@ -2907,7 +2974,7 @@ public void selectionChanged(final IWorkbenchPart part, final ISelection selecti
         if (this == part) {
             // update available actions
             // but only if selection change happens within this workflow editor
-            updateActions();
+            updateActions(Dependency.SELECTION);
         }
     }
 
@@ -2920,7 +2987,7 @@ public void selectionChanged(final IWorkbenchPart part, final ISelection selecti
     public void commandStackChanged(final EventObject event) {
 
         // update the actions (should enable undo/redo accordingly)
-        updateActions(m_editorActions);
+        updateActions(Dependency.WORKFLOW);
 
         // track the dirty state of the edit domain
         boolean b = m_editDomain.getCommandStack().isDirty();
@@ -3234,6 +3301,15 @@ private void setZoomfactor(final double z) {
     }
 
     private boolean isNodeAtRel(final Point relativeLoc) {
+        final EditPart contents = getViewer().getContents();
+        if (contents instanceof WorkflowRootEditPart) {
+            // look up the node figures at that location instead of hit-testing the figure tree
+            final WorkflowRootEditPart root = (WorkflowRootEditPart)contents;
+            final Point loc = relativeLoc.getCopy();
+            root.getFigure().translateToRelative(loc);
+            return root.getSpatialIndex().findAt(loc, NodeContainerEditPart.class).stream()
+                .anyMatch(part -> part.getFigure().isShowing());
+        }
         EditPart ep = getViewer().findObjectAt(relativeLoc);
         if (ep == null) {
             return false;
@@ -3768,8 +3844,10 @@ public void workflowChanged(final WorkflowEvent event) {
                         m_connectionHighlighter.selectionChanged(WorkflowEditor.this,
                                                                  getSite().getSelectionProvider().getSelection());
                     });
+                    break;
                 case CONNECTION_REMOVED:
-                    getViewer().getContents().refresh();
+                    // the affected connection edit parts are created/removed by the WorkflowRootEditPart, which
+                    // coalesces connection changes and only refreshes the ports of the involved nodes
                     break;
                 case WORKFLOW_DIRTY:
                     if (isComponentProjectWFM()) {
@@ -3788,13 +3866,15 @@ public void workflowChanged(final WorkflowEvent event) {
                 default:
                     // all other event types are handled somewhere else, e.g. in edit policies etc
             }
-            updateActions();
+            updateActions(Dependency.WORKFLOW);
         });
     }
 
     /** {@inheritDoc} */
     @Override
     public void nodePropertyChanged(final NodePropertyChangedEvent e) {
+        // e.g. the link status or the ports, the actions are updated with the next selection or workflow change
+        m_actionEnablementTracker.changed(Dependency.WORKFLOW);
         switch (e.getProperty()) {
         case JobManager:
             updateJobManagerDisplay();
@@ -3810,7 +3890,7 @@ public void nodePropertyChanged(final NodePropertyChangedEvent e) {
             runInDisplayThread(() -> getViewer().getContents().refresh());
             break;
         case LockStatus:
-            // nothing to do
+            runInDisplayThread(() -> updateActions(Dependency.LOCK_STATUS));
             break;
         default:
             throw new AssertionError("Unhandeled switch case: " + e.getProperty());
@@ -4009,6 +4089,17 @@ public WorkflowSelectionTool getSelectionTool() {
      */
     @Override
     public void stateChanged(final NodeStateEvent state) {
+        m_actionEnablementTracker.changed(Dependency.NODE_STATE);
+        // coalesce the updates of the actions depending on node states, a running workflow fires many of these events
+        if (m_nodeStateActionUpdatePending.compareAndSet(false, true)) {
+            final Display display = Display.getDefault();
+            display.asyncExec(() -> display.timerExec(NODE_STATE_ACTION_UPDATE_DELAY, () -> {
+                m_nodeStateActionUpdatePending.set(false);
+                if (!m_closed) {
+                    updateActions(Dependency.NODE_STATE);
+                }
+            }));
+        }
         if (!isComponentProjectWFM()) {
             //in case of component, execution states changes are not saved
             markDirty();
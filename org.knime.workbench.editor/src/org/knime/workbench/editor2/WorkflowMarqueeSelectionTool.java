@@ -43,6 +43,7 @@
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 import org.knime.workbench.editor2.figures.WorkflowAnnotationFigure;
 
 /**
@@ -208,7 +209,7 @@ private void calculateConnections(final Collection<GraphicalEditPart> newSelecti
     private void calculateNewSelection(final Collection newSelections,
             final Collection deselections) {
         Rectangle marqueeRect = getMarqueeSelectionRectangle();
-        for (Iterator<GraphicalEditPart> itr = getAllChildren().iterator(); itr.hasNext();) {
+        for (Iterator<GraphicalEditPart> itr = getCandidates(marqueeRect).iterator(); itr.hasNext();) {
             GraphicalEditPart child = itr.next();
             IFigure figure = child.getFigure();
             if (!child.isSelectable()
@@ -315,6 +316,27 @@ private void eraseTargetFeedback() {
         }
     }
 
+    /**
+     * Returns the edit parts that are affected by the marquee. Unless toggling (which also affects the parts outside of
+     * the marquee) these are looked up in the spatial index of the workflow rather than iterating all edit parts.
+     */
+    private Collection<GraphicalEditPart> getCandidates(final Rectangle marqueeRect) {
+        EditPart contents = getCurrentViewer().getContents();
+        if (isToggle() || !(contents instanceof WorkflowRootEditPart)) {
+            return getAllChildren();
+        }
+        WorkflowRootEditPart root = (WorkflowRootEditPart)contents;
+        Rectangle relMarqueeRect = marqueeRect.getCopy();
+        root.getFigure().translateToRelative(relMarqueeRect);
+        Collection<GraphicalEditPart> candidates = root.getSpatialIndex().query(relMarqueeRect);
+        if (marqueeBehavior == BEHAVIOR_NODES_CONTAINED) {
+            candidates.removeIf(ConnectionEditPart.class::isInstance);
+        } else if (marqueeBehavior == BEHAVIOR_CONNECTIONS_TOUCHED) {
+            candidates.removeIf(part -> !(part instanceof ConnectionEditPart));
+        }
+        return candidates;
+    }
+
     private Set getAllChildren() {
         if (allChildren.isEmpty()) {
             getAllChildren(getCurrentViewer().getRootEditPart(), allChildren);
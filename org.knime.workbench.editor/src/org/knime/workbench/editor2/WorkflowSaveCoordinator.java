@@ -0,0 +1,174 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Coordinates the saves of a workflow editor with its auto-saves. Both write the same workflow and hold its lock while
+ * doing so, hence they must not run at the same time. An explicit save cancels a running auto-save instead of waiting
+ * for it to complete, and an auto-save is skipped (and retried with its next schedule) if an explicit save is running
+ * or waiting.
+ * <p>
+ * The coordinator also records how long the last save took, split into the time spent waiting for a running auto-save
+ * and the time spent writing the workflow, which is the time the workflow is locked.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowSaveCoordinator {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowSaveCoordinator.class);
+
+    /** A save operation. */
+    @FunctionalInterface
+    interface SaveOperation {
+        /**
+         * Writes the workflow.
+         *
+         * @throws Exception if the save fails
+         */
+        void save() throws Exception; // NOSONAR
+    }
+
+    /**
+     * Timings of a save.
+     *
+     * @param waitNanos time spent waiting for a running auto-save to be canceled
+     * @param writeNanos time spent writing the workflow
+     */
+    record SaveStatistics(long waitNanos, long writeNanos) {
+        /** @return the total time of the save */
+        long totalNanos() {
+            return waitNanos + writeNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ms (%d ms waiting for auto-save, %d ms writing)",
+                TimeUnit.NANOSECONDS.toMillis(totalNanos()), TimeUnit.NANOSECONDS.toMillis(waitNanos),
+                TimeUnit.NANOSECONDS.toMillis(writeNanos));
+        }
+    }
+
+    private final ReentrantLock m_lock = new ReentrantLock();
+
+    private final AtomicInteger m_pendingSaves = new AtomicInteger();
+
+    private volatile IProgressMonitor m_autosaveMonitor;
+
+    private volatile SaveStatistics m_lastSaveStatistics;
+
+    /**
+     * Runs an explicit save. A running auto-save is canceled and the save starts once it has stopped.
+     *
+     * @param save the save operation
+     * @throws Exception if the save fails or the thread is interrupted while waiting
+     */
+    void runSave(final SaveOperation save) throws Exception { // NOSONAR
+        final var start = System.nanoTime();
+        m_pendingSaves.incrementAndGet();
+        try {
+            final var autosaveMonitor = m_autosaveMonitor;
+            if (autosaveMonitor != null) {
+                LOGGER.debug("Canceling running auto-save in favor of explicit save");
+                autosaveMonitor.setCanceled(true);
+            }
+            m_lock.lockInterruptibly();
+        } finally {
+            m_pendingSaves.decrementAndGet();
+        }
+        try {
+            final var writeStart = System.nanoTime();
+            save.save();
+            final var statistics = new SaveStatistics(writeStart - start, System.nanoTime() - writeStart);
+            m_lastSaveStatistics = statistics;
+            LOGGER.debug("Saved workflow in " + statistics);
+        } finally {
+            m_lock.unlock();
+        }
+    }
+
+    /**
+     * Runs an auto-save unless an explicit save is running or waiting. The given monitor is canceled if an explicit
+     * save is started while the auto-save is running.
+     *
+     * @param monitor the monitor of the auto-save, which must be checked for cancellation while saving
+     * @param save the save operation
+     * @return <code>true</code> if the auto-save was run, <code>false</code> if it was skipped
+     * @throws Exception if the save fails
+     */
+    boolean runAutosave(final IProgressMonitor monitor, final SaveOperation save) throws Exception { // NOSONAR
+        if (m_pendingSaves.get() > 0 || !m_lock.tryLock()) {
+            LOGGER.debug("Skipping auto-save, workflow is being saved");
+            return false;
+        }
+        try {
+            // publish the monitor before checking again, an explicit save arriving afterwards will cancel it
+            m_autosaveMonitor = monitor;
+            if (m_pendingSaves.get() > 0) {
+                return false;
+            }
+            save.save();
+            return true;
+        } finally {
+            m_autosaveMonitor = null;
+            m_lock.unlock();
+        }
+    }
+
+    /** @return the timings of the last explicit save, <code>null</code> if the workflow has not been saved yet */
+    SaveStatistics getLastSaveStatistics() {
+        return m_lastSaveStatistics;
+    }
+}
@@ -159,14 +159,11 @@ protected Command getCommand() {
             request.setType(REQ_ORPHAN);
         }
 
-        List<AsyncCommand> asyncCommands = new ArrayList<AsyncCommand>();
+        List<Command> dragCommands = new ArrayList<Command>();
         if (!isCloneActive()) {
             while (iter.hasNext()) {
                 EditPart editPart = (EditPart)iter.next();
-                Command c = editPart.getCommand(request);
-                if(!collectIfAsync(c, asyncCommands)) {
-                    command.add(c);
-                }
+                dragCommands.add(editPart.getCommand(request));
             }
         }
 
@@ -174,17 +171,9 @@ protected Command getCommand() {
         ConnectionContainerEditPart[] connectionsToAdapt =
                 getEmbracedConnections(getOperationSet());
         for (ConnectionContainerEditPart connectionPart : connectionsToAdapt) {
-            Command c = connectionPart.getBendpointAdaptionCommand(request);
-            if (!collectIfAsync(c, asyncCommands)) {
-                command.add(c);
-            }
-        }
-
-        //create one single command from the async commands such that they are executed as one
-        if (!asyncCommands.isEmpty()) {
-            command.add(AsyncCommand.combineWithRefresh(asyncCommands,
-                "Waiting to complete operations on selected nodes and connections ..."));
+            dragCommands.add(connectionPart.getBendpointAdaptionCommand(request));
         }
+        addDragCommands(command, dragCommands);
 
         if (!isMove() || isCloneActive()) {
 
@@ -202,8 +191,31 @@ protected Command getCommand() {
         return command;
     }
 
+    /**
+     * Adds the commands of the dragged parts to the compound command. Asynchronous commands are combined into one
+     * that is executed as a whole and waited for, except for those that pipeline their changes themselves (e.g.
+     * moving nodes of a remote workflow, see {@link AsyncCommand#isPipelined()}) so that the drag doesn't block.
+     *
+     * @param command the command to add to
+     * @param dragCommands the commands of the dragged nodes and connections
+     */
+    static void addDragCommands(final CompoundCommand command, final List<Command> dragCommands) {
+        List<AsyncCommand> asyncCommands = new ArrayList<AsyncCommand>();
+        for (Command c : dragCommands) {
+            if (!collectIfAsync(c, asyncCommands)) {
+                command.add(c);
+            }
+        }
+
+        //create one single command from the async commands such that they are executed as one
+        if (!asyncCommands.isEmpty()) {
+            command.add(AsyncCommand.combineWithRefresh(asyncCommands,
+                "Waiting to complete operations on selected nodes and connections ..."));
+        }
+    }
+
     private static boolean collectIfAsync(final Command c, final List<AsyncCommand> asyncCommands) {
-        if (c instanceof AsyncCommand && ((AsyncCommand)c).shallExecuteAsync()) {
+        if (c instanceof AsyncCommand && ((AsyncCommand)c).shallExecuteAsync() && !((AsyncCommand)c).isPipelined()) {
             asyncCommands.add((AsyncCommand)c);
             return true;
         } else {
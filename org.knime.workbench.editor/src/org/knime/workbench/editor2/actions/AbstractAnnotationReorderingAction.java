@@ -48,10 +48,14 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.knime.core.node.workflow.Annotation;
 import org.knime.core.node.workflow.WorkflowAnnotation;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
@@ -62,6 +66,10 @@
  * @author loki der quaeler
  */
 abstract class AbstractAnnotationReorderingAction extends AbstractNodeAction {
+
+    private static final Set<Dependency> DEPENDENCIES =
+        EnumSet.of(Dependency.SELECTION, Dependency.LOCK_STATUS, Dependency.WORKFLOW);
+
     private final String m_id;
 
     AbstractAnnotationReorderingAction(final WorkflowEditor editor, final String uniqueId) {
@@ -111,6 +119,12 @@ protected boolean internalCalculateEnabled() {
         return false;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -49,6 +49,7 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.SelectionManager;
@@ -64,6 +65,7 @@
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.wrapper.Wrapper;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.ConnectableEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
@@ -92,6 +94,8 @@ public void update() {
 
     private final WorkflowEditor m_editor;
 
+    private final ActionEnablementTracker.Enablement m_enablement;
+
     /**
      *
      * @param editor The editor that is associated with this action
@@ -100,7 +104,8 @@ public AbstractNodeAction(final WorkflowEditor editor) {
         super(editor);
         setLazyEnablementCalculation(true);
         m_editor = editor;
-
+        m_enablement = new ActionEnablementTracker.Enablement(
+            editor != null ? editor.getActionEnablementTracker() : new ActionEnablementTracker());
     }
 
     /**
@@ -108,6 +113,9 @@ public AbstractNodeAction(final WorkflowEditor editor) {
      * @return shortcut sequence or empty string if no shortcut sequence is available
      */
     public String getHotkey(final String commandID) {
+        if (!PlatformUI.isWorkbenchRunning()) {
+            return "";
+        }
         IBindingService bindingService = PlatformUI.getWorkbench().getAdapter(IBindingService.class);
         if (bindingService == null) {
             return "";
@@ -321,10 +329,17 @@ protected WorkflowEditor getEditor() {
     }
 
     /**
+     * Returns the cached enablement unless any of the {@link #getEnablementDependencies() dependencies} changed since
+     * the last evaluation. Hence {@link #update()} only re-evaluates the enablement if one of them changed.
+     *
      * {@inheritDoc}
      */
     @Override
     protected final boolean calculateEnabled() {
+        return m_enablement.get(getEnablementDependencies(), this::evaluateEnabled);
+    }
+
+    private boolean evaluateEnabled() {
         if (getManagerUI() != null && !Wrapper.wraps(getManagerUI(), WorkflowManager.class)
             && !canHandleWorkflowManagerUI()) {
             //if the WorkflowManagerUI is NOT just a wrapper the WorkflowManager
@@ -355,4 +370,16 @@ protected boolean canHandleWorkflowManagerUI() {
      */
     protected abstract boolean internalCalculateEnabled();
 
+    /**
+     * The inputs {@link #internalCalculateEnabled()} depends on. The enablement is only re-evaluated (and the action
+     * only updated by the editor) if one of these changes. Subclasses that depend on a subset only should override
+     * this method; the default is to depend on everything.
+     *
+     * @return the dependencies of the enablement of this action, never <code>null</code>
+     * @since 5.9
+     */
+    public Set<Dependency> getEnablementDependencies() {
+        return ActionEnablementTracker.ALL_DEPENDENCIES;
+    }
+
 }
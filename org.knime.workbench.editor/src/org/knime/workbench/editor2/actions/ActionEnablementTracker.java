@@ -0,0 +1,225 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * Keeps track of the inputs the enablement of the editor actions depends on. Each {@link Dependency} has a generation
+ * counter which is incremented whenever the corresponding input changes. Actions remember the (summed up) generations
+ * of their dependencies at the time they were last evaluated and only re-evaluate their enablement once one of these
+ * generations has advanced; the editor uses {@link #isAffected(Set, Dependency)} to only update the actions whose
+ * inputs actually changed.
+ *
+ * <p>
+ * The clipboard generation is shared between all editors. It is advanced whenever content is copied from within the
+ * application and whenever a shell of the application gets activated (which is the only way the user can have changed
+ * the system clipboard in a different application in the meantime), so that the clipboard does not need to be polled
+ * on each evaluation.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public final class ActionEnablementTracker {
+
+    /** The inputs the enablement of an action can depend on. */
+    public enum Dependency {
+            /** The selection in the editor. */
+            SELECTION,
+            /** The content of the (system or workbench) clipboard. */
+            CLIPBOARD,
+            /** The (execution) states of the nodes in the workflow. */
+            NODE_STATE,
+            /** The structure of the workflow, i.e. nodes, connections and annotations. */
+            WORKFLOW,
+            /** The lock status / write protection of the workflow. */
+            LOCK_STATUS,
+            /** The mode of the editor, see {@link org.knime.workbench.editor2.WorkflowEditorMode}. */
+            EDITOR_MODE;
+    }
+
+    /** The dependency set used by actions that don't declare their dependencies. */
+    public static final Set<Dependency> ALL_DEPENDENCIES = Collections.unmodifiableSet(EnumSet.allOf(Dependency.class));
+
+    private static final AtomicLong CLIPBOARD_GENERATION = new AtomicLong();
+
+    private static final AtomicBoolean CLIPBOARD_WATCHER_INSTALLED = new AtomicBoolean();
+
+    private final AtomicLongArray m_generations = new AtomicLongArray(Dependency.values().length);
+
+    private final AtomicLong m_evaluationCount = new AtomicLong();
+
+    /**
+     * Marks the given input as changed.
+     *
+     * @param dependency the input that changed
+     */
+    public void changed(final Dependency dependency) {
+        if (dependency == Dependency.CLIPBOARD) {
+            clipboardChanged();
+        } else {
+            m_generations.incrementAndGet(dependency.ordinal());
+        }
+    }
+
+    /** Marks all inputs as changed, used when it is unknown what has changed. */
+    public void changedAll() {
+        for (Dependency d : Dependency.values()) {
+            changed(d);
+        }
+    }
+
+    /**
+     * @param dependencies the dependencies of an action
+     * @param changed the input that changed
+     * @return whether an action with the given dependencies needs to be updated after the given input changed
+     */
+    public static boolean isAffected(final Set<Dependency> dependencies, final Dependency changed) {
+        return dependencies.contains(changed);
+    }
+
+    /**
+     * @param dependencies the dependencies of an action
+     * @return a stamp that changes whenever any of the given dependencies changes
+     */
+    long getStamp(final Set<Dependency> dependencies) {
+        long stamp = 0;
+        for (Dependency d : dependencies) {
+            stamp += (d == Dependency.CLIPBOARD) ? CLIPBOARD_GENERATION.get() : m_generations.get(d.ordinal());
+        }
+        return stamp;
+    }
+
+    /**
+     * @return the number of enablement evaluations done via {@link Enablement#get(Set, BooleanSupplier)} of this
+     *         tracker so far
+     */
+    public long getEvaluationCount() {
+        return m_evaluationCount.get();
+    }
+
+    /** Advances the clipboard generation, called after the application wrote to the clipboard. */
+    public static void clipboardChanged() {
+        CLIPBOARD_GENERATION.incrementAndGet();
+    }
+
+    /** @return the current clipboard generation */
+    static long getClipboardGeneration() {
+        return CLIPBOARD_GENERATION.get();
+    }
+
+    /**
+     * Installs (once) a display filter that advances the clipboard generation whenever a shell gets activated.
+     *
+     * @param display the display of the workbench
+     */
+    public static void installClipboardWatcher(final Display display) {
+        if (CLIPBOARD_WATCHER_INSTALLED.compareAndSet(false, true)) {
+            display.addFilter(SWT.Activate, e -> {
+                if (e.widget instanceof Shell) {
+                    clipboardChanged();
+                }
+            });
+        }
+    }
+
+    /**
+     * Cached enablement of a single action. Not thread-safe, expected to be used in the UI thread only.
+     */
+    public static final class Enablement {
+
+        private final ActionEnablementTracker m_tracker;
+
+        private boolean m_isValid;
+
+        private long m_stamp;
+
+        private boolean m_enabled;
+
+        /**
+         * @param tracker the tracker providing the dependency generations
+         */
+        public Enablement(final ActionEnablementTracker tracker) {
+            m_tracker = tracker;
+        }
+
+        /**
+         * Returns the cached enablement or evaluates it if any of the given dependencies changed since the last
+         * evaluation.
+         *
+         * @param dependencies the dependencies of the action
+         * @param calculator calculates the enablement
+         * @return whether the action is enabled
+         */
+        public boolean get(final Set<Dependency> dependencies, final BooleanSupplier calculator) {
+            final long stamp = m_tracker.getStamp(dependencies);
+            if (!m_isValid || stamp != m_stamp) {
+                m_enabled = calculator.getAsBoolean();
+                m_tracker.m_evaluationCount.incrementAndGet();
+                m_stamp = stamp;
+                m_isValid = true;
+            }
+            return m_enabled;
+        }
+
+        /** Forces a re-evaluation on the next call of {@link #get(Set, BooleanSupplier)}. */
+        public void invalidate() {
+            m_isValid = false;
+        }
+    }
+}
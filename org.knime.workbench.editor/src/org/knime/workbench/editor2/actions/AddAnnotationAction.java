@@ -45,12 +45,16 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.graphics.Point;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
 import org.knime.workbench.editor2.WorkflowEditor;
 import org.knime.workbench.editor2.WorkflowEditorMode;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.commands.AddAnnotationCommand;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
@@ -58,6 +62,8 @@
  * @author ohl, KNIME AG, Zurich, Switzerland
  */
 public class AddAnnotationAction extends AbstractNodeAction {
+
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.of(Dependency.LOCK_STATUS);
     /** unique ID for this action. * */
     public static final String ID = "knime.action.addannotation";
 
@@ -88,6 +94,12 @@ protected boolean internalCalculateEnabled() {
         return !getManager().isWriteProtected();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,387 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonParser.NumberType;
+
+/**
+ * A compact binary form of the JSON text written by {@link SystemClipboardFormat}, offered in the system clipboard
+ * next to the text so that large copies take less space and time to transfer. The JSON tokens are written as one byte
+ * each, followed by their length-prefixed value; strings are interned, so that repeated factory class names and
+ * setting keys are written once and referenced by their index afterwards. The token stream is deflate-compressed.
+ * <p>
+ * Decoding yields JSON text that is equivalent to the encoded one (same tokens, no white space), so that it can be
+ * read with {@link SystemClipboardFormat#deserialize(String)}, which also takes care of versions and obfuscated
+ * content. That deserializer only accepts text, so decoding builds the text and the deserializer parses it again,
+ * which takes about twice as long as parsing the text alone. This only pays off for large contents, whose text is
+ * many times larger than the payload and therefore slow to transfer through the system clipboard; smaller contents
+ * are copied as text only (see {@link CopyAction}).
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BinaryClipboardFormat {
+
+    /** "KNWC", identifies the payload. */
+    private static final int MAGIC = 0x4B4E5743;
+
+    private static final int VERSION = 1;
+
+    /* magic, version, length of the compressed tokens */
+    private static final int HEADER_LENGTH = 9;
+
+    /** Longer strings (e.g. obfuscated content) are not interned as they are unlikely to repeat. */
+    private static final int MAX_INTERNED_LENGTH = 256;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Maximum number of characters of the decoded text, protects against payloads that inflate to huge texts. */
+    private static final int MAX_DECODED_LENGTH =
+        Integer.getInteger("knime.clipboard.binary.maxDecodedLength", 1 << 28);
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    /* tokens */
+    private static final int END = 0;
+
+    private static final int START_OBJECT = 1;
+
+    private static final int END_OBJECT = 2;
+
+    private static final int START_ARRAY = 3;
+
+    private static final int END_ARRAY = 4;
+
+    private static final int FIELD_NAME = 5;
+
+    private static final int STRING = 6;
+
+    private static final int INTEGER = 7;
+
+    /* floating point and big numbers, written as their text to keep them exactly as they were */
+    private static final int NUMBER_TEXT = 8;
+
+    private static final int TRUE = 9;
+
+    private static final int FALSE = 10;
+
+    private static final int NULL = 11;
+
+    /* string references: a new interned string, a string that isn't interned, or 2 + index of an interned string */
+    private static final int NEW_INTERNED = 0;
+
+    private static final int NOT_INTERNED = 1;
+
+    private BinaryClipboardFormat() {
+    }
+
+    /**
+     * Encodes JSON text as written by {@link SystemClipboardFormat#serialize}.
+     *
+     * @param json the JSON text
+     * @return the binary payload
+     * @throws IOException if the text isn't valid JSON
+     */
+    static byte[] encode(final String json) throws IOException {
+        final var bytes = new ByteArrayOutputStream(Math.max(64, json.length() / 16));
+        final var header = new DataOutputStream(bytes);
+        header.writeInt(MAGIC);
+        header.writeByte(VERSION);
+        header.writeInt(0); // patched below
+        final var deflater = new Deflater(Deflater.BEST_SPEED);
+        try (var parser = JSON_FACTORY.createParser(json);
+                var out = new DataOutputStream(
+                    new BufferedOutputStream(new DeflaterOutputStream(bytes, deflater, BUFFER_SIZE), BUFFER_SIZE))) {
+            final Map<String, Integer> interned = new HashMap<>();
+            for (var token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                switch (token) {
+                    case START_OBJECT -> out.writeByte(START_OBJECT);
+                    case END_OBJECT -> out.writeByte(END_OBJECT);
+                    case START_ARRAY -> out.writeByte(START_ARRAY);
+                    case END_ARRAY -> out.writeByte(END_ARRAY);
+                    case FIELD_NAME -> {
+                        out.writeByte(FIELD_NAME);
+                        writeString(out, parser.currentName(), interned);
+                    }
+                    case VALUE_STRING -> {
+                        out.writeByte(STRING);
+                        writeString(out, parser.getText(), interned);
+                    }
+                    case VALUE_NUMBER_INT -> {
+                        if (parser.getNumberType() == NumberType.BIG_INTEGER) {
+                            out.writeByte(NUMBER_TEXT);
+                            writeString(out, parser.getText(), interned);
+                        } else {
+                            out.writeByte(INTEGER);
+                            final var value = parser.getLongValue();
+                            writeVarLong(out, (value << 1) ^ (value >> 63));
+                        }
+                    }
+                    case VALUE_NUMBER_FLOAT -> {
+                        out.writeByte(NUMBER_TEXT);
+                        writeString(out, parser.getText(), interned);
+                    }
+                    case VALUE_TRUE -> out.writeByte(TRUE);
+                    case VALUE_FALSE -> out.writeByte(FALSE);
+                    case VALUE_NULL -> out.writeByte(NULL);
+                    default -> throw new IOException("Unsupported JSON token " + token);
+                }
+            }
+            out.writeByte(END);
+        } finally {
+            deflater.end();
+        }
+        final var payload = bytes.toByteArray();
+        ByteBuffer.wrap(payload).putInt(HEADER_LENGTH - Integer.BYTES, payload.length - HEADER_LENGTH);
+        return payload;
+    }
+
+    /**
+     * Decodes a binary payload into JSON text.
+     *
+     * @param payload the binary payload as created by {@link #encode(String)}
+     * @return the JSON text
+     * @throws IOException if the payload is invalid or decodes to more than the maximum number of characters
+     */
+    static String decode(final byte[] payload) throws IOException {
+        return decode(payload, MAX_DECODED_LENGTH);
+    }
+
+    /**
+     * Decodes a binary payload into JSON text of limited length.
+     *
+     * @param payload the binary payload as created by {@link #encode(String)}
+     * @param maxLength the maximum number of characters of the JSON text
+     * @return the JSON text
+     * @throws IOException if the payload is invalid or decodes to more than the given number of characters
+     */
+    static String decode(final byte[] payload, final int maxLength) throws IOException {
+        final var in = new DataInputStream(new ByteArrayInputStream(payload));
+        if (payload.length < HEADER_LENGTH || in.readInt() != MAGIC) {
+            throw new IOException("Not a KNIME workflow clipboard payload");
+        }
+        final var version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported clipboard payload version " + version);
+        }
+        if (in.readInt() != payload.length - HEADER_LENGTH) {
+            throw new IOException("Truncated clipboard payload");
+        }
+        final var json = new BoundedWriter((int)Math.min(Math.min(payload.length * 8L, 1 << 26), maxLength), maxLength);
+        final var inflater = new Inflater();
+        try (var data = new DataInputStream(
+                new BufferedInputStream(new InflaterInputStream(in, inflater, BUFFER_SIZE), BUFFER_SIZE));
+                var generator = JSON_FACTORY.createGenerator(json)) {
+            final List<String> interned = new ArrayList<>();
+            for (var token = data.readUnsignedByte(); token != END; token = data.readUnsignedByte()) {
+                writeToken(generator, token, data, interned, maxLength);
+            }
+        } catch (EOFException e) {
+            throw new IOException("Truncated clipboard payload", e);
+        } finally {
+            inflater.end();
+        }
+        return json.toString();
+    }
+
+    private static void writeToken(final JsonGenerator generator, final int token, final DataInputStream in,
+        final List<String> interned, final int maxLength) throws IOException {
+        switch (token) {
+            case START_OBJECT -> generator.writeStartObject();
+            case END_OBJECT -> generator.writeEndObject();
+            case START_ARRAY -> generator.writeStartArray();
+            case END_ARRAY -> generator.writeEndArray();
+            case FIELD_NAME -> generator.writeFieldName(readString(in, interned, maxLength));
+            case STRING -> generator.writeString(readString(in, interned, maxLength));
+            case INTEGER -> {
+                final var zigZag = readVarLong(in);
+                generator.writeNumber((zigZag >>> 1) ^ -(zigZag & 1));
+            }
+            case NUMBER_TEXT -> generator.writeNumber(readString(in, interned, maxLength));
+            case TRUE -> generator.writeBoolean(true);
+            case FALSE -> generator.writeBoolean(false);
+            case NULL -> generator.writeNull();
+            default -> throw new IOException("Invalid token " + token + " in clipboard payload");
+        }
+    }
+
+    private static void writeString(final DataOutputStream out, final String s, final Map<String, Integer> interned)
+        throws IOException {
+        if (s.length() > MAX_INTERNED_LENGTH) {
+            writeVarLong(out, NOT_INTERNED);
+        } else {
+            final var index = interned.putIfAbsent(s, interned.size());
+            if (index != null) {
+                writeVarLong(out, 2L + index);
+                return;
+            }
+            writeVarLong(out, NEW_INTERNED);
+        }
+        final var bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(final DataInputStream in, final List<String> interned, final int maxLength)
+        throws IOException {
+        final var reference = readVarLong(in);
+        if (reference >= 2) {
+            if (reference - 2 >= interned.size()) {
+                throw new IOException("Invalid string reference in clipboard payload");
+            }
+            return interned.get((int)(reference - 2));
+        }
+        final var length = readVarLong(in);
+        if (length > maxLength) {
+            throw tooLong(maxLength);
+        }
+        final var bytes = in.readNBytes((int)length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        final var s = new String(bytes, StandardCharsets.UTF_8);
+        if (reference == NEW_INTERNED) {
+            interned.add(s);
+        }
+        return s;
+    }
+
+    private static IOException tooLong(final int maxLength) {
+        return new IOException("Clipboard payload decodes to more than " + maxLength + " characters");
+    }
+
+    /* unsigned LEB128 */
+    private static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        var v = value;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int)((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int)v);
+    }
+
+    private static long readVarLong(final DataInputStream in) throws IOException {
+        var value = 0L;
+        for (var shift = 0; shift < 64; shift += 7) {
+            final var b = in.readUnsignedByte();
+            value |= (long)(b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid number in clipboard payload");
+    }
+
+    /** Collects the decoded text, failing once it gets longer than allowed. */
+    private static final class BoundedWriter extends Writer {
+        private final StringBuilder m_text;
+
+        private final int m_maxLength;
+
+        private BoundedWriter(final int initialCapacity, final int maxLength) {
+            m_text = new StringBuilder(initialCapacity);
+            m_maxLength = maxLength;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) throws IOException {
+            if (len > m_maxLength - m_text.length()) {
+                throw tooLong(m_maxLength);
+            }
+            m_text.append(cbuf, off, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len) throws IOException {
+            if (len > m_maxLength - m_text.length()) {
+                throw tooLong(m_maxLength);
+            }
+            m_text.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        @Override
+        public String toString() {
+            return m_text.toString();
+        }
+    }
+}
@@ -47,6 +47,9 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.widgets.MessageBox;
@@ -58,6 +61,7 @@
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
 /**
@@ -66,6 +70,8 @@
  * @author Christoph sieb, University of Konstanz
  */
 public class CancelAllAction extends AbstractNodeAction {
+
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.of(Dependency.NODE_STATE);
     private static final NodeLogger LOGGER = NodeLogger
             .getLogger(CancelAllAction.class);
 
@@ -137,6 +143,12 @@ protected boolean internalCalculateEnabled() {
         return manager.canCancelAll();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /**
      * This cancels all running jobs.
      *
@@ -240,8 +240,9 @@ public void runInSWT() {
         IWorkbench wb = PlatformUI.getWorkbench();
         IProgressService ps = wb.getProgressService();
         LOGGER.debug("Checking for updates for " + candidateList.size() + " node link(s)...");
-        final var runner = new CheckUpdateRunnableWithProgress(getManager(), candidateList);
-        Status status;
+        final var runner =
+            new CheckUpdateRunnableWithProgress(getManager(), candidateList, !m_showInfoMsgIfNoUpdateAvail);
+        IStatus status;
         try {
             if (isAnyModalShellOpen(shell.getDisplay())) {
                 MessageDialog.openWarning(shell, "Update Check Unavailable", //
@@ -381,34 +382,51 @@ private static final class CheckUpdateRunnableWithProgress implements IRunnableW
 
         private final WorkflowManager m_hostWFM;
         private final List<NodeID> m_candidateList;
+        private final boolean m_useCache;
         private List<NodeID> m_updateList;
-        private Status m_status;
+        private IStatus m_status;
 
         /**
          * @param hostWFM
-         * @param candidateList */
-        public CheckUpdateRunnableWithProgress(final WorkflowManager hostWFM, final List<NodeID> candidateList) {
+         * @param candidateList
+         * @param useCache whether templates recently found to be up to date can be skipped */
+        public CheckUpdateRunnableWithProgress(final WorkflowManager hostWFM, final List<NodeID> candidateList,
+            final boolean useCache) {
             m_hostWFM = hostWFM;
             m_candidateList = candidateList;
+            m_useCache = useCache;
             m_updateList = Collections.emptyList();
         }
 
         @Override
         public void run(final IProgressMonitor monitor)
             throws InvocationTargetException, InterruptedException, IllegalStateException {
-            var res = CheckForComponentUpdatesUtil.checkForComponentUpdatesAndSetUpdateStatus(m_hostWFM,
-                KNIMEEditorPlugin.PLUGIN_ID, m_candidateList, monitor);
+            final var res = LinkUpdateCheckService.getInstance().check(m_candidateList, this::getLinkKey, (links, m) -> {
+                final var r = CheckForComponentUpdatesUtil.checkForComponentUpdatesAndSetUpdateStatus(m_hostWFM,
+                    KNIMEEditorPlugin.PLUGIN_ID, links, m);
+                return new LinkUpdateCheckService.CheckResult(r.updateList(), r.status());
+            }, m_useCache, monitor);
             m_updateList = res.updateList();
             m_status = res.status();
         }
 
+        private LinkUpdateCheckService.LinkKey getLinkKey(final NodeID id) {
+            if (m_hostWFM.findNodeContainer(id) instanceof NodeContainerTemplate tnc) {
+                final var info = tnc.getTemplateInformation();
+                if (info.getSourceURI() != null) {
+                    return new LinkUpdateCheckService.LinkKey(info.getSourceURI(), info.getTimestampInstant());
+                }
+            }
+            return null;
+        }
+
         /** @return the updateList */
         public List<NodeID> getUpdateList() {
             return m_updateList;
         }
 
         /** @return the status */
-        public Status getStatus() {
+        public IStatus getStatus() {
             return m_status;
         }
     }
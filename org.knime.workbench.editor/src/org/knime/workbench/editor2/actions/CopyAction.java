@@ -47,7 +47,11 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.eclipse.swt.dnd.Clipboard;
@@ -68,6 +72,7 @@
 import org.knime.workbench.editor2.AnnotationUtilities;
 import org.knime.workbench.editor2.ClipboardObject;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 import org.knime.workbench.ui.async.AsyncUtil;
@@ -82,6 +87,17 @@
  */
 public class CopyAction extends AbstractClipboardAction {
 
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.of(Dependency.SELECTION);
+
+    /** Minimum length of the clipboard text for which the {@link BinaryClipboardFormat binary form} is offered. */
+    private static final int MIN_BINARY_TEXT_LENGTH =
+        Integer.getInteger("knime.clipboard.binary.minTextLength", 1 << 20);
+
+    /** The clipboard generation {@link #systemClipboardHasText} was determined for, only accessed in UI thread. */
+    private static long textCheckClipboardGeneration = -1;
+
+    private static boolean systemClipboardHasText;
+
     private NodeContainerEditPart[] m_nodeParts;
 
     private AnnotationEditPart[] m_annotationParts;
@@ -136,6 +152,12 @@ protected boolean internalCalculateEnabled() {
         return (nodeParts.length > 0) || (annos.length > 0);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void runInSWT() {
@@ -183,22 +205,69 @@ public void runInSWT() {
         getWorkbenchPart().getSite().getPage().activate(getWorkbenchPart());
     }
 
-    /** Write (non-null) argument string to system clipboard. */
+    /**
+     * Write (non-null) argument string to system clipboard, together with its {@link BinaryClipboardFormat binary form}
+     * which is read instead of the text when pasting into KNIME. The binary form is only offered for texts of at least
+     * {@link #MIN_BINARY_TEXT_LENGTH} characters; decoding and parsing it takes longer than parsing the text, which
+     * only pays off if the text is large and therefore slow to transfer.
+     */
     private static void copyToSystemClipboard(final String s) {
         Display display = PlatformUI.getWorkbench().getDisplay();
         Clipboard cb = new Clipboard(display);
         try {
-            cb.setContents(new Object[] {s}, new Transfer[] {TextTransfer.getInstance()});
+            if (s.length() >= MIN_BINARY_TEXT_LENGTH) {
+                cb.setContents(new Object[] {s, s},
+                    new Transfer[] {TextTransfer.getInstance(), WorkflowBinaryTransfer.getInstance()});
+            } else {
+                cb.setContents(new Object[] {s}, new Transfer[] {TextTransfer.getInstance()});
+            }
         } finally {
             cb.dispose();
         }
+        ActionEnablementTracker.clipboardChanged();
     }
 
-    /** Read text from system clipboard. */
+    /**
+     * Whether the system clipboard contains text or binary workflow content. The result is cached until the clipboard
+     * generation of the {@link ActionEnablementTracker} advances, so that the clipboard isn't queried on each
+     * enablement evaluation. Must be called in the UI thread.
+     *
+     * @return <code>true</code> if there is text or binary workflow content in the system clipboard
+     */
+    static boolean isTextInSystemClipboard() {
+        final long generation = ActionEnablementTracker.getClipboardGeneration();
+        if (generation != textCheckClipboardGeneration) {
+            Display display = PlatformUI.getWorkbench().getDisplay();
+            Clipboard cb = new Clipboard(display);
+            try {
+                systemClipboardHasText = Arrays.stream(cb.getAvailableTypes()).anyMatch(
+                    t -> TextTransfer.getInstance().isSupportedType(t)
+                        || WorkflowBinaryTransfer.getInstance().isSupportedType(t));
+            } finally {
+                cb.dispose();
+            }
+            textCheckClipboardGeneration = generation;
+        }
+        return systemClipboardHasText;
+    }
+
+    /**
+     * Read text from system clipboard. If the clipboard holds content in the {@link BinaryClipboardFormat}, that content
+     * is decoded into text instead; the text transfer is the fallback for content copied by other KNIME versions or
+     * applications.
+     */
     static Optional<String> readFromSystemClipboard() {
         Display display = PlatformUI.getWorkbench().getDisplay();
         Clipboard cb = new Clipboard(display);
         try {
+            if (cb.getContents(WorkflowBinaryTransfer.getInstance()) instanceof byte[] binary) {
+                try {
+                    return Optional.of(BinaryClipboardFormat.decode(binary));
+                } catch (IOException e) {
+                    LOGGER.debug("Cannot decode binary clipboard content, reading text instead: " + e.getMessage(),
+                        e);
+                }
+            }
             Object contents = cb.getContents(TextTransfer.getInstance());
             if (contents instanceof String) {
                 return Optional.of((String)contents);
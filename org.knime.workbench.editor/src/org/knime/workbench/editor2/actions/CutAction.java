@@ -50,6 +50,8 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
 
 import org.eclipse.gef.EditPart;
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -58,6 +60,7 @@
 import org.eclipse.ui.actions.ActionFactory;
 import org.knime.core.node.NodeLogger;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.commands.DeleteCommand;
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
@@ -69,6 +72,8 @@
  * @author Christoph Sieb, University of Konstanz
  */
 public class CutAction extends AbstractClipboardAction {
+
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.of(Dependency.SELECTION, Dependency.LOCK_STATUS);
     private static final NodeLogger LOGGER = NodeLogger
             .getLogger(CutAction.class);
 
@@ -127,6 +132,12 @@ protected boolean internalCalculateEnabled() {
         return parts.length > 0 || anno.length > 0;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /**
      * Invokes the copy action followed by the delete command.
      * {@inheritDoc}
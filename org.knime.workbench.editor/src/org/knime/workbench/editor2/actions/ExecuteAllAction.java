@@ -47,12 +47,16 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
 import org.knime.workbench.editor2.WorkflowEditor;
 import org.knime.workbench.editor2.WorkflowEditorMode;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
 /**
@@ -62,6 +66,9 @@
  */
 public class ExecuteAllAction extends AbstractNodeAction {
 
+    private static final Set<Dependency> DEPENDENCIES =
+        EnumSet.of(Dependency.NODE_STATE, Dependency.WORKFLOW, Dependency.EDITOR_MODE);
+
     /** unique ID for this action. * */
     public static final String ID = "knime.action.executeall";
 
@@ -129,6 +136,12 @@ protected boolean internalCalculateEnabled() {
         return getManagerUI().canExecuteAll();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /**
      * This starts an execution job for all executable nodes. Note that this is
      * all controlled by the WorkflowManager object of the currently open
@@ -45,11 +45,15 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 
@@ -60,6 +64,8 @@
  */
 public class HideNodeNamesAction extends AbstractClipboardAction {
 
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.noneOf(Dependency.class);
+
     /** unique ID for this action. */
     public static final String ID = "knime.action.hide_node_names";
 
@@ -141,4 +147,10 @@ public synchronized void runOnNodes(final NodeContainerEditPart[] parts) {
     protected boolean internalCalculateEnabled() {
         return true;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
 }
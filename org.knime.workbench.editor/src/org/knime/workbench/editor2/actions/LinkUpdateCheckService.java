@@ -0,0 +1,261 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import java.lang.reflect.InvocationTargetException;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.Status;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.util.proxy.DisabledSchemesChecker;
+import org.knime.workbench.KNIMEEditorPlugin;
+
+/**
+ * Checks component and metanode links for updates. Links that point to the same template and were created from the
+ * same template version are checked together, the different templates are checked concurrently by a bounded number of
+ * threads. Templates found to be up to date are remembered for a short time (see {@link #TTL_MILLIS}) across all
+ * editors, so that opening several workflows that link the same templates does not check them again and again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class LinkUpdateCheckService {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LinkUpdateCheckService.class);
+
+    /** Time in milliseconds for which an up-to-date template is not checked again. */
+    static final long TTL_MILLIS = Long.getLong("knime.component.updatecheck.ttl", 60_000L);
+
+    /** Number of templates that are checked concurrently. */
+    static final int THREADS = Integer.getInteger("knime.component.updatecheck.threads", 4);
+
+    private static final LinkUpdateCheckService INSTANCE =
+        new LinkUpdateCheckService(THREADS, TTL_MILLIS, System::currentTimeMillis);
+
+    /**
+     * Identifies links that are known to have the same update state.
+     *
+     * @param sourceURI the URI of the linked template
+     * @param timestamp the version of the template the link was created from
+     */
+    record LinkKey(URI sourceURI, Instant timestamp) {
+    }
+
+    /**
+     * The result of an update check.
+     *
+     * @param updateList the links with an update available
+     * @param status the status of the check, may contain warnings and errors of single links
+     */
+    record CheckResult(List<NodeID> updateList, IStatus status) {
+    }
+
+    /** Performs the actual check of a list of links. */
+    @FunctionalInterface
+    interface Checker {
+        /**
+         * @param links the links to check, all pointing to the same template
+         * @param monitor the progress monitor
+         * @return the result of the check
+         * @throws Exception if the check fails
+         */
+        CheckResult check(List<NodeID> links, IProgressMonitor monitor) throws Exception; // NOSONAR
+    }
+
+    private final ExecutorService m_executor;
+
+    private final long m_ttlMillis;
+
+    private final LongSupplier m_clock;
+
+    /* templates found to be up to date, mapped to the time the entry expires */
+    private final Map<LinkKey, Long> m_upToDate = new ConcurrentHashMap<>();
+
+    LinkUpdateCheckService(final int threads, final long ttlMillis, final LongSupplier clock) {
+        final var count = new AtomicInteger();
+        m_executor = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            final var t = new Thread(r, "KNIME-Link-Update-Check-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        m_ttlMillis = ttlMillis;
+        m_clock = clock;
+    }
+
+    /** @return the service shared by all editors */
+    static LinkUpdateCheckService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks the given links for updates.
+     *
+     * @param candidates the links to check
+     * @param keyFunction determines the key of a link, links with the same key are checked together; may return
+     *            <code>null</code> if the link cannot be grouped
+     * @param checker performs the check of a group of links
+     * @param useCache whether templates recently found to be up to date may be skipped
+     * @param monitor the progress monitor
+     * @return the links with an update available, in the order of the candidates, and the combined status
+     * @throws InterruptedException if the check was canceled
+     */
+    CheckResult check(final List<NodeID> candidates, final Function<NodeID, LinkKey> keyFunction,
+        final Checker checker, final boolean useCache, final IProgressMonitor monitor) throws InterruptedException {
+        final Map<Object, List<NodeID>> groups = new LinkedHashMap<>();
+        var cachedCount = 0;
+        for (final NodeID id : candidates) {
+            final var key = keyFunction.apply(id);
+            if (key != null && useCache && isUpToDate(key)) {
+                cachedCount++;
+                continue;
+            }
+            // links without a key are checked on their own
+            groups.computeIfAbsent(key != null ? key : id, k -> new ArrayList<>()).add(id);
+        }
+        LOGGER.debugWithFormat("Checking %d link(s) to %d template(s), %d link(s) known to be up to date",
+            candidates.size() - cachedCount, groups.size(), cachedCount);
+
+        monitor.beginTask("Checking for updates", groups.size());
+        final Map<Object, Future<CheckResult>> futures = new LinkedHashMap<>();
+        for (final var group : groups.entrySet()) {
+            futures.put(group.getKey(),
+                m_executor.submit(() -> checker.check(group.getValue(), new NullProgressMonitor())));
+        }
+
+        final var updates = new ArrayList<NodeID>();
+        final var status = new MultiStatus(KNIMEEditorPlugin.PLUGIN_ID, IStatus.OK, "Checking for updates", null);
+        try {
+            for (final var entry : futures.entrySet()) {
+                final var result = await(entry.getValue(), monitor);
+                updates.addAll(result.updateList());
+                status.merge(result.status());
+                if (entry.getKey() instanceof LinkKey key) {
+                    if (result.updateList().isEmpty() && result.status().isOK()) {
+                        m_upToDate.put(key, m_clock.getAsLong() + m_ttlMillis);
+                    } else {
+                        m_upToDate.remove(key);
+                    }
+                }
+                monitor.worked(1);
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(f -> f.cancel(true));
+            throw e;
+        } finally {
+            monitor.done();
+        }
+
+        // report the updates in the order of the candidates
+        final var order = new LinkedHashMap<NodeID, Integer>();
+        for (var i = 0; i < candidates.size(); i++) {
+            order.putIfAbsent(candidates.get(i), i);
+        }
+        updates.sort((a, b) -> Integer.compare(order.get(a), order.get(b)));
+        return new CheckResult(Collections.unmodifiableList(updates), status.isOK() ? Status.OK_STATUS : status);
+    }
+
+    private static CheckResult await(final Future<CheckResult> future, final IProgressMonitor monitor)
+        throws InterruptedException {
+        while (true) {
+            if (monitor.isCanceled()) {
+                throw new InterruptedException("Update check canceled");
+            }
+            try {
+                return future.get(100, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) { // NOSONAR poll the monitor again
+            } catch (ExecutionException e) {
+                final var cause = e.getCause() instanceof InvocationTargetException ite ? ite.getTargetException()
+                    : e.getCause();
+                var message = cause.getMessage();
+                if (DisabledSchemesChecker.isCausedByDisabledSchemes(cause)) {
+                    message = DisabledSchemesChecker.FAQ_MESSAGE;
+                }
+                LOGGER.warn("Failed to check for updates: " + message, cause);
+                return new CheckResult(Collections.emptyList(),
+                    new Status(IStatus.WARNING, KNIMEEditorPlugin.PLUGIN_ID, message, cause));
+            }
+        }
+    }
+
+    private boolean isUpToDate(final LinkKey key) {
+        final var expiry = m_upToDate.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry < m_clock.getAsLong()) {
+            m_upToDate.remove(key, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    /** Forgets all templates known to be up to date. */
+    void clearCache() {
+        m_upToDate.clear();
+    }
+}
@@ -47,7 +47,9 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.eclipse.gef.commands.Command;
@@ -63,6 +65,7 @@
 import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat.ObfuscatorException;
 import org.knime.workbench.editor2.ClipboardObject;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.commands.PasteFromWorkflowDefCommand;
 import org.knime.workbench.editor2.commands.PasteFromWorkflowPersistorCommand;
 import org.knime.workbench.editor2.commands.PasteFromWorkflowPersistorCommand.ShiftCalculator;
@@ -76,6 +79,8 @@
  */
 public class PasteAction extends AbstractClipboardAction {
 
+    private static final Set<Dependency> DEPENDENCIES = EnumSet.of(Dependency.CLIPBOARD, Dependency.LOCK_STATUS);
+
     private static final int OFFSET = 120;
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(PasteAction.class);
@@ -151,8 +156,8 @@ private static Optional<DefClipboardContent> getSystemClipboardAsDef() {
     }
 
     /**
-     * In the workflow editor, any string content in the system clipboard will enable the paste action. In the remote
-     * workflow editor, any content of the workbench clipboard will enable the paste action.
+     * In the workflow editor, any string or binary workflow content in the system clipboard will enable the paste
+     * action. In the remote workflow editor, any content of the workbench clipboard will enable the paste action.
      *
      * {@inheritDoc}
      */
@@ -164,7 +169,13 @@ protected boolean internalCalculateEnabled() {
         if (inRemoteWorkflowEditor()) {
             return getEditor().getClipboardContent() != null;
         }
-        return getSystemClipboardContentAsString().isPresent();
+        return CopyAction.isTextInSystemClipboard();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
     }
 
     /**
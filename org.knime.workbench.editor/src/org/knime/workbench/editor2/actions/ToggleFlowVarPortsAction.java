@@ -47,8 +47,12 @@
  */
 package org.knime.workbench.editor2.actions;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import org.knime.core.ui.node.workflow.SingleNodeContainerUI;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.actions.ActionEnablementTracker.Dependency;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 
 /**
@@ -57,6 +61,9 @@
  */
 public class ToggleFlowVarPortsAction extends AbstractNodeAction {
 
+    private static final Set<Dependency> DEPENDENCIES =
+        EnumSet.of(Dependency.SELECTION, Dependency.WORKFLOW, Dependency.LOCK_STATUS);
+
 
     /**
      * unique ID for this action.
@@ -89,6 +96,12 @@ protected boolean internalCalculateEnabled() {
         return false;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<Dependency> getEnablementDependencies() {
+        return DEPENDENCIES;
+    }
+
     /** {@inheritDoc} */
     @Override
     public void update() {
@@ -0,0 +1,107 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.actions;
+
+import java.io.IOException;
+
+import org.eclipse.swt.dnd.ByteArrayTransfer;
+import org.eclipse.swt.dnd.TransferData;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Transfers workflow parts in the {@link BinaryClipboardFormat} via the system clipboard. Only KNIME understands this
+ * type, other applications get the JSON text offered alongside. The JSON text is set as data and only encoded when
+ * the payload is requested, so that copying doesn't pay for the encoding if the platform renders clipboard data on
+ * demand and the content is pasted elsewhere.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowBinaryTransfer extends ByteArrayTransfer {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowBinaryTransfer.class);
+
+    private static final String TYPE_NAME = "application/x-knime-workflow-binary";
+
+    private static final int TYPE_ID = registerType(TYPE_NAME);
+
+    private static final WorkflowBinaryTransfer INSTANCE = new WorkflowBinaryTransfer();
+
+    private WorkflowBinaryTransfer() {
+    }
+
+    /** @return the singleton instance */
+    static WorkflowBinaryTransfer getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    protected int[] getTypeIds() {
+        return new int[]{TYPE_ID};
+    }
+
+    @Override
+    protected String[] getTypeNames() {
+        return new String[]{TYPE_NAME};
+    }
+
+    @Override
+    protected void javaToNative(final Object object, final TransferData transferData) {
+        if (validate(object)) {
+            try {
+                super.javaToNative(BinaryClipboardFormat.encode((String)object), transferData);
+            } catch (IOException e) {
+                LOGGER.debug("Cannot encode binary clipboard content: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    protected boolean validate(final Object object) {
+        return object instanceof String s && !s.isEmpty();
+    }
+}
@@ -48,6 +48,7 @@
  */
 package org.knime.workbench.editor2.commands;
 
+import static org.knime.workbench.ui.async.AsyncUtil.waitForPendingChanges;
 import static org.knime.workbench.ui.async.AsyncUtil.waitForTerminationAndOpenDialogWhenFailed;
 
 import java.util.List;
@@ -69,6 +70,19 @@ public interface AsyncCommand {
      */
     boolean shallExecuteAsync();
 
+    /**
+     * Whether {@link org.eclipse.gef.commands.Command#execute()} and {@link org.eclipse.gef.commands.Command#undo()}
+     * apply the change locally right away and pipeline the asynchronous operation (see
+     * {@link org.knime.workbench.ui.async.AsyncCommandPipeline}) instead of waiting for it. Such commands must not be
+     * combined with others via {@link #combineWithRefresh(List, String)}, which would wait for them.
+     *
+     * @return <code>true</code> if the command pipelines its changes itself, <code>false</code> by default
+     * @since 5.9
+     */
+    default boolean isPipelined() {
+        return false;
+    }
+
     /**
      * Asynchronous execution of the command. Only allowed to be called if {@link #shallExecuteAsync()} returns
      * <code>true</code>.
@@ -95,7 +109,8 @@ public interface AsyncCommand {
      * Combines a list of {@link AsyncCommand}s into one {@link AbstractKNIMECommand} that also does a workflow refresh
      * after all commands have been executed.
      *
-     * Note: All provided commands need to have the same host-wfm!
+     * Note: All provided commands need to have the same host-wfm! Pending changes of the host-wfm (see
+     * {@link org.knime.workbench.ui.async.AsyncCommandPipeline}) are waited for first.
      *
      * @param asyncCommands the {@link AsyncCommand}s to be combined
      * @param waitingMessage the waiting message to be displayed when the command is executed and the executing takes a
@@ -114,6 +129,7 @@ public static AbstractKNIMECommand combineWithRefresh(final List<AsyncCommand> a
              */
             @Override
             public void execute() {
+                waitForPendingChanges(asyncWFM);
                 waitForTerminationAndOpenDialogWhenFailed(CompletableFuture
                     .allOf(
                         asyncCommands.stream().map(c -> c.executeAsync()).toArray(size -> new CompletableFuture[size]))
@@ -125,6 +141,7 @@ public void execute() {
              */
             @Override
             public void undo() {
+                waitForPendingChanges(asyncWFM);
                 waitForTerminationAndOpenDialogWhenFailed(CompletableFuture
                     .allOf(asyncCommands.stream().map(c -> c.undoAsync()).toArray(size -> new CompletableFuture[size]))
                     .thenCompose(f -> asyncWFM.refreshAsync(false)), waitingMessage);
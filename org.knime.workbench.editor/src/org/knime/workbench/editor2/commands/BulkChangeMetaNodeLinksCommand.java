@@ -50,27 +50,48 @@
 
 import java.net.URI;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.gef.commands.CompoundCommand;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.MetaNodeTemplateInformation;
 import org.knime.core.node.workflow.MetaNodeTemplateInformation.TemplateType;
 import org.knime.core.node.workflow.NodeContainerTemplate;
 import org.knime.core.node.workflow.NodeID;
 import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowLock;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.ui.util.SWTUtilities;
 
 /**
  * Changes specific link settings on a list of NodeContainerTemplates.
  *
+ * The new links of all templates are computed and validated first, then set at once while holding the workflow lock.
+ * Undo and redo only need the old and new link information of each template.
+ *
  * @author Leon Wenzler, KNIME AG, Konstanz, Germany
  */
 public class BulkChangeMetaNodeLinksCommand extends AbstractKNIMECommand {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(BulkChangeMetaNodeLinksCommand.class);
 
+    /**
+     * The link change of a single template.
+     *
+     * @param id the ID of the metanode or component
+     * @param oldInfo the link information before the change
+     * @param newInfo the link information after the change
+     */
+    record LinkChange(NodeID id, MetaNodeTemplateInformation oldInfo, MetaNodeTemplateInformation newInfo) {
+    }
+
+    /* the link changes done by this command */
+    private List<LinkChange> m_linkChanges = List.of();
+
+    /* the update of the templates, if the user asked for it */
     private CompoundCommand m_commandRegistry = new CompoundCommand();
 
     private final TemplateType m_templateType;
@@ -150,63 +171,97 @@ public void execute() {
     /**
      * Depending on the TemplateType, this method changes the template link URI of all
      * {@link BulkChangeMetaNodeLinksCommand#m_templatesToChange} to the
-     * {@link BulkChangeMetaNodeLinksCommand#m_newLinkURI}. Stores the executed commands in the command registry.
+     * {@link BulkChangeMetaNodeLinksCommand#m_newLinkURI}. Stores the changes for undo.
      */
     private void doLinkURIBulkChange() {
-        if (m_templateType == TemplateType.SubNode) {
-            for (NodeContainerTemplate template : m_templatesToChange) {
-                final var snc = (SubNodeContainer)template;
-                final var oldLastModified =
-                        m_askForUpdate ? snc.getTemplateInformation().getTimestampInstant() : null;
-                final var newLastModified = m_askForUpdate ? Instant.EPOCH : null;
-                var singleChangeCommand = new ChangeSubNodeLinkCommand(getHostWFM(), snc, m_oldLinkURI, oldLastModified,
-                    m_newLinkURI, newLastModified);
-                if (singleChangeCommand.canExecute()) {
-                    singleChangeCommand.execute();
-                    m_commandRegistry.add(singleChangeCommand);
-                }
+        m_linkChanges = computeLinkChanges();
+        applyLinks(true);
+    }
+
+    /**
+     * Computes the new link information of all templates before any of them is changed. Templates that are of the
+     * wrong type or no longer links are skipped.
+     */
+    private List<LinkChange> computeLinkChanges() {
+        final var hostWFM = getHostWFM();
+        final var newLastModified = m_askForUpdate ? Instant.EPOCH : null;
+        final List<LinkChange> changes = new ArrayList<>(m_templatesToChange.size());
+        for (NodeContainerTemplate template : m_templatesToChange) {
+            final var id = template.getID();
+            final var nc = hostWFM.findNodeContainer(id);
+            final var isExpectedType = m_templateType == TemplateType.SubNode ? nc instanceof SubNodeContainer
+                : nc instanceof WorkflowManager;
+            if (!isExpectedType) {
+                LOGGER.error("Cannot change link of \"" + template.getNameWithID() + "\": Specified node is not a "
+                    + (m_templateType == TemplateType.SubNode ? "Component" : "metanode"));
+                continue;
+            }
+            final var oldInfo = ((NodeContainerTemplate)nc).getTemplateInformation();
+            try {
+                changes.add(new LinkChange(id, oldInfo, oldInfo.createLinkWithUpdatedSource(m_newLinkURI,
+                    newLastModified)));
+            } catch (InvalidSettingsException e) {
+                LOGGER.error("Cannot change link of \"" + template.getNameWithID() + "\": " + e.getMessage(), e);
             }
-        } else if (m_templateType == TemplateType.MetaNode) {
-            for (NodeContainerTemplate template : m_templatesToChange) {
-                final var metanode = (WorkflowManager)template;
-                final var oldLastModified =
-                        m_askForUpdate ? metanode.getTemplateInformation().getTimestampInstant() : null;
-                final var newLastModified = m_askForUpdate ? Instant.EPOCH : null;
-                var singleChangeCommand = new ChangeMetaNodeLinkCommand(getHostWFM(), metanode,
-                    m_oldLinkURI, oldLastModified, m_newLinkURI, newLastModified);
-                if (singleChangeCommand.canExecute()) {
-                    singleChangeCommand.execute();
-                    m_commandRegistry.add(singleChangeCommand);
+        }
+        return changes;
+    }
+
+    /**
+     * Sets the new (or old) link information of all changed templates while holding the workflow lock, so that the
+     * workflow is checked for changes only once.
+     */
+    private void applyLinks(final boolean newLinks) {
+        final var hostWFM = getHostWFM();
+        try (WorkflowLock lock = hostWFM.lock()) {
+            for (LinkChange change : m_linkChanges) {
+                final var nc = hostWFM.findNodeContainer(change.id());
+                if (nc == null) {
+                    LOGGER.warn("Cannot change link of " + change.id() + ", the node no longer exists");
+                    continue;
                 }
+                nc.getParent().setTemplateInformation(change.id(), newLinks ? change.newInfo() : change.oldInfo());
             }
         }
     }
 
     @Override
     public boolean canUndo() {
-        if (m_templatesToChange.isEmpty() || m_commandRegistry == null || m_commandRegistry.isEmpty()) {
+        if (m_templatesToChange.isEmpty() || m_linkChanges.isEmpty()) {
             return false;
         }
-        return m_commandRegistry.canUndo();
+        return m_commandRegistry.isEmpty() || m_commandRegistry.canUndo();
     }
 
     @Override
     public void undo() {
-        LOGGER.debug("Undo: Reverting metanode links (" + m_commandRegistry.size() + " metanode(s))");
-        m_commandRegistry.undo();
+        LOGGER.debug("Undo: Reverting metanode links (" + m_linkChanges.size() + " metanode(s))");
+        // revert the update first, it replaced the linked nodes
+        if (!m_commandRegistry.isEmpty()) {
+            m_commandRegistry.undo();
+        }
+        applyLinks(false);
     }
 
     @Override
     public boolean canRedo() {
-        if (m_templatesToChange.isEmpty() || m_commandRegistry == null || m_commandRegistry.isEmpty()) {
+        if (m_templatesToChange.isEmpty() || m_linkChanges.isEmpty()) {
             return false;
         }
-        return m_commandRegistry.canRedo();
+        return m_commandRegistry.isEmpty() || m_commandRegistry.canRedo();
     }
 
     @Override
     public void redo() {
-        LOGGER.debug("Redo: Reverting the undo of metanode links (" + m_commandRegistry.size() + " metanode(s))");
-        m_commandRegistry.redo();
+        LOGGER.debug("Redo: Reverting the undo of metanode links (" + m_linkChanges.size() + " metanode(s))");
+        applyLinks(true);
+        if (!m_commandRegistry.isEmpty()) {
+            m_commandRegistry.redo();
+        }
+    }
+
+    /** @return the link changes done by this command, empty if not executed yet */
+    List<LinkChange> getLinkChanges() {
+        return m_linkChanges;
     }
 }
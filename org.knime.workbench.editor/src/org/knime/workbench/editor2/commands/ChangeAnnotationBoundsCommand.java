@@ -47,6 +47,7 @@
  */
 package org.knime.workbench.editor2.commands;
 
+import static org.knime.workbench.ui.async.AsyncUtil.waitForPendingChanges;
 import static org.knime.workbench.ui.async.AsyncUtil.waitForTerminationAndOpenDialogWhenFailed;
 
 import java.util.Objects;
@@ -135,6 +136,7 @@ public boolean canExecute() {
     @Override
     public void execute() {
         if (shallExecuteAsync()) {
+            waitForPendingChanges(getAsyncHostWFM());
             waitForTerminationAndOpenDialogWhenFailed(
                 executeAsync().thenCompose(f -> getAsyncHostWFM().refreshAsync(false)),
                 "Changing annotation bounds ...");
@@ -160,6 +162,7 @@ public CompletableFuture<Void> executeAsync() {
     @Override
     public void undo() {
         if (shallExecuteAsync()) {
+            waitForPendingChanges(getAsyncHostWFM());
             waitForTerminationAndOpenDialogWhenFailed(
                 undoAsync().thenCompose(f -> getAsyncHostWFM().refreshAsync(false)),
                 "Undo change of annotations bounds ...");
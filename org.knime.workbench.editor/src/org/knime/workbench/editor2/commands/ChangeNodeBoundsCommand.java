@@ -47,11 +47,11 @@
  */
 package org.knime.workbench.editor2.commands;
 
-import static org.knime.workbench.ui.async.AsyncUtil.waitForTerminationAndOpenDialogWhenFailed;
-
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.knime.core.node.workflow.NodeID;
@@ -61,12 +61,16 @@
 import org.knime.core.ui.node.workflow.async.AsyncNodeContainerUI;
 import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
 import org.knime.workbench.editor2.figures.NodeContainerFigure;
+import org.knime.workbench.ui.async.AsyncCommandPipeline;
 
 /**
  * GEF Command for changing the bounds of a <code>NodeContainer</code> in the
  * workflow. The bounds are stored into the <code>ExtraInfo</code> object of the
  * <code>NodeContainer</code>
  *
+ * If the workflow is remote, the figure is moved right away and the change is pipelined (see
+ * {@link AsyncCommandPipeline}), merging consecutive moves of the same node.
+ *
  * @author Florian Georg, University of Konstanz
  */
 public class ChangeNodeBoundsCommand extends AbstractKNIMECommand implements AsyncCommand {
@@ -78,6 +82,13 @@ public class ChangeNodeBoundsCommand extends AbstractKNIMECommand implements Asy
      * instance may change if deleted and the delete is undone. */
     private final NodeID m_nodeID;
 
+    /* the figure moved optimistically while the change of a remote workflow is pending, with its old and new bounds */
+    private final IFigure m_figure;
+
+    private final Rectangle m_oldFigureBounds;
+
+    private final Rectangle m_newFigureBounds;
+
     /**
      *
      * @param container The node container to change
@@ -96,6 +107,10 @@ public ChangeNodeBoundsCommand(final NodeContainerUI container,
         m_newBounds = new int[]{figureBounds.x + offset.x,
                 figureBounds.y + offset.y, -1, -1};
         m_nodeID = container.getID();
+        m_figure = figure;
+        m_oldFigureBounds = figure.getBounds().getCopy();
+        m_newFigureBounds = new Rectangle(figureBounds.x, figureBounds.y, m_oldFigureBounds.width,
+            m_oldFigureBounds.height);
     }
 
     /**
@@ -106,6 +121,14 @@ public boolean shallExecuteAsync() {
         return getHostWFMUI() instanceof AsyncWorkflowManagerUI;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isPipelined() {
+        return shallExecuteAsync();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -126,8 +149,8 @@ public AsyncWorkflowManagerUI getAsyncHostWFM() {
     @Override
     public void execute() {
         if (shallExecuteAsync()) {
-            waitForTerminationAndOpenDialogWhenFailed(
-                executeAsync().thenCompose(f -> getAsyncHostWFM().refreshAsync(false)),               "Moving node ...");
+            AsyncCommandPipeline.of(getAsyncHostWFM()).submit("Moving node ...", getCoalescingKey(),
+                () -> moveFigure(m_newFigureBounds), this::executeAsync, () -> moveFigure(m_oldFigureBounds));
         } else {
             if (!Arrays.equals(m_oldBounds, m_newBounds)) {
                 WorkflowManagerUI wm = getHostWFMUI();
@@ -165,8 +188,8 @@ public CompletableFuture<Void> executeAsync() {
     @Override
     public void undo() {
         if (shallExecuteAsync()) {
-            waitForTerminationAndOpenDialogWhenFailed(
-                undoAsync().thenCompose(f -> getAsyncHostWFM().refreshAsync(false)), "Undo moving node ...");
+            AsyncCommandPipeline.of(getAsyncHostWFM()).submit("Undo moving node ...", getCoalescingKey(),
+                () -> moveFigure(m_oldFigureBounds), this::undoAsync, () -> moveFigure(m_newFigureBounds));
         } else {
             if (!Arrays.equals(m_oldBounds, m_newBounds)) {
                 NodeUIInformation information = NodeUIInformation.builder()
@@ -194,4 +217,18 @@ public CompletableFuture<Void> undoAsync() {
             });
         }
     }
+
+    /* consecutive moves of the same node only need to send the last bounds */
+    private List<Object> getCoalescingKey() {
+        return List.of(ChangeNodeBoundsCommand.class, m_nodeID);
+    }
+
+    /* moves the figure before the remote workflow confirms the change, reconciled by the refresh afterwards */
+    private void moveFigure(final Rectangle bounds) {
+        final IFigure parent = m_figure.getParent();
+        if (parent != null) {
+            m_figure.setBounds(bounds);
+            parent.setConstraint(m_figure, bounds.getCopy());
+        }
+    }
 }
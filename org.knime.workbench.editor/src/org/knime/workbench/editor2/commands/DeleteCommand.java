@@ -50,6 +50,7 @@
 import static org.knime.workbench.ui.async.AsyncUtil.wfmAsyncSwitch;
 import static org.knime.workbench.ui.async.AsyncUtil.wfmAsyncSwitchRethrow;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -62,6 +63,7 @@
 import java.util.function.Supplier;
 
 import org.eclipse.gef.EditPartViewer;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.Annotation;
 import org.knime.core.node.workflow.ConnectionID;
 import org.knime.core.node.workflow.ConnectionUIInformation;
@@ -76,6 +78,7 @@
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.node.workflow.async.OperationNotAllowedException;
 import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.workbench.editor2.commands.UndoSnapshotStore.Snapshot;
 import org.knime.workbench.editor2.editparts.AnnotationEditPart;
 import org.knime.workbench.editor2.editparts.ConnectionContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
@@ -88,6 +91,8 @@
  */
 public class DeleteCommand extends AbstractKNIMECommand {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DeleteCommand.class);
+
     /** Ids of nodes being deleted. */
     private final NodeID[] m_nodeIDs;
     /** References to annotations being deleted. */
@@ -108,8 +113,8 @@ public class DeleteCommand extends AbstractKNIMECommand {
      */
     private final int m_connectionCount;
 
-    /** Copy of deleted sub flow for undo. */
-    private WorkflowCopyUI m_undoCopy;
+    /** Copy of deleted sub flow for undo, kept (compressed) in the {@link UndoSnapshotStore}. */
+    private Snapshot<WorkflowCopyUI> m_undoCopy;
 
     /** A viewer in which to update the selection upon undo or null if none
      * could be determined. */
@@ -238,9 +243,13 @@ public void execute() {
             WorkflowCopyContent.Builder content = WorkflowCopyContent.builder();
             content.setNodeIDs(m_nodeIDs);
             content.setAnnotationIDs(m_annotationIDs);
+            releaseUndoCopy();
             try {
-                m_undoCopy = wfmAsyncSwitchRethrow(wfm -> wfm.cut(content.build()), wfm -> wfm.cutAsync(content.build()),
-                    hostWFM, "Deleting content ...");
+                final WorkflowCopyUI undoCopy = wfmAsyncSwitchRethrow(wfm -> wfm.cut(content.build()),
+                    wfm -> wfm.cutAsync(content.build()), hostWFM, "Deleting content ...");
+                if (undoCopy != null) {
+                    m_undoCopy = UndoSnapshotStore.getInstance().put(undoCopy, UndoSnapshotStore.WORKFLOW_COPY_CODEC);
+                }
             } catch (OperationNotAllowedException e) {
                 openDialog("Problem while deleting parts", e.getMessage());
                 return;
@@ -261,9 +270,27 @@ public void execute() {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean canUndo() {
+        // the copy is evicted from the store if it runs out of memory
+        return super.canUndo() && (m_undoCopy == null || m_undoCopy.isAvailable());
+    }
+
     /** {@inheritDoc} */
     @Override
     public void undo() {
+        final WorkflowCopyUI undoCopy;
+        try {
+            undoCopy = m_undoCopy == null ? null : m_undoCopy.get();
+        } catch (IOException e) {
+            LOGGER.error("Cannot restore deleted parts: " + e.getMessage(), e);
+            openDialog("Problem while restoring parts", "Cannot restore deleted parts: " + e.getMessage());
+            return;
+        }
+        // a redo cuts the parts again
+        releaseUndoCopy();
+
         // select the new ones....
         if (m_viewer != null  && m_viewer.getRootEditPart().getContents()
                 instanceof WorkflowRootEditPart) {
@@ -275,8 +302,8 @@ public void undo() {
         WorkflowManagerUI hostWFM = getHostWFMUI();
         wfmAsyncSwitch(wfm -> {
             //paste copied content
-            if (m_undoCopy != null) {
-                wfm.paste(m_undoCopy);
+            if (undoCopy != null) {
+                wfm.paste(undoCopy);
             }
 
             //add dangling connections
@@ -288,9 +315,9 @@ public void undo() {
         }, wfm -> {
             //paste copied content
             CompletableFuture<WorkflowCopyContent> pasteFuture = null;
-            if (m_undoCopy != null) {
-                assert m_undoCopy instanceof WorkflowCopyWithOffsetUI;
-                pasteFuture = wfm.pasteAsync((WorkflowCopyWithOffsetUI)m_undoCopy);
+            if (undoCopy != null) {
+                assert undoCopy instanceof WorkflowCopyWithOffsetUI;
+                pasteFuture = wfm.pasteAsync((WorkflowCopyWithOffsetUI)undoCopy);
             }
 
             //add dangling connections
@@ -318,10 +345,17 @@ public void undo() {
     /** {@inheritDoc} */
     @Override
     public void dispose() {
-        m_undoCopy = null;
+        releaseUndoCopy();
         super.dispose();
     }
 
+    private void releaseUndoCopy() {
+        if (m_undoCopy != null) {
+            m_undoCopy.release();
+            m_undoCopy = null;
+        }
+    }
+
     /** @return the number of nodes to be deleted. */
     public int getNodeCount() {
         return m_nodeIDs.length;
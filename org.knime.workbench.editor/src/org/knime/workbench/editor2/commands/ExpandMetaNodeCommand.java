@@ -47,6 +47,7 @@
  */
 package org.knime.workbench.editor2.commands;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 import org.eclipse.gef.EditPartViewer;
@@ -61,6 +62,7 @@
 import org.knime.core.node.workflow.WorkflowPersistor;
 import org.knime.core.ui.util.SWTUtilities;
 import org.knime.workbench.editor2.WorkflowEditor;
+import org.knime.workbench.editor2.commands.UndoSnapshotStore.Snapshot;
 import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
 
 /**
@@ -75,7 +77,8 @@ public class ExpandMetaNodeCommand extends AbstractKNIMECommand {
     private final NodeID m_id;
     private NodeID[] m_pastedNodes;
     private WorkflowAnnotationID[] m_pastedAnnotationIDs;
-    private WorkflowPersistor m_undoCopyPersistor;
+    /* the persistor can't be serialized, the store only limits the number of them kept */
+    private Snapshot<WorkflowPersistor> m_undoCopyPersistor;
     private final WorkflowEditor m_editor;
 
     /**
@@ -112,7 +115,8 @@ public void execute() {
             WorkflowCopyContent.Builder cnt = WorkflowCopyContent.builder();
             cnt.setNodeIDs(m_id);
             cnt.setIncludeInOutConnections(true);
-            m_undoCopyPersistor = hostWFM.copy(true, cnt.build());
+            releaseUndoCopy();
+            m_undoCopyPersistor = UndoSnapshotStore.getInstance().put(hostWFM.copy(true, cnt.build()), null);
             WorkflowCopyContent wcc = hostWFM.expandMetaNode(m_id);
             m_pastedNodes = wcc.getNodeIDs();
             m_pastedAnnotationIDs = wcc.getAnnotationIDs();
@@ -141,7 +145,7 @@ public void execute() {
      */
     @Override
     public boolean canUndo() {
-        if (m_undoCopyPersistor != null) {
+        if (m_undoCopyPersistor != null && m_undoCopyPersistor.isAvailable()) {
             WorkflowManager hostWFM = getHostWFM();
             for (NodeID id : m_pastedNodes) {
                 if (!hostWFM.canRemoveNode(id)) {
@@ -158,6 +162,12 @@ public boolean canUndo() {
      */
     @Override
     public void undo() {
+        final WorkflowPersistor undoCopy;
+        try {
+            undoCopy = m_undoCopyPersistor.get();
+        } catch (IOException e) { // can't happen for persistors, they are not serialized
+            throw new IllegalStateException(e);
+        }
         WorkflowManager hostWFM = getHostWFM();
         for (NodeID id : m_pastedNodes) {
             hostWFM.removeNode(id);
@@ -165,10 +175,24 @@ public void undo() {
         for (WorkflowAnnotation anno : hostWFM.getWorkflowAnnotations(m_pastedAnnotationIDs)) {
             hostWFM.removeAnnotation(anno.getID());
         }
-        hostWFM.paste(m_undoCopyPersistor);
+        hostWFM.paste(undoCopy);
         m_pastedNodes = null;
         m_pastedAnnotationIDs = null;
-        m_undoCopyPersistor = null;
+        releaseUndoCopy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void dispose() {
+        releaseUndoCopy();
+        super.dispose();
+    }
+
+    private void releaseUndoCopy() {
+        if (m_undoCopyPersistor != null) {
+            m_undoCopyPersistor.release();
+            m_undoCopyPersistor = null;
+        }
     }
 
 }
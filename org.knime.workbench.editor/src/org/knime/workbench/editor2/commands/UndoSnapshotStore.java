@@ -0,0 +1,418 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.commands;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.ui.node.workflow.WorkflowCopyUI;
+import org.knime.core.ui.wrapper.WorkflowDefWrapper;
+import org.knime.core.util.FileUtil;
+import org.knime.shared.workflow.storage.clipboard.InvalidDefClipboardContentVersionException;
+import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat;
+import org.knime.shared.workflow.storage.clipboard.SystemClipboardFormat.ObfuscatorException;
+
+/**
+ * Keeps the copies structural commands (e.g. {@link DeleteCommand}) need for undo, so that they don't pin large parts
+ * of the heap for as long as the command stack lives.
+ * <p>
+ * Copies that can be serialized are stored as compressed bytes; large ones (see {@link #SPILL_THRESHOLD}) and the
+ * oldest ones once the memory budget is exceeded are written to a temporary folder. Copies that can't be serialized
+ * (e.g. workflow persistors) are kept as they are, but only up to a number of them. All budgets are shared by all
+ * editors. If a budget is exceeded, the least recently used snapshots are evicted and the commands that own them can no
+ * longer be undone.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class UndoSnapshotStore {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(UndoSnapshotStore.class);
+
+    /** Number of compressed bytes kept in memory. */
+    static final long MEMORY_BUDGET = Long.getLong("knime.editor.undo.memoryBudget", 64L << 20);
+
+    /** Number of compressed bytes kept in the temporary folder. */
+    static final long DISK_BUDGET = Long.getLong("knime.editor.undo.diskBudget", 512L << 20);
+
+    /** Compressed snapshots larger than this are written to the temporary folder right away. */
+    static final int SPILL_THRESHOLD = Integer.getInteger("knime.editor.undo.spillThreshold", 4 << 20);
+
+    /** Number of snapshots that can't be serialized and are kept as they are. */
+    static final int MAX_UNSERIALIZED = Integer.getInteger("knime.editor.undo.maxUnserialized", 32);
+
+    private static final UndoSnapshotStore INSTANCE = new UndoSnapshotStore(MEMORY_BUDGET, DISK_BUDGET,
+        SPILL_THRESHOLD, MAX_UNSERIALIZED, () -> {
+            try {
+                return FileUtil.createTempDir("knime_undo").toPath();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot create folder for undo snapshots: " + e.getMessage(), e);
+            }
+        });
+
+    /**
+     * Converts a copy into bytes and back.
+     *
+     * @param <T> the type of the copy
+     */
+    interface Codec<T> {
+        /**
+         * @param value the copy
+         * @return the serialized copy
+         * @throws IOException if the copy can't be serialized, it's then kept as it is
+         */
+        byte[] encode(T value) throws IOException;
+
+        /**
+         * @param bytes the serialized copy
+         * @return the copy
+         * @throws IOException if the copy can't be restored
+         */
+        T decode(byte[] bytes) throws IOException;
+    }
+
+    /**
+     * Serializes workflow copies in the format of the system clipboard (which also protects the content of locked
+     * components and metanodes). Only copies of local workflows ({@link WorkflowDefWrapper}) can be serialized.
+     */
+    static final Codec<WorkflowCopyUI> WORKFLOW_COPY_CODEC = new Codec<>() {
+
+        @Override
+        public byte[] encode(final WorkflowCopyUI value) throws IOException {
+            if (!(value instanceof WorkflowDefWrapper defWrapper)) {
+                throw new IOException("Cannot serialize " + value.getClass().getSimpleName());
+            }
+            try {
+                return SystemClipboardFormat.serialize(defWrapper.unwrap()).getBytes(StandardCharsets.UTF_8);
+            } catch (ObfuscatorException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+
+        @Override
+        public WorkflowCopyUI decode(final byte[] bytes) throws IOException {
+            try {
+                return WorkflowDefWrapper
+                    .wrap(SystemClipboardFormat.deserialize(new String(bytes, StandardCharsets.UTF_8)));
+            } catch (ObfuscatorException | InvalidDefClipboardContentVersionException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    };
+
+    /**
+     * A copy held by the store.
+     *
+     * @param <T> the type of the copy
+     */
+    static final class Snapshot<T> {
+
+        private final UndoSnapshotStore m_store;
+
+        private final Codec<T> m_codec;
+
+        /* the copy if it can't be serialized */
+        private T m_value;
+
+        /* the compressed copy if kept in memory */
+        private byte[] m_bytes;
+
+        /* the compressed copy if written to the temporary folder */
+        private Path m_file;
+
+        private long m_size;
+
+        /* the size of the serialized copy before compression */
+        private long m_rawSize;
+
+        private boolean m_evicted;
+
+        private Snapshot(final UndoSnapshotStore store, final Codec<T> codec) {
+            m_store = store;
+            m_codec = codec;
+        }
+
+        /** @return whether the copy is still there, i.e. neither evicted nor released */
+        boolean isAvailable() {
+            synchronized (m_store) {
+                return !m_evicted;
+            }
+        }
+
+        /**
+         * Restores the copy and marks it as recently used.
+         *
+         * @return the copy, <code>null</code> if it has been evicted or released
+         * @throws IOException if the copy can't be restored
+         */
+        T get() throws IOException {
+            final byte[] bytes;
+            final Path file;
+            synchronized (m_store) {
+                if (m_evicted) {
+                    return null;
+                }
+                m_store.m_entries.get(this);
+                if (m_value != null) {
+                    return m_value;
+                }
+                bytes = m_bytes;
+                file = m_file;
+            }
+            return m_codec.decode(decompress(bytes != null ? bytes : Files.readAllBytes(file)));
+        }
+
+        /** Drops the copy, e.g. once it has been restored or the command is disposed. */
+        void release() {
+            synchronized (m_store) {
+                m_store.remove(this);
+            }
+        }
+    }
+
+    private final long m_memoryBudget;
+
+    private final long m_diskBudget;
+
+    private final int m_spillThreshold;
+
+    private final int m_maxUnserialized;
+
+    private final Supplier<Path> m_spillFolderSupplier;
+
+    private Path m_spillFolder;
+
+    /* all snapshots in the order they were used, least recently used first */
+    private final Map<Snapshot<?>, Boolean> m_entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_memoryBytes;
+
+    private long m_diskBytes;
+
+    private long m_rawBytes;
+
+    private int m_unserializedCount;
+
+    private long m_evictionCount;
+
+    UndoSnapshotStore(final long memoryBudget, final long diskBudget, final int spillThreshold,
+        final int maxUnserialized, final Supplier<Path> spillFolderSupplier) {
+        m_memoryBudget = memoryBudget;
+        m_diskBudget = diskBudget;
+        m_spillThreshold = spillThreshold;
+        m_maxUnserialized = maxUnserialized;
+        m_spillFolderSupplier = spillFolderSupplier;
+    }
+
+    /** @return the store shared by all editors */
+    static UndoSnapshotStore getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Adds a copy to the store; it is serialized and compressed right away if possible.
+     *
+     * @param value the copy, not <code>null</code>
+     * @param codec serializes the copy, <code>null</code> to keep the copy as it is
+     * @return the snapshot to restore the copy from
+     */
+    <T> Snapshot<T> put(final T value, final Codec<T> codec) {
+        final var snapshot = new Snapshot<>(this, codec);
+        byte[] bytes = null;
+        long rawSize = 0;
+        if (codec != null) {
+            try {
+                final var encoded = codec.encode(value);
+                rawSize = encoded.length;
+                bytes = compress(encoded);
+            } catch (IOException e) { // NOSONAR kept as it is
+                LOGGER.debug("Keeping undo copy uncompressed: " + e.getMessage());
+            }
+        }
+        synchronized (this) {
+            if (bytes == null) {
+                snapshot.m_value = value;
+                m_unserializedCount++;
+            } else {
+                snapshot.m_bytes = bytes;
+                snapshot.m_size = bytes.length;
+                snapshot.m_rawSize = rawSize;
+                m_memoryBytes += bytes.length;
+                m_rawBytes += rawSize;
+            }
+            m_entries.put(snapshot, Boolean.TRUE);
+            if (bytes != null && bytes.length > m_spillThreshold) {
+                spill(snapshot);
+            }
+            enforceBudgets();
+        }
+        return snapshot;
+    }
+
+    /* caller must hold the lock */
+    private void enforceBudgets() {
+        var evicted = 0;
+        for (final Iterator<Snapshot<?>> it = m_entries.keySet().iterator(); it.hasNext();) {
+            final var s = it.next();
+            if (s.m_bytes != null && m_memoryBytes > m_memoryBudget) {
+                spill(s);
+            }
+            if ((s.m_value != null && m_unserializedCount > m_maxUnserialized)
+                || (s.m_file != null && m_diskBytes > m_diskBudget)) {
+                it.remove();
+                discard(s);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            m_evictionCount += evicted;
+            LOGGER.debug("Evicted " + evicted + " undo snapshot(s), the according commands can't be undone");
+        }
+    }
+
+    /* moves the compressed copy to the temporary folder; caller must hold the lock */
+    private void spill(final Snapshot<?> snapshot) {
+        try {
+            if (m_spillFolder == null) {
+                m_spillFolder = m_spillFolderSupplier.get();
+            }
+            final var file = Files.createTempFile(m_spillFolder, "undo", ".bin");
+            Files.write(file, snapshot.m_bytes);
+            snapshot.m_file = file;
+            m_memoryBytes -= snapshot.m_size;
+            m_diskBytes += snapshot.m_size;
+            snapshot.m_bytes = null;
+        } catch (IOException | IllegalStateException e) { // NOSONAR kept in memory
+            LOGGER.debug("Cannot write undo snapshot to disk: " + e.getMessage(), e);
+        }
+    }
+
+    /* caller must hold the lock */
+    private void remove(final Snapshot<?> snapshot) {
+        if (!snapshot.m_evicted) {
+            m_entries.remove(snapshot);
+            discard(snapshot);
+        }
+    }
+
+    /* drops the copy of a snapshot no longer in the store; caller must hold the lock */
+    private void discard(final Snapshot<?> snapshot) {
+        if (snapshot.m_value != null) {
+            m_unserializedCount--;
+        } else if (snapshot.m_bytes != null) {
+            m_memoryBytes -= snapshot.m_size;
+            m_rawBytes -= snapshot.m_rawSize;
+        } else if (snapshot.m_file != null) {
+            m_diskBytes -= snapshot.m_size;
+            m_rawBytes -= snapshot.m_rawSize;
+            try {
+                Files.deleteIfExists(snapshot.m_file);
+            } catch (IOException e) {
+                LOGGER.debug("Cannot delete undo snapshot " + snapshot.m_file + ": " + e.getMessage(), e);
+            }
+        }
+        snapshot.m_value = null;
+        snapshot.m_bytes = null;
+        snapshot.m_file = null;
+        snapshot.m_evicted = true;
+    }
+
+    /** @return the number of snapshots in the store */
+    synchronized int getSnapshotCount() {
+        return m_entries.size();
+    }
+
+    /** @return the number of compressed bytes kept in memory */
+    synchronized long getMemoryBytes() {
+        return m_memoryBytes;
+    }
+
+    /** @return the number of compressed bytes kept in the temporary folder */
+    synchronized long getDiskBytes() {
+        return m_diskBytes;
+    }
+
+    /** @return the number of serialized bytes of the snapshots in memory and on disk, before compression */
+    synchronized long getUncompressedBytes() {
+        return m_rawBytes;
+    }
+
+    /** @return the number of snapshots evicted so far */
+    synchronized long getEvictionCount() {
+        return m_evictionCount;
+    }
+
+    private static byte[] compress(final byte[] bytes) throws IOException {
+        final var out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        final var deflater = new Deflater(Deflater.BEST_SPEED);
+        try (var deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(bytes);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(final byte[] bytes) throws IOException {
+        try (var in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
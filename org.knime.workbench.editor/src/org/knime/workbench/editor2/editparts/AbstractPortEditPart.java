@@ -47,13 +47,12 @@
  */
 package org.knime.workbench.editor2.editparts;
 
-import static org.knime.core.ui.wrapper.Wrapper.wrap;
-
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 import org.eclipse.draw2d.ConnectionAnchor;
+import org.eclipse.draw2d.IFigure;
 // GEF 3.23 has draw2d ZoomListener as drop-in replacement for deprecated gef.editparts.ZoomListener
 import org.eclipse.draw2d.zoom.ZoomListener;
 import org.eclipse.gef.ConnectionEditPart;
@@ -66,13 +65,9 @@
 import org.eclipse.gef.editparts.ZoomManager;
 import org.eclipse.gef.requests.SelectionRequest;
 import org.eclipse.gef.tools.ConnectionDragCreationTool;
-import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.workflow.NodeID;
-import org.knime.core.node.workflow.WorkflowEvent;
-import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowManager;
-import org.knime.core.ui.UI;
 import org.knime.core.ui.node.workflow.ConnectionContainerUI;
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.NodeInPortUI;
@@ -92,15 +87,16 @@
 /**
  * Abstract base class for the edit parts that control the ports. This editpart
  * returns a <code>DragTracker</code> for starting connections between in- and
- * out ports. Note that all(!) ports are registered as listener for workflow
- * events on the underlying {@link WorkflowManager}. This is necessary because
- * we need de be able to react on connection changes.
+ * out ports. Connection changes of the underlying {@link WorkflowManager} are
+ * not observed by the ports themselves but coalesced by the
+ * {@link WorkflowRootEditPart}, which then only refreshes the ports of the
+ * affected nodes (see {@link #refreshConnections()}).
  *
  * @author Florian Georg, University of Konstanz
  * @author Fabian Dill, University of Konstanz
  */
 public abstract class AbstractPortEditPart extends AbstractGraphicalEditPart
-        implements EditorModeParticipant, NodeEditPart, WorkflowListener, ZoomListener {
+        implements EditorModeParticipant, NodeEditPart, ZoomListener {
 
     /**
      * Instead of using the Collections.EMPTY_LIST we have our own typed empty list if no connections are available.
@@ -235,17 +231,13 @@ protected WorkflowManagerUI getManager() {
     }
 
     /**
-     * We must register *every* node as a listener on the workflow, as we have
-     * not real objects for it.
+     * Registers as zoom listener.
      *
      * @see org.eclipse.gef.EditPart#activate()
      */
     @Override
     public void activate() {
         super.activate();
-        if (getManager() != null) {
-            getManager().addListener(this);
-        }
         // // register as zoom listener to adapt the line width
         ZoomManager zoomManager =
                 (ZoomManager)getRoot().getViewer().getProperty(
@@ -255,15 +247,12 @@ public void activate() {
     }
 
     /**
-     * Remove the port as a listener from the workflow.
+     * Removes the port as zoom listener.
      *
      * @see org.eclipse.gef.EditPart#deactivate()
      */
     @Override
     public void deactivate() {
-        if (getManager() != null) {
-            getManager().removeListener(this);
-        }
         // // register as zoom listener to adapt the line width
         ZoomManager zoomManager =
                 (ZoomManager)getRoot().getViewer().getProperty(
@@ -302,52 +291,19 @@ protected void refreshVisuals() {
     }
 
     /**
-     * We're just interested in events that have something to do with our port.
-     * In this case we need to update the connections and visuals.
-     *
-     * @param event the workflow event
+     * Updates the connections and visuals after a connection of the hosting node was added or removed. Called in the
+     * UI thread by the {@link WorkflowRootEditPart}, only for the ports of the nodes involved in the connection change.
      */
-    @Override
-    public void workflowChanged(final WorkflowEvent event) {
-        if (event.getType().equals(WorkflowEvent.Type.CONNECTION_ADDED)
-                || event.getType()
-                        .equals(WorkflowEvent.Type.CONNECTION_REMOVED)) {
-            // only enqueue runnable if we are interested in this event
-            Display.getDefault().asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    if (!isActive()) {
-                        return;
-                    }
-                    ConnectionContainerUI c = null;
-
-                    if (event.getType().equals(
-                            WorkflowEvent.Type.CONNECTION_ADDED)) {
-                        UI uiVal = wrap(event.getNewValue());
-                        c = (ConnectionContainerUI)uiVal;
-                    } else if (event.getType().equals(
-                            WorkflowEvent.Type.CONNECTION_REMOVED)) {
-                        UI uiVal = wrap(event.getOldValue());
-                        c = (ConnectionContainerUI)uiVal;
-                    }
-
-                    // if we have a connection to refresh...
-                    if ((c != null) && (getNodeContainer() != null)
-                            && (c.getSource().equals(getNodeContainer().getID())
-                                    || c.getDest().equals(getNodeContainer().getID()))) {
-                        // only refresh if we are actually involved in the
-                        // connection change
-                        AbstractPortFigure fig =
-                                (AbstractPortFigure)getFigure();
-                        fig.setIsConnected(isConnected());
-                        fig.repaint();
-                        refreshChildren();
-                        refreshSourceConnections();
-                        refreshTargetConnections();
-                    }
-                }
-            });
+    void refreshConnections() {
+        if (!isActive()) {
+            return;
         }
+        AbstractPortFigure fig = (AbstractPortFigure)getFigure();
+        fig.setIsConnected(isConnected());
+        fig.repaint();
+        refreshChildren();
+        refreshSourceConnections();
+        refreshTargetConnections();
     }
 
     /**
@@ -469,6 +425,22 @@ protected String getTooltipText(final String portName,
         return sb.toString();
     }
 
+    /**
+     * Marks the tooltip as outdated; it is rebuilt (see {@link #rebuildTooltip()}) once it is about to be shown.
+     */
+    public void invalidateTooltip() {
+        IFigure tip = getFigure().getToolTip();
+        if (tip instanceof NewToolTipFigure) {
+            ((NewToolTipFigure)tip).setTextUpdater(() -> {
+                if (isActive()) {
+                    rebuildTooltip();
+                }
+            });
+        } else {
+            rebuildTooltip();
+        }
+    }
+
     /**
      * Tries to build the tooltip from the port name and if this is a data
      * outport and the node is configured/executed, it appends also the number
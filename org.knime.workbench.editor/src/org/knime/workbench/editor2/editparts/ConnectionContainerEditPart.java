@@ -56,6 +56,7 @@
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.gef.DefaultEditDomain;
 import org.eclipse.gef.EditPart;
+import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.EditPolicy;
 import org.eclipse.gef.Request;
 import org.eclipse.gef.commands.Command;
@@ -166,16 +167,32 @@ public void activate() {
         super.activate();
         getModel().addUIInformationListener(this);
         getModel().addProgressListener(this);
+        final WorkflowRootEditPart root = getWorkflowRootEditPart();
+        if (root != null) {
+            root.getSpatialIndex().add(this);
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public void deactivate() {
+        final WorkflowRootEditPart root = getWorkflowRootEditPart();
+        if (root != null) {
+            root.getSpatialIndex().remove(this);
+        }
         getModel().removeUIInformationListener(this);
         getModel().removeProgressListener(this);
         super.deactivate();
     }
 
+    private WorkflowRootEditPart getWorkflowRootEditPart() {
+        final EditPartViewer viewer = getViewer();
+        if (viewer != null && viewer.getContents() instanceof WorkflowRootEditPart) {
+            return (WorkflowRootEditPart)viewer.getContents();
+        }
+        return null;
+    }
+
     /**
      * Sets whether this connection should render as highlighted or regular default color; this will be ultimately
      *  ignored if the user has disabled connection highlighting via Preferences.
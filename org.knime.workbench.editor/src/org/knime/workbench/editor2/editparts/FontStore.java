@@ -47,10 +47,7 @@
  */
 package org.knime.workbench.editor2.editparts;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -65,6 +62,7 @@
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.ViewUtils;
 import org.knime.core.node.workflow.AnnotationData;
+import org.knime.workbench.core.util.SWTResourceCache;
 import org.knime.workbench.ui.KNIMEUIPlugin;
 import org.knime.workbench.ui.preferences.PreferenceConstants;
 
@@ -79,7 +77,10 @@ public class FontStore {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(FontStore.class);
 
-    private final Map<StoreKey, StoreValue> m_fontMap = new HashMap<>();
+    /** Number of fonts that are kept for reuse although they are not used anymore. */
+    private static final int MAX_UNUSED_FONTS = 32;
+
+    private final SWTResourceCache<StoreKey, Font> m_fonts = new SWTResourceCache<>(MAX_UNUSED_FONTS);
 
     private final Set<String> m_installedFontFamilyNames;
 
@@ -196,17 +197,18 @@ public Font getFont(final String name, final int size, final int style) {
                 pt = pt * 100 / z;
             }
         }
-        StoreKey key = new StoreKey(name, pt, style);
-        StoreValue value = m_fontMap.get(key);
-        if (value != null) {
-            value.incrUseCount();
-        } else {
-            String fontName = m_installedFontFamilyNames.contains(name) ? name : m_defFontName;
-            value = new StoreValue(fontName, pt, style);
-            m_fontMap.put(key, value);
-        }
-        return value.getFont();
+        // key by the name of the font actually created, so that releaseFont(Font) finds it
+        String fontName = m_installedFontFamilyNames.contains(name) ? name : m_defFontName;
+        return m_fonts.acquire(new StoreKey(fontName, pt, style), FontStore::createFont);
+    }
 
+    /* creates the font for the key, falling back to the pref page size as new Font(...) throws for negative heights */
+    private static Font createFont(final StoreKey key) {
+        int height = key.m_height;
+        if (height <= 0) {
+            height = getFontSizeFromKNIMEPrefPage();
+        }
+        return new Font(null, key.m_name, height, key.m_style);
     }
 
     /** Get font according to KNIME style range. If font name and/or font
@@ -400,22 +402,20 @@ public Font getSystemDefFontNodeAnnotations() {
 
     /**
      * @param font releases one reference count of the specified font. If the
-     *            reference count is at zero, the font is disposed.
+     *            reference count is at zero, the font is kept for reuse and
+     *            disposed once too many unused fonts are kept.
      * @return the reference count after this release
      */
     public int releaseFont(final Font font) {
-        StoreKey key = new StoreKey(font);
-        StoreValue val = m_fontMap.get(key);
-        if (val == null) {
-            // strange
-            return 0;
-        }
-        int usage = val.decrUseCount();
-        if (usage == 0) {
-            m_fontMap.remove(key);
-            val.getFont().dispose();
-        }
-        return usage;
+        return m_fonts.release(new StoreKey(font));
+    }
+
+    /**
+     * @return the cache holding the fonts, e.g. to query its hit rate and the number of live fonts
+     * @since 5.9
+     */
+    public SWTResourceCache<?, Font> getCache() {
+        return m_fonts;
     }
 
     private final class StoreKey {
@@ -468,52 +468,6 @@ public boolean equals(final Object obj) {
         }
     }
 
-    private final class StoreValue {
-        private final Font m_font;
-
-        private AtomicInteger m_useCount = new AtomicInteger();
-
-        /**
-         * Initializes the usage count with one (meaning the font is tagged
-         * being used once - no need to increment usage after creation).
-         *
-         * @param value
-         */
-        private StoreValue(final String name, final int height, final int style) {
-            String fName = name;
-            if (fName == null || fName.isEmpty()) {
-                fName = m_defFontName;
-            }
-            int fHeight = height;
-            if (fHeight <= 0) {
-                fHeight = getFontSizeFromKNIMEPrefPage();
-            }
-
-            m_font = new Font(null, fName, fHeight, style);
-            m_useCount.set(1);
-        }
-
-        private StoreValue(final Font value) {
-            m_font = value;
-            m_useCount.set(1);
-        }
-
-        private Font getFont() {
-            return m_font;
-        }
-
-        /**
-         * @return the new (incremented) usage count
-         */
-        private int incrUseCount() {
-            return m_useCount.incrementAndGet();
-        }
-
-        private int decrUseCount() {
-            return m_useCount.decrementAndGet();
-        }
-    }
-
     /**
      * Returns the font size value entered by the user in the pref page. Fonts usually size with the system zoom
      * factor (high dpi display). Depending on where you use this, you may need to scale the returned value.</br>
@@ -186,7 +186,7 @@ public void run() {
                     MetaNodeOutPortFigure fig = (MetaNodeOutPortFigure)getFigure();
                     WorkflowOutPortUI model = (WorkflowOutPortUI)getModel();
                     fig.setState(model.getNodeState());
-                    rebuildTooltip();
+                    invalidateTooltip();
                     WorkflowOutPortUI outPort = (WorkflowOutPortUI)getModel();
                     fig.setInactive(outPort.isInactive());
                     fig.repaint();
@@ -0,0 +1,148 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Identity keyed index over the model children of the {@link WorkflowRootEditPart}. The children are ordered in
+ * segments (which determines their z-order): workflow annotations, node annotations, nodes and finally the workflow
+ * port bars. The index knows the segment of each child and the size of each segment, so that a child added to the
+ * workflow can be inserted at the end of its segment without rebuilding the list of model children, and removed
+ * children can be looked up in constant time.
+ *
+ * <p>
+ * Must be used in the UI thread only.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ModelChildrenIndex {
+
+    /** The segments of the model children, in z-order. */
+    enum Segment {
+            /** Workflow annotations, behind everything else. */
+            WORKFLOW_ANNOTATION,
+            /** Node annotations. */
+            NODE_ANNOTATION,
+            /** Nodes. */
+            NODE,
+            /** Workflow in and out port bars. */
+            PORT_BAR;
+    }
+
+    private final Map<Object, Segment> m_segments = new IdentityHashMap<>();
+
+    private final int[] m_segmentSizes = new int[Segment.values().length];
+
+    /**
+     * Replaces the content of the index.
+     *
+     * @param models the model children in their current order
+     * @param segmentFunction determines the segment of a model child
+     */
+    void rebuild(final List<?> models, final Function<Object, Segment> segmentFunction) {
+        m_segments.clear();
+        for (int i = 0; i < m_segmentSizes.length; i++) {
+            m_segmentSizes[i] = 0;
+        }
+        for (Object model : models) {
+            final Segment segment = segmentFunction.apply(model);
+            m_segments.put(model, segment);
+            m_segmentSizes[segment.ordinal()]++;
+        }
+    }
+
+    /**
+     * Adds a model child at the end of its segment.
+     *
+     * @param model the new model child
+     * @param segment its segment
+     * @return the index at which the child needs to be inserted into the list of children, or -1 if the model is
+     *         already contained
+     */
+    int add(final Object model, final Segment segment) {
+        if (m_segments.putIfAbsent(model, segment) != null) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = 0; i <= segment.ordinal(); i++) {
+            index += m_segmentSizes[i];
+        }
+        m_segmentSizes[segment.ordinal()]++;
+        return index;
+    }
+
+    /**
+     * @param model the model child to remove
+     * @return whether the model was contained
+     */
+    boolean remove(final Object model) {
+        final Segment segment = m_segments.remove(model);
+        if (segment == null) {
+            return false;
+        }
+        m_segmentSizes[segment.ordinal()]--;
+        return true;
+    }
+
+    /**
+     * @param model a model object
+     * @return whether it is a model child
+     */
+    boolean contains(final Object model) {
+        return m_segments.containsKey(model);
+    }
+
+    /** @return the number of model children */
+    int size() {
+        return m_segments.size();
+    }
+}
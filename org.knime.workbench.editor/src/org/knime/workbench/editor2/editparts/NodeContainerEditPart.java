@@ -68,7 +68,6 @@
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
@@ -323,6 +322,8 @@ public void activate() {
         IPreferenceStore store = KNIMEUIPlugin.getDefault().getPreferenceStore();
         store.addPropertyChangeListener(this);
 
+        m_figureUpdater = getParent() instanceof WorkflowRootEditPart
+            ? ((WorkflowRootEditPart)getParent()).getNodeFigureUpdater() : new NodeFigureUpdater();
         // listen to node container (= model object)
         cont.addNodeStateChangeListener(this);
         cont.addNodeMessageListener(this);
@@ -453,45 +454,42 @@ protected List<NodePortUI> getModelChildren() {
         return ports;
     }
 
-    private final AtomicBoolean m_updateInProgress = new AtomicBoolean(false);
+    /** Coalesces state and message updates of all nodes in the editor, set on activation. */
+    private NodeFigureUpdater m_figureUpdater;
 
     /** {@inheritDoc} */
     @Override
     public void stateChanged(final NodeStateEvent state) {
-        // if another state is waiting to be processed, simply return
-        // and leave the work to the previously started thread. This
-        // works because we are retrieving the current state information!
-        if (m_updateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
-            }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    // let others know we are in the middle of processing
-                    // this update - they will now need to start their own job.
-                    NodeContainerFigure fig = (NodeContainerFigure)getFigure();
-                    m_updateInProgress.set(false);
-                    if (isActive()) {
-                        NodeContainerUI nc = getNodeContainer();
-                        fig.setStateFromNC(nc);
-                        updateNodeMessage();
-                        // reset the tooltip text of the outports
-                        for (Object part : getChildren()) {
-                            if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
-                                || part instanceof MetaNodeOutPortEditPart) {
-                                AbstractPortEditPart outPortPart = (AbstractPortEditPart)part;
-                                outPortPart.rebuildTooltip();
-                            }
-                        }
-                        // always refresh visuals (does not seem to do anything
-                        // by default though: call repaints on updated figures).
-                        refreshVisuals();
-                    }
+        // the current state is retrieved when the update is applied, hence it's sufficient to mark this as dirty
+        if (m_figureUpdater != null) {
+            m_figureUpdater.stateChanged(this);
+        }
+    }
+
+    /**
+     * Updates the figure from the current state and message of the node. Called in the UI thread by the
+     * {@link NodeFigureUpdater}.
+     *
+     * @param stateChanged if the state (and not only the message) changed
+     */
+    void updateFigureFromNodeContainer(final boolean stateChanged) {
+        if (!isActive()) {
+            return;
+        }
+        if (stateChanged) {
+            ((NodeContainerFigure)getFigure()).setStateFromNC(getNodeContainer());
+            // the tooltip text of the outports is rebuilt when shown
+            for (Object part : getChildren()) {
+                if (part instanceof NodeOutPortEditPart || part instanceof WorkflowInPortEditPart
+                    || part instanceof MetaNodeOutPortEditPart) {
+                    ((AbstractPortEditPart)part).invalidateTooltip();
                 }
-            });
+            }
         }
+        updateNodeMessage();
+        // always refresh visuals (does not seem to do anything
+        // by default though: call repaints on updated figures).
+        refreshVisuals();
     }
 
     /** {@inheritDoc} */
@@ -501,33 +499,12 @@ public void progressChanged(final NodeProgressEvent pe) {
         ((NodeContainerFigure)getFigure()).getProgressFigure().progressChanged(pe.getNodeProgress());
     }
 
-    private final AtomicBoolean m_messageUpdateInProgress = new AtomicBoolean();
-
     /** {@inheritDoc} */
     @Override
     public void messageChanged(final NodeMessageEvent ignored) {
-        if (m_messageUpdateInProgress.compareAndSet(false, true)) {
-            Display display = Display.getDefault();
-            if (display.isDisposed()) {
-                return;
-            }
-            display.asyncExec(new Runnable() {
-                @Override
-                public void run() {
-                    Display.getDefault().asyncExec(new Runnable() {
-                        @Override
-                        public void run() {
-                            m_messageUpdateInProgress.set(false);
-                            if (isActive()) {
-                                // must ignore event content - as this runnable
-                                // may be processing another (following) event
-                                updateNodeMessage();
-                                refreshVisuals();
-                            }
-                        }
-                    });
-                }
-            });
+        // must ignore event content - the current message is retrieved when the update is applied
+        if (m_figureUpdater != null) {
+            m_figureUpdater.messageChanged(this);
         }
     }
 
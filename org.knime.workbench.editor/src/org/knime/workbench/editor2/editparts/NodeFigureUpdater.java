@@ -0,0 +1,122 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Editor-wide dirty set of {@link NodeContainerEditPart}s whose figures need to reflect a new node state or message.
+ * Node state and message events (which can be fired tens of thousands of times when executing a large workflow)
+ * only mark the edit part as dirty; the set is flushed at most once per frame in a single UI runnable, which reads
+ * the current state of each dirty node once. Owned by the {@link WorkflowRootEditPart}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeFigureUpdater {
+
+    /** Minimum time between two flushes. */
+    static final int FRAME_MILLIS = 40;
+
+    /** Dirty edit parts, mapped to whether the state (<code>true</code>) or only the message changed. */
+    private final Map<NodeContainerEditPart, Boolean> m_dirtyParts = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean m_flushScheduled = new AtomicBoolean();
+
+    /**
+     * Marks the part's node state (and message) as changed. Can be called from any thread.
+     *
+     * @param part the edit part
+     */
+    void stateChanged(final NodeContainerEditPart part) {
+        m_dirtyParts.put(part, Boolean.TRUE);
+        scheduleFlush();
+    }
+
+    /**
+     * Marks the part's node message as changed. Can be called from any thread.
+     *
+     * @param part the edit part
+     */
+    void messageChanged(final NodeContainerEditPart part) {
+        m_dirtyParts.putIfAbsent(part, Boolean.FALSE);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (m_flushScheduled.compareAndSet(false, true)) {
+            final Display display = Display.getDefault();
+            if (display.isDisposed()) {
+                m_flushScheduled.set(false);
+                return;
+            }
+            display.asyncExec(() -> {
+                if (display.isDisposed()) {
+                    m_flushScheduled.set(false);
+                } else {
+                    display.timerExec(FRAME_MILLIS, this::flush);
+                }
+            });
+        }
+    }
+
+    /** Runs in the UI thread. */
+    private void flush() {
+        // reset first so that events arriving during the flush schedule the next one
+        m_flushScheduled.set(false);
+        for (NodeContainerEditPart part : m_dirtyParts.keySet()) {
+            final Boolean stateChanged = m_dirtyParts.remove(part);
+            if (stateChanged != null) {
+                part.updateFigureFromNodeContainer(stateChanged);
+            }
+        }
+    }
+}
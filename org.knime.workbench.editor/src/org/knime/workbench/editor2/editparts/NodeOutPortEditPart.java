@@ -175,7 +175,7 @@ public void run() {
                     m_updateInProgressFlag.set(false);
                     NodeOutPortUI outPort = (NodeOutPortUI)getModel();
                     NodeOutPortFigure fig = (NodeOutPortFigure)getFigure();
-                    rebuildTooltip();
+                    invalidateTooltip();
                     fig.setInactive(outPort.isInactive());
                     fig.repaint();
                 }
@@ -50,9 +50,15 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EventObject;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -62,6 +68,7 @@
 import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.EditPolicy;
+import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.gef.LayerConstants;
 import org.eclipse.gef.SnapToGrid;
 import org.eclipse.gef.SnapToGuides;
@@ -85,6 +92,8 @@
 import org.knime.core.node.workflow.WorkflowEvent;
 import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.ui.UI;
+import org.knime.core.ui.node.workflow.ConnectionContainerUI;
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
@@ -152,6 +161,18 @@ public class WorkflowRootEditPart extends AbstractWorkflowEditPart implements
     private final Set<WorkflowAnnotation> m_annotationSelection =
             new LinkedHashSet<WorkflowAnnotation>();
 
+    /* bounds of all children and connections, for hit-testing, marquee selection and snapping */
+    private final WorkflowSpatialIndex m_spatialIndex = new WorkflowSpatialIndex();
+
+    /* coalesces node state and message updates of all nodes in this workflow */
+    private final NodeFigureUpdater m_nodeFigureUpdater = new NodeFigureUpdater();
+
+    /* node edit parts by node id, to refresh the ports of nodes whose connections changed */
+    private final Map<NodeID, NodeContainerEditPart> m_nodeParts = new HashMap<>();
+
+    /* segments of the current model children, to apply node additions and removals without a full refresh */
+    private final ModelChildrenIndex m_childIndex = new ModelChildrenIndex();
+
     /**
      * @return The <code>WorkflowManager</code> that is used as model for this
      *         edit part
@@ -269,9 +290,94 @@ protected List getModelChildren() {
     }
 
     private static Set<NodeID> getHiddenNodes(final Collection<NodeContainerUI> ncs) {
-        return ncs.stream()
-            .filter(nc -> Wrapper.wraps(nc, WorkflowManager.class) && Wrapper.unwrapWFM(nc).isHiddenInUI())
-            .map(NodeContainerUI::getID).collect(Collectors.toSet());
+        return ncs.stream().filter(WorkflowRootEditPart::isHiddenInUI).map(NodeContainerUI::getID)
+            .collect(Collectors.toSet());
+    }
+
+    private static boolean isHiddenInUI(final NodeContainerUI nc) {
+        return Wrapper.wraps(nc, WorkflowManager.class) && Wrapper.unwrapWFM(nc).isHiddenInUI();
+    }
+
+    private static ModelChildrenIndex.Segment getSegment(final Object model) {
+        if (model instanceof NodeAnnotation) {
+            return ModelChildrenIndex.Segment.NODE_ANNOTATION;
+        } else if (model instanceof Annotation) {
+            return ModelChildrenIndex.Segment.WORKFLOW_ANNOTATION;
+        } else if (model instanceof NodeContainerUI) {
+            return ModelChildrenIndex.Segment.NODE;
+        } else {
+            return ModelChildrenIndex.Segment.PORT_BAR;
+        }
+    }
+
+    /**
+     * Rebuilds the index of the model children after the full reconciliation.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    protected void refreshChildren() {
+        super.refreshChildren();
+        final List<Object> models = new ArrayList<>(getChildren().size());
+        for (Object child : getChildren()) {
+            models.add(((EditPart)child).getModel());
+        }
+        m_childIndex.rebuild(models, WorkflowRootEditPart::getSegment);
+    }
+
+    /**
+     * Applies the queued node additions and removals to the children, costs proportional to the number of changes
+     * rather than the number of nodes.
+     *
+     * @return <code>false</code> if a change couldn't be applied and a full refresh is needed
+     */
+    private boolean applyChildDeltas() {
+        for (WorkflowEvent event = m_childDeltas.poll(); event != null; event = m_childDeltas.poll()) {
+            final boolean isAdded = event.getType() == WorkflowEvent.Type.NODE_ADDED;
+            final UI uiVal = Wrapper.wrap(isAdded ? event.getNewValue() : event.getOldValue());
+            if (!(uiVal instanceof NodeContainerUI)) {
+                return false;
+            }
+            // wrappers are cached, hence this is the same object as returned by the workflow manager
+            final NodeContainerUI nc = (NodeContainerUI)uiVal;
+            if (isAdded) {
+                // if the node was removed again in the meantime, the queued removal will remove the new part
+                if (isHiddenInUI(nc) || m_childIndex.contains(nc)) {
+                    continue;
+                }
+                final NodeAnnotation nodeAnno = nc.getNodeAnnotation();
+                if (nodeAnno != null) {
+                    addModelChild(nodeAnno, ModelChildrenIndex.Segment.NODE_ANNOTATION);
+                }
+                addModelChild(nc, ModelChildrenIndex.Segment.NODE);
+            } else {
+                final NodeContainerEditPart nodePart = m_nodeParts.get(nc.getID());
+                if (nodePart == null) {
+                    continue;
+                }
+                final NodeAnnotation nodeAnno = nodePart.getNodeContainer().getNodeAnnotation();
+                removeModelChild(nodePart);
+                if (nodeAnno != null) {
+                    final Object annoPart = getViewer().getEditPartRegistry().get(nodeAnno);
+                    if (annoPart instanceof EditPart && ((EditPart)annoPart).getParent() == this) {
+                        removeModelChild((EditPart)annoPart);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private void addModelChild(final Object model, final ModelChildrenIndex.Segment segment) {
+        final int index = m_childIndex.add(model, segment);
+        if (index >= 0) {
+            addChild(createChild(model), index);
+        }
+    }
+
+    private void removeModelChild(final EditPart part) {
+        m_childIndex.remove(part.getModel());
+        removeChild(part);
     }
 
     /**
@@ -411,40 +517,91 @@ protected void createEditPolicies() {
 
     private final AtomicBoolean m_workflowChangedOngoingBoolean = new AtomicBoolean();
 
+    /* set if any event other than a connection change was received since the last refresh */
+    private final AtomicBoolean m_childrenChanged = new AtomicBoolean();
+
+    /* source and destination nodes of the connections added or removed since the last refresh */
+    private final Set<NodeID> m_connectionChangedNodes = ConcurrentHashMap.newKeySet();
+
+    /* node additions and removals since the last refresh, applied as deltas to the children */
+    private final Queue<WorkflowEvent> m_childDeltas = new ConcurrentLinkedQueue<>();
+
     /**
      * Controller is getting notified about model changes. This invokes
-     * <code>refreshChildren</code> keep in sync with the model.
+     * <code>refreshChildren</code> keep in sync with the model. Events are
+     * coalesced until the next UI turn. Connection changes don't refresh the
+     * children but only the ports of the nodes involved in the changed
+     * connections, so that adding or removing many connections costs
+     * proportional to the number of changed connections. Likewise added and
+     * removed nodes are applied as deltas to the children; only other
+     * structural changes trigger a full reconciliation.
      *
      * {@inheritDoc}
      */
     @Override
     public void workflowChanged(final WorkflowEvent event) {
+        switch (event.getType()) {
+            case CONNECTION_ADDED:
+                addConnectionChangedNodes(event.getNewValue());
+                break;
+            case CONNECTION_REMOVED:
+                addConnectionChangedNodes(event.getOldValue());
+                break;
+            case NODE_ADDED:
+            case NODE_REMOVED:
+                if (isWorkflowOnServer()) {
+                    // remote workflows don't guarantee stable model objects, always do the full refresh
+                    m_childrenChanged.set(true);
+                } else {
+                    m_childDeltas.add(event);
+                }
+                break;
+            case WORKFLOW_DIRTY:
+            case NODE_SETTINGS_CHANGED:
+                // doesn't change the children
+                break;
+            default:
+                m_childrenChanged.set(true);
+        }
 
         if (m_workflowChangedOngoingBoolean.compareAndSet(false, true)) {
             Display.getDefault().asyncExec(new Runnable() {
                 @Override
                 public void run() {
                     m_workflowChangedOngoingBoolean.set(false);
+                    if (!isActive()) {
+                        return;
+                    }
 
-                    // refreshing the children
-                    refreshChildren();
-
-                    // refresing connections
-                    refreshSourceConnections();
-                    refreshTargetConnections();
-
-                    // update out port (workflow in port) tooltips
-
-                    for (Object part : getChildren()) {
-
-                        if (part instanceof NodeOutPortEditPart
-                                || part instanceof WorkflowInPortEditPart) {
-                            AbstractPortEditPart outPortPart =
-                                    (AbstractPortEditPart)part;
-                            outPortPart.rebuildTooltip();
+                    if (!m_childrenChanged.get() && !m_childDeltas.isEmpty() && !applyChildDeltas()) {
+                        m_childrenChanged.set(true);
+                    }
+                    if (m_childrenChanged.getAndSet(false)) {
+                        // the full reconciliation covers all queued changes (applying them again is a no-op)
+                        m_childDeltas.clear();
+                        // refreshing the children
+                        refreshChildren();
+
+                        // refresing connections
+                        refreshSourceConnections();
+                        refreshTargetConnections();
+
+                        // update out port (workflow in port) tooltips
+
+                        for (Object part : getChildren()) {
+
+                            if (part instanceof NodeOutPortEditPart
+                                    || part instanceof WorkflowInPortEditPart) {
+                                AbstractPortEditPart outPortPart =
+                                        (AbstractPortEditPart)part;
+                                outPortPart.rebuildTooltip();
+                            }
                         }
                     }
 
+                    // after the children so that ports of new nodes exist
+                    refreshChangedConnections();
+
                     // always refresh visuals
                     getFigure().revalidate();
                     refreshVisuals();
@@ -453,6 +610,49 @@ public void run() {
         }
     }
 
+    private void addConnectionChangedNodes(final Object connection) {
+        final UI uiVal = Wrapper.wrap(connection);
+        if (uiVal instanceof ConnectionContainerUI) {
+            final ConnectionContainerUI cc = (ConnectionContainerUI)uiVal;
+            m_connectionChangedNodes.add(cc.getSource());
+            m_connectionChangedNodes.add(cc.getDest());
+        } else {
+            m_childrenChanged.set(true);
+        }
+    }
+
+    private void refreshChangedConnections() {
+        if (m_connectionChangedNodes.isEmpty()) {
+            return;
+        }
+        final NodeID workflowID = getWorkflowManager().getID();
+        for (Iterator<NodeID> it = m_connectionChangedNodes.iterator(); it.hasNext();) {
+            final NodeID id = it.next();
+            it.remove();
+            if (id.equals(workflowID)) {
+                // connection from/to a workflow port (in metanode editors)
+                for (Object part : getChildren()) {
+                    if (part instanceof AbstractWorkflowPortBarEditPart) {
+                        refreshPortConnections((EditPart)part);
+                    }
+                }
+            } else {
+                final NodeContainerEditPart nodePart = m_nodeParts.get(id);
+                if (nodePart != null) {
+                    refreshPortConnections(nodePart);
+                }
+            }
+        }
+    }
+
+    private static void refreshPortConnections(final EditPart host) {
+        for (Object child : host.getChildren()) {
+            if (child instanceof AbstractPortEditPart) {
+                ((AbstractPortEditPart)child).refreshConnections();
+            }
+        }
+    }
+
     private final AtomicBoolean m_nodeUIChangedOngoingBoolean = new AtomicBoolean();
 
     /**
@@ -570,6 +770,45 @@ protected EditPart createChild(final Object model) {
         return part;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void addChildVisual(final EditPart childEditPart, final int index) {
+        super.addChildVisual(childEditPart, index);
+        m_spatialIndex.add((GraphicalEditPart)childEditPart);
+        if (childEditPart instanceof NodeContainerEditPart) {
+            final NodeContainerEditPart nodePart = (NodeContainerEditPart)childEditPart;
+            m_nodeParts.put(nodePart.getNodeContainer().getID(), nodePart);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void removeChildVisual(final EditPart childEditPart) {
+        m_spatialIndex.remove((GraphicalEditPart)childEditPart);
+        if (childEditPart instanceof NodeContainerEditPart) {
+            m_nodeParts.remove(((NodeContainerEditPart)childEditPart).getNodeContainer().getID(), childEditPart);
+        }
+        super.removeChildVisual(childEditPart);
+    }
+
+    /**
+     * @return the dirty set flushing the state and message updates of the nodes in this workflow
+     */
+    NodeFigureUpdater getNodeFigureUpdater() {
+        return m_nodeFigureUpdater;
+    }
+
+    /**
+     * @return the index over the bounds of all node, annotation, port bar and connection figures of this workflow
+     */
+    public WorkflowSpatialIndex getSpatialIndex() {
+        return m_spatialIndex;
+    }
+
     private void revealPart(final EditPart part) {
         Display.getCurrent().asyncExec(new Runnable() {
             @Override
@@ -0,0 +1,267 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.editparts;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.gef.GraphicalEditPart;
+
+/**
+ * Uniform grid over the bounds of the node, annotation, port bar and connection figures of a workflow, owned by the
+ * {@link WorkflowRootEditPart}. Marquee selection, snapping and free-spot searches query it instead of iterating
+ * all edit parts of the workflow.
+ *
+ * <p>
+ * Bounds are kept in the coordinates of the workflow figure (i.e. unscrolled and unzoomed) and are updated
+ * incrementally whenever a registered figure is moved or resized, which is what happens when the node's (or
+ * connection's) UI information changes. The index is only accessed in the UI thread and hence not synchronized.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class WorkflowSpatialIndex {
+
+    /** Edge length of a grid cell, roughly two nodes wide. */
+    static final int CELL_SIZE = 128;
+
+    private final Map<Long, Set<GraphicalEditPart>> m_cells = new HashMap<>();
+
+    private final Map<GraphicalEditPart, Entry> m_entries = new HashMap<>();
+
+    private int m_minCellX = Integer.MAX_VALUE;
+
+    private int m_maxCellX = Integer.MIN_VALUE;
+
+    private int m_minCellY = Integer.MAX_VALUE;
+
+    private int m_maxCellY = Integer.MIN_VALUE;
+
+    private static final class Entry {
+        private final FigureListener m_listener;
+
+        private Rectangle m_bounds;
+
+        private Entry(final FigureListener listener) {
+            m_listener = listener;
+        }
+    }
+
+    /**
+     * Adds the edit part and keeps its bounds up to date until it is {@link #remove(GraphicalEditPart) removed}.
+     *
+     * @param part the part to index, ignored if already indexed
+     */
+    public void add(final GraphicalEditPart part) {
+        if (m_entries.containsKey(part)) {
+            return;
+        }
+        final IFigure figure = part.getFigure();
+        final Entry entry = new Entry(source -> update(part));
+        m_entries.put(part, entry);
+        figure.addFigureListener(entry.m_listener);
+        insert(part, entry, figure.getBounds().getCopy());
+    }
+
+    /**
+     * @param part the part to remove from the index, ignored if not indexed
+     */
+    public void remove(final GraphicalEditPart part) {
+        final Entry entry = m_entries.remove(part);
+        if (entry != null) {
+            part.getFigure().removeFigureListener(entry.m_listener);
+            forEachCell(entry.m_bounds, key -> removeFromCell(key, part));
+            if (m_entries.isEmpty()) {
+                resetExtent();
+            }
+        }
+    }
+
+    private void resetExtent() {
+        m_minCellX = Integer.MAX_VALUE;
+        m_maxCellX = Integer.MIN_VALUE;
+        m_minCellY = Integer.MAX_VALUE;
+        m_maxCellY = Integer.MIN_VALUE;
+    }
+
+    private void update(final GraphicalEditPart part) {
+        final Entry entry = m_entries.get(part);
+        if (entry == null) {
+            return;
+        }
+        final Rectangle newBounds = part.getFigure().getBounds();
+        if (newBounds.equals(entry.m_bounds)) {
+            return;
+        }
+        forEachCell(entry.m_bounds, key -> removeFromCell(key, part));
+        insert(part, entry, newBounds.getCopy());
+    }
+
+    private void insert(final GraphicalEditPart part, final Entry entry, final Rectangle bounds) {
+        entry.m_bounds = bounds;
+        // the occupied extent only grows (until the index is emptied), which is good enough to bound queries
+        m_minCellX = Math.min(m_minCellX, cell(bounds.x));
+        m_maxCellX = Math.max(m_maxCellX, cell(bounds.right()));
+        m_minCellY = Math.min(m_minCellY, cell(bounds.y));
+        m_maxCellY = Math.max(m_maxCellY, cell(bounds.bottom()));
+        forEachCell(bounds, key -> m_cells.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(part));
+    }
+
+    private void removeFromCell(final long key, final GraphicalEditPart part) {
+        final Set<GraphicalEditPart> cell = m_cells.get(key);
+        if (cell != null && cell.remove(part) && cell.isEmpty()) {
+            m_cells.remove(key);
+        }
+    }
+
+    /**
+     * Returns all indexed parts whose figure bounds intersect the given area. The area may be (much) larger than the
+     * workflow, e.g. a strip spanning the whole width, as only the occupied part of the grid is visited.
+     *
+     * @param area the area in workflow figure coordinates
+     * @return the intersecting parts, in no particular order
+     */
+    public Set<GraphicalEditPart> query(final Rectangle area) {
+        final Set<GraphicalEditPart> result = new LinkedHashSet<>();
+        if (m_entries.isEmpty() || area.width < 0 || area.height < 0) {
+            return result;
+        }
+        final int minX = Math.max(cell(area.x), m_minCellX);
+        final int maxX = Math.min(cell(area.right()), m_maxCellX);
+        final int minY = Math.max(cell(area.y), m_minCellY);
+        final int maxY = Math.min(cell(area.bottom()), m_maxCellY);
+        if (minX > maxX || minY > maxY) {
+            return result;
+        }
+        if ((long)(maxX - minX + 1) * (maxY - minY + 1) > m_cells.size()) {
+            // sparsely populated grid, a scan is cheaper
+            for (Map.Entry<GraphicalEditPart, Entry> e : m_entries.entrySet()) {
+                if (intersects(e.getValue().m_bounds, area)) {
+                    result.add(e.getKey());
+                }
+            }
+            return result;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                final Set<GraphicalEditPart> cell = m_cells.get(key(x, y));
+                if (cell != null) {
+                    for (GraphicalEditPart part : cell) {
+                        if (intersects(m_entries.get(part).m_bounds, area)) {
+                            result.add(part);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all indexed parts of the given type whose figure bounds contain the given point.
+     *
+     * @param <T> the type of the parts
+     * @param location the location in workflow figure coordinates
+     * @param type the class of the parts to return
+     * @return the parts at the location, in no particular order
+     */
+    public <T extends GraphicalEditPart> List<T> findAt(final Point location, final Class<T> type) {
+        final List<T> result = new ArrayList<>();
+        final Set<GraphicalEditPart> cell = m_cells.get(key(cell(location.x), cell(location.y)));
+        if (cell != null) {
+            for (GraphicalEditPart part : cell) {
+                if (type.isInstance(part) && m_entries.get(part).m_bounds.contains(location)) {
+                    result.add(type.cast(part));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of indexed parts
+     */
+    public int size() {
+        return m_entries.size();
+    }
+
+    /** Like {@link Rectangle#intersects(Rectangle)}, but treats (empty) bounds of zero width or height as lines. */
+    private static boolean intersects(final Rectangle bounds, final Rectangle area) {
+        return bounds.x <= area.right() && area.x <= bounds.right() && bounds.y <= area.bottom()
+            && area.y <= bounds.bottom();
+    }
+
+    private interface CellConsumer {
+        void accept(long key);
+    }
+
+    private static void forEachCell(final Rectangle bounds, final CellConsumer consumer) {
+        final int maxX = cell(bounds.right());
+        final int maxY = cell(bounds.bottom());
+        for (int x = cell(bounds.x); x <= maxX; x++) {
+            for (int y = cell(bounds.y); y <= maxY; y++) {
+                consumer.accept(key(x, y));
+            }
+        }
+    }
+
+    private static int cell(final int coordinate) {
+        return Math.floorDiv(coordinate, CELL_SIZE);
+    }
+
+    private static long key(final int cellX, final int cellY) {
+        return ((long)cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+}
@@ -49,9 +49,11 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.draw2d.Connection;
 import org.eclipse.draw2d.IFigure;
@@ -74,6 +76,8 @@
 import org.knime.workbench.editor2.editparts.NodeContainerEditPart;
 import org.knime.workbench.editor2.editparts.NodeInPortEditPart;
 import org.knime.workbench.editor2.editparts.WorkflowInPortEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowRootEditPart;
+import org.knime.workbench.editor2.editparts.WorkflowSpatialIndex;
 
 /**
  * A temporary helper used to perform snapping to existing elements. This helper
@@ -209,8 +213,25 @@ public String toString() {
      */
     private static final double THRESHOLD = 5.0001;
 
+    /**
+     * The distance by which the area looked up in the spatial index exceeds the dragged rectangle, so that the snap
+     * locations are only looked up again once the rectangle has been dragged this far.
+     */
+    private static final int INDEX_MARGIN = 200;
+
     private boolean m_cachedCloneBool;
 
+    /**
+     * Whether the snap locations are looked up in the container's spatial index, determined when the rows and
+     * columns are populated.
+     */
+    private boolean m_indexed;
+
+    /**
+     * The area the cached rows and columns have been looked up for if they come from the spatial index.
+     */
+    private Rectangle m_indexedArea;
+
     /**
      * The horizontal rows being snapped to.
      */
@@ -276,6 +297,39 @@ protected List generateSnapPartsList(final List exclusions) {
         return children;
     }
 
+    /**
+     * Generates the list of parts which should be snapped to when snapping the given rectangle. If the container is a
+     * {@link WorkflowRootEditPart} its {@link WorkflowSpatialIndex} is queried for the parts in the horizontal and
+     * vertical strips around the rectangle (widened by {@link #INDEX_MARGIN}), i.e. the only parts whose ports or
+     * centers are within snapping distance while the rectangle stays near its current position. Otherwise this is the
+     * same as {@link #generateSnapPartsList(List)}.
+     *
+     * @param exclusions the children to exclude
+     * @param baseRect the rectangle to snap, in the container's coordinates
+     * @return a list of parts which should be snapped to
+     */
+    protected List generateSnapPartsList(final List exclusions, final Rectangle baseRect) {
+        if (!(m_container instanceof WorkflowRootEditPart)) {
+            return generateSnapPartsList(exclusions);
+        }
+        WorkflowSpatialIndex index = ((WorkflowRootEditPart)m_container).getSpatialIndex();
+        m_indexedArea = baseRect.getCopy().expand(INDEX_MARGIN, INDEX_MARGIN);
+        Rectangle area = m_indexedArea.getCopy().expand((int)Math.ceil(THRESHOLD), (int)Math.ceil(THRESHOLD));
+        Set<GraphicalEditPart> parts =
+            index.query(new Rectangle(Integer.MIN_VALUE / 2, area.y, Integer.MAX_VALUE, area.height));
+        parts.addAll(index.query(new Rectangle(area.x, Integer.MIN_VALUE / 2, area.width, Integer.MAX_VALUE)));
+
+        Set<?> excluded = new HashSet<Object>(exclusions);
+        List<Object> children = new ArrayList<Object>();
+        for (GraphicalEditPart part : parts) {
+            // the index also contains connections, only snap to the container's children
+            if (part.getParent() == m_container && !excluded.contains(part) && part.getFigure().isVisible()) {
+                children.add(part);
+            }
+        }
+        return children;
+    }
+
     /**
      * Returns the correction value for the given entries and sides. During a
      * move, the left, right, or center is free to snap to a location.
@@ -465,6 +519,7 @@ private List<AbstractPortEditPart> getPorts(final List parts) {
      * @param parts a List of EditParts
      */
     protected void populateRowsAndCols(final List parts, final List dragedParts) {
+        m_indexed = m_container instanceof WorkflowRootEditPart;
 
         // add the port edit parts to a list
         List<AbstractPortEditPart> portList = getPorts(parts);
@@ -546,13 +601,15 @@ public int snapRectangle(final Request request, int snapOrientation,
         // Recalculate snapping locations if needed
         boolean isClone = request.getType().equals(RequestConstants.REQ_CLONE);
         List exclusionSet = null;
-        if (m_rows == null || m_cols == null || isClone != m_cachedCloneBool) {
+        // snap locations looked up in the spatial index are only valid near the position they were looked up for
+        if (m_rows == null || m_cols == null || isClone != m_cachedCloneBool
+            || (m_indexed && !m_indexedArea.contains(baseRect))) {
             m_cachedCloneBool = isClone;
             exclusionSet = Collections.EMPTY_LIST;
             if (!isClone) {
                 exclusionSet = changeBoundsRequest.getEditParts();
             }
-            populateRowsAndCols(generateSnapPartsList(exclusionSet),
+            populateRowsAndCols(generateSnapPartsList(exclusionSet, baseRect),
                     exclusionSet);
         }
 
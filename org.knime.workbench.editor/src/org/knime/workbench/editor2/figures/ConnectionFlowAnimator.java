@@ -0,0 +1,172 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.swt.widgets.Display;
+
+/**
+ * Single animation clock for all {@link ProgressPolylineConnection}s. Progress events only mark a connection as
+ * changed; once per frame one UI runnable applies the pending progress of all changed connections and advances the
+ * flow animation of all in-progress connections that are visible in their viewport, so that the resulting repaints
+ * are coalesced by the update manager. The clock stops once no connection is in progress anymore.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ConnectionFlowAnimator {
+
+    /** Duration of an animation frame; makes the marching ants go slow ... not updating with each event. */
+    static final long FRAME_MILLIS = 250;
+
+    private static final ConnectionFlowAnimator INSTANCE = new ConnectionFlowAnimator();
+
+    private final ScheduledExecutorService m_clock = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+        private final AtomicInteger m_threadCreateCounter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread t = new Thread(r, "Delayed Progress Updater-" + m_threadCreateCounter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
+    /** Connections that received a progress event since the last frame, filled from any thread. */
+    private final Set<ProgressPolylineConnection> m_changed = ConcurrentHashMap.newKeySet();
+
+    /** Connections currently in progress, only accessed in the UI thread. */
+    private final Set<ProgressPolylineConnection> m_animated = new HashSet<>();
+
+    private final AtomicBoolean m_frameScheduled = new AtomicBoolean();
+
+    private ConnectionFlowAnimator() {
+    }
+
+    /**
+     * @return the shared instance
+     */
+    static ConnectionFlowAnimator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Marks the connection as changed, it will be updated with the next frame. Can be called from any thread.
+     *
+     * @param connection the connection that received a new progress
+     */
+    void progressChanged(final ProgressPolylineConnection connection) {
+        m_changed.add(connection);
+        scheduleFrame();
+    }
+
+    /**
+     * Stops animating the connection, e.g. because it was removed from the figure tree. Must be called in the UI
+     * thread.
+     *
+     * @param connection the connection
+     */
+    void remove(final ProgressPolylineConnection connection) {
+        m_changed.remove(connection);
+        m_animated.remove(connection);
+    }
+
+    private void scheduleFrame() {
+        if (m_frameScheduled.compareAndSet(false, true)) {
+            m_clock.schedule(() -> {
+                final Display display = Display.getDefault();
+                if (display.isDisposed()) {
+                    m_frameScheduled.set(false);
+                } else {
+                    display.asyncExec(this::frame);
+                }
+            }, FRAME_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Runs in the UI thread. */
+    private void frame() {
+        // reset first so that events arriving while this frame is processed schedule the next one
+        m_frameScheduled.set(false);
+        if (Display.getDefault().isDisposed()) {
+            return;
+        }
+        for (Iterator<ProgressPolylineConnection> it = m_changed.iterator(); it.hasNext();) {
+            final ProgressPolylineConnection connection = it.next();
+            it.remove();
+            if (!connection.isShowing()) {
+                // removed or hidden in the meantime, a removed connection queues its pending progress again when added
+                m_animated.remove(connection);
+            } else if (connection.applyPendingProgress()) {
+                m_animated.add(connection);
+            } else {
+                m_animated.remove(connection);
+            }
+        }
+        for (Iterator<ProgressPolylineConnection> it = m_animated.iterator(); it.hasNext();) {
+            final ProgressPolylineConnection connection = it.next();
+            if (!connection.isShowing()) {
+                it.remove();
+            } else if (connection.isVisibleInViewport()) {
+                connection.step();
+            }
+        }
+        if (!m_animated.isEmpty()) {
+            scheduleFrame();
+        }
+    }
+}
@@ -51,10 +51,10 @@
 import java.awt.geom.CubicCurve2D;
 import java.awt.geom.FlatteningPathIterator;
 import java.awt.geom.PathIterator;
+import java.util.Arrays;
 
 import org.eclipse.draw2d.Graphics;
 import org.eclipse.draw2d.geometry.Geometry;
-import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.PointList;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.swt.SWT;
@@ -64,6 +64,12 @@
 /**
  * A {@link ProgressPolylineConnection} that optionally can be rendered as a curved line, i.e. compose of possibly
  * multiple bezier curves.
+ * <p>
+ * The curve geometry is cached for the current point list and only recalculated if the points change. The
+ * recalculation is done lazily when the bounds, the outline or a hit-test need it, i.e. once when the connection is
+ * routed and repainted in an update of the canvas, even if its source and target both moved (e.g. when dragging a
+ * selection).
+ * </p>
  *
  * @author Martin Horn
  */
@@ -82,6 +88,9 @@ public class CurvedPolylineConnection extends ProgressPolylineConnection {
      */
     private static final double RELATIVE_CONTROL_POINT_PLACEMENT = 0.3;
 
+    /** Number of lines of the curve approximation covered by one bounding box used to reject hit-tests early. */
+    private static final int LINES_PER_BOX = 8;
+
     private static final Rectangle LINEBOUNDS = Rectangle.SINGLETON;
 
 
@@ -92,7 +101,18 @@ public class CurvedPolylineConnection extends ProgressPolylineConnection {
     private PointList m_approxCurve = null;
 
     /**
-     * The curve to be drawn (in case of a curved connection).
+     * Bounding boxes (min x, min y, max x, max y) of consecutive runs of {@link #LINES_PER_BOX} lines of
+     * {@link #m_approxCurve}.
+     */
+    private int[] m_approxBoxes = new int[0];
+
+    /** The points (x and y alternating) the curve has been calculated for, <code>null</code> if not calculated. */
+    private int[] m_curvePoints = null;
+
+    private long m_curveCalculations;
+
+    /**
+     * The curve to be drawn (in case of a curved connection), created lazily when painted.
      */
     private Path m_path = null;
 
@@ -112,11 +132,14 @@ public CurvedPolylineConnection(final boolean curved) {
     public void setCurved(final boolean curved) {
         if (curved) {
             if (m_approxCurve == null) {
+                m_approxCurve = new PointList();
+                m_curvePoints = null;
                 calculateCurve();
             }
         } else {
             m_approxCurve = null;
-            m_path = null;
+            m_curvePoints = null;
+            disposePath();
         }
     }
 
@@ -124,6 +147,7 @@ public void setCurved(final boolean curved) {
     @Override
     protected void outlineShape(final Graphics g) {
         if (m_approxCurve != null) {
+            updateCurve();
             if (m_state < 0) {
                 setLineStyle(SWT.LINE_SOLID);
             } else {
@@ -131,7 +155,7 @@ protected void outlineShape(final Graphics g) {
             }
             // set node connection color
             g.setForegroundColor(getForegroundColor());
-            g.drawPath(m_path);
+            g.drawPath(getPath());
 
             //for debugging to check whether the lines correctly approximate the curve
             //g.drawPolyline(m_approxCurve);
@@ -157,6 +181,7 @@ protected void outlineShape(final Graphics g) {
     @Override
     public boolean containsPoint(final int x, final int y) {
         if (m_approxCurve != null) {
+            updateCurve();
             int tolerance = (int)Math.max(getLineWidthFloat() / 2.0f, TOLERANCE);
             LINEBOUNDS.setBounds(getBounds());
             LINEBOUNDS.expand(0, tolerance);
@@ -172,7 +197,7 @@ public boolean containsPoint(final int x, final int y) {
             if (!LINEBOUNDS.contains(x, y)) {
                 return false;
             }
-            return Geometry.polylineContainsPoint(m_approxCurve, x, y, TOLERANCE) || childrenContainsPoint(x, y);
+            return approxCurveContainsPoint(x, y) || childrenContainsPoint(x, y);
         } else {
             int tolerance = (int)Math.max(getLineWidthFloat() / 2.0f, TOLERANCE);
             LINEBOUNDS.setBounds(getBounds());
@@ -186,13 +211,37 @@ public boolean containsPoint(final int x, final int y) {
         }
     }
 
+    /* same as Geometry.polylineContainsPoint on the approximation, but skips lines whose bounding box is too far */
+    private boolean approxCurveContainsPoint(final int x, final int y) {
+        final int lineCount = m_approxCurve.size() - 1;
+        final int[] approx = m_approxCurve.toIntArray();
+        for (int box = 0; box * LINES_PER_BOX < lineCount; box++) {
+            final int b = box * 4;
+            if (x < m_approxBoxes[b] - TOLERANCE || y < m_approxBoxes[b + 1] - TOLERANCE
+                || x > m_approxBoxes[b + 2] + TOLERANCE || y > m_approxBoxes[b + 3] + TOLERANCE) {
+                continue;
+            }
+            final int last = Math.min(lineCount, (box + 1) * LINES_PER_BOX);
+            for (int i = box * LINES_PER_BOX; i < last; i++) {
+                if (Geometry.segmentContainsPoint(approx[2 * i], approx[2 * i + 1], approx[2 * i + 2],
+                    approx[2 * i + 3], x, y, TOLERANCE)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Rectangle getBounds() {
         if (m_approxCurve != null) {
+            // the bounds are reset whenever the points change; while they are set (e.g. when the old area is erased
+            // before new points are set) they need to stay those of the curve that is currently painted
             if (bounds == null) {
+                updateCurve();
                 final int expand = (int)(getLineWidthFloat() / 2.0f) + 10;
                 bounds = m_approxCurve.getBounds().getExpanded(expand, expand);
             }
@@ -206,56 +255,116 @@ public Rectangle getBounds() {
      * {@inheritDoc}
      */
     @Override
-    protected void fireFigureMoved() {
-        super.fireFigureMoved();
+    public void removeNotify() {
+        disposePath();
+        super.removeNotify();
+    }
 
-        if (m_approxCurve != null) {
+    /** Recalculates the curve if the points have changed since the last calculation. */
+    void updateCurve() {
+        if (m_approxCurve != null && !isCurveCalculatedFor(getPoints())) {
             calculateCurve();
-            erase();
-            repaint();
         }
     }
 
-    private void calculateCurve() {
-        //redraw the path and re-determine the curve approximation
-        if (m_approxCurve != null) {
-            m_approxCurve.removeAllPoints();
-        } else {
-            m_approxCurve = new PointList();
+    /** @return how often the curve has been calculated, e.g. to check that moves are batched */
+    long getCurveCalculationCount() {
+        return m_curveCalculations;
+    }
+
+    private boolean isCurveCalculatedFor(final PointList points) {
+        return m_curvePoints != null
+            && Arrays.equals(m_curvePoints, 0, m_curvePoints.length, points.toIntArray(), 0, points.size() * 2);
+    }
+
+    private Path getPath() {
+        if (m_path == null) {
+            m_path = new Path(Display.getDefault());
+            m_path.moveTo(m_curvePoints[0], m_curvePoints[1]);
+            for (int i = 2; i < m_curvePoints.length; i += 2) {
+                final int x = m_curvePoints[i];
+                final int y = m_curvePoints[i + 1];
+                final int cpOffset = controlPointOffset(m_curvePoints[i - 2], m_curvePoints[i - 1], x, y);
+                m_path.cubicTo(m_curvePoints[i - 2] + cpOffset, m_curvePoints[i - 1], x - cpOffset, y, x, y);
+            }
+        }
+        return m_path;
+    }
+
+    private void disposePath() {
+        if (m_path != null) {
+            m_path.dispose();
+            m_path = null;
         }
+    }
+
+    private static int controlPointOffset(final int x1, final int y1, final int x2, final int y2) {
+        final double dist = Math.sqrt((x2 - x1) * (x2 - x1) + (y2 - y1) * (y2 - y1));
+        return (int)(RELATIVE_CONTROL_POINT_PLACEMENT * dist);
+    }
+
+    private void calculateCurve() {
+        //re-determine the curve approximation, the path is redrawn lazily
+        m_curveCalculations++;
+        m_approxCurve.removeAllPoints();
+        disposePath();
 
         final PointList points = getPoints();
-        m_path = new Path(Display.getDefault());
-        m_path.moveTo(points.getFirstPoint().x, points.getFirstPoint().y);
-        m_approxCurve.addPoint(points.getFirstPoint().x, points.getFirstPoint().y);
-        Point lastPoint = points.getFirstPoint();
-        for (int i = 1; i < points.size(); i++) {
-            int x = points.getPoint(i).x;
-            int y = points.getPoint(i).y;
-            double dist = Math.sqrt((x - lastPoint.x) * (x - lastPoint.x) + (y - lastPoint.y) * (y - lastPoint.y));
+        m_curvePoints = Arrays.copyOf(points.toIntArray(), points.size() * 2);
+        if (m_curvePoints.length == 0) {
+            m_approxBoxes = new int[0];
+            bounds = null;
+            return;
+        }
+        m_approxCurve.addPoint(m_curvePoints[0], m_curvePoints[1]);
+        final float[] coords = new float[6];
+        for (int i = 2; i < m_curvePoints.length; i += 2) {
+            final int lastX = m_curvePoints[i - 2];
+            final int lastY = m_curvePoints[i - 1];
+            final int x = m_curvePoints[i];
+            final int y = m_curvePoints[i + 1];
 
             //control pts
-            int cp1x = lastPoint.x + (int)(RELATIVE_CONTROL_POINT_PLACEMENT * dist);
-            int cp1y = lastPoint.y;
-            int cp2x = x - (int)(RELATIVE_CONTROL_POINT_PLACEMENT * dist);
-            int cp2y = y;
-            m_path.cubicTo(cp1x, cp1y, cp2x, cp2y, x, y);
-
-            final CubicCurve2D cc = new CubicCurve2D.Float(lastPoint.x, lastPoint.y, cp1x, cp1y, cp2x, cp2y, x, y);
+            final int cpOffset = controlPointOffset(lastX, lastY, x, y);
+            final CubicCurve2D cc =
+                new CubicCurve2D.Float(lastX, lastY, lastX + cpOffset, lastY, x - cpOffset, y, x, y);
             final FlatteningPathIterator fpi = new FlatteningPathIterator(cc.getPathIterator(null), 3, 5);
-            final float[] coords = new float[6];
             while (!fpi.isDone()) {
-                int type = fpi.currentSegment(coords);
-                switch (type) {
-                    case PathIterator.SEG_LINETO:
-                        m_approxCurve.addPoint((int)coords[0], (int)coords[1]);
-                        break;
+                if (fpi.currentSegment(coords) == PathIterator.SEG_LINETO) {
+                    m_approxCurve.addPoint((int)coords[0], (int)coords[1]);
                 }
                 fpi.next();
             }
-            lastPoint = new Point(x, y);
         }
+        calculateBoxes();
 
         bounds = null;
     }
+
+    private void calculateBoxes() {
+        final int lineCount = m_approxCurve.size() - 1;
+        final int boxCount = (lineCount + LINES_PER_BOX - 1) / LINES_PER_BOX;
+        if (m_approxBoxes.length != boxCount * 4) {
+            m_approxBoxes = new int[boxCount * 4];
+        }
+        final int[] approx = m_approxCurve.toIntArray();
+        for (int box = 0; box < boxCount; box++) {
+            final int first = box * LINES_PER_BOX;
+            final int last = Math.min(lineCount, first + LINES_PER_BOX);
+            int minX = Integer.MAX_VALUE;
+            int minY = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxY = Integer.MIN_VALUE;
+            for (int p = first; p <= last; p++) {
+                minX = Math.min(minX, approx[2 * p]);
+                minY = Math.min(minY, approx[2 * p + 1]);
+                maxX = Math.max(maxX, approx[2 * p]);
+                maxY = Math.max(maxY, approx[2 * p + 1]);
+            }
+            m_approxBoxes[box * 4] = minX;
+            m_approxBoxes[box * 4 + 1] = minY;
+            m_approxBoxes[box * 4 + 2] = maxX;
+            m_approxBoxes[box * 4 + 3] = maxY;
+        }
+    }
 }
@@ -52,6 +52,7 @@
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.MarginBorder;
 import org.eclipse.draw2d.ToolbarLayout;
+import org.eclipse.draw2d.geometry.Dimension;
 import org.eclipse.jface.resource.JFaceResources;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
@@ -66,6 +67,9 @@ public class NewToolTipFigure extends Figure {
 
     private Label m_tooltip;
 
+    /** Sets the actual text before the tooltip is shown, <code>null</code> if the text is up to date. */
+    private Runnable m_textUpdater;
+
     /**
      * Creates a new ToolTip.
      *
@@ -89,8 +93,33 @@ public NewToolTipFigure(final String text) {
      * @param text The text to show
      */
     public void setText(final String text) {
+        m_textUpdater = null;
         m_tooltip.setText(text);
         m_tooltip.setSize(m_tooltip.getPreferredSize().expand(10, 10));
         this.setSize(m_tooltip.getSize().expand(5, 7));
     }
+
+    /**
+     * Marks the text as outdated. The given updater, which is expected to call {@link #setText(String)}, is run
+     * when the tooltip is about to be shown (i.e. its size is requested), so that texts which change often but are
+     * rarely looked at are not computed in vain.
+     *
+     * @param textUpdater sets the actual text
+     */
+    public void setTextUpdater(final Runnable textUpdater) {
+        m_textUpdater = textUpdater;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Dimension getPreferredSize(final int wHint, final int hHint) {
+        final Runnable textUpdater = m_textUpdater;
+        if (textUpdater != null) {
+            m_textUpdater = null;
+            textUpdater.run();
+        }
+        return super.getPreferredSize(wHint, hHint);
+    }
 }
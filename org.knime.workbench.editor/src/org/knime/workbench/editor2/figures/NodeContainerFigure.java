@@ -99,6 +99,7 @@
 import org.knime.core.ui.wrapper.Wrapper;
 import org.knime.workbench.KNIMEEditorPlugin;
 import org.knime.workbench.core.util.ImageRepository;
+import org.knime.workbench.core.util.SWTResourceCache;
 import org.knime.workbench.editor2.EditorModeParticipant;
 import org.knime.workbench.editor2.WorkflowEditor;
 import org.knime.workbench.editor2.WorkflowEditorMode;
@@ -198,6 +199,16 @@ public class NodeContainerFigure extends RectangleFigure implements EditorModePa
     /** State: Node not configured. */
     public static final int STATE_NOT_CONFIGURED = 0;
 
+    /** Number of ghostly images kept for reuse although no figure shows them anymore. */
+    private static final int MAX_UNUSED_GHOSTLY_IMAGES = 64;
+
+    /**
+     * Ghostly forms of the node icons and backgrounds, shared by all figures and keyed by the identity of the original
+     * image (the hash code of an image changes once it is disposed).
+     */
+    private static final SWTResourceCache<ImageIdentity, Image> GHOSTLY_IMAGES =
+        new SWTResourceCache<>(MAX_UNUSED_GHOSTLY_IMAGES);
+
     /** dummy font for status figure. Needs a "small" font... */
     private static final Font NODE_FONT = FontStore.INSTANCE.getDefaultFont(3);
 
@@ -555,6 +566,51 @@ private static String wrapText(final String text) {
         return text;
     }
 
+    /**
+     * Returns the shared ghostly form of the given image, which must be released with
+     * {@link #releaseGhostlyImage(Image)} once it is not shown anymore.
+     *
+     * @param image the original image
+     * @return the ghostly form or <code>null</code> if the image is <code>null</code>
+     */
+    static Image acquireGhostlyImage(final Image image) {
+        return (image == null) ? null
+            : GHOSTLY_IMAGES.acquire(new ImageIdentity(image), key -> makeImageGhostly(key.m_image));
+    }
+
+    /**
+     * @param image the original image whose ghostly form is not shown anymore by the caller
+     */
+    static void releaseGhostlyImage(final Image image) {
+        if (image != null) {
+            GHOSTLY_IMAGES.release(new ImageIdentity(image));
+        }
+    }
+
+    /** @return the cache of the ghostly images, e.g. to query the number of live images */
+    static SWTResourceCache<?, Image> getGhostlyImageCache() {
+        return GHOSTLY_IMAGES;
+    }
+
+    /** Key of the ghostly images, comparing the original images by identity. */
+    private static final class ImageIdentity {
+        private final Image m_image;
+
+        private ImageIdentity(final Image image) {
+            m_image = image;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(m_image);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof ImageIdentity && ((ImageIdentity)obj).m_image == m_image;
+        }
+    }
+
     // TODO general image utilities class (along with AnnotationEditPart and other locations)
     private static Image makeImageGhostly(final Image image) {
         Image iWithoutDataProvider = null;
@@ -920,13 +976,15 @@ private abstract class GhostlySupportingFigure extends Figure {
         protected Label m_figureLabel;
         protected Image m_originalIcon;
         protected Image m_ghostlyIcon;
+        /** Whether the ghostly icon has been acquired from the shared cache and needs to be released. */
+        private boolean m_ghostlyIconShared;
 
         void disposeGhostlyImage() {
-            if (m_ghostlyIcon != null) {
-                m_ghostlyIcon.dispose();
-
-                m_ghostlyIcon = null;
+            if (m_ghostlyIconShared) {
+                releaseGhostlyImage(m_originalIcon);
+                m_ghostlyIconShared = false;
             }
+            m_ghostlyIcon = null;
         }
 
         /**
@@ -935,10 +993,11 @@ void disposeGhostlyImage() {
          * @param icon The icon to set
          */
         void setIcon(final Image icon) {
-            m_originalIcon = icon;
-
             disposeGhostlyImage();
-            m_ghostlyIcon = makeImageGhostly(icon);
+
+            m_originalIcon = icon;
+            m_ghostlyIcon = acquireGhostlyImage(icon);
+            m_ghostlyIconShared = (m_ghostlyIcon != null);
 
             updateFigure();
         }
@@ -950,6 +1009,8 @@ void setIcon(final Image icon) {
          * @param ghostly The ghostly version of the icon
          */
         void setIcon(final Image icon, final Image ghostly) {
+            disposeGhostlyImage();
+
             m_originalIcon = icon;
             m_ghostlyIcon = ghostly;
 
@@ -1199,11 +1260,11 @@ void setType(final NodeType type, final boolean isComponent) {
             m_isComponent = isComponent;
 
             if (m_ghostlyBackgroundIcon != null) {
-                m_ghostlyBackgroundIcon.dispose();
+                releaseGhostlyImage(m_originalBackgroundIcon);
             }
 
             m_originalBackgroundIcon = getBackgroundImage();
-            m_ghostlyBackgroundIcon = makeImageGhostly(m_originalBackgroundIcon);
+            m_ghostlyBackgroundIcon = acquireGhostlyImage(m_originalBackgroundIcon);
 
             updateFigure();
         }
@@ -1212,7 +1273,7 @@ void setType(final NodeType type, final boolean isComponent) {
         void disposeGhostlyImage() {
             super.disposeGhostlyImage();
             if (m_ghostlyBackgroundIcon != null) {
-                m_ghostlyBackgroundIcon.dispose();
+                releaseGhostlyImage(m_originalBackgroundIcon);
 
                 m_ghostlyBackgroundIcon = null;
             }
@@ -46,18 +46,16 @@
 package org.knime.workbench.editor2.figures;
 
 import java.util.Objects;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.draw2d.ConnectionLocator;
 import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.Label;
 import org.eclipse.draw2d.PolylineConnection;
 import org.eclipse.draw2d.PositionConstants;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.RGB;
@@ -118,16 +116,6 @@ public static void setFlowVariableHighlightColor(final RGB rgb) {
     }
 
 
-    /** Service to make the marching ants go slow ... not updating with each event. */
-    private static ScheduledExecutorService UI_PROGESS_UPDATE_SERVICE = Executors.newSingleThreadScheduledExecutor(
-        new ThreadFactory() {
-            private final AtomicInteger m_threadCreateCounter = new AtomicInteger();
-            @Override
-            public Thread newThread(final Runnable r) {
-                return new Thread(r, "Delayed Progress Updater-" + m_threadCreateCounter.getAndIncrement());
-            }
-        });
-
     /** line dash style that we cycle through to create a flow animation--need 3
      * patterns to create a smooth animation. */
     protected static final int[][] DASHES = {
@@ -156,6 +144,9 @@ public Thread newThread(final Runnable r) {
     /** Next to process update event or null ... used to avoid intermediate updates. */
     private final AtomicReference<ConnectionProgress> m_atomicConnectionProgressReference = new AtomicReference<>();
 
+    /** Whether this connection is part of a figure tree, progress events are only queued for the animation if so. */
+    private volatile boolean m_isAttached;
+
     /**
      * Creates a new connection.
      */
@@ -216,40 +207,83 @@ public void setHighlighted(final boolean flag, final boolean representsFlowVaria
 
     /**
      * Update the progress. Calling this method serves two purposes. First, it
-     * updates the label. Second it updates the animation.
+     * updates the label. Second it updates the animation. The update is applied with the next frame of the shared
+     * {@link ConnectionFlowAnimator}, which also keeps advancing the animation while the connection is in progress.
      *
      * @param e the connection progress
      */
     public void progressChanged(final ConnectionProgress e) {
-        if (m_atomicConnectionProgressReference.getAndSet(e) == null) {
-            UI_PROGESS_UPDATE_SERVICE.schedule(new Runnable() {
-                @Override
-                public void run() {
-                    Display.getDefault().asyncExec(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (!Display.getDefault().isDisposed()) {
-                                progressChangedInternal(m_atomicConnectionProgressReference.getAndSet(null));
-                            }
-                        }
-                    });
-                }
-            }, 250, TimeUnit.MILLISECONDS);
+        m_atomicConnectionProgressReference.set(e);
+        if (m_isAttached) {
+            ConnectionFlowAnimator.getInstance().progressChanged(this);
         }
     }
 
-    private void progressChangedInternal(final ConnectionProgress e) {
-        if (e.inProgress()) {
-            // currently in-progress--advance to the next position in the animation
-            step();
-        } else {
+    /**
+     * Applies the last progress passed to {@link #progressChanged(ConnectionProgress)}. Called in the UI thread by
+     * the {@link ConnectionFlowAnimator}.
+     *
+     * @return whether the connection is (still) in progress and hence needs to be animated
+     */
+    boolean applyPendingProgress() {
+        final ConnectionProgress e = m_atomicConnectionProgressReference.getAndSet(null);
+        if (e == null) {
+            return m_state >= 0;
+        }
+        if (!e.inProgress()) {
             // not in-progress--set to solid
             setSolid();
         }
         setLabel(e.hasMessage() ? e.getMessage() : "");
+        return e.inProgress();
+    }
+
+    /**
+     * @return whether this connection is showing and intersects the visible area of the enclosing viewport (if any)
+     */
+    boolean isVisibleInViewport() {
+        if (!isShowing()) {
+            return false;
+        }
+        IFigure parent = getParent();
+        while (parent != null && !(parent instanceof Viewport)) {
+            parent = parent.getParent();
+        }
+        if (parent == null) {
+            return true;
+        }
+        // the client area is in the coordinates of the viewport's contents, i.e. includes the scroll offset
+        final Rectangle visible = parent.getClientArea().getCopy();
+        parent.translateToParent(visible);
+        parent.translateToAbsolute(visible);
+        final Rectangle bounds = getBounds().getCopy();
+        translateToAbsolute(bounds);
+        return visible.intersects(bounds);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        m_isAttached = true;
+        if (m_atomicConnectionProgressReference.get() != null) {
+            // progress received while not being part of a figure tree
+            ConnectionFlowAnimator.getInstance().progressChanged(this);
+        }
     }
 
-    private void step() {
+    /** {@inheritDoc} */
+    @Override
+    public void removeNotify() {
+        m_isAttached = false;
+        ConnectionFlowAnimator.getInstance().remove(this);
+        super.removeNotify();
+    }
+
+    /**
+     * Advances to the next position in the animation.
+     */
+    void step() {
         setLineStyle(SWT.LINE_CUSTOM);
         m_state++;
         if (m_state >= DASHES.length) {
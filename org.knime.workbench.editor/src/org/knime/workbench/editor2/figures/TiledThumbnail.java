@@ -0,0 +1,466 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.figures;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.draw2d.ColorConstants;
+import org.eclipse.draw2d.Figure;
+import org.eclipse.draw2d.FigureListener;
+import org.eclipse.draw2d.Graphics;
+import org.eclipse.draw2d.IFigure;
+import org.eclipse.draw2d.MouseEvent;
+import org.eclipse.draw2d.MouseListener;
+import org.eclipse.draw2d.MouseMotionListener;
+import org.eclipse.draw2d.SWTGraphics;
+import org.eclipse.draw2d.ScaledGraphics;
+import org.eclipse.draw2d.UpdateListener;
+import org.eclipse.draw2d.UpdateManager;
+import org.eclipse.draw2d.Viewport;
+import org.eclipse.draw2d.geometry.Dimension;
+import org.eclipse.draw2d.geometry.Point;
+import org.eclipse.draw2d.geometry.Rectangle;
+import org.eclipse.swt.graphics.GC;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A thumbnail of a source figure with a selector showing (and allowing to change) the visible area of a viewport.
+ * Unlike the Draw2D {@link org.eclipse.draw2d.parts.ScrollableThumbnail}, which renders the complete scaled source
+ * whenever anything in the source is repainted, the thumbnail is cached in tiles and only the tiles intersecting the
+ * damaged regions of the source are rendered again. Rendering is deferred and limited to one batch per frame, with at
+ * most half of the frame spent on rendering, so that continuous changes (dragging, progress updates) don't keep the UI
+ * thread busy.
+ *
+ * <p>
+ * Tiles are rendered in the UI thread as painting Draw2D figures requires the SWT graphics context of the display and
+ * the (unsynchronized) figure tree.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public class TiledThumbnail extends Figure implements UpdateListener {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TiledThumbnail.class);
+
+    /** Edge length of a tile in thumbnail pixels. */
+    private static final int TILE_SIZE = 128;
+
+    private final Viewport m_viewport;
+
+    private final IFigure m_source;
+
+    private final Selector m_selector = new Selector();
+
+    /* rendered tiles, keyed by column and row */
+    private final Map<Long, Image> m_tiles = new HashMap<>();
+
+    /* tiles to (re-)render, in order of damage */
+    private final Set<Long> m_dirtyTiles = new LinkedHashSet<>();
+
+    private final FigureListener m_sourceListener = source -> invalidateAllTiles();
+
+    private final PropertyChangeListener m_viewportListener = this::viewportChanged;
+
+    private final FigureListener m_viewportFigureListener = viewport -> updateSelector();
+
+    private final int m_frameMillis;
+
+    private boolean m_renderScheduled;
+
+    private double m_scale;
+
+    private Rectangle m_sourceBounds;
+
+    private long m_renderNanos;
+
+    private long m_renderedTiles;
+
+    private boolean m_isActive = true;
+
+    /**
+     * @param viewport the viewport whose visible area is shown by the selector
+     * @param source the figure to show the thumbnail of, typically the printable layers of the viewport's contents
+     * @param frameMillis the minimum time between two render batches in milliseconds
+     */
+    public TiledThumbnail(final Viewport viewport, final IFigure source, final int frameMillis) {
+        m_viewport = viewport;
+        m_source = source;
+        m_frameMillis = frameMillis;
+        setOpaque(true);
+        setBackgroundColor(ColorConstants.white);
+        m_selector.setVisible(false);
+        add(m_selector);
+        addMouseListener(new MouseListener.Stub() {
+            @Override
+            public void mousePressed(final MouseEvent me) {
+                // center the visible area on the clicked location
+                final Dimension selectorSize = m_selector.getSize();
+                scrollTo(me.getLocation().getTranslated(-selectorSize.width / 2, -selectorSize.height / 2));
+            }
+        });
+
+        m_source.addFigureListener(m_sourceListener);
+        m_viewport.addFigureListener(m_viewportFigureListener);
+        m_viewport.getHorizontalRangeModel().addPropertyChangeListener(m_viewportListener);
+        m_viewport.getVerticalRangeModel().addPropertyChangeListener(m_viewportListener);
+        final UpdateManager updateManager = m_source.getUpdateManager();
+        if (updateManager != null) {
+            updateManager.addUpdateListener(this);
+        }
+    }
+
+    /** @return the total time spent rendering tiles in nanoseconds */
+    public long getRenderNanos() {
+        return m_renderNanos;
+    }
+
+    /** @return the total number of rendered tiles */
+    public long getRenderedTileCount() {
+        return m_renderedTiles;
+    }
+
+    /** Unregisters all listeners and releases the tile images. */
+    public void deactivate() {
+        m_isActive = false;
+        m_source.removeFigureListener(m_sourceListener);
+        m_viewport.removeFigureListener(m_viewportFigureListener);
+        m_viewport.getHorizontalRangeModel().removePropertyChangeListener(m_viewportListener);
+        m_viewport.getVerticalRangeModel().removePropertyChangeListener(m_viewportListener);
+        final UpdateManager updateManager = m_source.getUpdateManager();
+        if (updateManager != null) {
+            updateManager.removeUpdateListener(this);
+        }
+        disposeTiles();
+        m_dirtyTiles.clear();
+        LOGGER.debugWithFormat("Overview rendered %d tiles in %d ms", m_renderedTiles, m_renderNanos / 1_000_000);
+    }
+
+    private void disposeTiles() {
+        m_tiles.values().forEach(Image::dispose);
+        m_tiles.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyPainting(final Rectangle damage, @SuppressWarnings("rawtypes") final Map dirtyRegions) {
+        if (!m_isActive || m_sourceBounds == null) {
+            return;
+        }
+        for (Object o : dirtyRegions.entrySet()) {
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>)o;
+            final IFigure figure = (IFigure)entry.getKey();
+            if (isInSource(figure)) {
+                final Rectangle region = ((Rectangle)entry.getValue()).getCopy();
+                figure.translateToAbsolute(region);
+                m_source.translateToRelative(region);
+                invalidateTiles(region);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void notifyValidating() {
+        // nothing to do
+    }
+
+    private boolean isInSource(final IFigure figure) {
+        for (IFigure f = figure; f != null; f = f.getParent()) {
+            if (f == m_source) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /* marks the tiles intersecting the given region of the source (in source coordinates) as dirty */
+    private void invalidateTiles(final Rectangle sourceRegion) {
+        final int fromCol = Math.max(0, (int)((sourceRegion.x - m_sourceBounds.x) * m_scale) / TILE_SIZE);
+        final int fromRow = Math.max(0, (int)((sourceRegion.y - m_sourceBounds.y) * m_scale) / TILE_SIZE);
+        final int toCol = Math.min(getColumnCount() - 1,
+            (int)Math.ceil((sourceRegion.right() - m_sourceBounds.x) * m_scale) / TILE_SIZE);
+        final int toRow = Math.min(getRowCount() - 1,
+            (int)Math.ceil((sourceRegion.bottom() - m_sourceBounds.y) * m_scale) / TILE_SIZE);
+        for (int row = fromRow; row <= toRow; row++) {
+            for (int col = fromCol; col <= toCol; col++) {
+                m_dirtyTiles.add(key(col, row));
+            }
+        }
+        scheduleRender();
+    }
+
+    private void invalidateAllTiles() {
+        m_sourceBounds = null;
+        repaint();
+    }
+
+    private int getColumnCount() {
+        return (int)Math.ceil(m_sourceBounds.width * m_scale / TILE_SIZE);
+    }
+
+    private int getRowCount() {
+        return (int)Math.ceil(m_sourceBounds.height * m_scale / TILE_SIZE);
+    }
+
+    private static long key(final int col, final int row) {
+        return ((long)row << 32) | col;
+    }
+
+    /* (re-)computes the scale if the source or the thumbnail was resized, invalidating all tiles */
+    private void validateScale() {
+        final Rectangle sourceBounds = m_source.getBounds();
+        final Dimension size = getClientArea().getSize();
+        if (sourceBounds.isEmpty() || size.isEmpty()) {
+            return;
+        }
+        final double scale = Math.min(1.0,
+            Math.min(size.width / (double)sourceBounds.width, size.height / (double)sourceBounds.height));
+        if (m_sourceBounds == null || !m_sourceBounds.equals(sourceBounds) || scale != m_scale) {
+            m_sourceBounds = sourceBounds.getCopy();
+            m_scale = scale;
+            disposeTiles();
+            m_dirtyTiles.clear();
+            invalidateTiles(m_sourceBounds);
+            updateSelector();
+        }
+    }
+
+    private void scheduleRender() {
+        if (!m_renderScheduled && m_isActive && !m_dirtyTiles.isEmpty()) {
+            m_renderScheduled = true;
+            Display.getCurrent().timerExec(m_frameMillis, this::renderFrame);
+        }
+    }
+
+    /* renders dirty tiles until half of the frame budget is used up */
+    private void renderFrame() {
+        m_renderScheduled = false;
+        if (!m_isActive || m_sourceBounds == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final long budget = m_frameMillis * 1_000_000L / 2;
+        for (Iterator<Long> it = m_dirtyTiles.iterator(); it.hasNext() && (System.nanoTime() - start) < budget;) {
+            final long key = it.next();
+            it.remove();
+            renderTile((int)key, (int)(key >>> 32));
+        }
+        m_renderNanos += System.nanoTime() - start;
+        repaint();
+        scheduleRender();
+    }
+
+    private void renderTile(final int col, final int row) {
+        Image tile = m_tiles.get(key(col, row));
+        if (tile == null) {
+            tile = new Image(Display.getCurrent(), TILE_SIZE, TILE_SIZE);
+            m_tiles.put(key(col, row), tile);
+        }
+        final GC gc = new GC(tile);
+        final SWTGraphics swtGraphics = new SWTGraphics(gc);
+        final ScaledGraphics graphics = new ScaledGraphics(swtGraphics);
+        try {
+            graphics.setBackgroundColor(getBackgroundColor());
+            graphics.fillRectangle(0, 0, TILE_SIZE, TILE_SIZE);
+            graphics.scale(m_scale);
+            final double tileSourceSize = TILE_SIZE / m_scale;
+            final double x = m_sourceBounds.x + col * tileSourceSize;
+            final double y = m_sourceBounds.y + row * tileSourceSize;
+            graphics.translate((float)-x, (float)-y);
+            graphics.clipRect(new Rectangle((int)x, (int)y, (int)Math.ceil(tileSourceSize) + 1,
+                (int)Math.ceil(tileSourceSize) + 1));
+            m_source.paint(graphics);
+        } finally {
+            graphics.dispose();
+            swtGraphics.dispose();
+            gc.dispose();
+        }
+        m_renderedTiles++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void paintFigure(final Graphics graphics) {
+        super.paintFigure(graphics);
+        validateScale();
+        if (m_sourceBounds == null) {
+            return;
+        }
+        final Rectangle clientArea = getClientArea();
+        for (Map.Entry<Long, Image> tile : m_tiles.entrySet()) {
+            final long key = tile.getKey();
+            graphics.drawImage(tile.getValue(), clientArea.x + (int)key * TILE_SIZE,
+                clientArea.y + (int)(key >>> 32) * TILE_SIZE);
+        }
+    }
+
+    /* scale from the viewport's (zoomed) contents to the thumbnail */
+    private double getViewportScale() {
+        final Rectangle contents = m_viewport.getContents().getBounds();
+        return m_sourceBounds == null || contents.width == 0 ? 0 : (m_sourceBounds.width * m_scale) / contents.width;
+    }
+
+    private void viewportChanged(final PropertyChangeEvent evt) {
+        updateSelector();
+    }
+
+    private void updateSelector() {
+        final double viewportScale = getViewportScale();
+        if (viewportScale == 0) {
+            m_selector.setVisible(false);
+            return;
+        }
+        final Rectangle contents = m_viewport.getContents().getBounds();
+        final Point viewLocation = m_viewport.getViewLocation();
+        final Dimension viewSize = m_viewport.getClientArea().getSize();
+        final Rectangle clientArea = getClientArea();
+        m_selector.setBounds(new Rectangle(
+            clientArea.x + (int)((viewLocation.x - contents.x) * viewportScale),
+            clientArea.y + (int)((viewLocation.y - contents.y) * viewportScale),
+            (int)(viewSize.width * viewportScale), (int)(viewSize.height * viewportScale)));
+        m_selector.setVisible(true);
+    }
+
+    /* moves the viewport such that the given thumbnail location is the top left corner of the visible area */
+    private void scrollTo(final Point thumbnailLocation) {
+        final double viewportScale = getViewportScale();
+        if (viewportScale == 0) {
+            return;
+        }
+        final Rectangle contents = m_viewport.getContents().getBounds();
+        final Rectangle clientArea = getClientArea();
+        m_viewport.setViewLocation((int)((thumbnailLocation.x - clientArea.x) / viewportScale) + contents.x,
+            (int)((thumbnailLocation.y - clientArea.y) / viewportScale) + contents.y);
+    }
+
+    /** The rectangle showing the visible area of the viewport, can be dragged to scroll. */
+    private final class Selector extends Figure implements MouseListener, MouseMotionListener {
+
+        private Point m_dragStart;
+
+        private Point m_selectorStart;
+
+        Selector() {
+            setOpaque(false);
+            addMouseListener(this);
+            addMouseMotionListener(this);
+        }
+
+        @Override
+        protected void paintFigure(final Graphics graphics) {
+            final Rectangle r = getBounds().getCopy().resize(-1, -1);
+            graphics.setAlpha(40);
+            graphics.setBackgroundColor(ColorConstants.menuBackgroundSelected);
+            graphics.fillRectangle(r);
+            graphics.setAlpha(255);
+            graphics.setForegroundColor(ColorConstants.menuBackgroundSelected);
+            graphics.drawRectangle(r);
+        }
+
+        @Override
+        public void mousePressed(final MouseEvent me) {
+            m_dragStart = me.getLocation();
+            m_selectorStart = getBounds().getLocation();
+            me.consume();
+        }
+
+        @Override
+        public void mouseDragged(final MouseEvent me) {
+            if (m_dragStart != null) {
+                final Dimension delta = me.getLocation().getDifference(m_dragStart);
+                scrollTo(m_selectorStart.getTranslated(delta));
+                me.consume();
+            }
+        }
+
+        @Override
+        public void mouseReleased(final MouseEvent me) {
+            m_dragStart = null;
+            me.consume();
+        }
+
+        @Override
+        public void mouseDoubleClicked(final MouseEvent me) {
+            // nothing to do
+        }
+
+        @Override
+        public void mouseEntered(final MouseEvent me) {
+            // nothing to do
+        }
+
+        @Override
+        public void mouseExited(final MouseEvent me) {
+            // nothing to do
+        }
+
+        @Override
+        public void mouseHover(final MouseEvent me) {
+            // nothing to do
+        }
+
+        @Override
+        public void mouseMoved(final MouseEvent me) {
+            // nothing to do
+        }
+    }
+}
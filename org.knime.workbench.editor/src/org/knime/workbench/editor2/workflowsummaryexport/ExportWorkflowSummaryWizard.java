@@ -49,9 +49,7 @@
 package org.knime.workbench.editor2.workflowsummaryexport;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 
 import org.eclipse.jface.dialogs.MessageDialog;
@@ -62,9 +60,6 @@
 import org.eclipse.ui.IWorkbench;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.WorkflowManager;
-import org.knime.core.util.workflowsummary.WorkflowSummary;
-import org.knime.core.util.workflowsummary.WorkflowSummaryCreator;
-import org.knime.core.util.workflowsummary.WorkflowSummaryUtil;
 
 /**
  * Wizard to export the workflow summary file (xml and json) for the currently opened and selected workflow.
@@ -140,9 +135,8 @@ public boolean performFinish() {
         final SummaryFormat format = m_page.format();
         final boolean includeExecInfo = m_page.includeExecInfo();
         IRunnableWithProgress op = monitor -> {
-            monitor.setTaskName("Generate workflow summary");
-            try (OutputStream out = new FileOutputStream(new File(fileDestination))) {
-                createAndWriteWorkflowSummary(m_wfm, format, includeExecInfo, out);
+            try {
+                WorkflowSummaryExporter.export(m_wfm, format, includeExecInfo, outFile.toPath(), monitor);
             } catch (IOException e) {
                 throw new InvocationTargetException(e);
             } finally {
@@ -150,7 +144,7 @@ public boolean performFinish() {
             }
         };
         try {
-            getContainer().run(true, false, op);
+            getContainer().run(true, true, op);
         } catch (InterruptedException e) {
             NodeLogger.getLogger(getClass()).info("Workflow summary export canceled by user.");
             m_page.setErrorMessage("Workflow summary export was canceled.");
@@ -166,16 +160,6 @@ public boolean performFinish() {
         return true;
     }
 
-    private static void createAndWriteWorkflowSummary(final WorkflowManager wfm, final SummaryFormat format,
-        final boolean includeExecInfo, final OutputStream out) throws IOException {
-        WorkflowSummary ws = WorkflowSummaryCreator.create(wfm, includeExecInfo);
-        if (format == SummaryFormat.XML) {
-            WorkflowSummaryUtil.writeXML(out, ws, includeExecInfo);
-        } else {
-            WorkflowSummaryUtil.writeJSON(out, ws, includeExecInfo);
-        }
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,276 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.editor2.workflowsummaryexport;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.SubMonitor;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.workflowsummary.WorkflowSummary;
+import org.knime.core.util.workflowsummary.WorkflowSummaryCreator;
+import org.knime.core.util.workflowsummary.WorkflowSummaryUtil;
+import org.knime.workbench.editor2.workflowsummaryexport.ExportWorkflowSummaryWizard.SummaryFormat;
+
+/**
+ * Exports the summary of a workflow to a file so that the export can be canceled at any time.
+ * <p>
+ * The summary is created in a background thread while the monitor is polled for cancellation; as the creation itself
+ * can't be canceled (it doesn't react to interrupts either), a canceled export returns right away and leaves the daemon
+ * thread to complete in the background, discarding its result. The summary is written through
+ * a buffered stream that checks for cancellation on each write, to a temporary file next to the destination which
+ * replaces the destination only once the summary is complete; a canceled or failed export neither leaves a partial file
+ * nor touches an existing one. The temporary file gets the permissions of the file it replaces, or the default
+ * permissions of new files.
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class WorkflowSummaryExporter {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowSummaryExporter.class);
+
+    /* how often to check for cancellation while the summary is created */
+    private static final long POLL_MILLIS = 100;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private WorkflowSummaryExporter() {
+    }
+
+    /**
+     * Writes the summary of a workflow to a file.
+     *
+     * @param wfm the workflow
+     * @param format the format of the summary
+     * @param includeExecInfo whether to include the execution information
+     * @param destination the file to write to, replaced if it exists
+     * @param monitor the progress monitor, checked for cancellation
+     * @throws IOException if the summary can't be written
+     * @throws InterruptedException if the export has been canceled
+     */
+    static void export(final WorkflowManager wfm, final SummaryFormat format, final boolean includeExecInfo,
+        final Path destination, final IProgressMonitor monitor) throws IOException, InterruptedException {
+        final var nodeCount = countNodes(wfm);
+        final var progress = SubMonitor.convert(monitor, "Generate workflow summary", 2 * nodeCount);
+        progress.subTask("Collecting " + nodeCount + " node(s)");
+        final var summary = createSummary(wfm, includeExecInfo, progress.newChild(nodeCount));
+        progress.subTask("Writing " + destination.getFileName());
+        write(summary, format, includeExecInfo, destination, progress.newChild(nodeCount));
+    }
+
+    /**
+     * Writes a summary to a file.
+     *
+     * @param summary the summary
+     * @param format the format to write
+     * @param includeExecInfo whether to include the execution information
+     * @param destination the file to write to, replaced if it exists
+     * @param monitor the progress monitor, checked for cancellation
+     * @throws IOException if the summary can't be written
+     * @throws InterruptedException if the export has been canceled
+     */
+    static void write(final WorkflowSummary summary, final SummaryFormat format, final boolean includeExecInfo,
+        final Path destination, final IProgressMonitor monitor) throws IOException, InterruptedException {
+        final var writeProgress = SubMonitor.convert(monitor, 100);
+        final var tmpFile = createTempFile(destination);
+        try {
+            try (var out = new CancelableOutputStream(Files.newOutputStream(tmpFile), writeProgress)) {
+                if (format == SummaryFormat.XML) {
+                    WorkflowSummaryUtil.writeXML(out, summary, includeExecInfo);
+                } else {
+                    WorkflowSummaryUtil.writeJSON(out, summary, includeExecInfo);
+                }
+            }
+            Files.move(tmpFile, destination, StandardCopyOption.REPLACE_EXISTING);
+        } catch (InterruptedIOException e) { // NOSONAR canceled, rethrown as such
+            throw new InterruptedException(e.getMessage());
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+        writeProgress.done();
+    }
+
+    /* creates an empty file next to the destination, with the permissions the destination would have if written */
+    private static Path createTempFile(final Path destination) throws IOException {
+        final var dir = destination.toAbsolutePath().getParent();
+        Path tmpFile;
+        while (true) {
+            tmpFile = dir.resolve("." + destination.getFileName() + "."
+                + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                // unlike Files.createTempFile, which only grants the owner access, with the default permissions
+                Files.createFile(tmpFile);
+                break;
+            } catch (FileAlreadyExistsException e) { // NOSONAR try another name
+            }
+        }
+        try {
+            if (Files.exists(destination)
+                && Files.getFileStore(tmpFile).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                Files.setPosixFilePermissions(tmpFile, Files.getPosixFilePermissions(destination));
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(tmpFile);
+            throw e;
+        }
+        return tmpFile;
+    }
+
+    private static WorkflowSummary createSummary(final WorkflowManager wfm, final boolean includeExecInfo,
+        final SubMonitor monitor) throws IOException, InterruptedException {
+        final var future = new CompletableFuture<WorkflowSummary>();
+        final var thread = new Thread(() -> {
+            try {
+                future.complete(WorkflowSummaryCreator.create(wfm, includeExecInfo));
+            } catch (Throwable t) { // NOSONAR passed on to the caller
+                future.completeExceptionally(t);
+            }
+        }, "Workflow summary of " + wfm.getName());
+        thread.setDaemon(true);
+        if (monitor.isCanceled()) {
+            throw new InterruptedException("Workflow summary export canceled");
+        }
+        thread.start();
+        while (true) {
+            try {
+                final var summary = future.get(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                monitor.done();
+                return summary;
+            } catch (TimeoutException e) { // NOSONAR polling
+                if (monitor.isCanceled()) {
+                    LOGGER.debug("Workflow summary canceled, thread '" + thread.getName()
+                        + "' completes in the background");
+                    throw new InterruptedException("Workflow summary export canceled");
+                }
+            } catch (ExecutionException e) {
+                final var cause = e.getCause();
+                if (cause instanceof IOException ioe) {
+                    throw ioe;
+                } else if (cause instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+    }
+
+    /**
+     * @param wfm a workflow
+     * @return the number of nodes in the workflow, including the ones in metanodes and components
+     */
+    static int countNodes(final WorkflowManager wfm) {
+        var count = 0;
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            count++;
+            if (nc instanceof WorkflowManager metanode) {
+                count += countNodes(metanode);
+            } else if (nc instanceof SubNodeContainer component) {
+                count += countNodes(component.getWorkflowManager());
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks for cancellation before each write and reports progress per kB written; as the size of the summary isn't
+     * known up front, each kB takes a share of the remaining work.
+     */
+    private static final class CancelableOutputStream extends FilterOutputStream {
+
+        private final SubMonitor m_monitor;
+
+        private long m_written;
+
+        CancelableOutputStream(final OutputStream out, final SubMonitor monitor) {
+            super(new BufferedOutputStream(out, BUFFER_SIZE));
+            m_monitor = monitor;
+        }
+
+        private void checkCanceled(final int length) throws InterruptedIOException {
+            if (m_monitor.isCanceled()) {
+                throw new InterruptedIOException("Workflow summary export canceled");
+            }
+            final var before = m_written >> 10;
+            m_written += length;
+            for (var kb = (m_written >> 10) - before; kb > 0; kb--) {
+                m_monitor.setWorkRemaining(100);
+                m_monitor.worked(1);
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            checkCanceled(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            checkCanceled(len);
+            out.write(b, off, len);
+        }
+    }
+}
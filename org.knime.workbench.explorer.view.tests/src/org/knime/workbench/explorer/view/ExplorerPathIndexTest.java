@@ -0,0 +1,161 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.explorer.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Tests the {@link ExplorerPathIndex.Snapshot} the {@link ExplorerFilter} uses to answer queries.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ExplorerPathIndexTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ExplorerPathIndexTest.class);
+
+    private static final int GROUP_COUNT = 100;
+
+    private static final int SUBGROUP_COUNT = 10;
+
+    private static final int WORKFLOW_COUNT = 100;
+
+    /* a synthetic local workspace with 100,000 workflows in 1,000 workflow groups */
+    private static List<String> createWorkspace() {
+        final List<String> names = new ArrayList<>();
+        var workflow = 0;
+        for (var g = 0; g < GROUP_COUNT; g++) {
+            final var group = "/group_" + g;
+            names.add(group);
+            for (var s = 0; s < SUBGROUP_COUNT; s++) {
+                final var subgroup = group + "/Sub Group " + s;
+                names.add(subgroup);
+                for (var w = 0; w < WORKFLOW_COUNT; w++) {
+                    names.add(subgroup + "/workflow_" + workflow++);
+                }
+            }
+        }
+        return names;
+    }
+
+    /* what the filter shows without index: items containing the query and all their ancestors */
+    private static Set<String> selectByScan(final List<String> names, final String upperQuery) {
+        final Set<String> selected = new HashSet<>();
+        for (final var name : names) {
+            if (name.toUpperCase().contains(upperQuery)) {
+                var n = name;
+                while (selected.add(n) && n.lastIndexOf('/') > 0) {
+                    n = n.substring(0, n.lastIndexOf('/'));
+                }
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Tests that items are shown if they, an ancestor or a descendant match the query.
+     */
+    @Test
+    public void testSelectsAncestorsAndDescendants() {
+        final var snapshot = ExplorerPathIndex.Snapshot
+            .of(List.of("/Examples", "/Examples/Basics", "/Examples/Basics/Reader", "/Projects", "/Projects/csv_reader",
+                "/Projects/joiner", "/Other"));
+        assertTrue(snapshot.contains("/Projects/joiner"));
+        assertFalse(snapshot.contains("/Projects/unknown"));
+
+        final var reader = snapshot.select("READER");
+        assertEquals(Set.of("/Examples", "/Examples/Basics", "/Examples/Basics/Reader", "/Projects",
+            "/Projects/csv_reader"), reader);
+
+        final var basics = snapshot.select("BASICS");
+        assertEquals(Set.of("/Examples", "/Examples/Basics", "/Examples/Basics/Reader"), basics);
+
+        assertEquals(Set.of("/Projects", "/Projects/joiner"), snapshot.select("OI"));
+        assertTrue(snapshot.select("UNKNOWN").isEmpty());
+    }
+
+    /**
+     * Measures the latency of a keystroke in the filter on a synthetic workspace with 100,000 items and compares the
+     * result with scanning all items.
+     */
+    @Test
+    public void benchmarkKeystrokeLatency() {
+        final var names = createWorkspace();
+        var start = System.nanoTime();
+        final var snapshot = ExplorerPathIndex.Snapshot.of(names);
+        LOGGER.infoWithFormat("Indexed %d items in %d ms", snapshot.size(), (System.nanoTime() - start) / 1_000_000);
+
+        final var query = "WORKFLOW_4711";
+        for (var length = 1; length <= query.length(); length++) {
+            final var typed = query.substring(0, length);
+            start = System.nanoTime();
+            final var scanned = selectByScan(names, typed);
+            final var scanNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            final var indexed = snapshot.select(typed);
+            final var indexNanos = System.nanoTime() - start;
+            assertEquals("unexpected selection for \"" + typed + "\"", scanned, indexed);
+            LOGGER.infoWithFormat("Query \"%s\": %d items shown, scan %d us, index %d us", typed, indexed.size(),
+                scanNanos / 1000, indexNanos / 1000);
+        }
+        // workflow_4711 and workflow_47110 to workflow_47119 with their groups
+        final var selected = snapshot.select(query);
+        assertEquals(15, selected.size());
+        assertTrue(
+            selected.containsAll(Set.of("/group_4", "/group_4/Sub Group 7", "/group_4/Sub Group 7/workflow_4711")));
+    }
+}
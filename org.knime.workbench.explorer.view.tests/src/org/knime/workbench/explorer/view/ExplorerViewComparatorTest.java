@@ -0,0 +1,153 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.explorer.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileInfo;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+
+/**
+ * Tests that {@link ExplorerViewComparator} fetches the file info of each item only once while sorting.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ExplorerViewComparatorTest {
+
+    private static final int ITEM_COUNT = 20000;
+
+    /** Upper bound of file info fetches needed to determine the rank of a single item. */
+    private static final int MAX_FETCHES_PER_ITEM = 7;
+
+    private final AtomicLong m_fetches = new AtomicLong();
+
+    private static AbstractExplorerFileInfo createInfo(final boolean group, final boolean workflow) {
+        final var info = mock(AbstractExplorerFileInfo.class);
+        when(info.exists()).thenReturn(true);
+        when(info.isWorkflowGroup()).thenReturn(group);
+        when(info.isWorkflow()).thenReturn(workflow);
+        when(info.isDirectory()).thenReturn(group || workflow);
+        return info;
+    }
+
+    private ContentObject createItem(final int index, final AbstractExplorerFileInfo info) {
+        final var store = mock(AbstractExplorerFileStore.class);
+        final var name = "Item " + Integer.toString(index * 7919 % ITEM_COUNT, 36);
+        when(store.getName()).thenReturn(name);
+        when(store.getFullName()).thenReturn("/" + name);
+        when(store.getMountID()).thenReturn("LOCAL");
+        when(store.fetchInfo()).thenAnswer(inv -> {
+            m_fetches.incrementAndGet();
+            return info;
+        });
+        return new ContentObject(null, store);
+    }
+
+    private ContentObject[] createMount() {
+        final var group = createInfo(true, false);
+        final var workflow = createInfo(false, true);
+        final var file = createInfo(false, false);
+        final var items = new ContentObject[ITEM_COUNT];
+        for (var i = 0; i < ITEM_COUNT; i++) {
+            items[i] = createItem(i, i % 10 == 0 ? group : (i % 3 == 0 ? file : workflow));
+        }
+        return items;
+    }
+
+    /**
+     * Sorts a mount point with 20,000 items and checks that the number of file info fetches grows linearly with the
+     * number of items, that sorting again does not fetch at all and that a refresh only discards the refreshed items.
+     */
+    @Test
+    public void testFetchInfoCallsAreLinear() {
+        final var items = createMount();
+        final var comparator = new ExplorerViewComparator();
+
+        comparator.sort(null, items);
+        final var firstSort = m_fetches.get();
+        assertTrue("expected at most " + MAX_FETCHES_PER_ITEM + " fetches per item, got " + firstSort,
+            firstSort <= (long)MAX_FETCHES_PER_ITEM * ITEM_COUNT);
+
+        for (var i = 1; i < items.length; i++) {
+            assertTrue("items not sorted at position " + i, comparator.compare(null, items[i - 1], items[i]) <= 0);
+        }
+        assertEquals("comparisons expected to use the cached sort keys", firstSort, m_fetches.get());
+
+        comparator.sort(null, items);
+        assertEquals("sorting again expected to use the cached sort keys", firstSort, m_fetches.get());
+
+        comparator.invalidate(items[0]);
+        comparator.sort(null, items);
+        assertTrue("refreshed item expected to be fetched again",
+            m_fetches.get() > firstSort && m_fetches.get() <= firstSort + MAX_FETCHES_PER_ITEM);
+    }
+
+    /**
+     * Tests the order: workflow groups before workflows before files, by name within each kind.
+     */
+    @Test
+    public void testOrder() {
+        final var group = createInfo(true, false);
+        final var workflow = createInfo(false, true);
+        final var file = createInfo(false, false);
+        final var items = new ContentObject[]{createItem(3, file), createItem(2, workflow), createItem(1, workflow),
+            createItem(0, group)};
+        new ExplorerViewComparator().sort(null, items);
+        assertTrue(items[0].getObject().fetchInfo().isWorkflowGroup());
+        assertTrue(items[1].getObject().fetchInfo().isWorkflow());
+        assertTrue(items[2].getObject().fetchInfo().isWorkflow());
+        assertTrue(items[1].getObject().getName().compareToIgnoreCase(items[2].getObject().getName()) < 0);
+        assertTrue(!items[3].getObject().fetchInfo().isDirectory());
+    }
+}
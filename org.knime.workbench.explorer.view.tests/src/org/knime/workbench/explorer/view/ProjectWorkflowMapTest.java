@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.explorer.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeStateChangeListener;
+import org.knime.core.node.workflow.NodeStateEvent;
+import org.knime.core.node.workflow.WorkflowCreationHelper;
+import org.knime.core.node.workflow.WorkflowEvent;
+import org.knime.core.node.workflow.WorkflowListener;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.contextv2.WorkflowContextV2;
+import org.knime.core.ui.wrapper.WorkflowManagerWrapper;
+import org.knime.core.util.FileUtil;
+import org.knime.workbench.ui.navigator.ProjectWorkflowMap;
+
+/**
+ * Tests that renaming an open workflow with {@link ProjectWorkflowMap#replace} moves the listeners registered for the
+ * workflow and the forwarding of its events to the new path.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ProjectWorkflowMapTest {
+
+    private File m_folder;
+
+    private URI m_oldPath;
+
+    private URI m_newPath;
+
+    private WorkflowManager m_wfm;
+
+    private final List<WorkflowEvent> m_workflowEvents = new CopyOnWriteArrayList<>();
+
+    private final List<NodeStateEvent> m_stateEvents = new CopyOnWriteArrayList<>();
+
+    private final List<WorkflowEvent> m_projectEvents = new CopyOnWriteArrayList<>();
+
+    private final WorkflowListener m_workflowListener = m_workflowEvents::add;
+
+    private final NodeStateChangeListener m_stateListener = m_stateEvents::add;
+
+    private final WorkflowListener m_projectListener = m_projectEvents::add;
+
+    /**
+     * Opens a workflow under the old path and registers the listeners.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Before
+    public void openWorkflow() throws Exception {
+        m_folder = FileUtil.createTempDir("project_workflow_map_test");
+        final var oldDir = new File(m_folder, "old");
+        final var newDir = new File(m_folder, "new");
+        oldDir.mkdir();
+        newDir.mkdir();
+        m_oldPath = oldDir.toURI();
+        m_newPath = newDir.toURI();
+        final var context = WorkflowContextV2.builder()
+            .withAnalyticsPlatformExecutor(exec -> exec.withCurrentUserAsUserId().withLocalWorkflowPath(oldDir.toPath())
+                .withMountpoint("LOCAL", m_folder.toPath()))
+            .withLocalLocation().build();
+        m_wfm = WorkflowManager.ROOT.createAndAddProject("Project Workflow Map Test",
+            new WorkflowCreationHelper(context));
+        ProjectWorkflowMap.putWorkflow(m_oldPath, m_wfm);
+        ProjectWorkflowMap.addWorkflowListener(m_oldPath, m_workflowListener);
+        ProjectWorkflowMap.addStateListener(m_oldPath, m_stateListener);
+        ProjectWorkflowMap.addProjectListener(m_projectListener);
+    }
+
+    /** Removes the listeners and closes the workflow. */
+    @After
+    public void closeWorkflow() {
+        ProjectWorkflowMap.removeProjectListener(m_projectListener);
+        ProjectWorkflowMap.removeWorkflowListener(m_newPath, m_workflowListener);
+        ProjectWorkflowMap.removeStateListener(m_newPath, m_stateListener);
+        if (ProjectWorkflowMap.getWorkflow(m_newPath) != null) {
+            ProjectWorkflowMap.remove(m_newPath);
+        } else {
+            ProjectWorkflowMap.remove(m_oldPath);
+        }
+        FileUtil.deleteRecursively(m_folder);
+    }
+
+    /* workflow events are delivered asynchronously by the workflow manager */
+    private static void waitFor(final BooleanSupplier condition, final String message) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(message, System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static boolean contains(final List<WorkflowEvent> events, final WorkflowEvent.Type type, final NodeID id) {
+        return events.stream().anyMatch(e -> e.getType() == type && e.getID().equals(id));
+    }
+
+    /**
+     * Tests that the workflow is found under the new path only and that its rename is announced to the project
+     * listeners as removal and addition.
+     */
+    @Test
+    public void testReplace() {
+        ProjectWorkflowMap.replace(m_newPath, WorkflowManagerWrapper.wrap(m_wfm), m_oldPath);
+
+        assertNull(ProjectWorkflowMap.getWorkflow(m_oldPath));
+        assertSame(m_wfm, ProjectWorkflowMap.getWorkflow(m_newPath));
+        assertTrue(ProjectWorkflowMap.getOpenWorkflows().contains(m_newPath));
+        assertTrue(contains(m_projectEvents, WorkflowEvent.Type.NODE_REMOVED, m_wfm.getID()));
+        assertTrue(contains(m_projectEvents, WorkflowEvent.Type.NODE_ADDED, m_wfm.getID()));
+        assertTrue("state of the renamed workflow expected to be announced",
+            m_stateEvents.stream().anyMatch(e -> e.getSource().equals(m_wfm.getID())));
+    }
+
+    /**
+     * Tests that the listeners registered under the old path receive the events of the renamed workflow, including
+     * those of meta nodes, and that listeners registered under the old path afterwards don't.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testListenersMovedWithWorkflow() throws Exception {
+        ProjectWorkflowMap.replace(m_newPath, WorkflowManagerWrapper.wrap(m_wfm), m_oldPath);
+        final var projectEventCount = m_projectEvents.size();
+        final List<WorkflowEvent> staleEvents = new CopyOnWriteArrayList<>();
+        final WorkflowListener staleListener = staleEvents::add;
+        ProjectWorkflowMap.addWorkflowListener(m_oldPath, staleListener);
+        try {
+            final var metanode = m_wfm.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Metanode");
+            waitFor(() -> contains(m_workflowEvents, WorkflowEvent.Type.NODE_ADDED, metanode.getID()),
+                "Addition of the meta node not forwarded");
+
+            // the forwarder is registered on the added meta node as well
+            final var nested = metanode.createAndAddSubWorkflow(new PortType[0], new PortType[0], "Nested");
+            waitFor(() -> contains(m_workflowEvents, WorkflowEvent.Type.NODE_ADDED, nested.getID()),
+                "Addition to the meta node not forwarded");
+
+            m_wfm.removeNode(metanode.getID());
+            waitFor(() -> contains(m_workflowEvents, WorkflowEvent.Type.NODE_REMOVED, metanode.getID()),
+                "Removal of the meta node not forwarded");
+
+            assertTrue("events delivered to a listener of the old path: " + staleEvents, staleEvents.isEmpty());
+            assertEquals("project listeners expected to be informed about the project only", projectEventCount,
+                m_projectEvents.size());
+        } finally {
+            ProjectWorkflowMap.removeWorkflowListener(m_oldPath, staleListener);
+        }
+    }
+}
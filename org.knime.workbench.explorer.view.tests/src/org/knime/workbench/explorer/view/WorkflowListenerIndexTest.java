@@ -0,0 +1,217 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.explorer.view;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.ui.navigator.WorkflowListenerIndex;
+
+/**
+ * Tests and benchmarks the {@link WorkflowListenerIndex} the explorer view and the workflow editors register with to
+ * learn about changes of open workflows.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkflowListenerIndexTest {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(WorkflowListenerIndexTest.class);
+
+    /** Number of open workflows. */
+    private static final int WORKFLOW_COUNT = 50;
+
+    /** Number of listeners, evenly registered for the open workflows. */
+    private static final int LISTENER_COUNT = 10000;
+
+    /** Number of listeners registered for all workflows, like the explorer view. */
+    private static final int GLOBAL_LISTENER_COUNT = 2;
+
+    private static final int EVENT_COUNT = 20000;
+
+    private static final class CountingListener implements Consumer<String> {
+
+        private final String m_workflow;
+
+        private final AtomicLong m_received = new AtomicLong();
+
+        private CountingListener(final String workflow) {
+            m_workflow = workflow;
+        }
+
+        @Override
+        public void accept(final String workflow) {
+            m_received.incrementAndGet();
+        }
+    }
+
+    private static List<CountingListener> register(final WorkflowListenerIndex<String, CountingListener> index) {
+        final List<CountingListener> listeners = new ArrayList<>();
+        for (var i = 0; i < LISTENER_COUNT; i++) {
+            final var l = new CountingListener("workflow-" + (i % WORKFLOW_COUNT));
+            index.add(l.m_workflow, l);
+            listeners.add(l);
+        }
+        return listeners;
+    }
+
+    /**
+     * Tests that an event only reaches the listeners of its workflow and the listeners of all workflows.
+     */
+    @Test
+    public void testEventsReachOnlyWorkflowListeners() {
+        final var index = new WorkflowListenerIndex<String, CountingListener>();
+        final var listeners = register(index);
+        final var global = new CountingListener(null);
+        index.add(global);
+        index.add(global);
+
+        final var delivered = index.dispatch("workflow-7", l -> l.accept("workflow-7"));
+        assertEquals(LISTENER_COUNT / WORKFLOW_COUNT + 1, delivered);
+        assertEquals(1, global.m_received.get());
+        for (final var l : listeners) {
+            assertEquals(l.m_workflow, l.m_workflow.equals("workflow-7") ? 1 : 0, l.m_received.get());
+        }
+
+        index.rekey("workflow-7", "renamed");
+        assertEquals(1, index.getListenerCount("workflow-7"));
+        assertEquals(LISTENER_COUNT / WORKFLOW_COUNT + 1, index.getListenerCount("renamed"));
+
+        listeners.stream().filter(l -> l.m_workflow.equals("workflow-8")).forEach(l -> index.remove("workflow-8", l));
+        index.remove(global);
+        assertEquals(0, index.dispatch("workflow-8", l -> l.accept("workflow-8")));
+    }
+
+    /**
+     * Measures the cost of delivering an event with 50 open workflows and 10,000 listeners, compared to broadcasting
+     * every event to all listeners which then discard the events of other workflows.
+     */
+    @Test
+    public void benchmarkDeliveryCost() {
+        final var index = new WorkflowListenerIndex<String, CountingListener>();
+        final var listeners = register(index);
+        for (var i = 0; i < GLOBAL_LISTENER_COUNT; i++) {
+            index.add(new CountingListener(null));
+        }
+
+        final var broadcast = new AtomicLong();
+        var start = System.nanoTime();
+        for (var e = 0; e < EVENT_COUNT; e++) {
+            final var workflow = "workflow-" + (e % WORKFLOW_COUNT);
+            for (final var l : listeners) {
+                if (l.m_workflow.equals(workflow)) {
+                    broadcast.incrementAndGet();
+                }
+            }
+        }
+        final var broadcastNanos = System.nanoTime() - start;
+
+        var indexed = 0L;
+        start = System.nanoTime();
+        for (var e = 0; e < EVENT_COUNT; e++) {
+            final var workflow = "workflow-" + (e % WORKFLOW_COUNT);
+            indexed += index.dispatch(workflow, l -> l.accept(workflow));
+        }
+        final var indexedNanos = System.nanoTime() - start;
+
+        LOGGER.infoWithFormat("Delivery cost per event with %d workflows and %d listeners: broadcast %d ns, indexed %d ns",
+            WORKFLOW_COUNT, LISTENER_COUNT, broadcastNanos / EVENT_COUNT, indexedNanos / EVENT_COUNT);
+        assertEquals(broadcast.get() + (long)GLOBAL_LISTENER_COUNT * EVENT_COUNT, indexed);
+        for (final var l : listeners) {
+            assertEquals(EVENT_COUNT / WORKFLOW_COUNT, l.m_received.get());
+        }
+    }
+
+    /**
+     * Tests that listeners can be added and removed while events are delivered.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 30000)
+    public void testConcurrentRegistrationAndDelivery() throws Exception {
+        final var index = new WorkflowListenerIndex<String, CountingListener>();
+        final var stable = new CountingListener("workflow-0");
+        index.add("workflow-0", stable);
+        final var stop = new AtomicBoolean();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (var t = 0; t < 3; t++) {
+                futures.add(executor.submit(() -> {
+                    while (!stop.get()) {
+                        final var l = new CountingListener("workflow-0");
+                        index.add("workflow-0", l);
+                        index.remove("workflow-0", l);
+                    }
+                }));
+            }
+            for (var e = 0; e < EVENT_COUNT; e++) {
+                assertTrue(index.dispatch("workflow-0", l -> l.accept("workflow-0")) >= 1);
+            }
+            stop.set(true);
+            for (final var f : futures) {
+                f.get();
+            }
+        } finally {
+            stop.set(true);
+            executor.shutdownNow();
+        }
+        assertEquals(EVENT_COUNT, stable.m_received.get());
+        assertEquals(1, index.getListenerCount("workflow-0"));
+    }
+}
@@ -61,6 +61,9 @@ public class ExplorerFilter extends TextualViewFilter {
 
     private final Map<String, Boolean> m_cache = new HashMap<String, Boolean>();
 
+    /* background-built name indices of the local mount points */
+    private final Map<AbstractContentProvider, ExplorerPathIndex> m_indices = new HashMap<>();
+
     private boolean m_usingKnimeProtocol;
 
     private String m_queryString;
@@ -91,6 +94,14 @@ protected boolean doSelect(final Object parentElement,
             }
             String fullName = fileStore.getFullName();
 
+            if (!m_usingKnimeProtocol && !contentProvider.isRemote()) {
+                final Boolean indexed = m_indices.computeIfAbsent(contentProvider, ExplorerPathIndex::new)
+                        .isSelected(fullName, m_queryString);
+                if (indexed != null) {
+                    return indexed;
+                }
+            }
+
             final String cachekey = m_usingKnimeProtocol ? contentProvider.getMountID() + fullName : fullName;
 
             Boolean selected = m_cache.get(cachekey);
@@ -161,4 +172,14 @@ public void setQueryString(final String query) {
         m_usingKnimeProtocol = m_queryString.startsWith("KNIME://");
 //        LOGGER.debug("Clearing cache...");
     }
+
+    /**
+     * Disposes the indices of the mount points, to be called when the view using this filter is disposed.
+     *
+     * @since 9.4
+     */
+    public void dispose() {
+        m_indices.values().forEach(ExplorerPathIndex::dispose);
+        m_indices.clear();
+    }
 }
@@ -0,0 +1,327 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.explorer.view;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.knime.core.node.NodeLogger;
+import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
+
+/**
+ * Index of the full names of all items of a mount point, used by the {@link ExplorerFilter} to decide whether an item
+ * is shown without listing the children of workflow groups on every keystroke. The index is built in a background
+ * job and rebuilt whenever the content provider announces a refresh; while it is (re)built, {@link #isSelected(String,
+ * String)} returns <code>null</code> and the filter falls back to walking the file stores.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ExplorerPathIndex {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(ExplorerPathIndex.class);
+
+    /** Delay of a rebuild after a refresh, so a burst of refreshes only causes a single rebuild. */
+    private static final long REBUILD_DELAY_MS = 500;
+
+    /** Queries shorter than this are answered by scanning all names instead of using the trigram postings. */
+    private static final int GRAM_LENGTH = 3;
+
+    private final AbstractContentProvider m_provider;
+
+    private final ILabelProviderListener m_refreshListener = e -> invalidate();
+
+    private final AtomicLong m_generation = new AtomicLong();
+
+    private final BuildJob m_job = new BuildJob();
+
+    private volatile Snapshot m_snapshot;
+
+    // last query answered and its result, only accessed in the UI thread
+    private Snapshot m_lastSnapshot;
+
+    private String m_lastQuery;
+
+    private Set<String> m_lastSelected;
+
+    /**
+     * Creates the index and schedules building it.
+     *
+     * @param provider the content provider of the mount point to index
+     */
+    ExplorerPathIndex(final AbstractContentProvider provider) {
+        m_provider = provider;
+        m_provider.addListener(m_refreshListener);
+        m_job.schedule();
+    }
+
+    /**
+     * Whether an item is shown for the given query, i.e. if its own full name, the name of an ancestor or the name of
+     * a descendant contains the query.
+     *
+     * @param fullName the full name of the item
+     * @param upperQuery the upper case query
+     * @return whether the item is shown or <code>null</code> if the index cannot answer it (yet)
+     */
+    Boolean isSelected(final String fullName, final String upperQuery) {
+        final var snapshot = m_snapshot;
+        if (snapshot == null || !snapshot.contains(fullName)) {
+            return null;
+        }
+        if (snapshot != m_lastSnapshot || !upperQuery.equals(m_lastQuery)) {
+            m_lastSelected = snapshot.select(upperQuery);
+            m_lastSnapshot = snapshot;
+            m_lastQuery = upperQuery;
+        }
+        return m_lastSelected.contains(fullName);
+    }
+
+    /** Discards the current index and schedules a rebuild. */
+    void invalidate() {
+        m_generation.incrementAndGet();
+        m_snapshot = null;
+        m_job.cancel();
+        m_job.schedule(REBUILD_DELAY_MS);
+    }
+
+    /** Stops listening to the content provider and discards the index. */
+    void dispose() {
+        m_provider.removeListener(m_refreshListener);
+        m_generation.incrementAndGet();
+        m_job.cancel();
+        m_snapshot = null;
+    }
+
+    /* collects the full names of all items below the given workflow group */
+    private boolean collect(final AbstractExplorerFileStore group, final List<String> names,
+        final IProgressMonitor monitor) {
+        final var children = m_provider.getChildren(group);
+        if (children == null) {
+            return true;
+        }
+        for (final var child : children) {
+            if (monitor.isCanceled()) {
+                return false;
+            }
+            names.add(child.getFullName());
+            if (AbstractExplorerFileStore.isWorkflowGroup(child) && !collect(child, names, monitor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final class BuildJob extends Job {
+
+        private BuildJob() {
+            super("Indexing \"" + m_provider.getMountID() + "\" for the explorer filter");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(final IProgressMonitor monitor) {
+            final var generation = m_generation.get();
+            final var start = System.nanoTime();
+            final List<String> names = new ArrayList<>();
+            try {
+                if (!collect(m_provider.getRootStore(), names, monitor)) {
+                    return Status.CANCEL_STATUS;
+                }
+            } catch (RuntimeException e) { // NOSONAR the filter falls back to the file stores
+                LOGGER.debug("Could not index \"" + m_provider.getMountID() + "\": " + e.getMessage(), e);
+                return Status.OK_STATUS;
+            }
+            final var snapshot = Snapshot.of(names);
+            if (m_generation.get() == generation) {
+                m_snapshot = snapshot;
+                LOGGER.debugWithFormat("Indexed %d items of \"%s\" in %d ms", snapshot.size(),
+                    m_provider.getMountID(), (System.nanoTime() - start) / 1_000_000);
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+    /**
+     * Immutable index over a set of full names, mapping each trigram of the upper case names to the sorted ids of the
+     * names containing it.
+     */
+    static final class Snapshot {
+
+        private static final int[] NO_POSTINGS = new int[0];
+
+        private final String[] m_names;
+
+        private final String[] m_upperNames;
+
+        private final Map<String, Integer> m_ids;
+
+        private final Map<Long, int[]> m_postings;
+
+        private Snapshot(final String[] names, final String[] upperNames, final Map<String, Integer> ids,
+            final Map<Long, int[]> postings) {
+            m_names = names;
+            m_upperNames = upperNames;
+            m_ids = ids;
+            m_postings = postings;
+        }
+
+        /**
+         * @param fullNames the full names of the items, e.g. <code>/group/workflow</code>
+         * @return the index over the names
+         */
+        static Snapshot of(final Collection<String> fullNames) {
+            final var names = fullNames.toArray(String[]::new);
+            final var upperNames = new String[names.length];
+            final Map<String, Integer> ids = new HashMap<>(names.length * 2);
+            final Map<Long, int[]> postings = new HashMap<>();
+            final Map<Long, Integer> sizes = new HashMap<>();
+            for (var id = 0; id < names.length; id++) {
+                ids.put(names[id], id);
+                final var upper = names[id].toUpperCase();
+                upperNames[id] = upper;
+                for (var i = 0; i + GRAM_LENGTH <= upper.length(); i++) {
+                    final var gram = gram(upper, i);
+                    final var size = sizes.getOrDefault(gram, 0);
+                    var list = postings.get(gram);
+                    if (size > 0 && list[size - 1] == id) {
+                        continue; // gram occurs more than once in this name
+                    }
+                    if (list == null) {
+                        list = new int[4];
+                    } else if (size == list.length) {
+                        list = Arrays.copyOf(list, size * 2);
+                    }
+                    list[size] = id;
+                    postings.put(gram, list);
+                    sizes.put(gram, size + 1);
+                }
+            }
+            postings.replaceAll((gram, list) -> Arrays.copyOf(list, sizes.get(gram)));
+            return new Snapshot(names, upperNames, ids, postings);
+        }
+
+        private static long gram(final String s, final int offset) {
+            return ((long)s.charAt(offset) << 32) | ((long)s.charAt(offset + 1) << 16) | s.charAt(offset + 2);
+        }
+
+        /**
+         * @param fullName a full name
+         * @return whether the name is indexed
+         */
+        boolean contains(final String fullName) {
+            return m_ids.containsKey(fullName);
+        }
+
+        /** @return the number of indexed names */
+        int size() {
+            return m_names.length;
+        }
+
+        /**
+         * Determines the items shown for a query: all items whose full name contains the query and their ancestors.
+         * Items below a matching workflow group also contain the query in their full name.
+         *
+         * @param upperQuery the upper case query
+         * @return the full names of the items to show
+         */
+        Set<String> select(final String upperQuery) {
+            final Set<String> selected = new HashSet<>();
+            if (upperQuery.length() < GRAM_LENGTH) {
+                for (var id = 0; id < m_names.length; id++) {
+                    if (m_upperNames[id].contains(upperQuery)) {
+                        addWithAncestors(m_names[id], selected);
+                    }
+                }
+                return selected;
+            }
+            for (final var id : candidates(upperQuery)) {
+                if (m_upperNames[id].contains(upperQuery)) {
+                    addWithAncestors(m_names[id], selected);
+                }
+            }
+            return selected;
+        }
+
+        /* the postings of the rarest trigram of the query, a superset of the matching names */
+        private int[] candidates(final String upperQuery) {
+            int[] rarest = null;
+            for (var i = 0; i + GRAM_LENGTH <= upperQuery.length(); i++) {
+                final var list = m_postings.get(gram(upperQuery, i));
+                if (list == null) {
+                    return NO_POSTINGS;
+                }
+                if (rarest == null || list.length < rarest.length) {
+                    rarest = list;
+                }
+            }
+            return rarest;
+        }
+
+        private static void addWithAncestors(final String fullName, final Set<String> selected) {
+            var name = fullName;
+            while (selected.add(name)) {
+                final var slash = name.lastIndexOf('/');
+                if (slash <= 0) {
+                    return;
+                }
+                name = name.substring(0, slash);
+            }
+        }
+    }
+}
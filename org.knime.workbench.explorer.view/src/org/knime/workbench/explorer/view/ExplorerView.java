@@ -118,7 +118,9 @@
 import org.knime.core.node.workflow.WorkflowEvent;
 import org.knime.core.node.workflow.WorkflowListener;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.workbench.core.WorkflowManagerTransfer;
+import org.knime.workbench.core.util.StartupProfiler;
 import org.knime.workbench.explorer.ExplorerMountTable;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileInfo;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
@@ -163,6 +165,7 @@
 import org.knime.workbench.repository.view.TextualViewFilter;
 import org.knime.workbench.ui.SyncExecQueueDispatcher;
 import org.knime.workbench.ui.navigator.ProjectWorkflowMap;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  *
@@ -216,6 +219,8 @@ public void focusGained(final FocusEvent e) {
 
     private final ContentDelegator m_contentDelegator = new ContentDelegator();
 
+    private final ExplorerFilter m_filter = new ExplorerFilter();
+
     private ExplorerDragListener m_dragListener;
 
     private ExplorerDropListener m_dropListener;
@@ -235,6 +240,14 @@ public void focusGained(final FocusEvent e) {
      */
     @Override
     public void createPartControl(final Composite parent) {
+        try (var createSpan = StartupProfiler.span(FrameworkUtil.getBundle(ExplorerView.class).getSymbolicName(),
+            "ExplorerView.createPartControl")) {
+            createControls(parent);
+        }
+    }
+
+    /* creates the content of the view, recorded as the span of createPartControl(Composite) */
+    private void createControls(final Composite parent) {
         Composite overall = new Composite(parent, SWT.NONE);
         overall.setLayout(new GridLayout(1, false));
         GridData data = new GridData(GridData.FILL_BOTH);
@@ -355,7 +368,7 @@ private void createLocalToolBar() {
         toolBarMgr.add(synchronize);
         toolBarMgr.add(new Separator());
         FilterViewContributionItemExtension filterViewContributionItem =
-                new FilterViewContributionItemExtension(m_viewer, new ExplorerFilter(), false);
+                new FilterViewContributionItemExtension(m_viewer, m_filter, false);
 
         toolBarMgr.add(filterViewContributionItem);
         toolBarMgr.add(new Separator());
@@ -490,8 +503,9 @@ public void run() {
         // this allows other plugins to see our selection.
         getSite().setSelectionProvider(m_viewer);
 
-        ProjectWorkflowMap.addStateListener(this);
-        ProjectWorkflowMap.addWorkflowListener(this);
+        // only interested in the opening and closing of workflows and in the states of the open ones
+        ProjectWorkflowMap.addProjectListener(this);
+        ProjectWorkflowMap.getOpenWorkflows().forEach(this::addStateListenerFor);
         //ProjectWorkflowMap.addNodeMessageListener(this);
         //ProjectWorkflowMap.addNodePropertyChangedListener(this);
 
@@ -505,9 +519,14 @@ public void workflowChanged(final WorkflowEvent event) {
         switch (event.getType()) {
             case NODE_ADDED:
                 NodeID id = event.getID();
+                final URI workflow = ProjectWorkflowMap.findProjectFor(id);
+                if (workflow != null) {
+                    addStateListenerFor(id, workflow);
+                }
                 refreshAsync(id);
                 break;
             case NODE_REMOVED:
+                removeStateListenerFor(event.getID());
                 // can't just use the ID here as the workflow is no longer in
                 // the static workflow map, try to get path from workflow and
                 // refresh here
@@ -537,6 +556,36 @@ public void run() {
         }
     }
 
+    /**
+     * Workflows this view listens to the states of, by the ID of their project. A listener is removed when its
+     * workflow is closed; if the workflow is renamed it's removed and added again under the new URI.
+     */
+    private final Map<NodeID, URI> m_stateListenedWorkflows = new ConcurrentHashMap<>();
+
+    private void addStateListenerFor(final URI workflow) {
+        final NodeContainerUI project = ProjectWorkflowMap.getWorkflowUI(workflow);
+        if (project != null) {
+            addStateListenerFor(project.getID(), workflow);
+        }
+    }
+
+    private void addStateListenerFor(final NodeID project, final URI workflow) {
+        final URI previous = m_stateListenedWorkflows.put(project, workflow);
+        if (!workflow.equals(previous)) {
+            if (previous != null) {
+                ProjectWorkflowMap.removeStateListener(previous, this);
+            }
+            ProjectWorkflowMap.addStateListener(workflow, this);
+        }
+    }
+
+    private void removeStateListenerFor(final NodeID project) {
+        final URI workflow = m_stateListenedWorkflows.remove(project);
+        if (workflow != null) {
+            ProjectWorkflowMap.removeStateListener(workflow, this);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -850,10 +899,13 @@ public void run() {
     public void dispose() {
         m_contentDelegator.removePropertyChangeListener(this);
         m_contentDelegator.dispose();
-        ProjectWorkflowMap.removeStateListener(this);
-        ProjectWorkflowMap.removeWorkflowListener(this);
+        ProjectWorkflowMap.removeProjectListener(this);
+        m_stateListenedWorkflows.values()
+            .forEach(workflow -> ProjectWorkflowMap.removeStateListener(workflow, this));
+        m_stateListenedWorkflows.clear();
 //        ProjectWorkflowMap.removeNodePropertyChangedListener(this);
 //        ProjectWorkflowMap.removeNodeMessageListener(this);
+        m_filter.dispose();
         if (m_clipboard != null) {
             // some times we get a NPE if the view is not fully initialized
             m_clipboard.dispose();
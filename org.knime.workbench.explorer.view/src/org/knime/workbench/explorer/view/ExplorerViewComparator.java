@@ -47,36 +47,160 @@
  */
 package org.knime.workbench.explorer.view;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.jface.viewers.ILabelProviderListener;
+import org.eclipse.jface.viewers.LabelProviderChangedEvent;
 import org.eclipse.jface.viewers.Viewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.knime.workbench.explorer.filesystem.AbstractExplorerFileStore;
 import org.knime.workbench.explorer.filesystem.RemoteExplorerFileStore;
 
 /**
+ * Sorts the items of the explorer by their kind (messages, teams, users, workflow groups, workflows, templates,
+ * directories and files) and then by name. The kind requires fetching the file info, so the sort key of an item is
+ * computed once and kept until the item or its parent is refreshed by its content provider.
  *
  * @author ohl, KNIME AG, Zurich, Switzerland
  */
 public class ExplorerViewComparator extends ViewerComparator {
+
+    /** The sort key of an item, with the mount ID and full name to find it again when the item is refreshed. */
+    private record SortKey(int rank, CollationKey name, String mountID, String fullName) {
+    }
+
+    private record KeyedElement(Object element, SortKey key) {
+    }
+
+    private final Collator m_collator;
+
+    // guarded by itself, refresh events may arrive in any thread
+    private final Map<ContentObject, SortKey> m_keys = new WeakHashMap<>();
+
+    private final Set<AbstractContentProvider> m_observedProviders =
+        Collections.newSetFromMap(new WeakHashMap<>());
+
+    private final ILabelProviderListener m_refreshListener = this::refreshed;
+
+    /** Creates a new comparator, comparing names case-insensitively in the default locale. */
+    public ExplorerViewComparator() {
+        m_collator = Collator.getInstance();
+        m_collator.setStrength(Collator.SECONDARY);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int compare(final Viewer viewer, final Object e1, final Object e2) {
-        if ((e1 instanceof ContentObject)
-                && (e2 instanceof ContentObject)) {
-            AbstractExplorerFileStore efs1 = ((ContentObject)e1).getObject();
-            AbstractExplorerFileStore efs2 = ((ContentObject)e2).getObject();
-            int cmp = rank(efs2) - rank(efs1);
-            if (cmp == 0) {
-                return efs1.getName().toLowerCase().compareTo(
-                        efs2.getName().toLowerCase());
-            }
-            return cmp;
+        if ((e1 instanceof ContentObject co1)
+                && (e2 instanceof ContentObject co2)) {
+            return compare(getSortKey(co1), getSortKey(co2));
         }
         // don't sort AbstractContentProviders. They have their own order
         return 0;
     }
 
+    /**
+     * Sorts the elements with sort keys determined once per element rather than once per comparison.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void sort(final Viewer viewer, final Object[] elements) {
+        final var keyed = new KeyedElement[elements.length];
+        for (var i = 0; i < elements.length; i++) {
+            keyed[i] = new KeyedElement(elements[i],
+                elements[i] instanceof ContentObject co ? getSortKey(co) : null);
+        }
+        Arrays.sort(keyed, (k1, k2) -> (k1.key() == null || k2.key() == null) ? 0 : compare(k1.key(), k2.key()));
+        for (var i = 0; i < elements.length; i++) {
+            elements[i] = keyed[i].element();
+        }
+    }
+
+    private static int compare(final SortKey k1, final SortKey k2) {
+        final var cmp = k2.rank() - k1.rank();
+        if (cmp == 0) {
+            return k1.name().compareTo(k2.name());
+        }
+        return cmp;
+    }
+
+    private SortKey getSortKey(final ContentObject element) {
+        synchronized (m_keys) {
+            final var key = m_keys.get(element);
+            if (key != null) {
+                return key;
+            }
+        }
+        final var provider = element.getProvider();
+        if (provider != null) {
+            final boolean added;
+            synchronized (m_keys) {
+                added = m_observedProviders.add(provider);
+            }
+            if (added) {
+                provider.addListener(m_refreshListener);
+            }
+        }
+        final var store = element.getObject();
+        final var key = new SortKey(rank(store), m_collator.getCollationKey(store.getName()), store.getMountID(),
+            store.getFullName());
+        synchronized (m_keys) {
+            m_keys.put(element, key);
+        }
+        return key;
+    }
+
+    private void refreshed(final LabelProviderChangedEvent event) {
+        final var elements = event.getElements();
+        if (elements == null) {
+            invalidate(null);
+        } else {
+            Arrays.stream(elements).forEach(this::invalidate);
+        }
+    }
+
+    /**
+     * Discards the sort keys of a refreshed element and its children.
+     *
+     * @param element the refreshed element or <code>null</code> if all elements are refreshed
+     */
+    void invalidate(final Object element) {
+        final AbstractExplorerFileStore store;
+        if (element instanceof ContentObject co) {
+            store = co.getObject();
+        } else if (element instanceof AbstractExplorerFileStore efs) {
+            store = efs;
+        } else if (element instanceof AbstractContentProvider provider) {
+            store = provider.getRootStore();
+        } else {
+            synchronized (m_keys) {
+                m_keys.clear();
+            }
+            return;
+        }
+        final var mountID = store.getMountID();
+        final var fullName = store.getFullName();
+        final var isRoot = "/".equals(fullName);
+        synchronized (m_keys) {
+            m_keys.values().removeIf(k -> k.mountID().equals(mountID)
+                && (isRoot || k.fullName().equals(fullName) || getParentName(k.fullName()).equals(fullName)));
+        }
+    }
+
+    private static String getParentName(final String fullName) {
+        final var slash = fullName.lastIndexOf('/');
+        return slash <= 0 ? "/" : fullName.substring(0, slash);
+    }
+
     private int rank(final AbstractExplorerFileStore f) {
         // we want to see message at the top
         if (AbstractExplorerFileStore.isMessage(f)) {
@@ -0,0 +1,131 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests {@link NodeUsageLog}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeUsageLogTest {
+
+    /** Folder for the log files. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    /**
+     * Tests that appended usages are aggregated when the log is replayed.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testAppendAndRead() throws Exception {
+        File file = new File(m_tempFolder.getRoot(), "usage.log");
+        NodeUsageLog log = new NodeUsageLog(file.toPath());
+        assertTrue("non-existing log expected to be empty", log.read().isEmpty());
+
+        log.append("a");
+        log.append("b");
+        log.append("a");
+
+        Map<String, Integer> counts = new NodeUsageLog(file.toPath()).read();
+        assertEquals(2, counts.size());
+        assertEquals(Integer.valueOf(2), counts.get("a"));
+        assertEquals(Integer.valueOf(1), counts.get("b"));
+    }
+
+    /**
+     * Tests that compaction writes one line per node and keeps the counts.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCompaction() throws Exception {
+        File file = new File(m_tempFolder.getRoot(), "usage.log");
+        NodeUsageLog log = new NodeUsageLog(file.toPath());
+        for (int i = 0; i <= NodeUsageLog.COMPACTION_THRESHOLD + 1; i++) {
+            log.append("node" + (i % 2));
+        }
+        assertTrue("compaction expected to be due", log.needsCompaction());
+
+        Map<String, Integer> counts = log.read();
+        log.compact(counts);
+        assertFalse("no compaction expected after compacting", log.needsCompaction());
+        assertEquals(2, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        assertEquals(counts, new NodeUsageLog(file.toPath()).read());
+    }
+
+    /**
+     * Tests that corrupt lines, e.g. from an interrupted write, are skipped.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testCorruptLinesAreSkipped() throws Exception {
+        File file = new File(m_tempFolder.getRoot(), "usage.log");
+        Files.write(file.toPath(), "3\ta\nx\tb\n\tc\n1\ta\n2\t".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        expected.put("a", 4);
+        assertEquals(expected, new NodeUsageLog(file.toPath()).read());
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ui.XMLMemento;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.core.node.NodeFactory.NodeType;
+import org.knime.workbench.repository.model.DynamicNodeTemplate;
+import org.knime.workbench.repository.model.NodeTemplate;
+
+/**
+ * Tests the ranking of the most frequently used nodes in {@link NodeUsageRegistry} and the migration of the
+ * frequencies of older versions to the usage log.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeUsageRegistryTest {
+
+    /** Folder for the log files. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private final List<NodeTemplate> m_nodes = new ArrayList<>();
+
+    /** Clears the history and creates the nodes "a" to "e". */
+    @Before
+    public void setUp() {
+        NodeUsageRegistry.clearHistory();
+        for (String id : new String[]{"a", "b", "c", "d", "e"}) {
+            m_nodes.add(new DynamicNodeTemplate(() -> null, null, "test.node." + id, "Node " + id, "test", "/",
+                NodeType.Manipulator));
+        }
+    }
+
+    /**
+     * Clears the history and restores the default size of the most frequent nodes.
+     *
+     * @throws InterruptedException if interrupted while waiting for the usages to be logged
+     */
+    @After
+    public void tearDown() throws InterruptedException {
+        // usages are appended to the log asynchronously, they must not end up in the log of another test
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && Stream.of(Job.getJobManager().find(null))
+            .anyMatch(job -> "Favorite Node Adder".equals(job.getName()))) {
+            Thread.sleep(10);
+        }
+        NodeUsageRegistry.clearHistory();
+        NodeUsageRegistry.setMaxFrequentSize(10);
+    }
+
+    private NodeTemplate node(final char id) {
+        return m_nodes.get(id - 'a');
+    }
+
+    private void use(final char id, final int times) {
+        for (int i = 0; i < times; i++) {
+            NodeUsageRegistry.addNode(node(id));
+        }
+    }
+
+    private void assertMostFrequent(final String expectedIds) {
+        final List<NodeTemplate> expected = new ArrayList<>();
+        for (char id : expectedIds.toCharArray()) {
+            expected.add(node(id));
+        }
+        assertEquals(expected, NodeUsageRegistry.getMostFrequentNodes());
+    }
+
+    /**
+     * Tests that usages rank the nodes by frequency, ties broken by id, and evict the lowest ranked node once the
+     * maximum size is exceeded.
+     */
+    @Test
+    public void testRankingAndEviction() {
+        NodeUsageRegistry.setMaxFrequentSize(3);
+        use('a', 3);
+        use('b', 2);
+        use('c', 1);
+        assertMostFrequent("abc");
+
+        // ties with "c" but ranks lower by id
+        use('d', 1);
+        assertMostFrequent("abc");
+
+        // ties with "b" and ranks above "c", which is evicted
+        use('d', 1);
+        assertMostFrequent("abd");
+
+        // a node of the top frequencies moves up
+        use('d', 2);
+        assertMostFrequent("dab");
+
+        // an evicted node comes back
+        use('c', 4);
+        assertMostFrequent("cda");
+    }
+
+    /**
+     * Tests that the most frequent nodes are rebuilt from all frequencies when the maximum size changes.
+     */
+    @Test
+    public void testRebuildOnMaxSizeChange() {
+        NodeUsageRegistry.setMaxFrequentSize(2);
+        use('e', 1);
+        use('d', 2);
+        use('c', 3);
+        use('b', 4);
+        use('a', 5);
+        assertMostFrequent("ab");
+
+        NodeUsageRegistry.setMaxFrequentSize(4);
+        assertMostFrequent("abcd");
+
+        NodeUsageRegistry.setMaxFrequentSize(1);
+        assertMostFrequent("a");
+
+        NodeUsageRegistry.setMaxFrequentSize(0);
+        assertMostFrequent("");
+        use('e', 10);
+        assertMostFrequent("");
+
+        NodeUsageRegistry.setMaxFrequentSize(10);
+        assertMostFrequent("eabcd");
+    }
+
+    /**
+     * Tests that the frequencies of older versions are written to the usage log when migrated, including those of
+     * nodes that are not installed, and that they are not migrated again.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMigrationIsPersisted() throws Exception {
+        final File file = new File(m_tempFolder.getRoot(), "usage.log");
+        NodeUsageRegistry.setUsageLog(file);
+
+        final XMLMemento oldFrequencies = XMLMemento.createWriteRoot("frequent");
+        addFrequency(oldFrequencies, "test.notInstalled.Factory1", 5);
+        addFrequency(oldFrequencies, "test.notInstalled.Factory2", 7);
+        NodeUsageRegistry.loadFrequentNodes(oldFrequencies);
+
+        final Map<String, Integer> counts = new NodeUsageLog(file.toPath()).read();
+        assertEquals(Integer.valueOf(5), counts.get("test.notInstalled.Factory1"));
+        assertEquals(Integer.valueOf(7), counts.get("test.notInstalled.Factory2"));
+
+        final XMLMemento otherFrequencies = XMLMemento.createWriteRoot("frequent");
+        addFrequency(otherFrequencies, "test.notInstalled.Factory1", 100);
+        NodeUsageRegistry.loadFrequentNodes(otherFrequencies);
+        assertEquals("migrated frequencies expected to be kept", counts, new NodeUsageLog(file.toPath()).read());
+        assertTrue(NodeUsageRegistry.getMostFrequentNodes().isEmpty());
+    }
+
+    private static void addFrequency(final XMLMemento memento, final String id, final int frequency) {
+        final var item = memento.createChild("favorite");
+        item.putString("nodeid", id);
+        item.putInteger("frequency", frequency);
+    }
+}
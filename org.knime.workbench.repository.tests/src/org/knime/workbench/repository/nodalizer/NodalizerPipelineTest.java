@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository.nodalizer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link NodalizerPipeline} with a synthetic set of node extractions.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodalizerPipelineTest {
+
+    private static final int NODE_COUNT = 500;
+
+    private static List<String> run(final int workers) throws Exception {
+        final List<String> written = Collections.synchronizedList(new ArrayList<>());
+        final NodalizerPipeline<String> pipeline = new NodalizerPipeline<>("Test", workers, 8, written::add);
+        final Random random = new Random(42);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            final int index = i;
+            final long sleep = random.nextInt(3);
+            pipeline.submit("node" + i, () -> {
+                Thread.sleep(sleep);
+                if (index % 50 == 7) {
+                    throw new IllegalStateException("Synthetic failure");
+                }
+                return (index % 10 == 3) ? null : ("node" + index);
+            });
+        }
+        final String report = pipeline.finish();
+        assertTrue(report, report.startsWith(NODE_COUNT + " nodes"));
+        assertEquals(NODE_COUNT, pipeline.getSubmittedCount());
+        assertEquals(NODE_COUNT / 50, pipeline.getFailedCount());
+        assertEquals(NODE_COUNT / 10, pipeline.getSkippedCount());
+        assertEquals(written.size(), pipeline.getWrittenCount());
+        return written;
+    }
+
+    /**
+     * Tests that the results are written in submission order, independent of the number of workers.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDeterministicOrder() throws Exception {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            if (i % 50 != 7 && i % 10 != 3) {
+                expected.add("node" + i);
+            }
+        }
+        assertEquals(expected, run(1));
+        assertEquals(expected, run(8));
+    }
+
+    /**
+     * Tests that the discovery is blocked if the writer falls behind.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testBoundedQueue() throws Exception {
+        final AtomicInteger extracted = new AtomicInteger();
+        final AtomicInteger maxAhead = new AtomicInteger();
+        final AtomicInteger writtenCount = new AtomicInteger();
+        final NodalizerPipeline<Integer> pipeline = new NodalizerPipeline<>("Test", 4, 8, i -> {
+            Thread.sleep(1);
+            writtenCount.incrementAndGet();
+        });
+        for (int i = 0; i < 200; i++) {
+            pipeline.submit("node" + i, () -> {
+                int ahead = extracted.incrementAndGet() - writtenCount.get();
+                maxAhead.accumulateAndGet(ahead, Math::max);
+                return 1;
+            });
+        }
+        pipeline.finish();
+        assertEquals(200, writtenCount.get());
+        // the queue capacity plus the result currently being written
+        assertTrue("too many results ahead of the writer: " + maxAhead.get(), maxAhead.get() <= 10);
+    }
+
+    /** Error thrown by a writer, which ends the writer thread. */
+    private static final class WriterDeath extends Error {
+        private static final long serialVersionUID = 1L;
+
+        WriterDeath() {
+            super("Synthetic writer failure");
+        }
+    }
+
+    /**
+     * Tests that submitting fails with the writer's error instead of blocking forever once the writer has died.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(timeout = 10000)
+    public void testWriterFailure() throws Exception {
+        final NodalizerPipeline<Integer> pipeline = new NodalizerPipeline<>("Test", 2, 1, i -> {
+            throw new WriterDeath();
+        });
+        try {
+            for (int i = 0; i < 100; i++) {
+                pipeline.submit("node" + i, () -> 1);
+            }
+            pipeline.finish();
+            fail("Failure of the writer not rethrown");
+        } catch (WriterDeath e) { // NOSONAR expected
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.knime.workbench.repository.util.NodeDocuWriter.Result;
+import org.knime.workbench.repository.util.NodeDocuWriter.Status;
+import org.w3c.dom.Element;
+
+/**
+ * Tests {@link NodeDocuWriter} with a few hundred synthetic nodes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeDocuWriterTest {
+
+    private static final int NODE_COUNT = 300;
+
+    private static final String TEMPLATE = "<html><body>[NODE_DESCRIPTION]</body></html>";
+
+    /** Folder for the generated documentation. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    private static Element description(final String name, final String intro) throws Exception {
+        String xml = "<knimeNode xmlns=\"http://knime.org/node/v4.1\" type=\"Manipulator\"><name>" + name
+            + "</name><shortDescription>Short</shortDescription><fullDescription><intro>" + intro
+            + "</intro></fullDescription><ports/></knimeNode>";
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+            .getDocumentElement();
+    }
+
+    private static List<Result> run(final Path dir, final URL icon, final IntFunction<String> intro) throws Exception {
+        NodeDocuWriter writer = new NodeDocuWriter(dir, TEMPLATE, 4);
+        for (int i = 0; i < NODE_COUNT; i++) {
+            final int index = i;
+            // every third node has no icon
+            final URL nodeIcon = (i % 3 == 0) ? null : icon;
+            writer.submit("node" + i, new NodeDocuWriter.Source() {
+                @Override
+                public Element getXMLDescription() throws Exception {
+                    return description("Node " + index, intro.apply(index));
+                }
+
+                @Override
+                public URL getIcon() {
+                    return nodeIcon;
+                }
+            });
+        }
+        List<Result> results = writer.finish();
+        final String summary = writer.getSummary(results);
+        assertTrue(summary, summary.startsWith("Documented " + NODE_COUNT + " nodes in "));
+        return results;
+    }
+
+    private static long count(final List<Result> results, final Status status) {
+        return results.stream().filter(r -> r.status() == status).count();
+    }
+
+    /**
+     * Tests that all pages are written on the first run, skipped on a second run and that only changed nodes are
+     * written again.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testIncrementalGeneration() throws Exception {
+        Path dir = m_tempFolder.newFolder("docu").toPath();
+        Path icon = m_tempFolder.newFile("icon.png").toPath();
+        Files.write(icon, new byte[]{1, 2, 3});
+        URL iconURL = icon.toUri().toURL();
+
+        List<Result> first = run(dir, iconURL, i -> "Intro");
+        assertEquals(NODE_COUNT, count(first, Status.WRITTEN));
+        assertTrue(Files.exists(dir.resolve("node1.html")));
+        assertTrue(Files.exists(dir.resolve("node1.png")));
+        assertEquals("node1.png", first.get(1).icon());
+        assertEquals(NodeDocuWriter.DEFAULT_ICON, first.get(0).icon());
+        assertEquals(NODE_COUNT + 1,
+            Files.readAllLines(dir.resolve(NodeDocuWriter.REPORT_FILE), StandardCharsets.UTF_8).size());
+
+        List<Result> second = run(dir, iconURL, i -> "Intro");
+        assertEquals(NODE_COUNT, count(second, Status.UNCHANGED));
+
+        List<Result> third = run(dir, iconURL, i -> (i < 10) ? "Changed intro" : "Intro");
+        assertEquals(10, count(third, Status.WRITTEN));
+        assertEquals(NODE_COUNT - 10, count(third, Status.UNCHANGED));
+
+        // a changed icon must invalidate all nodes that use it
+        Files.write(icon, new byte[]{4, 5, 6});
+        List<Result> fourth = run(dir, iconURL, i -> (i < 10) ? "Changed intro" : "Intro");
+        assertEquals(NODE_COUNT - NODE_COUNT / 3, count(fourth, Status.WRITTEN));
+    }
+
+    /**
+     * Tests that a failing node is reported and does not prevent the other nodes from being written.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFailingNode() throws Exception {
+        Path dir = m_tempFolder.newFolder("docu").toPath();
+        NodeDocuWriter writer = new NodeDocuWriter(dir, TEMPLATE, 2);
+        writer.submit("broken", new NodeDocuWriter.Source() {
+            @Override
+            public Element getXMLDescription() throws Exception {
+                throw new IllegalStateException("Broken factory");
+            }
+
+            @Override
+            public URL getIcon() {
+                return null;
+            }
+        });
+        writer.submit("working", new NodeDocuWriter.Source() {
+            @Override
+            public Element getXMLDescription() throws Exception {
+                return description("Working", "Intro");
+            }
+
+            @Override
+            public URL getIcon() {
+                return null;
+            }
+        });
+        List<Result> results = writer.finish();
+        assertEquals(Status.FAILED, results.get(0).status());
+        assertEquals(Status.WRITTEN, results.get(1).status());
+    }
+}
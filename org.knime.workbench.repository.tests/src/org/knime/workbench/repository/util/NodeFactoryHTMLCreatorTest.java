@@ -0,0 +1,139 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.Test;
+import org.w3c.dom.Element;
+
+/**
+ * Tests the caching of {@link NodeFactoryHTMLCreator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeFactoryHTMLCreatorTest {
+
+    private static final String DESCRIPTION = "<knimeNode xmlns=\"http://knime.org/node/v4.1\" type=\"Manipulator\">"
+        + "<name>Cache Test</name><shortDescription>Short</shortDescription>"
+        + "<fullDescription><intro>Intro</intro></fullDescription>"
+        + "<ports><inPort index=\"0\" name=\"In\">Input</inPort><outPort index=\"0\" name=\"Out\">Output</outPort></ports>"
+        + "</knimeNode>";
+
+    private static Element parse() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder()
+            .parse(new ByteArrayInputStream(DESCRIPTION.getBytes(StandardCharsets.UTF_8))).getDocumentElement();
+    }
+
+    /**
+     * Tests that a repeated request for the same key is answered from the cache and is faster than the first
+     * rendering.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testWarmDescriptionIsCached() throws Exception {
+        NodeFactoryHTMLCreator creator = NodeFactoryHTMLCreator.instance;
+        String key = "test:" + System.nanoTime();
+        Element element = parse();
+        assertFalse("description must not be cached yet", creator.getCachedFullDescription(key).isPresent());
+
+        long start = System.nanoTime();
+        String cold = creator.readFullDescription(key, element);
+        long coldNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        String warm = creator.readFullDescription(key, element);
+        long warmNanos = System.nanoTime() - start;
+
+        assertSame("warm description expected to come from the cache", cold, warm);
+        assertSame(cold, creator.getCachedFullDescription(key).get());
+        assertTrue("warm lookup (" + warmNanos + "ns) expected to be faster than rendering (" + coldNanos + "ns)",
+            warmNanos < coldNanos);
+    }
+
+    /**
+     * Tests that the compiled stylesheet can be used by several threads at once.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testConcurrentRendering() throws Exception {
+        NodeFactoryHTMLCreator creator = NodeFactoryHTMLCreator.instance;
+        String expected = creator.readFullDescription(parse());
+        String[] results = new String[4];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    results[index] = creator.readFullDescription(parse());
+                } catch (Exception e) { // NOSONAR
+                    results[index] = e.toString();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        for (String result : results) {
+            assertEquals(expected, result);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Append-only persistence of node usages, used by {@link NodeUsageRegistry}. Every usage is appended as a single
+ * line <code>&lt;count&gt;\t&lt;node id&gt;</code> so that recording a usage never rewrites the whole history. Once
+ * enough redundant lines have accumulated the log is compacted, i.e. rewritten with one aggregated line per node.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeUsageLog {
+
+    /** Number of redundant lines after which {@link #needsCompaction()} returns <code>true</code>. */
+    static final int COMPACTION_THRESHOLD = 500;
+
+    private static final char SEPARATOR = '\t';
+
+    private final Path m_file;
+
+    private int m_redundantLines;
+
+    /**
+     * @param file the log file, which does not need to exist yet
+     */
+    NodeUsageLog(final Path file) {
+        m_file = file;
+    }
+
+    /**
+     * Replays the log.
+     *
+     * @return the aggregated usage counts per node id, in the order of their first occurrence; empty if the log does
+     *         not exist yet
+     * @throws IOException if the log cannot be read
+     */
+    synchronized Map<String, Integer> read() throws IOException {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        int lines = 0;
+        try (BufferedReader reader = Files.newBufferedReader(m_file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final int sep = line.indexOf(SEPARATOR);
+                if (sep <= 0 || sep == line.length() - 1) {
+                    continue; // e.g. a partially written last line
+                }
+                final int count;
+                try {
+                    count = Integer.parseInt(line.substring(0, sep));
+                } catch (NumberFormatException nfe) { // NOSONAR skip corrupt lines
+                    continue;
+                }
+                counts.merge(line.substring(sep + 1), count, Integer::sum);
+                lines++;
+            }
+        } catch (NoSuchFileException nsfe) { // NOSONAR no usages recorded yet
+            return counts;
+        }
+        m_redundantLines = lines - counts.size();
+        return counts;
+    }
+
+    /**
+     * Appends a single usage of the given node.
+     *
+     * @param nodeId the id of the used node
+     * @throws IOException if the log cannot be written
+     */
+    synchronized void append(final String nodeId) throws IOException {
+        Files.createDirectories(m_file.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(m_file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writeLine(writer, nodeId, 1);
+        }
+        m_redundantLines++;
+    }
+
+    /**
+     * @return <code>true</code> if more than {@link #COMPACTION_THRESHOLD} lines could be saved by compacting the log
+     */
+    synchronized boolean needsCompaction() {
+        return m_redundantLines > COMPACTION_THRESHOLD;
+    }
+
+    /**
+     * Replaces the log by one line per node. The new content is written to a temporary file first, so that an
+     * interrupted compaction never loses the existing log.
+     *
+     * @param counts the aggregated usage counts per node id
+     * @throws IOException if the log cannot be written
+     */
+    synchronized void compact(final Map<String, Integer> counts) throws IOException {
+        Files.createDirectories(m_file.getParent());
+        final Path tmp = m_file.resolveSibling(m_file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Integer> e : counts.entrySet()) {
+                writeLine(writer, e.getKey(), e.getValue());
+            }
+        }
+        try {
+            Files.move(tmp, m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) { // NOSONAR fall back to a plain move
+            Files.move(tmp, m_file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        m_redundantLines = 0;
+    }
+
+    private static void writeLine(final BufferedWriter writer, final String nodeId, final int count)
+        throws IOException {
+        writer.write(Integer.toString(count));
+        writer.write(SEPARATOR);
+        writer.write(nodeId);
+        writer.newLine();
+    }
+}
@@ -47,22 +47,27 @@
  */
 package org.knime.workbench.repository;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.IOException;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.ui.IMemento;
-import org.knime.core.node.ParameterizedNodeFactory;
 import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.ParameterizedNodeFactory;
 import org.knime.core.util.KNIMEJob;
 import org.knime.workbench.repository.model.NodeTemplate;
 import org.osgi.framework.FrameworkUtil;
@@ -71,22 +76,41 @@
  * Let one register nodes in order to track their usage (last use, most frequent use) that is, e.g., displayed in the
  * favorites view.
  *
+ * <p>
+ * The most frequently used nodes are kept in a bounded, ranked set of size {@link #setMaxFrequentSize(int) max
+ * frequent size}, which is updated in <code>O(log k)</code> per node usage. Both histories are published as immutable
+ * snapshots, hence {@link #getMostFrequentNodes()} and {@link #getLastUsedNodes()} don't lock and don't copy. If a
+ * {@link #setUsageLog(File) usage log} is set, usages are persisted by appending to it instead of saving all
+ * frequencies as XML.
+ *
  * @author Fabian Dill, University of Konstanz
  */
 public final class NodeUsageRegistry {
 
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeUsageRegistry.class);
+
     private static int maxMostFrequent = 10;
 
     private static int maxLastUsed = 10;
 
-    private static final Map<NodeTemplateFrequency, NodeTemplateFrequency> FREQUENCIES =
-            new HashMap<NodeTemplateFrequency, NodeTemplateFrequency>();
+    /** All frequencies; also the lock for {@link #TOP_FREQUENCIES} and {@link #UNRESOLVED_FREQUENCIES}. */
+    private static final Map<NodeTemplate, NodeTemplateFrequency> FREQUENCIES = new HashMap<>();
+
+    /** The (at most) {@link #maxMostFrequent} highest frequencies. */
+    private static final TreeSet<NodeTemplateFrequency> TOP_FREQUENCIES = new TreeSet<>();
+
+    /** Frequencies read from the usage log whose node is not (or not yet) installed, kept for compaction. */
+    private static final Map<String, Integer> UNRESOLVED_FREQUENCIES = new LinkedHashMap<>();
 
     private static final LinkedList<NodeTemplate> LAST_USED = new LinkedList<NodeTemplate>();
 
     private static final Set<NodeUsageListener> LISTENERS = new LinkedHashSet<>();
 
-    private static List<NodeTemplate> cachedFrequent;
+    private static volatile List<NodeTemplate> mostFrequentSnapshot = Collections.emptyList();
+
+    private static volatile List<NodeTemplate> lastUsedSnapshot = Collections.emptyList();
+
+    private static NodeUsageLog usageLog;
 
     private NodeUsageRegistry() { }
 
@@ -140,8 +164,10 @@ private static void notifyFrequencyHistoryListener() {
      * @param newMaxSize the new max size for the most frequent nodes
      */
     public static void setMaxFrequentSize(final int newMaxSize) {
-        cachedFrequent = null;
-        maxMostFrequent = newMaxSize;
+        synchronized (FREQUENCIES) {
+            maxMostFrequent = newMaxSize;
+            rebuildTopFrequencies();
+        }
         notifyFrequencyHistoryListener();
     }
 
@@ -155,10 +181,43 @@ public static void setMaxLastUsedSize(final int newMaxSize) {
             while (LAST_USED.size() > maxLastUsed) {
                 LAST_USED.removeLast();
             }
+            lastUsedSnapshot = List.copyOf(LAST_USED);
         }
         notifyLastHistoryListener();
     }
 
+    /**
+     * Sets the file node usages are persisted to and replays it. From now on every usage is appended to that file,
+     * which is compacted once in a while and on {@link #saveFrequentNodes(IMemento)}. Called from
+     * FavoriteNodesManager before the favorite nodes are loaded.
+     *
+     * @param logFile the usage log, which does not need to exist yet
+     * @since 5.9
+     */
+    public static void setUsageLog(final File logFile) {
+        final NodeUsageLog log = new NodeUsageLog(logFile.toPath());
+        Map<String, Integer> counts;
+        try {
+            counts = log.read();
+        } catch (IOException ioe) {
+            LOGGER.error("Failed to read node usage log " + logFile.getAbsolutePath(), ioe);
+            counts = Collections.emptyMap();
+        }
+        synchronized (FREQUENCIES) {
+            usageLog = log;
+            for (Map.Entry<String, Integer> e : counts.entrySet()) {
+                final NodeTemplate node =
+                    RepositoryManager.INSTANCE.getNodeTemplate(fixNodeTemplateId(e.getKey()));
+                if (node == null) {
+                    UNRESOLVED_FREQUENCIES.merge(e.getKey(), e.getValue(), Integer::sum);
+                } else {
+                    FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new).m_frequency += e.getValue();
+                }
+            }
+            rebuildTopFrequencies();
+        }
+    }
+
     /**
      * Registers another node usage to be tracked.
      *
@@ -181,18 +240,14 @@ public static void addNode(final NodeTemplate node) {
         if (node == null) { // see AP-16950
             return;
         }
-        NodeTemplateFrequency nodeFreq = new NodeTemplateFrequency(node);
-        NodeTemplateFrequency existing = FREQUENCIES.get(nodeFreq);
-        if (existing == null) {
-            FREQUENCIES.put(nodeFreq, nodeFreq);
-            existing = nodeFreq;
+        synchronized (FREQUENCIES) {
+            increment(FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new));
         }
-        cachedFrequent = null;
-        existing.increment();
         addToLastUsedNodes(node);
         Job favNodeAdder = new KNIMEJob("Favorite Node Adder", FrameworkUtil.getBundle(NodeUsageRegistry.class)) {
             @Override
             protected IStatus run(final IProgressMonitor monitor) {
+                appendToUsageLog(node);
                 notifyListener();
                 return Status.OK_STATUS;
             }
@@ -201,6 +256,92 @@ protected IStatus run(final IProgressMonitor monitor) {
         favNodeAdder.schedule();
     }
 
+    /**
+     * Increments the frequency and updates the ranking of the most frequent nodes in <code>O(log k)</code>. Must
+     * hold the lock on {@link #FREQUENCIES}.
+     */
+    private static void increment(final NodeTemplateFrequency nodeFreq) {
+        final boolean wasTop = nodeFreq.m_isTop;
+        if (wasTop) {
+            // re-insert, its position depends on the frequency
+            TOP_FREQUENCIES.remove(nodeFreq);
+        }
+        nodeFreq.m_frequency++;
+        if (wasTop || offerTopFrequency(nodeFreq)) {
+            if (wasTop) {
+                TOP_FREQUENCIES.add(nodeFreq);
+            }
+            publishMostFrequent();
+        }
+    }
+
+    /**
+     * Adds the frequency to the top frequencies if it ranks high enough, evicting the lowest one if necessary. Must
+     * hold the lock on {@link #FREQUENCIES}.
+     *
+     * @return whether the top frequencies changed
+     */
+    private static boolean offerTopFrequency(final NodeTemplateFrequency nodeFreq) {
+        if (maxMostFrequent <= 0) {
+            return false;
+        }
+        if (TOP_FREQUENCIES.size() >= maxMostFrequent && nodeFreq.compareTo(TOP_FREQUENCIES.last()) >= 0) {
+            return false;
+        }
+        TOP_FREQUENCIES.add(nodeFreq);
+        nodeFreq.m_isTop = true;
+        if (TOP_FREQUENCIES.size() > maxMostFrequent) {
+            TOP_FREQUENCIES.pollLast().m_isTop = false;
+        }
+        return true;
+    }
+
+    /** Must hold the lock on {@link #FREQUENCIES}. */
+    private static void rebuildTopFrequencies() {
+        for (NodeTemplateFrequency nodeFreq : TOP_FREQUENCIES) {
+            nodeFreq.m_isTop = false;
+        }
+        TOP_FREQUENCIES.clear();
+        for (NodeTemplateFrequency nodeFreq : FREQUENCIES.values()) {
+            offerTopFrequency(nodeFreq);
+        }
+        publishMostFrequent();
+    }
+
+    /** Must hold the lock on {@link #FREQUENCIES}. */
+    private static void publishMostFrequent() {
+        mostFrequentSnapshot = TOP_FREQUENCIES.stream().map(NodeTemplateFrequency::getNode).toList();
+    }
+
+    private static void appendToUsageLog(final NodeTemplate node) {
+        final NodeUsageLog log;
+        synchronized (FREQUENCIES) {
+            log = usageLog;
+        }
+        if (log == null) {
+            return;
+        }
+        try {
+            log.append(node.getID());
+            if (log.needsCompaction()) {
+                compactUsageLog(log);
+            }
+        } catch (IOException ioe) {
+            LOGGER.warn("Failed to write node usage log: " + ioe.getMessage(), ioe);
+        }
+    }
+
+    private static void compactUsageLog(final NodeUsageLog log) throws IOException {
+        final Map<String, Integer> counts;
+        synchronized (FREQUENCIES) {
+            counts = new LinkedHashMap<>(UNRESOLVED_FREQUENCIES);
+            for (NodeTemplateFrequency nodeFreq : FREQUENCIES.values()) {
+                counts.merge(nodeFreq.getNode().getID(), nodeFreq.m_frequency, Integer::sum);
+            }
+        }
+        log.compact(counts);
+    }
+
     private static void addToLastUsedNodes(final NodeTemplate node) {
         synchronized(LAST_USED) {
             LAST_USED.remove(node);
@@ -211,36 +352,25 @@ private static void addToLastUsedNodes(final NodeTemplate node) {
                 // remove first node
                 LAST_USED.removeLast();
             }
+            lastUsedSnapshot = List.copyOf(LAST_USED);
         }
     }
 
     /**
      *
-     * @return the n (defined by max size) most frequently used nodes
+     * @return the n (defined by max size) most frequently used nodes, an unmodifiable snapshot
      */
     public static List<NodeTemplate> getMostFrequentNodes() {
-        if (cachedFrequent != null) {
-            return cachedFrequent;
-        }
-        List<NodeTemplateFrequency> mostFrequent =
-                new ArrayList<NodeTemplateFrequency>(FREQUENCIES.values());
-        Collections.sort(mostFrequent);
-        List<NodeTemplate> temp = new ArrayList<NodeTemplate>();
-
-        int max = Math.min(maxMostFrequent, mostFrequent.size());
-        for (int i = 0; i < max; i++) {
-            temp.add(mostFrequent.get(i).getNode());
-        }
-        return (cachedFrequent = temp);
+        return mostFrequentSnapshot;
     }
 
     /**
      *
      * @return the <code>n</code> most last used nodes (where <code>n</code> is
-     *         defined by the max size parameter
+     *         defined by the max size parameter), an unmodifiable snapshot
      */
     public static List<NodeTemplate> getLastUsedNodes() {
-        return LAST_USED;
+        return lastUsedSnapshot;
     }
 
     /**
@@ -253,21 +383,43 @@ public static void clearHistory() {
     }
 
     private static void clearFrequencyHistory() {
-        cachedFrequent = null;
-        FREQUENCIES.clear();
+        final NodeUsageLog log;
+        synchronized (FREQUENCIES) {
+            FREQUENCIES.clear();
+            UNRESOLVED_FREQUENCIES.clear();
+            rebuildTopFrequencies();
+            log = usageLog;
+        }
+        if (log != null) {
+            try {
+                log.compact(Collections.emptyMap());
+            } catch (IOException ioe) {
+                LOGGER.warn("Failed to clear node usage log: " + ioe.getMessage(), ioe);
+            }
+        }
     }
 
     private static void clearLastUsedHistory() {
-        LAST_USED.clear();
+        synchronized (LAST_USED) {
+            LAST_USED.clear();
+            lastUsedSnapshot = Collections.emptyList();
+        }
     }
 
     private static class NodeTemplateFrequency implements
             Comparable<NodeTemplateFrequency> {
 
+        private static final Comparator<NodeTemplateFrequency> RANKING = Comparator
+            .<NodeTemplateFrequency> comparingInt(f -> -f.m_frequency)
+            .thenComparing(f -> f.m_node.getID(), Comparator.nullsFirst(Comparator.naturalOrder()));
+
         private final NodeTemplate m_node;
 
         private int m_frequency;
 
+        /** Whether this is contained in {@link NodeUsageRegistry#TOP_FREQUENCIES}. */
+        private boolean m_isTop;
+
         /**
          *
          * @param node creates a new node template frequency for the given
@@ -278,13 +430,6 @@ public NodeTemplateFrequency(final NodeTemplate node) {
             m_frequency = 0;
         }
 
-        /**
-         * Incremetns the freqeuncy of the node template.
-         */
-        public void increment() {
-            m_frequency++;
-        }
-
         /**
          *
          * @return the underlying node
@@ -332,12 +477,13 @@ public boolean equals(final Object obj) {
         }
 
         /**
+         * Orders by descending frequency, ties are broken by node id so that distinct nodes never compare equal.
          *
          * {@inheritDoc}
          */
         @Override
         public int compareTo(final NodeTemplateFrequency o) {
-            return o.m_frequency - m_frequency;
+            return RANKING.compare(this, o);
         }
 
         /**
@@ -358,16 +504,29 @@ public String toString() {
 
     /**
      * Saves most frequent nodes to XML memento. Called from
-     * FavoriteNodesManager#saveFavoriteNodes.
+     * FavoriteNodesManager#saveFavoriteNodes. If a usage log is set the frequencies are not written to the memento
+     * but the log is compacted instead.
      *
      * @see #loadFrequentNodes(IMemento)
      * @param freqNodes XML memento to save most frequently used nodes to
      */
     public static void saveFrequentNodes(final IMemento freqNodes) {
-        for (NodeTemplateFrequency nodeFreq : FREQUENCIES.values()) {
-            IMemento item = freqNodes.createChild(TAG_FAVORITE);
-            item.putString(TAG_NODE_ID, nodeFreq.getNode().getID());
-            item.putInteger(TAG_FREQUENCY, nodeFreq.m_frequency);
+        final NodeUsageLog log;
+        synchronized (FREQUENCIES) {
+            log = usageLog;
+            if (log == null) {
+                for (NodeTemplateFrequency nodeFreq : FREQUENCIES.values()) {
+                    IMemento item = freqNodes.createChild(TAG_FAVORITE);
+                    item.putString(TAG_NODE_ID, nodeFreq.getNode().getID());
+                    item.putInteger(TAG_FREQUENCY, nodeFreq.m_frequency);
+                }
+                return;
+            }
+        }
+        try {
+            compactUsageLog(log);
+        } catch (IOException ioe) {
+            LOGGER.error("Problems writing node usage log: ", ioe);
         }
     }
 
@@ -379,7 +538,7 @@ public static void saveFrequentNodes(final IMemento freqNodes) {
      * @param lastUsedNodes XML memento to save last used nodes to
      */
     public static void saveLastUsedNodes(final IMemento lastUsedNodes) {
-        for (NodeTemplate node : LAST_USED) {
+        for (NodeTemplate node : lastUsedSnapshot) {
             IMemento item = lastUsedNodes.createChild(TAG_FAVORITE);
             item.putString(TAG_NODE_ID, node.getID());
         }
@@ -387,22 +546,40 @@ public static void saveLastUsedNodes(final IMemento lastUsedNodes) {
 
     /**
      * Loads the most frequently used nodes from XML memento. Called from
-     * FavoriteNodesManager#loadFavoriteNodes.
+     * FavoriteNodesManager#loadFavoriteNodes. The memento is ignored if frequencies have already been read from the
+     * usage log, i.e. it is only used to migrate the history of older versions. The migrated history is written to the
+     * usage log right away, so that it isn't ignored on the next start once usages have been appended to the log.
      *
      * @see #saveFrequentNodes(IMemento)
      * @param freqNodes the XML memento containing the most frequently used
      *            nodes
      */
     public static void loadFrequentNodes(final IMemento freqNodes) {
-        for (IMemento freqNode : freqNodes.getChildren(TAG_FAVORITE)) {
-            String id = fixNodeTemplateId(freqNode.getString(TAG_NODE_ID));
-            int frequency = freqNode.getInteger(TAG_FREQUENCY);
-            NodeTemplate node = RepositoryManager.INSTANCE.getNodeTemplate(id);
-            if (node != null) {
-                NodeTemplateFrequency nodeFreq =
-                        new NodeTemplateFrequency(node);
-                nodeFreq.m_frequency = frequency;
-                FREQUENCIES.put(nodeFreq, nodeFreq);
+        final NodeUsageLog log;
+        synchronized (FREQUENCIES) {
+            if (!FREQUENCIES.isEmpty() || !UNRESOLVED_FREQUENCIES.isEmpty()) {
+                return;
+            }
+            for (IMemento freqNode : freqNodes.getChildren(TAG_FAVORITE)) {
+                String id = fixNodeTemplateId(freqNode.getString(TAG_NODE_ID));
+                int frequency = freqNode.getInteger(TAG_FREQUENCY);
+                NodeTemplate node = RepositoryManager.INSTANCE.getNodeTemplate(id);
+                if (node != null) {
+                    FREQUENCIES.computeIfAbsent(node, NodeTemplateFrequency::new).m_frequency = frequency;
+                } else if (usageLog != null) {
+                    // keep it in the log, the node may be installed later
+                    UNRESOLVED_FREQUENCIES.put(id, frequency);
+                }
+            }
+            rebuildTopFrequencies();
+            final boolean migrated = !FREQUENCIES.isEmpty() || !UNRESOLVED_FREQUENCIES.isEmpty();
+            log = migrated ? usageLog : null;
+        }
+        if (log != null) {
+            try {
+                compactUsageLog(log);
+            } catch (IOException ioe) {
+                LOGGER.error("Problems writing node usage log: ", ioe);
             }
         }
     }
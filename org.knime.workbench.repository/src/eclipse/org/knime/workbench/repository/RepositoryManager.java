@@ -80,6 +80,7 @@
 import org.knime.core.node.extension.NodeSetFactoryExtension;
 import org.knime.core.node.workflow.FileNativeNodeContainerPersistor;
 import org.knime.core.util.Pair;
+import org.knime.workbench.core.util.StartupProfiler;
 import org.knime.workbench.repository.model.AbstractContainerObject;
 import org.knime.workbench.repository.model.Category;
 import org.knime.workbench.repository.model.DefaultNodeTemplate;
@@ -169,20 +170,28 @@ private RepositoryManager() {
     private void readRepository(final IProgressMonitor monitor) {
         // Read in all node templates available
         assert !m_root.hasChildren();
-        readCategories(monitor, m_root);
+        try (var span = StartupProfiler.span(KNIMERepositoryPlugin.PLUGIN_ID, "Read categories")) {
+            readCategories(monitor, m_root);
+        }
         if (monitor.isCanceled()) {
             return;
         }
         var isIncludeDeprecated = Boolean.getBoolean("knime.repository.deprecated.show"); // false in production code
-        readNodes(monitor, m_root, isIncludeDeprecated);
+        try (var span = StartupProfiler.span(KNIMERepositoryPlugin.PLUGIN_ID, "Read nodes")) {
+            readNodes(monitor, m_root, isIncludeDeprecated);
+        }
         if (monitor.isCanceled()) {
             return;
         }
-        readNodeSets(monitor, m_root, isIncludeDeprecated);
+        try (var span = StartupProfiler.span(KNIMERepositoryPlugin.PLUGIN_ID, "Read node sets")) {
+            readNodeSets(monitor, m_root, isIncludeDeprecated);
+        }
         if (monitor.isCanceled()) {
             return;
         }
-        readMetanodes(monitor, m_root);
+        try (var span = StartupProfiler.span(KNIMERepositoryPlugin.PLUGIN_ID, "Read metanodes")) {
+            readMetanodes(monitor, m_root);
+        }
         if (monitor.isCanceled()) {
             return;
         }
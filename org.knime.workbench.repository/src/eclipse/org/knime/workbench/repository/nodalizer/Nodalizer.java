@@ -143,6 +143,7 @@ public class Nodalizer implements IApplication {
     private static final String DEFAULT_OWNER = "-defaultOwner";
     private static final String FEATURES = "-features";
     private static final String BLACKLIST = "-blacklist";
+    private static final String THREADS = "-threads";
 
     /**
      * {@inheritDoc}
@@ -167,6 +168,8 @@ public class Nodalizer implements IApplication {
      * <li>-blacklist &lt;path-to-blacklist-file&gt;, a file in which each line contains a <b>regex rule</b> for an
      * extension which should be "blacklisted" (not parsed). Also if a blacklist file is provided it may be written to
      * if an extension is found which does not have a category path AND contains no nodes</li>
+     * <li>-threads &lt;n&gt;, the number of threads that read the nodes in parallel, defaults to the number of
+     * available processors. The output does not depend on the number of threads.</li>
      * </ul>
      */
     @Override
@@ -185,6 +188,7 @@ public Object start(final IApplicationContext context) throws Exception {
         List<String> features = null;
         Path blacklistFile = null;
         List<String> blacklist = null;
+        int threads = Runtime.getRuntime().availableProcessors();
         if (args instanceof String[]) {
             final String[] params = (String[])args;
             for (int i = 0; i < params.length; i++) {
@@ -242,6 +246,9 @@ public Object start(final IApplicationContext context) throws Exception {
                         LOGGER.warn("Invalid blacklist file: " + blacklistFile.toString());
                     }
                 }
+                if (params[i].equalsIgnoreCase(THREADS) && (params.length > (i + 1))) {
+                    threads = Integer.parseInt(params[i + 1]);
+                }
             }
         }
 
@@ -318,11 +325,15 @@ public Object start(final IApplicationContext context) throws Exception {
             System.setProperty("java.awt.headless", "true");
         }
         final Root root = RepositoryManager.INSTANCE.getCompleteRoot();
-        List<String> previouslyReadFactories = new ArrayList<>();
+        List<String> previouslyReadFactories = Collections.synchronizedList(new ArrayList<>());
 
-        parseNodesInRoot(root, null, nodeDir, extensions, bundles, previouslyReadFactories);
+        NodalizerPipeline<NodeOutput> pipeline = createPipeline("Nodalizer", threads);
+        parseNodesInRoot(root, null, nodeDir, extensions, bundles, previouslyReadFactories, pipeline);
+        LOGGER.info("Read node repository: " + pipeline.finish());
         if (factoryList != null) {
-            parseDeprecatedNodeList(factoryList, nodeDir, extensions, bundles, previouslyReadFactories);
+            pipeline = createPipeline("Nodalizer-Deprecated", threads);
+            parseDeprecatedNodeList(factoryList, nodeDir, extensions, bundles, previouslyReadFactories, pipeline);
+            LOGGER.info("Read factory list: " + pipeline.finish());
         }
 
         // Write extensions
@@ -376,29 +387,47 @@ public void stop() {
 
     // -- Parse nodes --
 
+    /**
+     * The JSON file of a single node, written by the pipeline's writer thread in the order in which the nodes have
+     * been discovered. This keeps the file names, which get a suffix if they clash, stable between runs. The extension
+     * of the node (<code>null</code> if not reading update sites) is marked as having nodes by the writer thread, too,
+     * as the extensions are shared between the workers.
+     */
+    private record NodeOutput(File directory, String fileName, NodeInfo info, ExtensionInfo extension) {
+    }
+
+    private static NodalizerPipeline<NodeOutput> createPipeline(final String name, final int threads) {
+        return new NodalizerPipeline<>(name, threads, 4 * threads, out -> {
+            if (out.extension() != null) {
+                out.extension().setHasNodes(true);
+            }
+            NodalizerUtil.writeFile(out.directory(), out.fileName(), out.info());
+        });
+    }
+
     private void parseNodesInRoot(final IRepositoryObject object, final List<String> path, final File directory,
-        final Map<String, ExtensionInfo> extensions, final List<String> bundles, final List<String> readFactories) {
+        final Map<String, ExtensionInfo> extensions, final List<String> bundles, final List<String> readFactories,
+        final NodalizerPipeline<NodeOutput> pipeline) throws InterruptedException {
         if (object instanceof NodeTemplate) {
-            try {
-                final NodeTemplate template = (NodeTemplate)object;
+            final NodeTemplate template = (NodeTemplate)object;
+            pipeline.submit(object.getName(), () -> {
                 final NodeFactory<? extends NodeModel> fac = template.createFactoryInstance();
                 final NodeAndBundleInformation nodeAndBundleInfo = NodeAndBundleInformationPersistor.create(fac);
-                parseNodeAndPrint(fac, fac.getClass().getName(), path, template.getCategoryPath(), template.getName(),
-                    nodeAndBundleInfo, template.isDeprecated(), directory, extensions, bundles);
+                final NodeOutput out = parseNode(fac, fac.getClass().getName(), path, template.getCategoryPath(),
+                    template.getName(), nodeAndBundleInfo, template.isDeprecated(), directory, extensions, bundles);
                 readFactories.add(fac.getClass().toString());
-            } catch (final Throwable e) {
-                LOGGER.error("Failed to read node: " + object.getName() + ".", e);
-            }
+                return out;
+            });
         } else if (object instanceof Root) {
             for (final IRepositoryObject child : ((Root)object).getChildren()) {
-                parseNodesInRoot(child, new ArrayList<>(), directory, extensions, bundles, readFactories);
+                parseNodesInRoot(child, new ArrayList<>(), directory, extensions, bundles, readFactories, pipeline);
             }
         } else if (object instanceof Category) {
             for (final IRepositoryObject child : ((Category)object).getChildren()) {
                 final Category c = (Category)object;
                 final List<String> p = new ArrayList<>(path);
                 p.add(c.getName());
-                parseNodesInRoot(child, p, directory, extensions, bundles, readFactories);
+                parseNodesInRoot(child, p, directory, extensions, bundles, readFactories, pipeline);
             }
         } else {
             return;
@@ -406,7 +435,9 @@ private void parseNodesInRoot(final IRepositoryObject object, final List<String>
     }
 
     private static void parseDeprecatedNodeList(final Path factoryListFile, final File directory,
-        final Map<String, ExtensionInfo> extensions, final List<String> bundles, final List<String> previouslyReadFactories) {
+        final Map<String, ExtensionInfo> extensions, final List<String> bundles,
+        final List<String> previouslyReadFactories, final NodalizerPipeline<NodeOutput> pipeline)
+        throws InterruptedException {
         if (factoryListFile == null) {
             return;
         }
@@ -423,54 +454,58 @@ private static void parseDeprecatedNodeList(final Path factoryListFile, final Fi
                 LOGGER.info("Skipping previously read factory: " + factory);
                 continue;
             }
-            try {
-                final String[] parts = factory.split("#");
-                final NodeFactory<? extends NodeModel> fac = RepositoryManager.loadNodeFactory(parts[0]);
-
-                // Dynamic nodes require additional information to load the factory
-                if ((fac instanceof ParameterizedNodeFactory) && (parts.length > 1)) {
-                    final String s = parts[1];
-                    final NodeSettingsRO ns =
-                        NodeSettings.loadFromXML(new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8)));
-                    fac.loadAdditionalFactorySettings(ns);
-                }
-
-                final NodeAndBundleInformationPersistor b = NodeAndBundleInformationPersistor.create(fac);
-                final String categoryPath = "/uncategorized";
-                final List<String> path = Collections.singletonList("Uncategorized");
-
-                fac.init(); // Some factories must be initialized or name/description throws NPE
-                if (b.getBundleName().isPresent() && b.getBundleVersion().isPresent()
-                    && b.getBundleSymbolicName().isPresent()) {
-                    // always pass true for isDeprecated, even though the factory may not say it is deprecated
-                    // pass the factory name in the file, not the name of the loaded class - due to factory class
-                    // mapping these may not match
-                    parseNodeAndPrint(fac, parts[0], path, categoryPath, fac.getNodeName(), b, true, directory,
-                        extensions, bundles);
-                } else {
-                    if (!b.getBundleName().isPresent()) {
-                        LOGGER.warn("Bundle name is missing! " + factory);
-                    }
-                    if (!b.getBundleVersion().isPresent()) {
-                        LOGGER.warn("Bundle version is missing! " + factory);
+            pipeline.submit(factory, () -> {
+                try {
+                    final String[] parts = factory.split("#");
+                    final NodeFactory<? extends NodeModel> fac = RepositoryManager.loadNodeFactory(parts[0]);
+
+                    // Dynamic nodes require additional information to load the factory
+                    if ((fac instanceof ParameterizedNodeFactory) && (parts.length > 1)) {
+                        final String s = parts[1];
+                        final NodeSettingsRO ns =
+                            NodeSettings.loadFromXML(new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8)));
+                        fac.loadAdditionalFactorySettings(ns);
                     }
-                    if (!b.getBundleSymbolicName().isPresent()) {
-                        LOGGER.warn("Bundle symbolic name is missing! " + factory);
+
+                    final NodeAndBundleInformationPersistor b = NodeAndBundleInformationPersistor.create(fac);
+                    final String categoryPath = "/uncategorized";
+                    final List<String> path = Collections.singletonList("Uncategorized");
+
+                    fac.init(); // Some factories must be initialized or name/description throws NPE
+                    if (b.getBundleName().isPresent() && b.getBundleVersion().isPresent()
+                        && b.getBundleSymbolicName().isPresent()) {
+                        // always pass true for isDeprecated, even though the factory may not say it is deprecated
+                        // pass the factory name in the file, not the name of the loaded class - due to factory class
+                        // mapping these may not match
+                        return parseNode(fac, parts[0], path, categoryPath, fac.getNodeName(), b, true, directory,
+                            extensions, bundles);
+                    } else {
+                        if (!b.getBundleName().isPresent()) {
+                            LOGGER.warn("Bundle name is missing! " + factory);
+                        }
+                        if (!b.getBundleVersion().isPresent()) {
+                            LOGGER.warn("Bundle version is missing! " + factory);
+                        }
+                        if (!b.getBundleSymbolicName().isPresent()) {
+                            LOGGER.warn("Bundle symbolic name is missing! " + factory);
+                        }
+                        throw new IllegalArgumentException("Bundle information is missing!");
                     }
-                    throw new IllegalArgumentException("Bundle information is missing!");
+                } catch (final Throwable e) {
+                    LOGGER.warn("Failed to read factory from list: " + factory + ". ", e);
+                    return null;
                 }
-            } catch (final Throwable e) {
-                LOGGER.warn("Failed to read factory from list: " + factory + ". ", e);
-            }
+            });
         }
     }
 
-    private static void parseNodeAndPrint(final NodeFactory<? extends NodeModel> fac, final String factoryString,
+    private static NodeOutput parseNode(final NodeFactory<? extends NodeModel> fac, final String factoryString,
         final List<String> path, final String categoryPath, final String name,
         final NodeAndBundleInformation nodeAndBundleInfo, final boolean isDeprecated, final File directory,
         final Map<String, ExtensionInfo> extensions, final List<String> bundles) throws Exception {
         // Read update site info
         // Do this early to prevent instantiating unnecessary nodes.
+        ExtensionInfo extension = null;
         String extensionId = null;
         SiteInfo updateSite = null;
         String owner = null;
@@ -487,7 +522,7 @@ private static void parseNodeAndPrint(final NodeFactory<? extends NodeModel> fac
                 } else {
                     e = extensions.get(cleanedSymbolicName);
                 }
-                e.setHasNodes(true);
+                extension = e;
                 updateSite = e.getUpdateSite();
                 extensionId = e.getId();
                 owner = e.getOwner();
@@ -500,12 +535,12 @@ private static void parseNodeAndPrint(final NodeFactory<? extends NodeModel> fac
             } else if (!nabi.getFeatureSymbolicName().isPresent()
                 && bundles.contains(nabi.getBundleSymbolicName().orElse(null))) {
                 LOGGER.warn(fac.getClass() + " does not contain extension information, skipping ...");
-                return;
+                return null;
             } else {
                 // Node doesn't belong to this update site, so skip. With any KNIME installation there will be
                 // around 500 nodes installed. So it is not worth printing all the nodes that don't belong
                 // to the update site being read.
-                return;
+                return null;
             }
         }
 
@@ -553,7 +588,7 @@ private static void parseNodeAndPrint(final NodeFactory<? extends NodeModel> fac
         Document nodeHTML = null;
         if (nodeXML == null) {
             LOGGER.warn("Node factory XML not found for " + fac.getClass() + ". Skipping ...");
-            return;
+            return null;
         }
         final String s = NodeFactoryHTMLCreator.instance.readFullDescription(nodeXML);
         nodeHTML = Jsoup.parse(s);
@@ -650,8 +685,9 @@ private static void parseNodeAndPrint(final NodeFactory<? extends NodeModel> fac
         nInfo.setKeywords(nodeDescription.getKeywords());
         nInfo.setSinceVersion(nodeDescription.getSinceVersion().orElse(null));
 
-        // Write to file
-        NodalizerUtil.writeFile(directory, categoryPath + "/" + name + "_" + nInfo.getId().substring(1), nInfo);
+        // Written to file by the pipeline's writer
+        return new NodeOutput(directory, categoryPath + "/" + name + "_" + nInfo.getId().substring(1), nInfo,
+            extension);
     }
 
     private static List<DynamicPortGroup> parseDynamicPorts(final Element nodeXML, final String xmlTag,
@@ -0,0 +1,292 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository.nodalizer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A three-staged pipeline used by the {@link Nodalizer}: the calling thread discovers the nodes and submits their
+ * extraction, a bounded number of workers extract the node information in parallel and a single writer thread consumes
+ * the results in the order in which they have been submitted. The output is therefore independent of the number of
+ * workers and of the time the single extractions take, which keeps the generated files comparable between runs.
+ * <p>
+ * The number of submitted but not yet written results is bounded, {@link #submit(String, Callable)} blocks if the
+ * writer falls behind. If the writer thread dies, e.g. due to an {@link Error}, submitting and finishing fail with the
+ * writer's exception instead of waiting for space in the queue forever.
+ * </p>
+ *
+ * @param <T> the type of the extracted results
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodalizerPipeline<T> {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodalizerPipeline.class);
+
+    /** How long to wait for space in the queue before checking whether the writer is still alive. */
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+    /**
+     * Consumer of the extracted results, called from the writer thread only.
+     *
+     * @param <T> the type of the extracted results
+     */
+    @FunctionalInterface
+    interface ResultWriter<T> {
+        /**
+         * @param result the extracted result, never <code>null</code>
+         * @throws Exception if the result cannot be written
+         */
+        void write(T result) throws Exception; // NOSONAR
+    }
+
+    /** Marks the end of the submitted extractions. */
+    private final Future<Task<T>> m_end = CompletableFuture.completedFuture(null);
+
+    private final BlockingQueue<Future<Task<T>>> m_queue;
+
+    private final ExecutorService m_workers;
+
+    private final Thread m_writerThread;
+
+    private final ResultWriter<T> m_writer;
+
+    private final long m_startTime = System.nanoTime();
+
+    private final AtomicLong m_extractNanos = new AtomicLong();
+
+    private long m_discoveryNanos;
+
+    private long m_writeNanos;
+
+    private int m_submitted;
+
+    private int m_written;
+
+    private int m_skipped;
+
+    private int m_failed;
+
+    private volatile Throwable m_writerFailure;
+
+    /**
+     * Creates and starts a new pipeline.
+     *
+     * @param name the name of the pipeline, used for the thread names
+     * @param workers the number of extraction workers
+     * @param capacity the maximum number of submitted results that have not been written yet
+     * @param writer the consumer of the extracted results
+     */
+    NodalizerPipeline(final String name, final int workers, final int capacity, final ResultWriter<T> writer) {
+        m_queue = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        m_writer = writer;
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, name + "-Extractor-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        m_workers = Executors.newFixedThreadPool(Math.max(1, workers), threadFactory);
+        m_writerThread = new Thread(this::writeResults, name + "-Writer");
+        m_writerThread.setDaemon(true);
+        m_writerThread.start();
+    }
+
+    /**
+     * Schedules the extraction of a node. Extractions that return <code>null</code> are skipped, extractions that
+     * fail are logged and skipped.
+     *
+     * @param label a label of the node, used when logging failures
+     * @param extraction the extraction, run on one of the worker threads
+     * @throws InterruptedException if interrupted while waiting for space in the queue
+     * @throws IllegalStateException if the writer has stopped, unless it died with an unchecked exception or error,
+     *             which is rethrown
+     */
+    void submit(final String label, final Callable<T> extraction) throws InterruptedException {
+        checkWriter();
+        final Future<Task<T>> future = m_workers.submit(() -> {
+            final long start = System.nanoTime();
+            try {
+                return new Task<>(label, extraction.call(), null);
+            } catch (Throwable t) { // NOSONAR failures of single nodes are reported by the writer
+                return new Task<>(label, null, t);
+            } finally {
+                m_extractNanos.addAndGet(System.nanoTime() - start);
+            }
+        });
+        m_submitted++;
+        enqueue(future);
+    }
+
+    private void enqueue(final Future<Task<T>> future) throws InterruptedException {
+        while (!m_queue.offer(future, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            checkWriter();
+        }
+    }
+
+    /* nobody would drain the queue anymore if the writer has died */
+    private void checkWriter() {
+        if (m_writerFailure != null || !m_writerThread.isAlive()) {
+            m_workers.shutdownNow();
+            rethrowWriterFailure();
+        }
+    }
+
+    private void rethrowWriterFailure() {
+        final Throwable failure = m_writerFailure;
+        if (failure instanceof Error error) {
+            throw error;
+        } else if (failure instanceof RuntimeException re) {
+            throw re;
+        }
+        throw new IllegalStateException(
+            failure == null ? "The writer has already stopped" : "Writing the results failed: " + failure.getMessage(),
+            failure);
+    }
+
+    /**
+     * Waits until all submitted results have been written and shuts the pipeline down.
+     *
+     * @return a summary of the pipeline's throughput
+     * @throws InterruptedException if interrupted while waiting
+     * @throws IllegalStateException if the writer failed, unless it died with an unchecked exception or error, which
+     *             is rethrown
+     */
+    String finish() throws InterruptedException {
+        m_discoveryNanos = System.nanoTime() - m_startTime;
+        enqueue(m_end);
+        m_writerThread.join();
+        m_workers.shutdown();
+        if (m_writerFailure != null) {
+            LOGGER.error("Writing the results failed, the output is incomplete", m_writerFailure);
+            rethrowWriterFailure();
+        }
+        return getReport();
+    }
+
+    private void writeResults() {
+        try {
+            Future<Task<T>> future;
+            while ((future = m_queue.take()) != m_end) {
+                final Task<T> task = future.get();
+                if (task.failure() != null) {
+                    LOGGER.error("Failed to read node: " + task.label() + ".", task.failure());
+                    m_failed++;
+                } else if (task.result() == null) {
+                    m_skipped++;
+                } else {
+                    final long start = System.nanoTime();
+                    try {
+                        m_writer.write(task.result());
+                        m_written++;
+                    } catch (Exception ex) { // NOSONAR failures of single nodes are logged
+                        LOGGER.error("Failed to write node: " + task.label() + ".", ex);
+                        m_failed++;
+                    }
+                    m_writeNanos += System.nanoTime() - start;
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            m_writerFailure = ex;
+        } catch (ExecutionException ex) {
+            // the extraction itself catches all exceptions, so this should not happen
+            m_writerFailure = ex.getCause();
+        } catch (Throwable t) { // NOSONAR passed on to the submitting thread
+            m_writerFailure = t;
+        }
+    }
+
+    /**
+     * @return a summary of the pipeline's throughput, valid after {@link #finish()}
+     */
+    String getReport() {
+        final long totalNanos = System.nanoTime() - m_startTime;
+        final double seconds = totalNanos / 1e9;
+        return String.format(
+            "%d nodes in %.2f s (%.1f nodes/s): %d written, %d skipped, %d failed; "
+                + "discovery %d ms, extraction %d ms (summed over workers), writing %d ms",
+            m_submitted, seconds, seconds > 0 ? m_submitted / seconds : 0, m_written, m_skipped, m_failed,
+            m_discoveryNanos / 1_000_000, m_extractNanos.get() / 1_000_000, m_writeNanos / 1_000_000);
+    }
+
+    /** @return the number of submitted nodes */
+    int getSubmittedCount() {
+        return m_submitted;
+    }
+
+    /** @return the number of written results, valid after {@link #finish()} */
+    int getWrittenCount() {
+        return m_written;
+    }
+
+    /** @return the number of skipped nodes, valid after {@link #finish()} */
+    int getSkippedCount() {
+        return m_skipped;
+    }
+
+    /** @return the number of failed nodes, valid after {@link #finish()} */
+    int getFailedCount() {
+        return m_failed;
+    }
+
+    private record Task<T>(String label, T result, Throwable failure) {
+    }
+}
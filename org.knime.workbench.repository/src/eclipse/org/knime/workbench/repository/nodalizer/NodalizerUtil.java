@@ -70,6 +70,7 @@
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 import jakarta.json.JsonArray;
@@ -86,6 +87,10 @@ public final class NodalizerUtil {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(NodalizerUtil.class);
 
+    /** Shared by all {@link #writeFile(File, String, Object)} calls, object writers are immutable and thread-safe. */
+    private static final ObjectWriter JSON_WRITER = new ObjectMapper().setSerializationInclusion(Include.NON_ABSENT)
+        .enable(SerializationFeature.INDENT_OUTPUT).writer();
+
     private NodalizerUtil() {
         // Prevent instantiation of util class
     }
@@ -208,10 +213,7 @@ public static String getColorAsHex(final int color) {
      */
     public static void writeFile(final File outputDir, final String baseFileName, final Object pojoToWrite)
         throws JsonProcessingException, FileNotFoundException, UnsupportedEncodingException {
-        final ObjectMapper map = new ObjectMapper();
-        map.setSerializationInclusion(Include.NON_ABSENT);
-        map.enable(SerializationFeature.INDENT_OUTPUT);
-        final String json = map.writeValueAsString(pojoToWrite);
+        final String json = JSON_WRITER.writeValueAsString(pojoToWrite);
         final String regex = "\\W+";
         String fileName = baseFileName.replaceAll(regex, "_");
         File f = new File(outputDir, fileName + ".json");
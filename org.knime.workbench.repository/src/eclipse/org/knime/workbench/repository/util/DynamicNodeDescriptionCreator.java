@@ -48,6 +48,16 @@
 package org.knime.workbench.repository.util;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.xml.transform.TransformerException;
@@ -55,18 +65,26 @@
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.knime.core.node.NodeFactory;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeModel;
+import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.ui.node.workflow.NodeContainerUI;
 import org.knime.core.ui.node.workflow.SingleNodeContainerUI;
 import org.knime.core.ui.node.workflow.SubNodeContainerUI;
 import org.knime.core.ui.node.workflow.WorkflowManagerUI;
 import org.knime.core.ui.node.workflow.lazy.LazyWorkflowManagerUI;
+import org.knime.core.ui.wrapper.Wrapper;
+import org.knime.core.util.KNIMEJob;
 import org.knime.workbench.repository.model.Category;
 import org.knime.workbench.repository.model.IRepositoryObject;
 import org.knime.workbench.repository.model.MetaNodeTemplate;
 import org.knime.workbench.repository.model.NodeTemplate;
+import org.osgi.framework.FrameworkUtil;
 
 /**
  * This class has two functions static and dynamic HTML creation.
@@ -88,6 +106,11 @@ public final class DynamicNodeDescriptionCreator {
 
     private static final DynamicNodeDescriptionCreator INSTANCE = new DynamicNodeDescriptionCreator();
 
+    /** Maximum number of descriptions rendered by a single pre-rendering job, less than the HTML cache size. */
+    private static final int MAX_PRERENDERED_DESCRIPTIONS = 50;
+
+    private Job m_prerenderJob;
+
     private DynamicNodeDescriptionCreator() {
     }
 
@@ -174,10 +197,9 @@ public void addDescription(final Category cat, final StringBuilder bld,
      */
     public static void addDescription(final NodeTemplate template, final boolean useSingleLine,
             final StringBuilder bld) {
-        NodeFactory<? extends NodeModel> nf = null;
         try {
-            nf = template.createFactoryInstance();
             if (useSingleLine) {
+                NodeFactory<? extends NodeModel> nf = template.createFactoryInstance();
                 bld.append("<dt><b>");
                 bld.append(StringEscapeUtils.escapeHtml4(nf.getNodeName()));
                 bld.append(":</b></dt><dd>");
@@ -185,7 +207,14 @@ public static void addDescription(final NodeTemplate template, final boolean use
                     NodeFactoryHTMLCreator.instance.readShortDescriptionFromXML(nf.getXMLDescription())));
                 bld.append("</dd>");
             } else {
-                bld.append(NodeFactoryHTMLCreator.instance.readFullDescription(nf.getXMLDescription()));
+                final String cacheKey = getCacheKey(template);
+                final Optional<String> cached = NodeFactoryHTMLCreator.instance.getCachedFullDescription(cacheKey);
+                if (cached.isPresent()) {
+                    bld.append(cached.get());
+                } else {
+                    NodeFactory<? extends NodeModel> nf = template.createFactoryInstance();
+                    bld.append(NodeFactoryHTMLCreator.instance.readFullDescription(cacheKey, nf.getXMLDescription()));
+                }
             }
         } catch (Exception e) {
             if (useSingleLine) {
@@ -205,6 +234,87 @@ public static void addDescription(final NodeTemplate template, final boolean use
         }
     }
 
+    /**
+     * Renders the full descriptions of the given node templates into the HTML cache in a background job, so that
+     * they are available immediately when selected. A previously scheduled pre-rendering job is cancelled.
+     *
+     * @param templates the templates, e.g. the ones that just became visible in the node repository
+     * @since 5.9
+     */
+    public synchronized void prerenderDescriptions(final Collection<NodeTemplate> templates) {
+        if (m_prerenderJob != null) {
+            m_prerenderJob.cancel();
+        }
+        final List<NodeTemplate> toRender = new ArrayList<>(templates);
+        if (toRender.size() > MAX_PRERENDERED_DESCRIPTIONS) {
+            toRender.subList(MAX_PRERENDERED_DESCRIPTIONS, toRender.size()).clear();
+        }
+        m_prerenderJob =
+            new KNIMEJob("Node Description Pre-Renderer", FrameworkUtil.getBundle(DynamicNodeDescriptionCreator.class)) {
+                @Override
+                protected IStatus run(final IProgressMonitor monitor) {
+                    for (NodeTemplate template : toRender) {
+                        if (monitor.isCanceled()) {
+                            return Status.CANCEL_STATUS;
+                        }
+                        final String cacheKey = getCacheKey(template);
+                        if (NodeFactoryHTMLCreator.instance.getCachedFullDescription(cacheKey).isEmpty()) {
+                            try {
+                                NodeFactoryHTMLCreator.instance.readFullDescription(cacheKey,
+                                    template.createFactoryInstance().getXMLDescription());
+                            } catch (Exception e) { // NOSONAR rendered (and reported) again on selection
+                                NodeLogger.getLogger(DynamicNodeDescriptionCreator.class).debug(
+                                    "Could not pre-render description of " + template.getID() + ": " + e.getMessage(),
+                                    e);
+                            }
+                        }
+                    }
+                    return Status.OK_STATUS;
+                }
+            };
+        m_prerenderJob.setSystem(true);
+        m_prerenderJob.setPriority(Job.DECORATE);
+        m_prerenderJob.schedule();
+    }
+
+    private static String getCacheKey(final NodeTemplate template) {
+        // the id of the template identifies the factory (including its settings for dynamic nodes)
+        return "template:" + template.getID();
+    }
+
+    /**
+     * The description of a node in a workflow may depend on its (dynamic) ports and its settings, hence these are part
+     * of the key; the settings as a hash of their XML form.
+     *
+     * @return the key or an empty optional if the description shouldn't be cached
+     */
+    private static Optional<String> getCacheKey(final SingleNodeContainerUI nc) {
+        if (!Wrapper.wraps(nc, NativeNodeContainer.class)) {
+            return Optional.empty();
+        }
+        final NativeNodeContainer nnc = Wrapper.unwrap(nc, NativeNodeContainer.class);
+        final StringBuilder key = new StringBuilder("node:").append(nnc.getNode().getFactory().getFactoryId());
+        for (int i = 0; i < nnc.getNrInPorts(); i++) {
+            key.append('|').append(nnc.getInPort(i).getPortType().getName());
+        }
+        key.append("|->");
+        for (int i = 0; i < nnc.getNrOutPorts(); i++) {
+            key.append('|').append(nnc.getOutPort(i).getPortType().getName());
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                nnc.getNodeSettings().saveToXML(out);
+            }
+            key.append("|settings:").append(HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException e) { // NOSONAR the description is rendered without caching
+            NodeLogger.getLogger(DynamicNodeDescriptionCreator.class)
+                .debug("Could not fingerprint settings of " + nnc.getNameWithID() + ": " + e.getMessage(), e);
+            return Optional.empty();
+        }
+        return Optional.of(key.toString());
+    }
+
     /**
      * Adds the description for the node represented by this node edit part to
      * the StringBuilder. If useSingleLine is set it will use the simple one
@@ -233,7 +343,13 @@ public void addDescription(final NodeContainerUI nc, final boolean useSingleLine
                 bld.append("</dd>");
             } else {
                 try {
-                    bld.append(NodeFactoryHTMLCreator.instance.readFullDescription(singleNC.getXMLDescription()));
+                    final Optional<String> cacheKey = getCacheKey(singleNC);
+                    if (cacheKey.isPresent()) {
+                        bld.append(NodeFactoryHTMLCreator.instance.readFullDescription(cacheKey.get(),
+                            singleNC.getXMLDescription()));
+                    } else {
+                        bld.append(NodeFactoryHTMLCreator.instance.readFullDescription(singleNC.getXMLDescription()));
+                    }
                 } catch (FileNotFoundException | TransformerFactoryConfigurationError | TransformerException ex) {
                     NodeLogger.getLogger(DynamicNodeDescriptionCreator.class)
                         .error("Could not create HTML node description: " + ex.getMessage(), ex);
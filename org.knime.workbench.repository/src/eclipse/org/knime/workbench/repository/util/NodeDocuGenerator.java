@@ -59,9 +59,9 @@
 import java.io.Writer;
 import java.net.URL;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
 
 import javax.xml.transform.TransformerException;
 
@@ -74,16 +74,21 @@
 import org.eclipse.swt.graphics.ImageLoader;
 import org.eclipse.swt.widgets.Display;
 import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
 import org.knime.workbench.repository.RepositoryManager;
 import org.knime.workbench.repository.model.Category;
 import org.knime.workbench.repository.model.IContainerObject;
 import org.knime.workbench.repository.model.IRepositoryObject;
 import org.knime.workbench.repository.model.NodeTemplate;
 import org.knime.workbench.repository.model.Root;
+import org.w3c.dom.Element;
 
 /**
  * Creates a summary of the node descriptions of a all available KNIME nodes that can be browsed in a node
- * repository-like menu. After generation just open the "index.html" in a browser.
+ * repository-like menu. After generation just open the "index.html" in a browser. The node pages are written in
+ * parallel and pages of nodes that did not change since the last run into the same directory are skipped, see
+ * {@link NodeDocuWriter}.
  *
  * @author Martin Horn, University of Konstanz
  * @since 2.9
@@ -96,6 +101,8 @@ public class NodeDocuGenerator implements IApplication {
 
     private static final String PLUGIN_ARG = "-plugin";
 
+    private static final String THREADS_ARG = "-threads";
+
     private static void printUsage() {
         System.err.println("Usage: NodeDocuGenerator options");
         System.err.println("Allowed options are:");
@@ -105,6 +112,8 @@ private static void printUsage() {
                 .println("\t-plugin plugin-id : Only nodes of the specified plugin will be considered. If not all available plugins will be processed.\n");
         System.err
                 .println("\t-category category-path (e.g. /community) : Only nodes within the specified category path will be considered. If not specified '/' is used.\n");
+        System.err.println("\t-threads n : Number of threads that write the node descriptions. If not specified the "
+            + "number of available processors is used.\n");
 
     }
 
@@ -124,7 +133,12 @@ private static void printUsage() {
 
     private String m_nodeRepositoryTemplate;
 
-    private StringBuilder m_nodeRepository = new StringBuilder();
+    /* fragments of the node repository menu, either strings or the pending results of the nodes */
+    private final List<Object> m_nodeRepository = new ArrayList<>();
+
+    private NodeDocuWriter m_nodeDocuWriter;
+
+    private int m_threads = Runtime.getRuntime().availableProcessors();
 
     private String m_pluginId = null;
 
@@ -148,6 +162,8 @@ public Object start(final IApplicationContext context) throws Exception {
                     m_catPath = args[i + 1];
                 } else if (args[i].equals(PLUGIN_ARG)) {
                     m_pluginId = args[i + 1];
+                } else if (args[i].equals(THREADS_ARG)) {
+                    m_threads = Integer.parseInt(args[i + 1]);
                 } else if (args[i].equals("-help")) {
                     printUsage();
                     return EXIT_OK;
@@ -192,7 +208,8 @@ private void generate() throws Exception {
         // copy static html files
         copyFiles(FILES_TO_COPY);
 
-        m_nodeRepository.setLength(0);
+        m_nodeRepository.clear();
+        m_nodeDocuWriter = new NodeDocuWriter(m_directory.toPath(), m_nodeDescriptionTemplate, m_threads);
 
         // write css file
         Writer css = createDocumentWriter("style.css", m_directory);
@@ -235,8 +252,20 @@ private void generate() throws Exception {
         // pages
         generate(m_directory, root, null);
 
+        System.out.println("Waiting for node descriptions");
+        List<NodeDocuWriter.Result> results = m_nodeDocuWriter.finish();
+        System.out.println(m_nodeDocuWriter.getSummary(results));
+
         // complete and write repository template
-        String nodeRepo = m_nodeRepositoryTemplate.replace("[NODE_REPOSITORY]", m_nodeRepository.toString());
+        StringBuilder menu = new StringBuilder();
+        for (Object fragment : m_nodeRepository) {
+            if (fragment instanceof Future) {
+                menu.append(((NodeDocuWriter.Result)((Future<?>)fragment).get()).icon());
+            } else {
+                menu.append(fragment);
+            }
+        }
+        String nodeRepo = m_nodeRepositoryTemplate.replace("[NODE_REPOSITORY]", menu.toString());
         Writer out = createDocumentWriter("node_repository.html", m_directory);
         out.write(nodeRepo);
         out.close();
@@ -278,7 +307,7 @@ private boolean generate(final File directory, final IRepositoryObject current,
             throws TransformerException, Exception {
         // current length of the repository string to be able to revert it to
         // the current state
-        int currentLength = m_nodeRepository.length();
+        int currentLength = m_nodeRepository.size();
 
         if (current instanceof NodeTemplate) {
 
@@ -297,42 +326,37 @@ private boolean generate(final File directory, final IRepositoryObject current,
                 }
             }
 
-            String nodeIdentifier = cleanNodeIdForFileName((NodeTemplate)current);//((NodeTemplate)current).getID();
+            final NodeTemplate template = (NodeTemplate)current;
+            String nodeIdentifier = cleanNodeIdForFileName(template);
 
-            // write icon to disc
-            URL iconURL = ((NodeTemplate)current).createFactoryInstance().getIcon();
-            String nodeIcon;
-            if (iconURL != null) {
-                writeStreamToFile(iconURL.openStream(), nodeIdentifier + ".png");
-                nodeIcon = nodeIdentifier + ".png";
-            } else {
-                nodeIcon = "knime_default_icon.png";
-            }
+            // the node page and icon are written by the worker threads, the icon name is filled into the menu
+            // once they are done
+            Future<NodeDocuWriter.Result> result = m_nodeDocuWriter.submit(nodeIdentifier, new NodeDocuWriter.Source() {
+                private NodeFactory<? extends NodeModel> m_factory;
+
+                private NodeFactory<? extends NodeModel> getFactory() throws Exception {
+                    if (m_factory == null) {
+                        m_factory = template.createFactoryInstance();
+                    }
+                    return m_factory;
+                }
+
+                @Override
+                public Element getXMLDescription() throws Exception {
+                    return getFactory().getXMLDescription();
+                }
+
+                @Override
+                public URL getIcon() throws Exception {
+                    return getFactory().getIcon();
+                }
+            });
 
             // the node repository-like menu
-            m_nodeRepository.append("<li style=\"list-style-image: url(");
-            m_nodeRepository.append(nodeIcon);
-            m_nodeRepository.append(");\" class=\"knime-node\"><span class=\"childs\"><a href=\"");
-            m_nodeRepository.append(current.getID());
-            m_nodeRepository.append(".html\" target=\"Node Description\">");
-            m_nodeRepository.append(((NodeTemplate)current).getName());
-            m_nodeRepository.append("</a></span></li>\n");
-
-            // create page with node description and return, as no more
-            // children
-            // are available
-            Writer nodeDoc = createDocumentWriter(cleanNodeIdForFileName((NodeTemplate)current) + ".html", directory);
-            String nodeDescription =
-                    NodeFactoryHTMLCreator.instance.readFullDescription(((NodeTemplate)current).createFactoryInstance()
-                            .getXMLDescription());
-            // extract the body of the node description html-document
-            nodeDescription =
-                    nodeDescription
-                            .substring(nodeDescription.indexOf("<body>") + 6, nodeDescription.indexOf("</body>"));
-            nodeDescription = m_nodeDescriptionTemplate.replace("[NODE_DESCRIPTION]", nodeDescription);
-            nodeDoc.write(nodeDescription);
-            nodeDoc.flush();
-            nodeDoc.close();
+            m_nodeRepository.add("<li style=\"list-style-image: url(");
+            m_nodeRepository.add(result);
+            m_nodeRepository.add(");\" class=\"knime-node\"><span class=\"childs\"><a href=\"" + current.getID()
+                + ".html\" target=\"Node Description\">" + template.getName() + "</a></span></li>\n");
 
             return true;
         } else if (current instanceof Category || current instanceof Root) {
@@ -354,12 +378,8 @@ private boolean generate(final File directory, final IRepositoryObject current,
                     catIcon = "knime_default_icon.png";
                 }
 
-                m_nodeRepository.append("<li class=\"knime-category\">");
-                m_nodeRepository.append("<img width=\"16px\" src=\"");
-                m_nodeRepository.append(catIcon);
-                m_nodeRepository.append("\"/>&nbsp;");
-                m_nodeRepository.append(((Category)current).getName());
-                m_nodeRepository.append("</span><ul>");
+                m_nodeRepository.add("<li class=\"knime-category\"><img width=\"16px\" src=\"" + catIcon
+                    + "\"/>&nbsp;" + ((Category)current).getName() + "</span><ul>");
             }
 
             boolean hasChildren = false;
@@ -368,11 +388,11 @@ private boolean generate(final File directory, final IRepositoryObject current,
             }
 
             if (hasChildren) {
-                m_nodeRepository.append("</ul></li>");
+                m_nodeRepository.add("</ul></li>");
                 return true;
             } else {
                 // revert all entries done so far
-                m_nodeRepository.setLength(currentLength);
+                m_nodeRepository.subList(currentLength, m_nodeRepository.size()).clear();
                 return false;
             }
 
@@ -420,19 +440,6 @@ private void copyFiles(final String... files) throws IOException {
         }
     }
 
-    /*
-     * Writes the stream into the given file (within the target directory)
-     */
-    private void writeStreamToFile(final InputStream in, final String fileName) throws IOException {
-        Path p = Paths.get(m_directory.getAbsolutePath(), fileName);
-        Files.createDirectories(p.getParent());
-
-        try (OutputStream out = Files.newOutputStream(p)) {
-            IOUtils.copy(in, out);
-        }
-        in.close();
-    }
-
     /*
      * Stores the file content into a string.
      */
@@ -0,0 +1,338 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.repository.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.apache.commons.io.IOUtils;
+import org.w3c.dom.Element;
+
+/**
+ * Writes the description pages and icons of nodes for the {@link NodeDocuGenerator} using a bounded number of worker
+ * threads. Every page is keyed by a content hash of the node's description XML, its icon and the page template. The
+ * hashes are stored in an index file in the target directory and pages whose hash did not change since the last run
+ * are not rendered again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NodeDocuWriter {
+
+    /** Name of the file in the target directory that stores the content hashes of the written pages. */
+    static final String INDEX_FILE = ".node-docu-index";
+
+    /** Name of the file in the target directory that contains the per-node timings of the last run. */
+    static final String REPORT_FILE = "node-docu-report.csv";
+
+    /** Icon used if a node does not provide its own icon. */
+    static final String DEFAULT_ICON = "knime_default_icon.png";
+
+    /**
+     * The source of a node's documentation. Implementations are called from the worker threads, which is where the
+     * (potentially expensive) instantiation of the node factory should happen.
+     */
+    interface Source {
+        /**
+         * @return the XML description of the node
+         * @throws Exception if the description cannot be read
+         */
+        Element getXMLDescription() throws Exception; // NOSONAR
+
+        /**
+         * @return the URL of the node's icon or <code>null</code> if the node has no icon
+         * @throws Exception if the icon cannot be determined
+         */
+        URL getIcon() throws Exception; // NOSONAR
+    }
+
+    /** Outcome of the documentation of a single node. */
+    enum Status {
+        /** The page has been (re-)written. */
+        WRITTEN,
+        /** The page was up to date and has been skipped. */
+        UNCHANGED,
+        /** The page could not be written. */
+        FAILED
+    }
+
+    /**
+     * Result of the documentation of a single node.
+     *
+     * @param name the base name of the node's files
+     * @param icon the file name of the icon shown for the node
+     * @param status the outcome
+     * @param nanos the time spent on the node
+     */
+    record Result(String name, String icon, Status status, long nanos) {
+    }
+
+    private final Path m_directory;
+
+    private final String m_pageTemplate;
+
+    private final byte[] m_templateHash;
+
+    private final Map<String, String> m_previousHashes;
+
+    private final Map<String, String> m_hashes = new ConcurrentHashMap<>();
+
+    private final List<Future<Result>> m_results = new ArrayList<>();
+
+    private final ExecutorService m_executor;
+
+    private final long m_startTime = System.nanoTime();
+
+    /**
+     * Creates a new writer.
+     *
+     * @param directory the target directory
+     * @param pageTemplate template of a node page, the description is inserted at <tt>[NODE_DESCRIPTION]</tt>
+     * @param threads the maximum number of worker threads
+     * @throws IOException if the index of a previous run cannot be read
+     */
+    NodeDocuWriter(final Path directory, final String pageTemplate, final int threads) throws IOException {
+        m_directory = directory;
+        m_pageTemplate = pageTemplate;
+        m_templateHash = newDigest().digest(pageTemplate.getBytes(StandardCharsets.UTF_8));
+        m_previousHashes = readIndex(directory.resolve(INDEX_FILE));
+        final AtomicInteger count = new AtomicInteger();
+        final ThreadFactory threadFactory = r -> {
+            Thread t = new Thread(r, "KNIME-Node-Docu-Writer-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+        m_executor = Executors.newFixedThreadPool(Math.max(1, threads), threadFactory);
+    }
+
+    /**
+     * Schedules the documentation of a node.
+     *
+     * @param name the base name of the node's page and icon file, must be unique
+     * @param source the source of the documentation
+     * @return the future result, which also contains the name of the node's icon file
+     */
+    Future<Result> submit(final String name, final Source source) {
+        Future<Result> result = m_executor.submit(() -> write(name, source));
+        m_results.add(result);
+        return result;
+    }
+
+    /**
+     * Waits for all scheduled nodes, stores the content index and the per-node report in the target directory.
+     *
+     * @return the results of all nodes
+     * @throws IOException if the index or the report cannot be written
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    List<Result> finish() throws IOException, InterruptedException {
+        m_executor.shutdown();
+        final List<Result> results = new ArrayList<>(m_results.size());
+        try {
+            for (Future<Result> f : m_results) {
+                results.add(f.get());
+            }
+        } catch (ExecutionException ex) {
+            // write() reports failures in its result, so this can only be an unexpected error
+            throw new IOException(ex.getCause());
+        } finally {
+            m_executor.shutdownNow();
+        }
+        writeIndex(m_directory.resolve(INDEX_FILE), m_hashes);
+        writeReport(m_directory.resolve(REPORT_FILE), results);
+        return results;
+    }
+
+    /**
+     * Creates a human readable summary of the given results.
+     *
+     * @param results the results returned by {@link #finish()}
+     * @return the summary
+     */
+    String getSummary(final List<Result> results) {
+        final Map<Status, Integer> counts = new HashMap<>();
+        for (Result r : results) {
+            counts.merge(r.status(), 1, Integer::sum);
+        }
+        final StringBuilder buf = new StringBuilder();
+        buf.append("Documented ").append(results.size()).append(" nodes in ")
+            .append((System.nanoTime() - m_startTime) / 1_000_000).append(" ms: ")
+            .append(counts.getOrDefault(Status.WRITTEN, 0)).append(" written, ")
+            .append(counts.getOrDefault(Status.UNCHANGED, 0)).append(" unchanged, ")
+            .append(counts.getOrDefault(Status.FAILED, 0)).append(" failed\n");
+        buf.append("Slowest nodes:\n");
+        results.stream().sorted(Comparator.comparingLong(Result::nanos).reversed()).limit(10)
+            .forEach(r -> buf.append('\t').append(r.nanos() / 1_000_000).append(" ms\t").append(r.name()).append('\n'));
+        return buf.toString();
+    }
+
+    private Result write(final String name, final Source source) {
+        final long start = System.nanoTime();
+        String icon = DEFAULT_ICON;
+        try {
+            final Element description = source.getXMLDescription();
+            final URL iconURL = source.getIcon();
+            final byte[] iconData;
+            if (iconURL != null) {
+                try (InputStream in = iconURL.openStream()) {
+                    iconData = IOUtils.toByteArray(in);
+                }
+                icon = name + ".png";
+            } else {
+                iconData = null;
+            }
+
+            final String hash = hash(description, iconData);
+            m_hashes.put(name, hash);
+            final Path page = m_directory.resolve(name + ".html");
+            if (hash.equals(m_previousHashes.get(name)) && Files.exists(page)
+                && (iconData == null || Files.exists(m_directory.resolve(icon)))) {
+                return new Result(name, icon, Status.UNCHANGED, System.nanoTime() - start);
+            }
+
+            if (iconData != null) {
+                Files.write(m_directory.resolve(icon), iconData);
+            }
+            String html = NodeFactoryHTMLCreator.instance.readFullDescription(description);
+            // extract the body of the node description html-document
+            html = html.substring(html.indexOf("<body>") + 6, html.indexOf("</body>"));
+            try (Writer out = Files.newBufferedWriter(page, StandardCharsets.UTF_8)) {
+                out.write(m_pageTemplate.replace("[NODE_DESCRIPTION]", html));
+            }
+            return new Result(name, icon, Status.WRITTEN, System.nanoTime() - start);
+        } catch (Exception ex) { // NOSONAR all failures are reported per node
+            m_hashes.remove(name);
+            System.err.println("Could not write documentation of node " + name + ": " + ex.getMessage());
+            return new Result(name, icon, Status.FAILED, System.nanoTime() - start);
+        }
+    }
+
+    private String hash(final Element description, final byte[] iconData) throws TransformerException {
+        final ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        final Transformer serializer = TransformerFactory.newInstance().newTransformer();
+        serializer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        serializer.transform(new DOMSource(description), new StreamResult(xml));
+
+        final MessageDigest digest = newDigest();
+        digest.update(m_templateHash);
+        digest.update(xml.toByteArray());
+        if (iconData != null) {
+            digest.update(iconData);
+        }
+        final StringBuilder buf = new StringBuilder();
+        for (byte b : digest.digest()) {
+            buf.append(String.format("%02x", b));
+        }
+        return buf.toString();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Map<String, String> readIndex(final Path file) throws IOException {
+        final Map<String, String> index = new HashMap<>();
+        if (Files.exists(file)) {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab > 0) {
+                    index.put(line.substring(0, tab), line.substring(tab + 1));
+                }
+            }
+        }
+        return index;
+    }
+
+    private static void writeIndex(final Path file, final Map<String, String> index) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> e : index.entrySet()) {
+                out.write(e.getKey() + "\t" + e.getValue() + "\n");
+            }
+        }
+    }
+
+    private static void writeReport(final Path file, final List<Result> results) throws IOException {
+        try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("node,status,millis\n");
+            for (Result r : results) {
+                out.write(r.name() + "," + r.status() + "," + (r.nanos() / 1_000_000.0) + "\n");
+            }
+        }
+    }
+}
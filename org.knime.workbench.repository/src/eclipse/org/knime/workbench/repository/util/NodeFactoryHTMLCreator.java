@@ -54,12 +54,16 @@
 import java.io.InputStreamReader;
 import java.io.StringWriter;
 import java.nio.charset.Charset;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -73,6 +77,9 @@
 
 /**
  * Loads an transformer and transforms the XML description of a node (which is passed as a DOM element into HTML.
+ * The compiled stylesheets are cached per description schema and the generated HTML of the most recently requested
+ * descriptions is cached by a key identifying the node (see {@link #readFullDescription(String, Element)}). This class
+ * is thread-safe.
  *
  * @author Fabian Dill, University of Konstanz
  */
@@ -83,7 +90,21 @@ public final class NodeFactoryHTMLCreator {
 
     private static final String HOWTO_FILE = "node_description_howto.html";
 
-    private Map<String, Transformer> m_transformers = new HashMap<String, Transformer>();
+    /** Maximum number of HTML descriptions kept in the cache. */
+    private static final int HTML_CACHE_SIZE = 200;
+
+    /** Compiled stylesheets by namespace URI of the description. */
+    private final ConcurrentMap<String, Templates> m_templates = new ConcurrentHashMap<>();
+
+    /** Most recently used HTML descriptions by cache key, guarded by itself. */
+    private final Map<String, String> m_htmlCache = new LinkedHashMap<String, String>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > HTML_CACHE_SIZE;
+        }
+    };
 
     private static final Pattern NAMESPACE_PATTERN = Pattern.compile("http://knime.org/(.*)node(?:2012|/v(\\d+\\.\\d+))");
 
@@ -131,9 +152,57 @@ public String readFullDescription(final Element knimeNode) throws FileNotFoundEx
             return getXMLDescriptionHowTo();
         }
 
-        String namespaceUri = knimeNode.getNamespaceURI();
-        Transformer transformer = m_transformers.get(namespaceUri);
-        if (transformer == null) {
+        final Transformer transformer = getTemplates(knimeNode.getNamespaceURI()).newTransformer();
+        transformer.setParameter("css", m_css);
+        transformer.setOutputProperty(OutputKeys.METHOD, "xml");
+        transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+
+        StreamResult result = new StreamResult(new StringWriter());
+        DOMSource source = new DOMSource(knimeNode);
+        transformer.transform(source, result);
+        return result.getWriter().toString();
+    }
+
+    /**
+     * Same as {@link #readFullDescription(Element)} but caches the result under the given key. The key must identify
+     * the description, e.g. consist of the node factory id and a fingerprint of the node's ports and settings if
+     * the description depends on them.
+     *
+     * @param cacheKey the key identifying the description
+     * @param knimeNode DOM tree root of node factory XML description.
+     * @return the full description as HTML
+     *
+     * @throws FileNotFoundException if the stylesheet for the node cannot found found
+     * @throws TransformerException if an error happens during the XML->HTML transformation
+     * @since 5.9
+     */
+    public String readFullDescription(final String cacheKey, final Element knimeNode)
+        throws FileNotFoundException, TransformerException {
+        final Optional<String> cached = getCachedFullDescription(cacheKey);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        final String html = readFullDescription(knimeNode);
+        synchronized (m_htmlCache) {
+            m_htmlCache.put(cacheKey, html);
+        }
+        return html;
+    }
+
+    /**
+     * @param cacheKey the key identifying the description, see {@link #readFullDescription(String, Element)}
+     * @return the cached HTML description or an empty optional if it's not (or no longer) cached
+     * @since 5.9
+     */
+    public Optional<String> getCachedFullDescription(final String cacheKey) {
+        synchronized (m_htmlCache) {
+            return Optional.ofNullable(m_htmlCache.get(cacheKey));
+        }
+    }
+
+    private Templates getTemplates(final String namespaceUri) throws FileNotFoundException, TransformerException {
+        Templates templates = m_templates.get(namespaceUri);
+        if (templates == null) {
             Matcher matcher = NAMESPACE_PATTERN.matcher(namespaceUri);
             if (!matcher.matches()) {
                 throw new IllegalArgumentException("Unsupported namespace for knime node: " + namespaceUri);
@@ -157,17 +226,14 @@ public String readFullDescription(final Element knimeNode) throws FileNotFoundEx
                 throw new FileNotFoundException("Could not find stylesheet '" + styleFile + "'");
             }
             StreamSource stylesheet = new StreamSource(is);
-            transformer = TransformerFactory.newInstance().newTemplates(stylesheet).newTransformer();
-            transformer.setParameter("css", m_css);
-            transformer.setOutputProperty(OutputKeys.METHOD, "xml");
-            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-            m_transformers.put(namespaceUri, transformer);
+            // compiling twice in case of concurrent first requests is harmless
+            templates = TransformerFactory.newInstance().newTemplates(stylesheet);
+            final Templates existing = m_templates.putIfAbsent(namespaceUri, templates);
+            if (existing != null) {
+                templates = existing;
+            }
         }
-
-        StreamResult result = new StreamResult(new StringWriter());
-        DOMSource source = new DOMSource(knimeNode);
-        transformer.transform(source, result);
-        return result.getWriter().toString();
+        return templates;
     }
 
     private String getXMLDescriptionHowTo() {
@@ -47,7 +47,9 @@
  */
 package org.knime.workbench.repository.view;
 
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.commons.lang3.StringUtils;
@@ -66,6 +68,8 @@
 import org.eclipse.jface.viewers.DoubleClickEvent;
 import org.eclipse.jface.viewers.IDoubleClickListener;
 import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.jface.viewers.ITreeViewerListener;
+import org.eclipse.jface.viewers.TreeExpansionEvent;
 import org.eclipse.jface.viewers.TreeViewer;
 import org.eclipse.jface.viewers.ViewerComparator;
 import org.eclipse.jface.viewers.ViewerFilter;
@@ -109,6 +113,8 @@
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.util.KNIMEJob;
 import org.knime.workbench.core.nodeprovider.NodeProvider;
+import org.knime.workbench.core.util.StartupProfiler;
+import org.knime.workbench.repository.KNIMERepositoryPlugin;
 import org.knime.workbench.repository.RepositoryManager;
 import org.knime.workbench.repository.model.AbstractRepositoryObject;
 import org.knime.workbench.repository.model.Category;
@@ -117,6 +123,7 @@
 import org.knime.workbench.repository.model.MetaNodeTemplate;
 import org.knime.workbench.repository.model.NodeTemplate;
 import org.knime.workbench.repository.model.Root;
+import org.knime.workbench.repository.util.DynamicNodeDescriptionCreator;
 import org.knime.workbench.repository.util.NodeUtil;
 import org.osgi.framework.FrameworkUtil;
 
@@ -232,6 +239,14 @@ public void partActivated(final IWorkbenchPart part) {
      */
     @Override
     public void createPartControl(final Composite parent) {
+        try (var createSpan =
+            StartupProfiler.span(KNIMERepositoryPlugin.PLUGIN_ID, "RepositoryView.createPartControl")) {
+            createControls(parent);
+        }
+    }
+
+    /* creates the content of the view, recorded as the span of createPartControl(Composite) */
+    private void createControls(final Composite parent) {
         parent.setCursor(new Cursor(Display.getDefault(), SWT.CURSOR_WAIT));
 
         final StackLayout layout = new StackLayout();
@@ -245,6 +260,7 @@ public void createPartControl(final Composite parent) {
         contributeToActionBars();
         hookContextMenu();
         hookDoubleClickAction();
+        hookDescriptionPrerendering();
         // The viewer provides the selection to the workbench.
         this.getSite().setSelectionProvider(m_viewer);
         // The viewer supports drag&drop
@@ -487,6 +503,31 @@ public void run() {
         }
     }
 
+    /** Pre-renders the descriptions of the nodes that become visible when a category is expanded. */
+    private void hookDescriptionPrerendering() {
+        m_viewer.addTreeListener(new ITreeViewerListener() {
+            @Override
+            public void treeExpanded(final TreeExpansionEvent event) {
+                if (event.getElement() instanceof Category) {
+                    final List<NodeTemplate> templates = new ArrayList<>();
+                    for (IRepositoryObject child : ((Category)event.getElement()).getChildren()) {
+                        if (child instanceof NodeTemplate) {
+                            templates.add((NodeTemplate)child);
+                        }
+                    }
+                    if (!templates.isEmpty()) {
+                        DynamicNodeDescriptionCreator.instance().prerenderDescriptions(templates);
+                    }
+                }
+            }
+
+            @Override
+            public void treeCollapsed(final TreeExpansionEvent event) {
+                // nothing to do
+            }
+        });
+    }
+
     private void hookDoubleClickAction() {
         m_viewer.addDoubleClickListener(new IDoubleClickListener() {
             @Override
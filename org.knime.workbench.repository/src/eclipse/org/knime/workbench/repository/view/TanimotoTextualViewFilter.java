@@ -61,8 +61,10 @@
  * greater or equal to UPPER_DISTANCE_BOUND=0.6.
  *
  * @author Marcel Hanser, KNIME AG, Zurich, Switzerland
+ * @noreference This class is not intended to be referenced by clients; it is public for the workbench benchmarks.
+ * @since 5.9
  */
-final class TanimotoTextualViewFilter extends TextualViewFilter {
+public final class TanimotoTextualViewFilter extends TextualViewFilter {
     /**
      * Upper excluding bound of distances to a query a node may have to be labeled as a match.
      */
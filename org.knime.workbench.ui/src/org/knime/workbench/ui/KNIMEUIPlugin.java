@@ -71,6 +71,7 @@
 import org.knime.core.internal.CorePlugin;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.KnimeEncryption;
+import org.knime.workbench.core.util.StartupProfiler;
 import org.knime.workbench.core.util.ThreadsafeImageRegistry;
 import org.knime.workbench.repository.NodeUsageRegistry;
 import org.knime.workbench.ui.favorites.FavoriteNodesManager;
@@ -124,8 +125,14 @@ public KNIMEUIPlugin() {
      */
     @Override
     public void start(final BundleContext context) throws Exception {
-        super.start(context);
+        try (var startSpan = StartupProfiler.span(PLUGIN_ID, "KNIMEUIPlugin.start")) {
+            super.start(context);
+            startPlugin();
+        }
+    }
 
+    /* the start-up of this plug-in, recorded as the span of start(BundleContext) */
+    private void startPlugin() {
         // create a knime encryption supplier that reads in an encryption key
         // from the user via a dialog or directly from the preference page
         KnimeEncryption.setEncryptionKeySupplier(
@@ -0,0 +1,341 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.ui.async;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.eclipse.swt.widgets.Display;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.ui.node.workflow.async.AsyncWorkflowManagerUI;
+
+/**
+ * Pipelines the changes commands apply to an {@link AsyncWorkflowManagerUI}, so an edit does not have to wait for the
+ * round trip to the remote workflow.
+ * <p>
+ * A change is applied to the local model (e.g. the figures) right away and its asynchronous operation is queued. The
+ * operations are sent one after the other in the order they were submitted. Consecutive operations with the same
+ * coalescing key (e.g. moving the same node again) that have not been sent yet are merged into one, sending only the
+ * latest. Once all operations are done, the workflow is refreshed to reconcile the local model with the remote one.
+ * If an operation fails, it and all operations queued after it are rolled back in reverse order, the failure is
+ * reported and the workflow is refreshed.
+ * </p>
+ * <p>
+ * Commands that need the result of an operation keep waiting for it, but must wait for the pending changes first (see
+ * {@link AsyncUtil#waitForPendingChanges(org.knime.core.ui.node.workflow.WorkflowManagerUI)}).
+ * </p>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public final class AsyncCommandPipeline {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(AsyncCommandPipeline.class);
+
+    private static final Map<AsyncWorkflowManagerUI, AsyncCommandPipeline> PIPELINES = new WeakHashMap<>();
+
+    private static final class Operation {
+
+        private final String m_description;
+
+        private final Object m_key;
+
+        private final Runnable m_rollback;
+
+        private final CompletableFuture<Void> m_result = new CompletableFuture<>();
+
+        private Supplier<? extends CompletableFuture<?>> m_remote;
+
+        private Operation(final String description, final Object key,
+            final Supplier<? extends CompletableFuture<?>> remote, final Runnable rollback) {
+            m_description = description;
+            m_key = key;
+            m_remote = remote;
+            m_rollback = rollback;
+        }
+    }
+
+    private final Supplier<? extends CompletableFuture<?>> m_reconcile;
+
+    private final Executor m_callbackExecutor;
+
+    private final BiConsumer<String, Throwable> m_failureHandler;
+
+    // guarded by this
+    private final Deque<Operation> m_queued = new ArrayDeque<>();
+
+    // guarded by this
+    private Operation m_inFlight;
+
+    // completed once all operations are done and reconciled, guarded by this
+    private CompletableFuture<Void> m_idle;
+
+    private final AtomicLong m_remoteCalls = new AtomicLong();
+
+    private final AtomicLong m_coalesced = new AtomicLong();
+
+    private final AtomicLong m_failures = new AtomicLong();
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param reconcile called once all operations are done or one failed, e.g. to refresh the workflow
+     * @param callbackExecutor runs the rollbacks, e.g. in the display thread
+     * @param failureHandler reports a failed operation, given its description and the cause
+     */
+    public AsyncCommandPipeline(final Supplier<? extends CompletableFuture<?>> reconcile,
+        final Executor callbackExecutor, final BiConsumer<String, Throwable> failureHandler) {
+        m_reconcile = reconcile;
+        m_callbackExecutor = callbackExecutor;
+        m_failureHandler = failureHandler;
+    }
+
+    /**
+     * Returns the pipeline of the given workflow, which refreshes the workflow to reconcile, runs the rollbacks in the
+     * display thread and reports failures in an error dialog.
+     *
+     * @param wfm the remote workflow
+     * @return the pipeline for the workflow
+     */
+    public static AsyncCommandPipeline of(final AsyncWorkflowManagerUI wfm) {
+        synchronized (PIPELINES) {
+            return PIPELINES.computeIfAbsent(wfm, w -> {
+                // the pipeline must not keep the workflow (the key) alive
+                final var ref = new WeakReference<>(w);
+                return new AsyncCommandPipeline(() -> {
+                    final var workflow = ref.get();
+                    return workflow == null ? CompletableFuture.completedFuture(null) : workflow.refreshAsync(false);
+                }, r -> Display.getDefault().asyncExec(r), (description, t) -> Display.getDefault()
+                    .asyncExec(() -> AsyncUtil.openDialogAndLog(t, description)));
+            });
+        }
+    }
+
+    /**
+     * @param wfm a remote workflow
+     * @return a future completed once the pending changes of the workflow are done, <code>null</code> if there are no
+     *         pending changes
+     */
+    static CompletableFuture<Void> getPendingChanges(final AsyncWorkflowManagerUI wfm) {
+        final AsyncCommandPipeline pipeline;
+        synchronized (PIPELINES) {
+            pipeline = PIPELINES.get(wfm);
+        }
+        return pipeline == null ? null : pipeline.getIdleFuture();
+    }
+
+    /**
+     * Applies a change locally and queues its asynchronous operation.
+     *
+     * @param description describes the change, e.g. "Moving node ...", used when reporting a failure
+     * @param coalescingKey the key of the change, consecutive changes with equal keys are merged into the latest one;
+     *            <code>null</code> if the change must not be merged
+     * @param applyLocally applies the change to the local model, called right away, may be <code>null</code>
+     * @param remote starts the asynchronous operation, called once all previous operations are done
+     * @param rollback reverts the local change if the operation fails, may be <code>null</code>
+     * @return a future completed when the operation is done, completed exceptionally if it failed or was rolled back
+     */
+    public CompletableFuture<Void> submit(final String description, final Object coalescingKey,
+        final Runnable applyLocally, final Supplier<? extends CompletableFuture<?>> remote, final Runnable rollback) {
+        if (applyLocally != null) {
+            applyLocally.run();
+        }
+        final Operation operation;
+        final boolean send;
+        synchronized (this) {
+            final var last = m_queued.peekLast();
+            if (coalescingKey != null && last != null && coalescingKey.equals(last.m_key)) {
+                // the rollback of the first change restores the state before all merged changes
+                last.m_remote = remote;
+                m_coalesced.incrementAndGet();
+                return last.m_result;
+            }
+            operation = new Operation(description, coalescingKey, remote, rollback);
+            m_queued.add(operation);
+            if (m_idle == null) {
+                m_idle = new CompletableFuture<>();
+            }
+            send = m_inFlight == null;
+        }
+        if (send) {
+            sendNext();
+        }
+        return operation.m_result;
+    }
+
+    /**
+     * @return a future completed once all submitted operations are done and the workflow has been reconciled
+     */
+    public CompletableFuture<Void> flush() {
+        final var idle = getIdleFuture();
+        return idle == null ? CompletableFuture.completedFuture(null) : idle;
+    }
+
+    private synchronized CompletableFuture<Void> getIdleFuture() {
+        // callers must not be able to complete the future
+        return m_idle == null ? null : m_idle.thenApply(v -> v);
+    }
+
+    /** @return the number of operations submitted but not done yet, not counting merged ones */
+    public synchronized int getPendingCount() {
+        return m_queued.size() + (m_inFlight == null ? 0 : 1);
+    }
+
+    /** @return the number of operations sent */
+    public long getRemoteCallCount() {
+        return m_remoteCalls.get();
+    }
+
+    /** @return the number of changes merged into a later change instead of being sent */
+    public long getCoalescedCount() {
+        return m_coalesced.get();
+    }
+
+    /** @return the number of failed operations */
+    public long getFailureCount() {
+        return m_failures.get();
+    }
+
+    private void sendNext() {
+        final Operation operation;
+        synchronized (this) {
+            if (m_inFlight != null) {
+                return;
+            }
+            operation = m_queued.poll();
+            m_inFlight = operation;
+        }
+        if (operation == null) {
+            reconcile();
+            return;
+        }
+        m_remoteCalls.incrementAndGet();
+        CompletableFuture<?> future;
+        try {
+            future = operation.m_remote.get();
+        } catch (RuntimeException e) { // NOSONAR treated like a failed operation
+            future = CompletableFuture.failedFuture(e);
+        }
+        future.whenComplete((r, t) -> {
+            if (t == null) {
+                synchronized (this) {
+                    m_inFlight = null;
+                }
+                operation.m_result.complete(null);
+                sendNext();
+            } else {
+                failed(operation, t);
+            }
+        });
+    }
+
+    private void failed(final Operation operation, final Throwable t) {
+        m_failures.incrementAndGet();
+        final List<Operation> rolledBack;
+        synchronized (this) {
+            m_inFlight = null;
+            rolledBack = new ArrayList<>(m_queued);
+            m_queued.clear();
+        }
+        Collections.reverse(rolledBack);
+        rolledBack.add(operation);
+        final var cause = (t instanceof CompletionException || t instanceof ExecutionException) && t.getCause() != null
+            ? t.getCause() : t;
+        LOGGER.debug("'" + operation.m_description + "' failed, rolling back " + rolledBack.size() + " change(s)",
+            cause);
+        m_callbackExecutor.execute(() -> {
+            for (final var o : rolledBack) {
+                if (o.m_rollback != null) {
+                    o.m_rollback.run();
+                }
+            }
+        });
+        rolledBack.forEach(o -> o.m_result.completeExceptionally(cause));
+        m_failureHandler.accept(operation.m_description, cause);
+        reconcile();
+    }
+
+    private void reconcile() {
+        CompletableFuture<?> reconciled;
+        try {
+            reconciled = m_reconcile.get();
+        } catch (RuntimeException e) { // NOSONAR logged below
+            reconciled = CompletableFuture.failedFuture(e);
+        }
+        reconciled.whenComplete((r, t) -> {
+            if (t != null) {
+                LOGGER.warn("Could not refresh the workflow after applying changes: " + t.getMessage(), t);
+            }
+            final CompletableFuture<Void> idle;
+            synchronized (this) {
+                if (m_inFlight != null || !m_queued.isEmpty()) {
+                    // new changes have been submitted meanwhile, they reconcile once they are done
+                    return;
+                }
+                idle = m_idle;
+                m_idle = null;
+            }
+            if (idle != null) {
+                idle.complete(null);
+            }
+        });
+    }
+}
@@ -89,6 +89,9 @@
  * Synchronous methods (i.e. methods that don't return a {@link Future}) are treated normally, i.e. just called and
  * their result returned.
  *
+ * Changes that don't need to wait for their result can be pipelined with an {@link AsyncCommandPipeline}; the helper
+ * methods for workflow managers wait for the pending changes of the pipeline first to keep the order of the changes.
+ *
  * Usage example:
  *
  * <pre>
@@ -125,6 +128,7 @@ public static <T> T wfmAsyncSwitch(final Function<WorkflowManagerUI, T> syncWfm,
         final Function<AsyncWorkflowManagerUI, CompletableFuture<? extends T>> asyncWfm, final WorkflowManagerUI wfm,
         final String waitingMessage) {
         if (wfm instanceof AsyncWorkflowManagerUI) {
+            waitForPendingChanges(wfm);
             return waitForTerminationAndOpenDialogWhenFailed(asyncWfm.apply((AsyncWorkflowManagerUI)wfm), waitingMessage);
         } else {
             return syncWfm.apply(wfm);
@@ -170,6 +174,7 @@ public static <T, E extends Exception> T wfmAsyncSwitchRethrow(
         final Function<AsyncWorkflowManagerUI, CompletableFutureEx<? extends T, E>> asyncWfm,
         final WorkflowManagerUI wfm, final String waitingMessage) throws E {
         if (wfm instanceof AsyncWorkflowManagerUI) {
+            waitForPendingChanges(wfm);
             final AtomicReference<T> ref = new AtomicReference<T>();
             final AtomicReference<Throwable> exception = new AtomicReference<Throwable>();
             CompletableFutureEx<? extends T, E> future = asyncWfm.apply((AsyncWorkflowManagerUI)wfm);
@@ -289,6 +294,23 @@ public static <T> T nopAsyncSwitch(final Function<NodeOutPortUI, T> syncNop,
         }
     }
 
+    /**
+     * Waits for the changes pipelined for the given workflow (see {@link AsyncCommandPipeline}) to be done, while
+     * showing a busy cursor and later a 'waiting'-dialog. Returns right away if the workflow is not asynchronous or
+     * there are no pending changes.
+     *
+     * @param wfm the workflow
+     * @since 5.9
+     */
+    public static void waitForPendingChanges(final WorkflowManagerUI wfm) {
+        if (wfm instanceof AsyncWorkflowManagerUI asyncWfm) {
+            final var pending = AsyncCommandPipeline.getPendingChanges(asyncWfm);
+            if (pending != null) {
+                waitForTerminationAndOpenDialogWhenFailed(pending, "Applying pending changes ...");
+            }
+        }
+    }
+
     /**
      * Waits for the provided future to complete while showing a busy cursor and later a 'waiting'-dialog. If an
      * exception is thrown, an error dialog will be opened and <code>null</code> returned.
@@ -358,7 +380,7 @@ public static <T, E extends Exception> T waitForTerminationOrThrowException(fina
         R apply(T t) throws E;
     }
 
-    private static void openDialogAndLog(final Throwable e, final String waitingMessage) {
+    static void openDialogAndLog(final Throwable e, final String waitingMessage) {
         String message = "A problem occurred while '" + waitingMessage + "': " + e.getMessage();
         final Display display = Display.getDefault();
         display.syncExec(() -> {
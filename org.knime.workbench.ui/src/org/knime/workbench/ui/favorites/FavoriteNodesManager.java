@@ -256,7 +256,13 @@ private File getFavoriteNodesFile() {
         return KNIMEUIPlugin.getDefault().getStateLocation().append("favoriteNodes.xml").toFile();
     }
 
+    private static File getNodeUsageLogFile() {
+        return KNIMEUIPlugin.getDefault().getStateLocation().append("nodeUsage.log").toFile();
+    }
+
     private void loadFavorites() {
+        // the usage log supersedes the most frequent nodes in the XML file, hence it must be read first
+        NodeUsageRegistry.setUsageLog(getNodeUsageLogFile());
         // load the personal favorites
         Reader reader = null;
         try {
@@ -45,15 +45,16 @@
 package org.knime.workbench.ui.navigator;
 
 
+import static java.util.stream.Collectors.toSet;
 import static org.knime.core.ui.wrapper.Wrapper.unwrapWFM;
 
 import java.net.URI;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -85,6 +86,12 @@
  * project together with the referring {@link WorkflowManager} instance. The
  * {@link KnimeResourceNavigator} uses this information to display opened
  * instances differently.
+ * <p>
+ * Listeners can be registered for all open workflows, for the workflow opened under a certain URI, or for the opening,
+ * renaming and closing of workflows only. Events are delivered one by one in the thread that caused them, they are not
+ * batched per workflow; listeners that update a UI coalesce the events themselves (e.g. by refreshing a workflow at
+ * most once per UI cycle).
+ * </p>
  *
  * @see KnimeResourceNavigator
  * @see KnimeResourceContentProvider
@@ -174,40 +181,31 @@ private ProjectWorkflowMap() {
      * {@link #PROJECTS}.
      *
      */
-    private static final Map<MapWFKey, Set<Object>>WORKFLOW_CLIENTS
-        = new HashMap<MapWFKey, Set<Object>>();
+    private static final ConcurrentMap<MapWFKey, Set<Object>> WORKFLOW_CLIENTS = new ConcurrentHashMap<>();
 
     /*
      * Map with name of workflow path and referring workflow manager
      * instance. Maintained by WorkflowEditor, used by KnimeResourceNavigator.
      * (This map contains only open workflows.)
      */
-    private static final Map<MapWFKey, NodeContainerUI> PROJECTS
-        = new LinkedHashMap<MapWFKey, NodeContainerUI>() {
+    private static final ConcurrentMap<MapWFKey, NodeContainerUI> PROJECTS = new ConcurrentHashMap<>();
 
-        @Override
-        public NodeContainerUI put(final MapWFKey key, final NodeContainerUI value) {
-            NodeContainerUI old = super.put(key, value);
-            if (old != null) {
-                LOGGER.debug("Removing \"" + key + "\" from project map");
-            }
-            if (value != null) {
-                LOGGER.debug("Adding \"" + key
-                        + "\" to project map (" + size() + " in total)");
-            }
-            return old;
-        };
+    private static NodeContainerUI putProject(final MapWFKey key, final NodeContainerUI value) {
+        final NodeContainerUI old = PROJECTS.put(key, value);
+        if (old != null) {
+            LOGGER.debug("Removing \"" + key + "\" from project map");
+        }
+        LOGGER.debug("Adding \"" + key + "\" to project map (" + PROJECTS.size() + " in total)");
+        return old;
+    }
 
-        @Override
-        public NodeContainerUI remove(final Object key) {
-            NodeContainerUI old = super.remove(key);
-            if (old != null) {
-                LOGGER.debug("Removing \"" + key
-                        + "\" from project map (" + size() + " remaining)");
-            }
-            return old;
-        };
-    };
+    private static NodeContainerUI removeProject(final MapWFKey key) {
+        final NodeContainerUI old = PROJECTS.remove(key);
+        if (old != null) {
+            LOGGER.debug("Removing \"" + key + "\" from project map (" + PROJECTS.size() + " remaining)");
+        }
+        return old;
+    }
 
     /**
      *
@@ -223,14 +221,15 @@ public static void registerClientTo(final URI workflow,
                 return;
             }
             MapWFKey wf = new MapWFKey(workflow);
-            Set<Object> callers = WORKFLOW_CLIENTS.get(wf);
-            if (callers == null) {
-                callers = new HashSet<Object>();
-            }
-            callers.add(client);
-            WORKFLOW_CLIENTS.put(wf, callers);
+            final var count = new int[1];
+            WORKFLOW_CLIENTS.compute(wf, (k, callers) -> {
+                final Set<Object> result = (callers == null) ? new HashSet<>() : callers;
+                result.add(client);
+                count[0] = result.size();
+                return result;
+            });
             LOGGER.debug("registering " + client + " to " + wf
-                    + ". " + callers.size() + " registered clients now.");
+                    + ". " + count[0] + " registered clients now.");
         });
     }
 
@@ -250,18 +249,16 @@ public static void unregisterClientFrom(final URI workflow,
                 return;
             }
             MapWFKey wf = new MapWFKey(workflow);
-            if (!WORKFLOW_CLIENTS.containsKey(wf)) {
-                return;
-            }
-            Set<Object> callers = WORKFLOW_CLIENTS.get(wf);
-            callers.remove(client);
-            if (callers.isEmpty()) {
-                WORKFLOW_CLIENTS.remove(wf);
-            } else {
-                WORKFLOW_CLIENTS.put(wf, callers);
+            final var count = new int[]{-1};
+            WORKFLOW_CLIENTS.computeIfPresent(wf, (k, callers) -> {
+                callers.remove(client);
+                count[0] = callers.size();
+                return callers.isEmpty() ? null : callers;
+            });
+            if (count[0] >= 0) {
+                LOGGER.debug("unregistering " + client + " from " + wf
+                        + ". " + count[0] + " left.");
             }
-            LOGGER.debug("unregistering " + client + " from " + wf
-                    + ". " + callers.size() + " left.");
         });
     }
 
@@ -269,59 +266,75 @@ public static void unregisterClientFrom(final URI workflow,
      * All registered workflow listeners (KnimeResourceNavigator) which reflect
      * changes on opened workflows (display new nodes).
      */
-    private static final Set<WorkflowListener>WF_LISTENERS
-        = new LinkedHashSet<WorkflowListener>();
+    private static final WorkflowListenerIndex<MapWFKey, WorkflowListener> WF_LISTENERS =
+        new WorkflowListenerIndex<>();
 
     /*
      * NodeStateChangeListeners (projects) to reflect states of projects
      * (idle, executing, executed). See KnimeResourceLabelProvider.
      */
-    private static final Set<NodeStateChangeListener>NSC_LISTENERS
-        = new LinkedHashSet<NodeStateChangeListener>();
+    private static final WorkflowListenerIndex<MapWFKey, NodeStateChangeListener> NSC_LISTENERS =
+        new WorkflowListenerIndex<>();
 
-    // forwards events to registered listeners
-    private static final NodeStateChangeListener NSC_LISTENER
-    = new NodeStateChangeListener() {
+    private static final WorkflowListenerIndex<MapWFKey, NodePropertyChangedListener> NODE_PROP_LISTENERS =
+        new WorkflowListenerIndex<>();
 
-        @Override
-        public void stateChanged(final NodeStateEvent state) {
-            for (NodeStateChangeListener listener : NSC_LISTENERS) {
-                listener.stateChanged(state);
-            }
-        }
+    private static final WorkflowListenerIndex<MapWFKey, NodeMessageListener> MSG_LISTENERS =
+        new WorkflowListenerIndex<>();
 
-    };
+    /*
+     * One forwarder per open workflow, registered on the workflow manager and its meta nodes. Knowing the workflow
+     * the events originate from, it forwards them only to the listeners interested in that workflow.
+     */
+    private static final ConcurrentMap<MapWFKey, Forwarder> FORWARDERS = new ConcurrentHashMap<>();
 
-    private static final Set<NodePropertyChangedListener> NODE_PROP_LISTENERS =
-        new LinkedHashSet<NodePropertyChangedListener>();
+    /* listeners informed when workflows are opened, renamed and closed, see addProjectListener */
+    private static final CopyOnWriteArrayList<WorkflowListener> PROJECT_LISTENERS = new CopyOnWriteArrayList<>();
 
-    // forwards events to registered listeners
-    private static final NodePropertyChangedListener NODE_PROP_LISTENER =
-        new NodePropertyChangedListener() {
-        @Override
-        public void nodePropertyChanged(final NodePropertyChangedEvent e) {
-            for (NodePropertyChangedListener l : NODE_PROP_LISTENERS) {
-                l.nodePropertyChanged(e);
-            }
+    // forwards events of a single workflow to registered listeners
+    private static final class Forwarder implements WorkflowListener, NodeStateChangeListener,
+        NodePropertyChangedListener, NodeMessageListener {
+
+        private volatile MapWFKey m_key;
+
+        private Forwarder(final MapWFKey key) {
+            m_key = key;
         }
-    };
 
-    private static final Set<NodeMessageListener> MSG_LISTENERS
-        = new LinkedHashSet<NodeMessageListener>();
+        private void attachTo(final NodeContainerUI manager) {
+            manager.addNodeStateChangeListener(this);
+            ((WorkflowManagerUI)manager).addListener(this);
+            manager.addNodeMessageListener(this);
+            manager.addNodePropertyChangedListener(this);
+        }
 
-    private static final NodeMessageListener MSG_LISTENER
-        = new NodeMessageListener() {
+        private void detachFrom(final NodeContainerUI manager) {
+            manager.removeNodeStateChangeListener(this);
+            ((WorkflowManagerUI)manager).removeListener(this);
+            manager.removeNodeMessageListener(this);
+            manager.removeNodePropertyChangedListener(this);
+        }
 
-            @Override
-            public void messageChanged(final NodeMessageEvent messageEvent) {
-                for (NodeMessageListener l : MSG_LISTENERS) {
-                    l.messageChanged(messageEvent);
-                }
-            }
+        /* forwards an event of the project itself, which is also delivered to the project listeners */
+        private void projectChanged(final WorkflowEvent event) {
+            workflowChanged(event);
+            PROJECT_LISTENERS.forEach(l -> l.workflowChanged(event));
+        }
+
+        @Override
+        public void stateChanged(final NodeStateEvent state) {
+            NSC_LISTENERS.dispatch(m_key, l -> l.stateChanged(state));
+        }
 
-    };
+        @Override
+        public void nodePropertyChanged(final NodePropertyChangedEvent e) {
+            NODE_PROP_LISTENERS.dispatch(m_key, l -> l.nodePropertyChanged(e));
+        }
 
-    private static final WorkflowListener WF_LISTENER = new WorkflowListener() {
+        @Override
+        public void messageChanged(final NodeMessageEvent messageEvent) {
+            MSG_LISTENERS.dispatch(m_key, l -> l.messageChanged(messageEvent));
+        }
 
         /**
          * Forwards events to registered listeners, if a meta node is added a
@@ -336,30 +349,28 @@ public void workflowChanged(final WorkflowEvent event) {
             if (event.getType().equals(WorkflowEvent.Type.NODE_ADDED)
                     && event.getNewValue() instanceof WorkflowManager) {
                 WorkflowManager manager = (WorkflowManager)event.getNewValue();
-                manager.addListener(WF_LISTENER);
-                manager.addNodeStateChangeListener(NSC_LISTENER);
+                manager.addListener(this);
+                manager.addNodeStateChangeListener(this);
                 for (NodeContainer cont : manager.getNodeContainers()) {
                     if (cont instanceof WorkflowManager) {
                         WorkflowManager wfm = (WorkflowManager)cont;
-                        wfm.addListener(WF_LISTENER);
-                        wfm.addNodeStateChangeListener(NSC_LISTENER);
+                        wfm.addListener(this);
+                        wfm.addNodeStateChangeListener(this);
                     }
                 }
             }
             // inform registered listeners
-            for (WorkflowListener listener : WF_LISTENERS) {
-                listener.workflowChanged(event);
-            }
+            WF_LISTENERS.dispatch(m_key, l -> l.workflowChanged(event));
             // unregister referring node
             if (event.getType().equals(WorkflowEvent.Type.NODE_REMOVED)
                     && event.getOldValue() instanceof WorkflowManager) {
                 WorkflowManager wfm = (WorkflowManager)event.getOldValue();
-                wfm.removeListener(WF_LISTENER);
-                wfm.removeNodeStateChangeListener(NSC_LISTENER);
+                wfm.removeListener(this);
+                wfm.removeNodeStateChangeListener(this);
             }
         }
 
-    };
+    }
 
     /**
      *
@@ -375,18 +386,32 @@ public static void replace(final URI newPath,
                 throw new IllegalArgumentException("Old path must not be null (old is null, new is " + newPath + ")");
             }
             final MapWFKey oldKey = new MapWFKey(oldPath);
-            NodeContainerUI removed = PROJECTS.remove(oldKey);
+            NodeContainerUI removed = removeProject(oldKey);
             if (removed == null) {
                 throw new IllegalArgumentException("No project registered on URI " + oldPath);
             }
             Set<Object> clientList = WORKFLOW_CLIENTS.remove(oldKey);
-            WF_LISTENER.workflowChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_REMOVED, removed.getID(), Wrapper.unwrapNC(removed), null));
+            final Forwarder known = FORWARDERS.remove(oldKey);
+            final Forwarder forwarder = (known != null) ? known : new Forwarder(oldKey);
+            forwarder.projectChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_REMOVED, removed.getID(),
+                Wrapper.unwrapNC(removed), null));
+            if (removed != nc) {
+                forwarder.detachFrom(removed);
+            }
+            // the listeners of the workflow and the forwarder (also registered on its meta nodes) move to the new path
+            final MapWFKey newKey = new MapWFKey(newPath);
+            WF_LISTENERS.rekey(oldKey, newKey);
+            NSC_LISTENERS.rekey(oldKey, newKey);
+            MSG_LISTENERS.rekey(oldKey, newKey);
+            NODE_PROP_LISTENERS.rekey(oldKey, newKey);
+            forwarder.m_key = newKey;
+            FORWARDERS.put(newKey, forwarder);
             putWorkflowUI(newPath, nc);
             if (clientList != null) {
-                WORKFLOW_CLIENTS.put(new MapWFKey(newPath), clientList);
+                WORKFLOW_CLIENTS.put(newKey, clientList);
             }
-            WF_LISTENER.workflowChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_ADDED, nc.getID(), null, nc));
-            NSC_LISTENER.stateChanged(new NodeStateEvent(nc.getID()));
+            forwarder.projectChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_ADDED, nc.getID(), null, nc));
+            forwarder.stateChanged(new NodeStateEvent(nc.getID()));
         });
     }
 
@@ -404,15 +429,15 @@ public static void remove(final URI path) {
             if (manager != null && !WORKFLOW_CLIENTS.containsKey(p)) {
                 Wrapper.unwrapWFMOptional(manager).ifPresent(wm -> NodeContext.pushContext(wm));
                 try {
-                    PROJECTS.remove(p);
-                    if (Wrapper.wraps(manager, WorkflowManager.class)) {
-                        WF_LISTENER.workflowChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_REMOVED, manager.getID(),
-                            Wrapper.unwrapWFM(manager), null));
+                    removeProject(p);
+                    final Forwarder forwarder = FORWARDERS.remove(p);
+                    if (forwarder != null) {
+                        if (Wrapper.wraps(manager, WorkflowManager.class)) {
+                            forwarder.projectChanged(new WorkflowEvent(WorkflowEvent.Type.NODE_REMOVED,
+                                manager.getID(), Wrapper.unwrapWFM(manager), null));
+                        }
+                        forwarder.detachFrom(manager);
                     }
-                    manager.removeListener(WF_LISTENER);
-                    manager.removeNodeStateChangeListener(NSC_LISTENER);
-                    manager.removeNodeMessageListener(MSG_LISTENER);
-                    manager.removeNodePropertyChangedListener(NODE_PROP_LISTENER);
                     try {
                         manager.shutdown();
                     } catch (Throwable t) {
@@ -488,24 +513,19 @@ public static void putWorkflowUI(final URI path,
             MapWFKey p = new MapWFKey(path);
             // in case the manager is replaced
             // -> unregister listeners from the old one
+            final Forwarder forwarder = FORWARDERS.computeIfAbsent(p, Forwarder::new);
             NodeContainerUI oldOne = PROJECTS.get(p);
             if (oldOne != null) {
-                oldOne.removeNodeStateChangeListener(NSC_LISTENER);
-                ((WorkflowManagerUI)oldOne).removeListener(WF_LISTENER);
-                oldOne.removeNodeMessageListener(MSG_LISTENER);
-                oldOne.removeNodePropertyChangedListener(NODE_PROP_LISTENER);
+                forwarder.detachFrom(oldOne);
             }
-            PROJECTS.put(p, manager);
-            manager.addNodeStateChangeListener(NSC_LISTENER);
-            manager.addListener(WF_LISTENER);
-            manager.addNodeMessageListener(MSG_LISTENER);
-            manager.addNodePropertyChangedListener(NODE_PROP_LISTENER);
+            putProject(p, manager);
+            forwarder.attachTo(manager);
 
             //so far, the WorkflowManagerUI doesn't allow any edit operations won't trigger any changed events
             //TODO - needs to be considered in the future! WorkflowEvent consumers then need to be able to work
             //with WorkflowManagerUI instances, too!
             if(Wrapper.wraps(manager, WorkflowManager.class)) {
-                WF_LISTENER.workflowChanged(new WorkflowEvent(
+                forwarder.projectChanged(new WorkflowEvent(
                         WorkflowEvent.Type.NODE_ADDED, manager.getID(), null,
                         Wrapper.unwrapWFM(manager)));
             }
@@ -570,6 +590,15 @@ public static URI findProjectFor(final NodeID workflowID) {
         });
     }
 
+    /**
+     * @return the URIs of the directories of the currently open workflows, a snapshot
+     * @since 5.9
+     */
+    public static Set<URI> getOpenWorkflows() {
+        final Set<URI> result = ifActive(() -> PROJECTS.keySet().stream().map(MapWFKey::getURI).collect(toSet()));
+        return (result == null) ? Set.of() : result;
+    }
+
     /**
      * Adds a workflow listener, which gets informed on every workflow changed
      * event of meta nodes and projects.
@@ -592,6 +621,56 @@ public static void removeWorkflowListener(final WorkflowListener listener) {
         });
     }
 
+    /**
+     * Adds a workflow listener, which gets informed on the workflow changed events of the meta nodes and the project
+     * opened under the given URI only. The listener stays registered when the workflow is closed and reopened.
+     *
+     * @param workflow URI of the workflow directory containing the workflow.knime
+     * @param listener to be added
+     * @since 5.9
+     */
+    public static void addWorkflowListener(final URI workflow, final WorkflowListener listener) {
+        ifActive(() -> {
+            WF_LISTENERS.add(new MapWFKey(workflow), listener);
+        });
+    }
+
+    /**
+     * @param workflow URI of the workflow the listener was added for
+     * @param listener to be removed
+     * @since 5.9
+     */
+    public static void removeWorkflowListener(final URI workflow, final WorkflowListener listener) {
+        ifActive(() -> {
+            WF_LISTENERS.remove(new MapWFKey(workflow), listener);
+        });
+    }
+
+    /**
+     * Adds a listener which is only informed when a workflow is opened ({@link WorkflowEvent.Type#NODE_ADDED} with
+     * the ID of the project), renamed (removed and added again) or closed ({@link WorkflowEvent.Type#NODE_REMOVED}),
+     * not about the changes within the workflows. Together with the URI-scoped listeners this allows to follow the
+     * workflows of interest without being informed about the changes of all open workflows.
+     *
+     * @param listener to be added
+     * @since 5.9
+     */
+    public static void addProjectListener(final WorkflowListener listener) {
+        ifActive(() -> {
+            PROJECT_LISTENERS.addIfAbsent(listener);
+        });
+    }
+
+    /**
+     * @param listener to be removed
+     * @since 5.9
+     */
+    public static void removeProjectListener(final WorkflowListener listener) {
+        ifActive(() -> {
+            PROJECT_LISTENERS.remove(listener);
+        });
+    }
+
     /**
      *
      * @param listener listener to be informed about state changes of projects
@@ -614,6 +693,28 @@ public static void removeStateListener(
         });
     }
 
+    /**
+     * @param workflow URI of the workflow directory containing the workflow.knime
+     * @param listener listener to be informed about state changes of the project opened under the URI only
+     * @since 5.9
+     */
+    public static void addStateListener(final URI workflow, final NodeStateChangeListener listener) {
+        ifActive(() -> {
+            NSC_LISTENERS.add(new MapWFKey(workflow), listener);
+        });
+    }
+
+    /**
+     * @param workflow URI of the workflow the listener was added for
+     * @param listener to be removed
+     * @since 5.9
+     */
+    public static void removeStateListener(final URI workflow, final NodeStateChangeListener listener) {
+        ifActive(() -> {
+            NSC_LISTENERS.remove(new MapWFKey(workflow), listener);
+        });
+    }
+
     /**
      *
      * @param l listener to be informed about message changes
@@ -634,6 +735,28 @@ public static void removeNodeMessageListener(final NodeMessageListener l) {
         });
     }
 
+    /**
+     * @param workflow URI of the workflow directory containing the workflow.knime
+     * @param l listener to be informed about message changes of the project opened under the URI only
+     * @since 5.9
+     */
+    public static void addNodeMessageListener(final URI workflow, final NodeMessageListener l) {
+        ifActive(() -> {
+            MSG_LISTENERS.add(new MapWFKey(workflow), l);
+        });
+    }
+
+    /**
+     * @param workflow URI of the workflow the listener was added for
+     * @param l listener to be removed
+     * @since 5.9
+     */
+    public static void removeNodeMessageListener(final URI workflow, final NodeMessageListener l) {
+        ifActive(() -> {
+            MSG_LISTENERS.remove(new MapWFKey(workflow), l);
+        });
+    }
+
     /**
      * @param l The listener to add.
      */
@@ -654,6 +777,28 @@ public static void removeNodePropertyChangedListener(
         });
     }
 
+    /**
+     * @param workflow URI of the workflow directory containing the workflow.knime
+     * @param l The listener to add, informed about property changes of the project opened under the URI only.
+     * @since 5.9
+     */
+    public static void addNodePropertyChangedListener(final URI workflow, final NodePropertyChangedListener l) {
+        ifActive(() -> {
+            NODE_PROP_LISTENERS.add(new MapWFKey(workflow), l);
+        });
+    }
+
+    /**
+     * @param workflow URI of the workflow the listener was added for
+     * @param l the listener to remove
+     * @since 5.9
+     */
+    public static void removeNodePropertyChangedListener(final URI workflow, final NodePropertyChangedListener l) {
+        ifActive(() -> {
+            NODE_PROP_LISTENERS.remove(new MapWFKey(workflow), l);
+        });
+    }
+
     private static void ifActive(final Runnable logic) {
         if (isActive) {
             logic.run();
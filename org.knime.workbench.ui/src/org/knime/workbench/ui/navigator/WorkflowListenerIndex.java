@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (knime): created
+ */
+package org.knime.workbench.ui.navigator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Listeners of open workflows, indexed by the workflow they are interested in. A listener is either registered for
+ * all workflows or for a single one; an event of a workflow is only delivered to the listeners of all workflows and
+ * the listeners of that particular workflow, so the cost of an event does not grow with the number of listeners of
+ * other workflows.
+ * <p>
+ * Registration and delivery may happen concurrently. An event is delivered to a snapshot of the listeners taken when
+ * the delivery starts; the snapshot is not copied per event, listener lists are only copied when they change.
+ * </p>
+ *
+ * @param <K> the type of the workflow keys
+ * @param <L> the type of the listeners
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 5.9
+ */
+public final class WorkflowListenerIndex<K, L> {
+
+    private final CopyOnWriteArrayList<L> m_globalListeners = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<K, CopyOnWriteArrayList<L>> m_workflowListeners = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a listener for the events of all workflows. Has no effect if it is registered already.
+     *
+     * @param listener the listener to add
+     */
+    public void add(final L listener) {
+        m_globalListeners.addIfAbsent(listener);
+    }
+
+    /**
+     * @param listener the listener of all workflows to remove
+     */
+    public void remove(final L listener) {
+        m_globalListeners.remove(listener);
+    }
+
+    /**
+     * Registers a listener for the events of a single workflow. Has no effect if it is registered already.
+     *
+     * @param workflow the key of the workflow
+     * @param listener the listener to add
+     */
+    public void add(final K workflow, final L listener) {
+        m_workflowListeners.compute(workflow, (k, listeners) -> {
+            final var result = (listeners == null) ? new CopyOnWriteArrayList<L>() : listeners;
+            result.addIfAbsent(listener);
+            return result;
+        });
+    }
+
+    /**
+     * @param workflow the key of the workflow the listener was registered for
+     * @param listener the listener to remove
+     */
+    public void remove(final K workflow, final L listener) {
+        m_workflowListeners.computeIfPresent(workflow, (k, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    /**
+     * Moves the listeners of a workflow to a new key, e.g. because the workflow was renamed. Listeners already
+     * registered for the new key are kept.
+     *
+     * @param oldWorkflow the previous key of the workflow
+     * @param newWorkflow the new key of the workflow
+     */
+    public void rekey(final K oldWorkflow, final K newWorkflow) {
+        final var moved = m_workflowListeners.remove(oldWorkflow);
+        if (moved != null) {
+            moved.forEach(l -> add(newWorkflow, l));
+        }
+    }
+
+    /**
+     * Delivers an event of a workflow to the listeners of all workflows and then to the listeners of that workflow.
+     *
+     * @param workflow the key of the workflow the event originates from
+     * @param delivery delivers the event to a single listener
+     * @return the number of listeners the event was delivered to
+     */
+    public int dispatch(final K workflow, final Consumer<? super L> delivery) {
+        var count = 0;
+        for (final L l : m_globalListeners) {
+            delivery.accept(l);
+            count++;
+        }
+        final var listeners = (workflow == null) ? null : m_workflowListeners.get(workflow);
+        if (listeners != null) {
+            for (final L l : listeners) {
+                delivery.accept(l);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param workflow the key of a workflow
+     * @return the number of listeners an event of the workflow would be delivered to
+     */
+    public int getListenerCount(final K workflow) {
+        final var listeners = m_workflowListeners.get(workflow);
+        return m_globalListeners.size() + (listeners == null ? 0 : listeners.size());
+    }
+}